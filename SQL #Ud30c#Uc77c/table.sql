@@ -312,4 +312,115 @@ start_day DATE NOT NULL,
 end_day DATE NOT NULL,
 information VARCHAR(50) NOT NULL,
 FOREIGN KEY (staff_id) REFERENCES staff_tb(id) 
-);
\ No newline at end of file
+);
+
+-- 예비 수강 신청 -> 수강 신청 이관 진행 내역 (강의별, 재실행 시 완료된 강의는 건너뜀)
+CREATE TABLE stu_sub_promotion_tb
+(
+   subject_id INT PRIMARY KEY,
+   sub_year INT NOT NULL,
+   semester INT NOT NULL,
+   status VARCHAR(10) NOT NULL COMMENT 'DONE: 이관 완료, LOTTERY: 정원 초과로 추첨 후 이관, SKIPPED: 정원 초과로 제외',
+   pre_count INT NOT NULL DEFAULT 0 COMMENT '예비 신청 인원',
+   promoted_count INT NOT NULL DEFAULT 0 COMMENT '이관 후 수강 인원',
+   finished_at TIMESTAMP DEFAULT now(),
+   FOREIGN KEY (subject_id) REFERENCES subject_tb (id) ON DELETE CASCADE
+);
+
+-- 수강 신청 대기 (강의별 선착순, hold_expires_at 이 있으면 빈 자리를 배정받아 수락 대기 중)
+CREATE TABLE waitlist_tb
+(
+   id INT PRIMARY KEY AUTO_INCREMENT,
+   student_id INT NOT NULL,
+   subject_id INT NOT NULL,
+   hold_expires_at TIMESTAMP NULL COMMENT '배정된 자리 수락 기한',
+   created_at TIMESTAMP DEFAULT now(),
+   UNIQUE (student_id, subject_id),
+   FOREIGN KEY (student_id) REFERENCES student_tb (id) ON DELETE CASCADE,
+   FOREIGN KEY (subject_id) REFERENCES subject_tb (id) ON DELETE CASCADE
+);
+
+CREATE INDEX waitlist_hold_expires_at_idx ON waitlist_tb (hold_expires_at);
+
+-- 수강 신청 기간 (학기별 1행, 모든 서버가 주기적으로 읽어 같은 기간을 사용)
+CREATE TABLE sugang_period_tb
+(
+   id INT PRIMARY KEY AUTO_INCREMENT,
+   sub_year INT NOT NULL,
+   semester INT NOT NULL,
+   period INT NOT NULL DEFAULT 0 COMMENT '0: 예비 수강 신청, 1: 수강 신청, 2: 수강 신청 종료',
+   open_at TIMESTAMP NULL COMMENT '수강 신청 기간 자동 시작 시각',
+   close_at TIMESTAMP NULL COMMENT '수강 신청 기간 자동 종료 시각',
+   version INT NOT NULL DEFAULT 0 COMMENT '변경될 때마다 +1',
+   changing_by VARCHAR(100) NULL COMMENT '기간을 변경 중인 서버',
+   changing_until TIMESTAMP NULL COMMENT '변경 작업 만료 시각 (서버가 중단되면 이후 다른 서버가 변경 가능)',
+   updated_at TIMESTAMP DEFAULT now() ON UPDATE now(),
+   UNIQUE (sub_year, semester)
+);
+
+-- 강의 목록 버전 (1행, 강의/학과/단과대 정보가 바뀔 때마다 +1, 각 서버는 poll-ms 마다 읽어 바뀌면 강의 목록 캐시를 다시 만듦)
+CREATE TABLE catalog_version_tb
+(
+   id INT PRIMARY KEY,
+   version INT NOT NULL DEFAULT 0
+);
+
+-- 강의별 수강생 명단 버전 (성적을 기입할 때마다 +1, 각 서버는 캐시한 명단을 쓰기 전에 읽어 바뀌었으면 다시 조회)
+CREATE TABLE roster_version_tb
+(
+   subject_id INT PRIMARY KEY,
+   version INT NOT NULL DEFAULT 0,
+   FOREIGN KEY (subject_id) REFERENCES subject_tb (id) ON DELETE CASCADE
+);
+
+-- 학생별 학기 성적 요약 (성적 입력 시, 수강 신청 종료 시 stu_sub_tb 에서 다시 집계)
+CREATE TABLE transcript_tb
+(
+   student_id INT NOT NULL,
+   sub_year INT NOT NULL,
+   semester INT NOT NULL,
+   avg_grade DOUBLE NOT NULL DEFAULT 0 COMMENT '평점 평균 (성적이 입력된 강의 기준)',
+   graded_count INT NOT NULL DEFAULT 0 COMMENT '성적이 입력된 강의 수',
+   earned_credits INT NOT NULL DEFAULT 0 COMMENT '취득 학점',
+   attempted_credits INT NOT NULL DEFAULT 0 COMMENT '신청 학점',
+   updated_at TIMESTAMP DEFAULT now() ON UPDATE now(),
+   PRIMARY KEY (student_id, sub_year, semester),
+   FOREIGN KEY (student_id) REFERENCES student_tb (id) ON DELETE CASCADE
+);
+
+-- 기존 수강 내역 집계 (운영 DB 에 테이블을 추가할 때 한 번 실행)
+INSERT INTO transcript_tb (student_id, sub_year, semester, avg_grade, graded_count, earned_credits, attempted_credits)
+SELECT ss.student_id, s.sub_year, s.semester, COALESCE(AVG(g.grade_value), 0), COUNT(g.grade),
+   COALESCE(SUM(ss.complete_grade), 0), COALESCE(SUM(s.grades), 0)
+FROM stu_sub_tb ss JOIN subject_tb s ON s.id = ss.subject_id
+LEFT JOIN grade_tb g ON g.grade = ss.grade
+GROUP BY ss.student_id, s.sub_year, s.semester;
+
+-- 리프레시 토큰 (원문 대신 SHA-256 해시만 저장, 재발급할 때마다 새 토큰으로 교체)
+CREATE TABLE refresh_token_tb
+(
+   id INT PRIMARY KEY AUTO_INCREMENT,
+   user_id INT NOT NULL,
+   token_hash CHAR(64) NOT NULL UNIQUE,
+   family_id CHAR(36) NOT NULL COMMENT '로그인 1회에서 이어진 토큰 묶음',
+   access_jti CHAR(36) NOT NULL COMMENT '함께 발급한 액세스 토큰 jti',
+   expires_at TIMESTAMP NOT NULL,
+   used_at TIMESTAMP NULL COMMENT '재발급에 사용한 시각 (다시 사용되면 묶음 전체 폐기)',
+   revoked BOOLEAN NOT NULL DEFAULT FALSE,
+   created_at TIMESTAMP DEFAULT now(),
+   FOREIGN KEY (user_id) REFERENCES user_tb (id) ON DELETE CASCADE
+);
+
+CREATE INDEX refresh_token_family_idx ON refresh_token_tb (family_id);
+CREATE INDEX refresh_token_access_jti_idx ON refresh_token_tb (access_jti);
+
+-- 폐기된 액세스 토큰 (각 서버가 시작 시 전체, 이후 revoked_at 이 최근인 행만 읽어 메모리 목록에 반영, 토큰 만료 후 삭제)
+CREATE TABLE revoked_token_tb
+(
+   id INT PRIMARY KEY AUTO_INCREMENT,
+   jti CHAR(36) NOT NULL UNIQUE,
+   expires_at TIMESTAMP NOT NULL,
+   revoked_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE INDEX revoked_token_revoked_at_idx ON revoked_token_tb (revoked_at);
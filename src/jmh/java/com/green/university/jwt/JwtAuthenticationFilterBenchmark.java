@@ -0,0 +1,72 @@
+package com.green.university.jwt;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.green.university.dto.response.PrincipalDto;
+import com.green.university.service.PrincipalCacheService;
+import com.green.university.service.TokenRevocationService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 1건당 JWT 인증 필터 비용: 매번 서명 검증 vs 검증된 클레임 캐시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final String SECRET = "benchmarkSecretKey0000benchmarkSecretKey0000benchmarkSecretKey0000";
+
+	// 검증된 토큰 캐시 사용 여부
+	@Param({ "false", "true" })
+	private boolean cache;
+
+	private JwtAuthenticationFilter filter;
+	private HttpServletRequest request;
+	private FilterChain chain;
+
+	@Setup
+	public void setUp() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 36000000L, cache ? 10000 : 0);
+		filter = new JwtAuthenticationFilter(jwtUtil, new PrincipalCacheService(), new TokenRevocationService());
+
+		String token = jwtUtil.generateToken(PrincipalDto.builder()
+				.id(2023000001)
+				.userRole("student")
+				.name("홍길동")
+				.email("student@green.ac.kr")
+				.build(), UUID.randomUUID().toString());
+		String authorization = "Bearer " + token;
+		// Authorization 헤더만 응답하고 나머지(원격 주소, 세션 등)는 null
+		request = (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+				new Class<?>[] { HttpServletRequest.class },
+				(proxy, method, args) -> "getHeader".equals(method.getName()) && "Authorization".equals(args[0])
+						? authorization
+						: null);
+		chain = (req, res) -> {
+		};
+	}
+
+	@Benchmark
+	public Authentication authenticate() throws Exception {
+		SecurityContextHolder.clearContext();
+		filter.doFilterInternal(request, null, chain);
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+}
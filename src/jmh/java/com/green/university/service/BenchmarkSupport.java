@@ -0,0 +1,43 @@
+package com.green.university.service;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 서비스 벤치마크용 (스프링 컨텍스트/DB 없이 서비스 로직만 측정)
+ */
+final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	/**
+	 * 지정한 메서드만 응답하는 리포지토리 (그 외 메서드를 호출하면 예외)
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			Function<Object[], Object> answer = methods.get(method.getName());
+			if (answer == null) {
+				throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			}
+			return answer.apply(args);
+		});
+	}
+
+	/**
+	 * @Autowired 필드 주입
+	 */
+	static void inject(Object target, String fieldName, Object value) {
+		try {
+			Field field = target.getClass().getDeclaredField(fieldName);
+			field.setAccessible(true);
+			field.set(target, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
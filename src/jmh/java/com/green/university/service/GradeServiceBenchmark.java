@@ -0,0 +1,144 @@
+package com.green.university.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.green.university.dto.response.GradeDto;
+import com.green.university.dto.response.MyGradeDto;
+import com.green.university.repository.GradeJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.TranscriptJpaRepository;
+import com.green.university.repository.model.Grade;
+import com.green.university.repository.model.StuSub;
+import com.green.university.repository.model.Subject;
+import com.green.university.repository.model.Transcript;
+import com.green.university.repository.model.TranscriptId;
+import com.green.university.utils.Define;
+
+/**
+ * 성적 집계 (학기별 누계, 전체 성적 목록)
+ * 리포지토리는 메모리 목록을 돌려주므로 DB 조회 시간은 빠지고 집계/변환 비용만 반영됨
+ * summary=false 는 성적 요약이 없는 경우(수강 내역 집계), true 는 수강 신청이 끝나 성적 요약을 읽는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GradeServiceBenchmark {
+
+	private static final String[] GRADES = { "A+", "A0", "B+", "B0", "C+", "C0", "D+", "D0", "F" };
+	private static final float[] VALUES = { 4.5f, 4.0f, 3.5f, 3.0f, 2.5f, 2.0f, 1.5f, 1.0f, 0f };
+
+	// 학생의 전체 수강 내역 수 (8학기 x 6과목 = 48)
+	@Param({ "12", "48" })
+	private int stuSubs;
+
+	@Param({ "false", "true" })
+	private boolean summary;
+
+	private GradeService gradeService;
+
+	@Setup
+	public void setUp() {
+		Map<String, Grade> grades = new HashMap<>();
+		for (int i = 0; i < GRADES.length; i++) {
+			Grade grade = new Grade();
+			grade.setGrade(GRADES[i]);
+			grade.setGradeValue(VALUES[i]);
+			grades.put(GRADES[i], grade);
+		}
+
+		List<StuSub> all = new ArrayList<>(stuSubs);
+		List<StuSub> current = new ArrayList<>();
+		Map<TranscriptId, Transcript> transcripts = new LinkedHashMap<>();
+		for (int i = 0; i < stuSubs; i++) {
+			int term = i / 6;
+			Subject subject = new Subject();
+			subject.setId(10000 + i);
+			subject.setName("과목" + i);
+			subject.setType(i % 3 == 0 ? "교양" : "전공");
+			subject.setSubYear(Define.CURRENT_YEAR - term / 2);
+			subject.setSemester(term % 2 + 1);
+			subject.setGrades(3);
+
+			StuSub stuSub = new StuSub();
+			stuSub.setStudentId(2023000001);
+			stuSub.setSubjectId(subject.getId());
+			stuSub.setSubject(subject);
+			stuSub.setGrade(GRADES[i % GRADES.length]);
+			stuSub.setCompleteGrade(3);
+			all.add(stuSub);
+			if (subject.getSubYear() == Define.CURRENT_YEAR && subject.getSemester() == Define.CURRENT_SEMESTER) {
+				current.add(stuSub);
+			}
+
+			TranscriptId id = new TranscriptId();
+			id.setStudentId(2023000001);
+			id.setSubYear(subject.getSubYear());
+			id.setSemester(subject.getSemester());
+			Transcript transcript = transcripts.computeIfAbsent(id, key -> {
+				Transcript created = new Transcript();
+				created.setId(key);
+				created.setAvgGrade(3.5);
+				created.setGradedCount(0);
+				created.setEarnedCredits(0);
+				created.setAttemptedCredits(0);
+				return created;
+			});
+			transcript.setGradedCount(transcript.getGradedCount() + 1);
+			transcript.setEarnedCredits(transcript.getEarnedCredits() + 3);
+			transcript.setAttemptedCredits(transcript.getAttemptedCredits() + 3);
+		}
+		List<Transcript> transcriptList = summary ? new ArrayList<>(transcripts.values()) : List.of();
+
+		gradeService = new GradeService();
+		BenchmarkSupport.inject(gradeService, "stuSubJpaRepository", BenchmarkSupport.repository(
+				StuSubJpaRepository.class, Map.of(
+						"findByStudentId", args -> all,
+						"findByStudentIdAndSubject_SubYearAndSubject_Semester", args -> current)));
+		GradeScaleService gradeScaleService = new GradeScaleService();
+		BenchmarkSupport.inject(gradeScaleService, "gradeJpaRepository", BenchmarkSupport.repository(
+				GradeJpaRepository.class, Map.of("findAll", args -> new ArrayList<>(grades.values()))));
+		gradeScaleService.reload();
+		BenchmarkSupport.inject(gradeService, "gradeScaleService", gradeScaleService);
+		BenchmarkSupport.inject(gradeService, "transcriptJpaRepository", BenchmarkSupport.repository(
+				TranscriptJpaRepository.class, Map.of(
+						"findByStudentId", args -> transcriptList,
+						"findById", args -> summary ? Optional.ofNullable(transcripts.get(args[0])) : Optional.empty())));
+		BenchmarkSupport.inject(gradeService, "sugangPeriodService", new SugangPeriodService() {
+			@Override
+			public int getPeriod() {
+				return CLOSED;
+			}
+		});
+	}
+
+	@Benchmark
+	public List<MyGradeDto> gradeInquiryList() {
+		return gradeService.readgradeinquiryList(2023000001);
+	}
+
+	@Benchmark
+	public MyGradeDto myGrade() {
+		return gradeService.readMyGradeByStudentId(2023000001);
+	}
+
+	@Benchmark
+	public List<GradeDto> allGrades() {
+		return gradeService.readAllGradeByStudentId(2023000001);
+	}
+
+}
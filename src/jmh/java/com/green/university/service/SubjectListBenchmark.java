@@ -0,0 +1,128 @@
+package com.green.university.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.green.university.dto.CurrentSemesterSubjectSearchFormDto;
+import com.green.university.dto.response.SubjectDto;
+import com.green.university.dto.response.SubjectFacetDto;
+import com.green.university.dto.response.SubjectSearchResultDto;
+import com.green.university.repository.DepartmentJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.model.College;
+import com.green.university.repository.model.Department;
+import com.green.university.repository.model.Professor;
+import com.green.university.repository.model.Room;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.Define;
+
+/**
+ * 수강 신청 강의 목록: 페이지 복사/검색(캐시 사용)과 캐시를 다시 만드는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubjectListBenchmark {
+
+	private static final String[] DAYS = { "월", "화", "수", "목", "금" };
+	private static final String[] WORDS = { "컴퓨터", "공학", "심리학", "경영", "철학", "데이터", "설계", "원론" };
+
+	// 강의 수 (현재 학기 강의는 절반)
+	@Param({ "500", "5000" })
+	private int subjects;
+
+	private SubjectService subjectService;
+	private SubjectCatalogService subjectCatalogService;
+	private CurrentSemesterSubjectSearchFormDto searchForm;
+
+	@Setup
+	public void setUp() {
+		List<Department> departments = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			College college = new College();
+			college.setId(i / 5 + 1);
+			college.setName("대학" + college.getId());
+			Department department = new Department();
+			department.setId(101 + i);
+			department.setName("학과" + i);
+			department.setCollege(college);
+			departments.add(department);
+		}
+
+		List<Subject> subjectList = new ArrayList<>(subjects);
+		for (int i = 0; i < subjects; i++) {
+			Professor professor = new Professor();
+			professor.setId(23000001 + i % 200);
+			professor.setName("교수" + i % 200);
+			Room room = new Room();
+			room.setId("R" + i % 100);
+
+			Subject subject = new Subject();
+			subject.setId(10000 + i);
+			subject.setName(WORDS[i % WORDS.length] + WORDS[(i / WORDS.length) % WORDS.length] + i);
+			subject.setProfessor(professor);
+			subject.setRoom(room);
+			subject.setDepartment(departments.get(i % departments.size()));
+			subject.setType(i % 3 == 0 ? "교양" : "전공");
+			subject.setSubYear(i % 2 == 0 ? Define.CURRENT_YEAR : Define.CURRENT_YEAR - 1);
+			subject.setSemester(Define.CURRENT_SEMESTER);
+			subject.setSubDay(DAYS[i % DAYS.length]);
+			subject.setStartTime(9 + i % 8);
+			subject.setEndTime(11 + i % 8);
+			subject.setGrades(3);
+			subject.setCapacity(30);
+			subject.setNumOfStudent(i % 30);
+			subject.setPreNumOfStudent(i % 40);
+			subjectList.add(subject);
+		}
+
+		subjectCatalogService = new SubjectCatalogService();
+		BenchmarkSupport.inject(subjectCatalogService, "subjectJpaRepository", BenchmarkSupport.repository(
+				SubjectJpaRepository.class, Map.of("findAllWithDetails", args -> subjectList)));
+		BenchmarkSupport.inject(subjectCatalogService, "departmentJpaRepository", BenchmarkSupport.repository(
+				DepartmentJpaRepository.class, Map.of("findAll", args -> departments)));
+		BenchmarkSupport.inject(subjectCatalogService, "seatReservationService", new SeatReservationService());
+		BenchmarkSupport.inject(subjectCatalogService, "seatBroadcastService", new SeatBroadcastService());
+
+		subjectService = new SubjectService();
+		BenchmarkSupport.inject(subjectService, "subjectCatalogService", subjectCatalogService);
+
+		searchForm = new CurrentSemesterSubjectSearchFormDto();
+		searchForm.setName("공학");
+		searchForm.setPage(1);
+	}
+
+	@Benchmark
+	public List<SubjectDto> page() {
+		return subjectService.readSubjectListByCurrentSemesterPage(3, false);
+	}
+
+	@Benchmark
+	public List<SubjectDto> pagePreCount() {
+		return subjectService.readSubjectListByCurrentSemesterPage(3, true);
+	}
+
+	@Benchmark
+	public SubjectSearchResultDto searchPage() {
+		return subjectService.readSubjectListSearchByCurrentSemester(searchForm, false);
+	}
+
+	// 강의 정보가 바뀌거나 수강 신청 기간이 바뀐 직후 첫 요청
+	@Benchmark
+	public SubjectFacetDto rebuild() {
+		subjectCatalogService.invalidate();
+		return subjectCatalogService.readFacets(true);
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.green.university.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.repository.model.Subject;
+
+/**
+ * 수강 신청 1건의 검사 (StuSubService.createStuSub 와 같은 순서: 중복 -> 학점 -> 시간표)
+ * 통과하는 경우만 측정 (거절되면 예외 생성 비용이 섞임)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StuSubUtilBenchmark {
+
+	private static final String[] DAYS = { "월", "화", "수", "목", "금" };
+
+	// 학생이 이미 신청한 강의 수 (2학점씩, 최대 학점을 넘지 않는 범위)
+	@Param({ "1", "4", "8" })
+	private int registered;
+
+	private List<StuSubDayTimeDto> dayTimeList;
+	private Subject target;
+
+	@Setup
+	public void setUp() {
+		dayTimeList = new ArrayList<>();
+		for (int i = 0; i < registered; i++) {
+			int start = 9 + (i / DAYS.length) * 3;
+			dayTimeList.add(new StuSubDayTimeDto(10000 + i, "과목" + i, DAYS[i % DAYS.length], start, start + 2, 2));
+		}
+
+		target = new Subject();
+		target.setId(20000);
+		target.setSubDay("월");
+		target.setStartTime(16);
+		target.setEndTime(18);
+		target.setGrades(2);
+	}
+
+	@Benchmark
+	public boolean checkSumGrades() {
+		StuSubUtil.checkSumGrades(target, StuSubUtil.sumGrades(dayTimeList));
+		return true;
+	}
+
+	@Benchmark
+	public boolean checkDayTime() {
+		StuSubUtil.checkDayTime(target, dayTimeList);
+		return true;
+	}
+
+	@Benchmark
+	public boolean checkAll() {
+		if (StuSubUtil.containsSubject(dayTimeList, target.getId())) {
+			return false;
+		}
+		StuSubUtil.checkSumGrades(target, StuSubUtil.sumGrades(dayTimeList));
+		StuSubUtil.checkDayTime(target, dayTimeList);
+		return true;
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.green.university.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.green.university.dto.response.SubjectDto;
+
+/**
+ * 강의 검색: 기존 전체 목록 stream 필터 + subList vs 검색 색인 (강의 50,000개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubjectSearchIndexBenchmark {
+
+	private static final String[] WORDS = { "데이터", "구조", "경영", "회계", "원론", "프로그래밍", "기초", "심화", "알고리즘", "통계",
+			"마케팅", "재무", "미시", "거시", "경제", "물리", "화학", "생명", "과학", "공학", "설계", "실습", "세미나", "캡스톤", "디자인" };
+	private static final String[] TYPES = { "전공", "교양" };
+
+	// 검색어 (결과 많음 / 중간 / 적음)
+	@Param({ "기초", "데이터구조", "캡스톤디자인실습" })
+	private String name;
+
+	// 학과 조건 (-1 이면 전체)
+	@Param({ "-1", "7" })
+	private int deptId;
+
+	private List<SubjectDto> subjects;
+	private SubjectSearchIndex index;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		subjects = new ArrayList<>(50000);
+		for (int id = 1; id <= 50000; id++) {
+			SubjectDto subject = new SubjectDto();
+			subject.setId(id);
+			int words = 2 + random.nextInt(2);
+			StringBuilder builder = new StringBuilder();
+			for (int i = 0; i < words; i++) {
+				builder.append(WORDS[random.nextInt(WORDS.length)]);
+			}
+			subject.setName(builder.toString());
+			subject.setDeptId(1 + random.nextInt(40));
+			subject.setType(TYPES[random.nextInt(TYPES.length)]);
+			subjects.add(subject);
+		}
+		index = new SubjectSearchIndex(subjects);
+	}
+
+	@Benchmark
+	public List<SubjectDto> legacyStream() {
+		List<SubjectDto> filtered = subjects.stream()
+				.filter(s -> deptId == -1 || Integer.valueOf(deptId).equals(s.getDeptId()))
+				.filter(s -> s.getName() != null && s.getName().contains(name))
+				.collect(Collectors.toList());
+		// 건수 + 첫 페이지
+		return new ArrayList<>(filtered.subList(0, Math.min(20, filtered.size())));
+	}
+
+	@Benchmark
+	public SubjectSearchIndex.Result index() {
+		SubjectSearchIndex.Query query = new SubjectSearchIndex.Query().name(name);
+		if (deptId != -1) {
+			query.deptId(deptId);
+		}
+		return index.search(query, 0, 20);
+	}
+
+}
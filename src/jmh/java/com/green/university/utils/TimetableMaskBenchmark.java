@@ -0,0 +1,100 @@
+package com.green.university.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.repository.model.Subject;
+
+/**
+ * 시간표 겹침 검사: 기존 리스트 방식 vs 비트마스크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TimetableMaskBenchmark {
+
+	private static final String[] DAYS = { "월", "화", "수", "목", "금" };
+
+	// 학생이 이미 신청한 강의 수
+	@Param({ "3", "8" })
+	private int registered;
+
+	private List<StuSubDayTimeDto> dayTimeList;
+	private TimetableMask timetable;
+	private Subject target;
+
+	@Setup
+	public void setUp() {
+		dayTimeList = new ArrayList<>();
+		for (int i = 0; i < registered; i++) {
+			int start = 9 + (i / DAYS.length) * 3;
+			dayTimeList.add(new StuSubDayTimeDto(i, "과목" + i, DAYS[i % DAYS.length], start, start + 2, 3));
+		}
+		timetable = TimetableMask.of(dayTimeList);
+
+		// 겹치지 않는 강의 (검사가 끝까지 진행되는 경우)
+		target = new Subject();
+		target.setSubDay("월");
+		target.setStartTime(16);
+		target.setEndTime(18);
+	}
+
+	@Benchmark
+	public boolean legacyList() {
+		return legacyOverlaps(target, dayTimeList);
+	}
+
+	@Benchmark
+	public boolean maskBuildAndCheck() {
+		return TimetableMask.of(dayTimeList).overlaps(target);
+	}
+
+	@Benchmark
+	public boolean maskPrebuilt() {
+		return timetable.overlaps(target);
+	}
+
+	// 변경 전 StuSubUtil.checkDayTime 로직 (예외 대신 boolean 반환)
+	private static boolean legacyOverlaps(Subject targetSubject, List<StuSubDayTimeDto> dayTimeList) {
+		List<Integer> targetTimeList = new ArrayList<>();
+		for (int i = targetSubject.getStartTime(); i <= targetSubject.getEndTime(); i++) {
+			targetTimeList.add(i);
+		}
+
+		List<Integer> checkDayList = new ArrayList<>();
+		for (int i = 0; i < dayTimeList.size(); i++) {
+			if (dayTimeList.get(i).getSubDay().equals(targetSubject.getSubDay())) {
+				checkDayList.add(1);
+			} else {
+				checkDayList.add(0);
+			}
+		}
+
+		for (int i = 0; i < checkDayList.size(); i++) {
+			if (checkDayList.get(i) == 1) {
+				if (dayTimeList.get(i).getStartTime().intValue() == targetSubject.getEndTime().intValue()
+						|| dayTimeList.get(i).getEndTime().intValue() == targetSubject.getStartTime().intValue()) {
+					continue;
+				}
+				for (Integer j : targetTimeList) {
+					if (dayTimeList.get(i).timeList().contains(j)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,227 @@
+package com.green.university.load;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 학기 초 로그인 폭주 부하 시나리오 (./gradlew loadTest)
+ * 시나리오 학생 전원이 동시에 로그인(login-storm)하고, 같은 기기에서 곧바로 다시 로그인(login-repeat)한 뒤,
+ * 한 아이디로 틀린 비밀번호를 반복 입력(login-brute)해서 단계별 p50/p99 지연 시간과 거절(429/503) 수를 기록함
+ *
+ * 옵션 (-D 로 지정)
+ * load.students: 학생 수 (기본 200), load.login.threads: 동시 요청 수 (기본 64), load.login.ips: 접속 IP 수 (기본 20)
+ * load.gate.{단계}.p99-ms, load.gate.{단계}.sql: 단계별 p99 지연 시간/요청당 SQL 수 상한 (넘으면 실패)
+ * 결과는 load.report-dir/login.csv 에도 남김
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		// table.sql 이후 엔티티에 추가된 컬럼은 Hibernate 가 채움
+		"spring.jpa.hibernate.ddl-auto=update",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.show-sql=false",
+		"spring.sql.init.mode=never",
+		"logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn",
+		// 주기 작업의 SQL 이 요청당 SQL 수에 섞이지 않도록 시나리오 중에는 실행하지 않음
+		"sugang.period.poll-ms=3600000",
+		"sugang.seat.sync-interval-ms=3600000",
+		"sugang.waitlist.tick-ms=3600000",
+		"auth.revocation.poll-ms=3600000"
+})
+@AutoConfigureMockMvc
+class LoginStormLoadTest {
+
+	private static final String URL = "jdbc:h2:mem:login_load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+			+ "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1";
+
+	private static final String PASSWORD = "load-password";
+
+	private static final int STUDENTS = Integer.getInteger("load.students", 200);
+	private static final int THREADS = Integer.getInteger("load.login.threads", 64);
+	private static final int IPS = Integer.getInteger("load.login.ips", 20);
+
+	// 아이디 1개로 틀린 비밀번호를 입력하는 횟수
+	private static final int BRUTE_ATTEMPTS = 20;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		try {
+			SqlScriptSeeder seeder = new SqlScriptSeeder(URL);
+			seeder.runScripts(Path.of(System.getProperty("load.sql-dir", "SQL #Ud30c#Uc77c")));
+			seeder.insertStudents(STUDENTS);
+		} catch (Exception e) {
+			throw new IllegalStateException("부하 시나리오 DB 준비 실패", e);
+		}
+		registry.add("spring.datasource.url", () -> URL);
+	}
+
+	@Test
+	void loginStorm() throws Exception {
+		// 시나리오 학생 비밀번호를 알려진 값으로 (해시 비용은 운영과 같음)
+		jdbcTemplate.update("UPDATE user_tb SET password = ? WHERE id >= ?", passwordEncoder.encode(PASSWORD),
+				SqlScriptSeeder.FIRST_STUDENT_ID);
+
+		List<PhaseResult> results = new ArrayList<>();
+		results.add(run("login-storm", STUDENTS, index -> SqlScriptSeeder.FIRST_STUDENT_ID + index, PASSWORD));
+		results.add(run("login-repeat", STUDENTS, index -> SqlScriptSeeder.FIRST_STUDENT_ID + index, PASSWORD));
+		results.add(run("login-brute", BRUTE_ATTEMPTS, index -> SqlScriptSeeder.FIRST_STUDENT_ID, "wrong-password"));
+
+		report(results);
+		gate(results);
+	}
+
+	/**
+	 * 로그인 요청 count 개를 THREADS 개씩 동시에 실행 (요청 index 는 index % IPS 번째 IP 에서 접속)
+	 */
+	private PhaseResult run(String name, int count, UserId userId, String password) throws Exception {
+		long[] latencies = new long[count];
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, count));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < count; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					String ip = "10.0." + (index % IPS / 256) + "." + (index % IPS % 256);
+					String body = "{\"id\":" + userId.of(index) + ",\"password\":\"" + password + "\"}";
+					long startedAt = System.nanoTime();
+					int status;
+					try {
+						status = login(ip, body);
+					} catch (Exception e) {
+						status = 500;
+					}
+					latencies[next.getAndIncrement()] = System.nanoTime() - startedAt;
+					// 503: 해시 대기열 초과 (빠른 거절)
+					if (status >= 500 && status != 503) {
+						failed.incrementAndGet();
+					} else if (status >= 400) {
+						rejected.incrementAndGet();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		PhaseResult result = new PhaseResult(name, latencies, rejected.get(), failed.get(),
+				statistics.getPrepareStatementCount());
+		System.out.println("[LoginStormLoadTest] " + result);
+		return result;
+	}
+
+	// 비밀번호 비교가 끝날 때까지 기다렸다가 비동기 응답까지 받은 상태 코드
+	private int login(String ip, String body) throws Exception {
+		MvcResult result = mockMvc.perform(post("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body)
+				.header("User-Agent", "LoginStormLoadTest")
+				.with(request -> {
+					request.setRemoteAddr(ip);
+					return request;
+				}))
+				.andReturn();
+		if (!result.getRequest().isAsyncStarted()) {
+			return result.getResponse().getStatus();
+		}
+		result.getAsyncResult(30_000);
+		return mockMvc.perform(asyncDispatch(result)).andReturn().getResponse().getStatus();
+	}
+
+	private void report(List<PhaseResult> results) throws IOException {
+		StringBuilder csv = new StringBuilder(PhaseResult.header()).append('\n');
+		for (PhaseResult result : results) {
+			csv.append(result.toCsv()).append('\n');
+		}
+		String reportDir = System.getProperty("load.report-dir");
+		if (reportDir != null) {
+			Path file = Path.of(reportDir, "login.csv");
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, csv, StandardCharsets.UTF_8);
+			System.out.println("[LoginStormLoadTest] 결과 저장 " + file);
+		}
+	}
+
+	// 서버 오류가 있거나 지정한 상한을 넘으면 실패
+	private void gate(List<PhaseResult> results) {
+		List<String> violations = new ArrayList<>();
+		for (PhaseResult result : results) {
+			if (result.getFailed() > 0) {
+				violations.add(result.getName() + ": 서버 오류 " + result.getFailed() + "건");
+			}
+			String maxP99 = System.getProperty("load.gate." + result.getName() + ".p99-ms");
+			if (maxP99 != null && result.getP99Ms() > Double.parseDouble(maxP99)) {
+				violations.add(String.format(Locale.ROOT, "%s: p99 %.3fms > %sms", result.getName(),
+						result.getP99Ms(), maxP99));
+			}
+			String maxSql = System.getProperty("load.gate." + result.getName() + ".sql");
+			if (maxSql != null && result.getStatementsPerRequest() > Double.parseDouble(maxSql)) {
+				violations.add(String.format(Locale.ROOT, "%s: 요청당 SQL %.2f > %s", result.getName(),
+						result.getStatementsPerRequest(), maxSql));
+			}
+		}
+		assertTrue(violations.isEmpty(), String.join(", ", violations));
+	}
+
+	/**
+	 * 요청 index 의 로그인 아이디
+	 */
+	@FunctionalInterface
+	private interface UserId {
+
+		int of(int index);
+	}
+
+}
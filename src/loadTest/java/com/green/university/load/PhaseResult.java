@@ -0,0 +1,84 @@
+package com.green.university.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 시나리오 단계 1개의 결과 (요청별 지연 시간, 거절/실패 수, 단계 전체 SQL 수)
+ * 거절: 4xx (정원 초과, 시간표 중복 등 정상적인 업무 오류), 실패: 5xx 또는 예외
+ * 요청이 동시에 실행되므로 요청당 SQL 수는 단계 전체 SQL 수 / 요청 수
+ */
+public class PhaseResult {
+
+	private final String name;
+	private final long[] latencies;
+	private final int rejected;
+	private final int failed;
+	private final long statements;
+
+	public PhaseResult(String name, long[] latencies, int rejected, int failed, long statements) {
+		this.name = name;
+		this.latencies = latencies.clone();
+		Arrays.sort(this.latencies);
+		this.rejected = rejected;
+		this.failed = failed;
+		this.statements = statements;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getRequests() {
+		return latencies.length;
+	}
+
+	public int getRejected() {
+		return rejected;
+	}
+
+	public int getFailed() {
+		return failed;
+	}
+
+	public double getP50Ms() {
+		return percentile(0.50);
+	}
+
+	public double getP99Ms() {
+		return percentile(0.99);
+	}
+
+	public double getMaxMs() {
+		return latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000_000.0;
+	}
+
+	public double getStatementsPerRequest() {
+		return latencies.length == 0 ? 0 : statements / (double) latencies.length;
+	}
+
+	// nearest-rank 방식
+	private double percentile(double p) {
+		if (latencies.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(p * latencies.length);
+		return latencies[Math.max(rank, 1) - 1] / 1_000_000.0;
+	}
+
+	public static String header() {
+		return "phase,requests,rejected,failed,p50_ms,p99_ms,max_ms,sql_per_request";
+	}
+
+	public String toCsv() {
+		return String.format(Locale.ROOT, "%s,%d,%d,%d,%.3f,%.3f,%.3f,%.2f", name, getRequests(), rejected, failed, getP50Ms(),
+				getP99Ms(), getMaxMs(), getStatementsPerRequest());
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "%-14s requests=%-6d rejected=%-5d failed=%-3d p50=%8.3fms p99=%8.3fms max=%8.3fms sql/req=%6.2f",
+				name, getRequests(), rejected, failed, getP50Ms(), getP99Ms(), getMaxMs(), getStatementsPerRequest());
+	}
+
+}
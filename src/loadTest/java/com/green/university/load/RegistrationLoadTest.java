@@ -0,0 +1,255 @@
+package com.green.university.load;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.green.university.jwt.JwtUtil;
+import com.green.university.service.SubjectCatalogService;
+import com.green.university.service.SugangPeriodService;
+import com.green.university.utils.Define;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 수강 신청 기간 부하 시나리오 (./gradlew loadTest)
+ * 내장 H2(MySQL 호환 모드)에 table.sql/data.sql 과 시나리오 학생을 넣고, 필터/인증까지 포함한 /api/sugang 요청으로
+ * 예비 수강 신청 -> 수강 신청 기간 시작(이관) -> 수강 신청을 실행한 뒤 단계별 p50/p99 지연 시간과 요청당 SQL 수를 기록함
+ *
+ * 옵션 (-D 로 지정)
+ * load.students: 학생 수 (기본 200), load.subjects: 학생당 신청 강의 수 (기본 5),
+ * load.threads: 동시 요청 수 (기본 8), load.seed: 강의 선택 시드 (기본 42)
+ * load.gate.{단계}.p99-ms, load.gate.{단계}.sql: 단계별 p99 지연 시간/요청당 SQL 수 상한 (넘으면 실패)
+ * 결과는 load.report-dir/registration.csv 에도 남김
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		// table.sql 이후 엔티티에 추가된 컬럼은 Hibernate 가 채움
+		"spring.jpa.hibernate.ddl-auto=update",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.show-sql=false",
+		"spring.sql.init.mode=never",
+		"logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=warn",
+		// 모든 학생이 대기열 없이 입장
+		"sugang.queue.max-active=1000000",
+		// 주기 작업의 SQL 이 요청당 SQL 수에 섞이지 않도록 시나리오 중에는 실행하지 않음
+		"sugang.period.poll-ms=3600000",
+		"sugang.seat.sync-interval-ms=3600000",
+		"sugang.waitlist.tick-ms=3600000"
+})
+@AutoConfigureMockMvc
+class RegistrationLoadTest {
+
+	private static final String URL = "jdbc:h2:mem:sugang_load;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+			+ "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1";
+
+	// data.sql 교직원
+	private static final int STAFF_ID = 230001;
+
+	private static final int STUDENTS = Integer.getInteger("load.students", 200);
+	private static final int SUBJECTS_PER_STUDENT = Integer.getInteger("load.subjects", 5);
+	private static final int THREADS = Integer.getInteger("load.threads", 8);
+	private static final long SEED = Long.getLong("load.seed", 42L);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private SubjectCatalogService subjectCatalogService;
+
+	@Autowired
+	private SugangPeriodService sugangPeriodService;
+
+	// 스프링 컨텍스트보다 먼저 DB 를 만들어야 시작 시 기간 조회 등이 실제 테이블을 읽음
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		try {
+			SqlScriptSeeder seeder = new SqlScriptSeeder(URL);
+			seeder.runScripts(Path.of(System.getProperty("load.sql-dir", "SQL #Ud30c#Uc77c")));
+			seeder.insertStudents(STUDENTS);
+		} catch (Exception e) {
+			throw new IllegalStateException("부하 시나리오 DB 준비 실패", e);
+		}
+		registry.add("spring.datasource.url", () -> URL);
+	}
+
+	@Test
+	void registrationWindow() throws Exception {
+		List<Integer> subjectIds = prepareSubjects();
+		List<String> tokens = new ArrayList<>(STUDENTS);
+		for (int i = 0; i < STUDENTS; i++) {
+			tokens.add(jwtUtil.generateToken(String.valueOf(SqlScriptSeeder.FIRST_STUDENT_ID + i), "student"));
+		}
+		String staffToken = jwtUtil.generateToken(String.valueOf(STAFF_ID), "staff");
+
+		List<PhaseResult> results = new ArrayList<>();
+
+		// 1. 예비 수강 신청
+		results.add(run("pre-list", tokens, 1, (index, n) -> get("/api/sugang/pre/1")));
+		results.add(run("pre-register", tokens, SUBJECTS_PER_STUDENT,
+				(index, n) -> post("/api/sugang/pre/" + pick(subjectIds, index, n, 0))));
+
+		// 2. 수강 신청 기간 시작 (예비 수강 신청 내역 이관)
+		results.add(run("period-start", List.of(staffToken), 1, (index, n) -> post("/api/sugang/period/start")));
+		assertTrue(sugangPeriodService.getPeriod() == SugangPeriodService.OPEN, "수강 신청 기간이 시작되지 않음");
+
+		// 3. 수강 신청 (예비 수강 신청과 다른 강의도 섞이도록 시드를 바꿔 선택)
+		results.add(run("list", tokens, 1, (index, n) -> get("/api/sugang/application/1")));
+		results.add(run("register", tokens, SUBJECTS_PER_STUDENT,
+				(index, n) -> post("/api/sugang/insertApp/" + pick(subjectIds, index, n, 1))));
+
+		report(results);
+		gate(results);
+	}
+
+	// data.sql 강의를 이번 학기 강의로 옮기고 인원 초기화
+	private List<Integer> prepareSubjects() {
+		jdbcTemplate.update("UPDATE subject_tb SET sub_year = ?, semester = ?, num_of_student = 0, "
+				+ "pre_num_of_student = (SELECT COUNT(*) FROM pre_stu_sub_tb p WHERE p.subject_id = subject_tb.id)",
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+		subjectCatalogService.invalidate();
+		return jdbcTemplate.queryForList("SELECT id FROM subject_tb ORDER BY id", Integer.class);
+	}
+
+	// 학생 index 의 n 번째 신청 강의 (한 학생 안에서는 중복 없음, 같은 시드면 항상 같은 강의)
+	private static int pick(List<Integer> subjectIds, int index, int n, int round) {
+		List<Integer> shuffled = new ArrayList<>(subjectIds);
+		Collections.shuffle(shuffled, new Random(SEED * 31 + round * 1_000_003L + index));
+		return shuffled.get(n % shuffled.size());
+	}
+
+	/**
+	 * 학생(토큰)마다 requestsPerUser 개 요청을 차례로 보내고, 학생들은 THREADS 개씩 동시에 실행
+	 */
+	private PhaseResult run(String name, List<String> tokens, int requestsPerUser, Request request)
+			throws Exception {
+		long[] latencies = new long[tokens.size() * requestsPerUser];
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(THREADS, tokens.size()));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < tokens.size(); i++) {
+				int index = i;
+				String token = tokens.get(i);
+				futures.add(executor.submit(() -> {
+					for (int n = 0; n < requestsPerUser; n++) {
+						long startedAt = System.nanoTime();
+						int status;
+						try {
+							status = mockMvc.perform(request.build(index, n)
+									.header("Authorization", "Bearer " + token))
+									.andReturn().getResponse().getStatus();
+						} catch (Exception e) {
+							status = 500;
+						}
+						latencies[next.getAndIncrement()] = System.nanoTime() - startedAt;
+						if (status >= 500) {
+							failed.incrementAndGet();
+						} else if (status >= 400) {
+							rejected.incrementAndGet();
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		PhaseResult result = new PhaseResult(name, latencies, rejected.get(), failed.get(),
+				statistics.getPrepareStatementCount());
+		System.out.println("[RegistrationLoadTest] " + result);
+		return result;
+	}
+
+	private void report(List<PhaseResult> results) throws IOException {
+		StringBuilder csv = new StringBuilder(PhaseResult.header()).append('\n');
+		for (PhaseResult result : results) {
+			csv.append(result.toCsv()).append('\n');
+		}
+		String reportDir = System.getProperty("load.report-dir");
+		if (reportDir != null) {
+			Path file = Path.of(reportDir, "registration.csv");
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, csv, StandardCharsets.UTF_8);
+			System.out.println("[RegistrationLoadTest] 결과 저장 " + file);
+		}
+	}
+
+	// 서버 오류가 있거나 지정한 상한을 넘으면 실패
+	private void gate(List<PhaseResult> results) {
+		List<String> violations = new ArrayList<>();
+		for (PhaseResult result : results) {
+			if (result.getFailed() > 0) {
+				violations.add(result.getName() + ": 서버 오류 " + result.getFailed() + "건");
+			}
+			String maxP99 = System.getProperty("load.gate." + result.getName() + ".p99-ms");
+			if (maxP99 != null && result.getP99Ms() > Double.parseDouble(maxP99)) {
+				violations.add(String.format(Locale.ROOT, "%s: p99 %.3fms > %sms", result.getName(),
+						result.getP99Ms(), maxP99));
+			}
+			String maxSql = System.getProperty("load.gate." + result.getName() + ".sql");
+			if (maxSql != null && result.getStatementsPerRequest() > Double.parseDouble(maxSql)) {
+				violations.add(String.format(Locale.ROOT, "%s: 요청당 SQL %.2f > %s", result.getName(),
+						result.getStatementsPerRequest(), maxSql));
+			}
+		}
+		assertTrue(violations.isEmpty(), String.join(", ", violations));
+	}
+
+	/**
+	 * 학생 index 의 n 번째 요청
+	 */
+	@FunctionalInterface
+	private interface Request {
+
+		MockHttpServletRequestBuilder build(int index, int n);
+	}
+
+}
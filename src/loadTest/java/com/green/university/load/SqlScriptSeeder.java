@@ -0,0 +1,135 @@
+package com.green.university.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 시나리오용 내장 DB 준비
+ * 운영 스키마/기초 데이터(SQL 파일/table.sql, data.sql)를 H2 MySQL 호환 모드에서 실행할 수 있게 바꿔서 넣고
+ * 시나리오 학생(재학 상태)을 추가함
+ */
+public class SqlScriptSeeder {
+
+	// 시나리오 학생 학번 시작 값 (data.sql 학생과 겹치지 않게)
+	public static final int FIRST_STUDENT_ID = 2099000001;
+
+	// data.sql 사용자와 같은 비밀번호 해시 (로그인은 하지 않고 토큰만 발급)
+	private static final String PASSWORD = "$2a$10$hEYFZOe.PbFbVRcPZymRKuCGMU2MilAn64ZGnIqPgfwWL7JyGeKKW";
+
+	private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+	private static final Pattern COLUMN_COMMENT = Pattern.compile("(?i)\\s+COMMENT\\s+'[^']*'");
+	private static final Pattern DEFAULT_CURRENT_DATE = Pattern.compile("(?i)DEFAULT\\s*\\(\\s*current_date\\s*\\)");
+	private static final Pattern AUTO_INCREMENT = Pattern
+			.compile("(?i)ALTER\\s+TABLE\\s+(\\w+)\\s+AUTO_INCREMENT\\s*=\\s*(\\d+)");
+
+	private final String url;
+
+	public SqlScriptSeeder(String url) {
+		this.url = url;
+	}
+
+	/**
+	 * table.sql, data.sql 실행
+	 */
+	public void runScripts(Path sqlDir) throws IOException, SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+				Statement statement = connection.createStatement()) {
+			for (String sql : statements(sqlDir.resolve("table.sql"))) {
+				statement.execute(toH2(sql));
+			}
+			for (String sql : statements(sqlDir.resolve("data.sql"))) {
+				statement.execute(toH2(sql));
+			}
+		}
+	}
+
+	/**
+	 * 재학 중인 시나리오 학생 count 명 추가 (학과는 data.sql 학과를 돌아가며 배정)
+	 */
+	public void insertStudents(int count) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+			List<Integer> departmentIds = new ArrayList<>();
+			try (Statement statement = connection.createStatement();
+					ResultSet resultSet = statement.executeQuery("SELECT id FROM department_tb ORDER BY id")) {
+				while (resultSet.next()) {
+					departmentIds.add(resultSet.getInt(1));
+				}
+			}
+
+			connection.setAutoCommit(false);
+			try (PreparedStatement student = connection.prepareStatement(
+					"INSERT INTO student_tb (id, name, birth_date, gender, address, tel, email, dept_id, grade, semester, entrance_date) "
+							+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+					PreparedStatement user = connection.prepareStatement(
+							"INSERT INTO user_tb (id, password, user_role) VALUES (?, ?, 'student')");
+					PreparedStatement stuStat = connection.prepareStatement(
+							"INSERT INTO stu_stat_tb (student_id, status, from_date, to_date) VALUES (?, '재학', ?, ?)")) {
+				for (int i = 0; i < count; i++) {
+					int id = FIRST_STUDENT_ID + i;
+					student.setInt(1, id);
+					student.setString(2, "학생" + i);
+					student.setDate(3, Date.valueOf("2004-01-01"));
+					student.setString(4, i % 2 == 0 ? "남성" : "여성");
+					student.setString(5, "부산시");
+					student.setString(6, "010-0000-0000");
+					student.setString(7, "load" + i + "@green.com");
+					student.setInt(8, departmentIds.get(i % departmentIds.size()));
+					student.setInt(9, 1 + i % 4);
+					student.setInt(10, 1);
+					student.setDate(11, Date.valueOf("2023-03-02"));
+					student.addBatch();
+
+					user.setInt(1, id);
+					user.setString(2, PASSWORD);
+					user.addBatch();
+
+					stuStat.setInt(1, id);
+					stuStat.setDate(2, Date.valueOf("2023-03-02"));
+					stuStat.setDate(3, Date.valueOf("9999-01-01"));
+					stuStat.addBatch();
+				}
+				student.executeBatch();
+				user.executeBatch();
+				stuStat.executeBatch();
+			}
+			connection.commit();
+		}
+	}
+
+	// 주석 제거 후 ; 단위로 나눔 (CREATE DATABASE, USE, SELECT 는 제외)
+	private static List<String> statements(Path file) throws IOException {
+		String script = LINE_COMMENT.matcher(Files.readString(file, StandardCharsets.UTF_8)).replaceAll("");
+		List<String> statements = new ArrayList<>();
+		for (String sql : script.split(";")) {
+			String trimmed = sql.trim();
+			String upper = trimmed.toUpperCase(Locale.ROOT);
+			if (trimmed.isEmpty() || upper.startsWith("CREATE DATABASE") || upper.startsWith("USE ")
+					|| upper.startsWith("SELECT")) {
+				continue;
+			}
+			statements.add(trimmed);
+		}
+		return statements;
+	}
+
+	// MySQL 전용 문법을 H2 에서 같은 의미로 바꿈
+	private static String toH2(String sql) {
+		String converted = COLUMN_COMMENT.matcher(sql).replaceAll("");
+		converted = DEFAULT_CURRENT_DATE.matcher(converted).replaceAll("DEFAULT CURRENT_DATE");
+		return AUTO_INCREMENT.matcher(converted).replaceAll("ALTER TABLE $1 ALTER COLUMN id RESTART WITH $2");
+	}
+
+}
@@ -2,6 +2,7 @@ package com.green.university.config;
 
 import java.util.List;
 
+import com.green.university.handler.SugangAdmissionFilter;
 import com.green.university.jwt.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
@@ -29,6 +30,7 @@ public class SecurityConfig {
 
     // JwtAuthenticationFilter만 주입받음 (순환 참조 방지)
     private final JwtAuthenticationFilter authenticationFilter;
+    private final SugangAdmissionFilter sugangAdmissionFilter;
     private final PasswordEncoder passwordEncoder;
 
 //    @Bean
@@ -45,6 +47,16 @@ public class SecurityConfig {
         return registration;
     }
 
+    // 수강 신청 대기열 필터도 시큐리티 체인에서만 실행
+    @Bean
+    public FilterRegistrationBean<SugangAdmissionFilter> sugangAdmissionFilterRegistration(
+            SugangAdmissionFilter filter) {
+        FilterRegistrationBean<SugangAdmissionFilter> registration =
+                new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(
             AuthenticationConfiguration configuration) throws Exception {
@@ -105,7 +117,9 @@ public class SecurityConfig {
                             );
                         })
                 )
-                .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 대기열에서 막힌 요청은 JWT 사용자 조회 전에 돌려보냄
+                .addFilterBefore(sugangAdmissionFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
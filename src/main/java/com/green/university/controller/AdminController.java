@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import com.green.university.dto.CollTuitFormDto;
 import com.green.university.dto.CollegeFormDto;
 import com.green.university.dto.DepartmentFormDto;
+import com.green.university.dto.GradeFormDto;
 import com.green.university.dto.RoomFormDto;
 import com.green.university.dto.SubjectFormDto;
 import com.green.university.repository.model.College;
@@ -28,6 +29,8 @@ import com.green.university.repository.model.Room;
 import com.green.university.repository.model.Subject;
 import com.green.university.service.AdminService;
 
+import jakarta.validation.Valid;
+
 /**
  * 
  * @author 박성희 
@@ -170,6 +173,19 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+	// 학점 환산 점수 조회
+    @GetMapping("/grade")
+    public ResponseEntity<Map<String, Float>> gradeScale() {
+        return ResponseEntity.ok(adminService.readGradeScale());
+    }
+
+	// 학점 환산 점수 수정 기능
+    @PutMapping("/grade")
+    public ResponseEntity<?> updateGradeScale(@Valid @RequestBody GradeFormDto gradeFormDto) {
+        adminService.updateGradeScale(gradeFormDto);
+        return ResponseEntity.ok().build();
+    }
+
 	// 단과대별 등록금 페이지
     @GetMapping("/tuition")
     public ResponseEntity<Map<String, Object>> collTuit(@RequestParam(defaultValue = "select") String crud) {
@@ -1,17 +1,24 @@
 package com.green.university.controller;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.green.university.dto.response.GradeDto;
 import com.green.university.dto.response.MyGradeDto;
 import com.green.university.dto.response.PrincipalDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.service.GradeExportService;
 import com.green.university.service.GradeService;
 
 /**
@@ -25,6 +32,9 @@ public class GradeController {
     @Autowired
     private GradeService gradeService;
 
+    @Autowired
+    private GradeExportService gradeExportService;
+
     /**
      * Authentication에서 학생 ID 추출
      */
@@ -120,4 +130,42 @@ public class GradeController {
 
         return ResponseEntity.ok(body);
     }
-}
\ No newline at end of file
+
+    /**
+     * 성적 내보내기 (교직원 전용, CSV)
+     * type=grade: 강의별 성적, type=summary: 학생별 학기 누계
+     * 연도/학기/학과는 생략하면 전체이며, 결과는 응답에 바로 써서 내보냄
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "grade") String type,
+            @RequestParam(required = false) Integer subYear,
+            @RequestParam(required = false) Integer semester,
+            @RequestParam(required = false) Integer deptId,
+            Authentication authentication) {
+
+        PrincipalDto principal = (PrincipalDto) authentication.getPrincipal();
+        if (!"staff".equals(principal.getUserRole())) {
+            throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+        boolean summary = "summary".equals(type);
+        if (!summary && !"grade".equals(type)) {
+            throw new CustomRestfullException("내보내기 유형이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        StreamingResponseBody body = out -> {
+            if (summary) {
+                gradeExportService.writeSummary(subYear, semester, deptId, out);
+            } else {
+                gradeExportService.writeGrades(subYear, semester, deptId, out);
+            }
+        };
+
+        String fileName = type + (subYear != null ? "_" + subYear : "") + (semester != null ? "_" + semester : "")
+                + (deptId != null ? "_dept" + deptId : "") + ".csv";
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+}
@@ -3,14 +3,16 @@ package com.green.university.controller;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 import com.green.university.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.ResponseEntity;
@@ -19,14 +21,18 @@ import com.green.university.dto.ChangePasswordDto;
 import com.green.university.dto.FindIdFormDto;
 import com.green.university.dto.FindPasswordFormDto;
 import com.green.university.dto.LoginDto;
+import com.green.university.dto.RefreshTokenDto;
 import com.green.university.dto.UserUpdateDto;
 import com.green.university.dto.response.PrincipalDto;
 import com.green.university.dto.response.ProfessorInfoDto;
 import com.green.university.dto.response.StudentInfoDto;
 import com.green.university.dto.response.StudentInfoStatListDto;
+import com.green.university.dto.response.TokenDto;
 import com.green.university.dto.response.UserInfoForUpdateDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.repository.model.Staff;
+import com.green.university.service.PasswordHashingService;
+import com.green.university.service.RefreshTokenService;
 import com.green.university.service.UserService;
 import com.green.university.utils.Define;
 
@@ -36,8 +42,9 @@ import com.green.university.utils.Define;
 public class PersonalController {
 
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 현재 인증된 사용자 정보 조회 헬퍼 메서드
@@ -69,36 +76,64 @@ public class PersonalController {
     }
 
     /**
-     * 로그인 - JWT 토큰 발급
+     * 로그인 - JWT 액세스 토큰 + 리프레시 토큰 발급
+     * 비밀번호 비교(BCrypt)가 끝날 때까지 요청 스레드를 잡지 않도록 CompletableFuture 로 응답
      */
     @PostMapping("/auth/login")
-    public ResponseEntity<?> signInProc(@Valid @RequestBody LoginDto loginDto) {
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> signInProc(
+            @Valid @RequestBody LoginDto loginDto, HttpServletRequest request) {
 
         // 1. 사용자 인증
-        PrincipalDto principal = userService.login(loginDto);
+        String clientIp = request.getRemoteAddr();
+        String device = clientIp + "|" + request.getHeader("User-Agent");
+
+        return userService.login(loginDto, clientIp, device).thenApply(principal -> {
+            // 2. JWT 토큰 생성
+            TokenDto tokens = refreshTokenService.issue(principal);
+
+            // 3. 응답
+            Map<String, Object> body = new HashMap<>();
+            body.put("message", "로그인 성공");
+            body.put("token", tokens.getAccessToken());
+            body.put("refreshToken", tokens.getRefreshToken());
+            body.put("principal", principal);
+
+            return ResponseEntity.ok(body);
+        });
+    }
 
-        // 2. JWT 토큰 생성
-        String token = jwtUtil.generateToken(
-                principal.getId().toString(),
-                principal.getUserRole()
-        );
+    /**
+     * 액세스 토큰 재발급 (리프레시 토큰도 새로 발급되며 사용한 리프레시 토큰은 더 쓸 수 없음)
+     */
+    @PostMapping("/auth/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenDto refreshTokenDto) {
+        TokenDto tokens = refreshTokenService.rotate(refreshTokenDto.getRefreshToken());
 
-        // 3. 응답
         Map<String, Object> body = new HashMap<>();
-        body.put("message", "로그인 성공");
-        body.put("token", token);
-        body.put("principal", principal);
-
+        body.put("token", tokens.getAccessToken());
+        body.put("refreshToken", tokens.getRefreshToken());
         return ResponseEntity.ok(body);
     }
 
     /**
-     * 로그아웃 (클라이언트에서 토큰 삭제)
+     * 로그아웃 (현재 액세스 토큰과 리프레시 토큰 폐기, 클라이언트에서도 토큰 삭제)
      */
     @PostMapping("/auth/logout")
-    public ResponseEntity<?> logout() {
-        // JWT는 stateless이므로 서버에서 할 일 없음
-        // 클라이언트에서 토큰을 삭제하면 됨
+    public ResponseEntity<?> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) RefreshTokenDto refreshTokenDto) {
+        String accessJti = null;
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            Claims claims = jwtUtil.parseClaims(authorization.substring(7));
+            if (claims != null) {
+                accessJti = claims.getId();
+            }
+        }
+        String refreshToken = refreshTokenDto == null ? null : refreshTokenDto.getRefreshToken();
+        if (accessJti != null || refreshToken != null) {
+            refreshTokenService.logout(accessJti, refreshToken);
+        }
+
         Map<String, String> body = new HashMap<>();
         body.put("message", "로그아웃 성공");
         return ResponseEntity.ok(body);
@@ -134,8 +169,9 @@ public class PersonalController {
 
         PrincipalDto principal = getCurrentUser();
 
-        // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(changePasswordDto.getBeforePassword(), principal.getPassword())) {
+        // 현재 비밀번호 확인 (토큰/캐시의 사용자 정보에는 비밀번호가 없으므로 DB 기준)
+        String currentPassword = userService.readUserById(principal.getId()).getPassword();
+        if (!passwordHashingService.matches(changePasswordDto.getBeforePassword(), currentPassword)) {
             throw new CustomRestfullException(Define.WRONG_PASSWORD, HttpStatus.BAD_REQUEST);
         }
 
@@ -145,7 +181,7 @@ public class PersonalController {
         }
 
         changePasswordDto.setId(principal.getId());
-        changePasswordDto.setAfterPassword(passwordEncoder.encode(changePasswordDto.getAfterPassword()));
+        changePasswordDto.setAfterPassword(passwordHashingService.encode(changePasswordDto.getAfterPassword()));
         userService.updatePassword(changePasswordDto);
 
         Map<String, String> body = new HashMap<>();
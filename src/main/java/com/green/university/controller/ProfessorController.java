@@ -1,5 +1,6 @@
 package com.green.university.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import com.green.university.dto.response.PrincipalDto;
@@ -7,6 +8,8 @@ import com.green.university.dto.response.StuSubResponseDto;
 import com.green.university.dto.response.SubjectPeriodForProfessorDto;
 import com.green.university.dto.response.SyllabusResponseDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,10 +19,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.green.university.dto.SyllaBusFormDto;
 import com.green.university.dto.UpdateStudentGradeDto;
+import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.repository.model.Student;
 import com.green.university.repository.model.StuSub;
 import com.green.university.repository.model.Subject;
@@ -29,6 +35,7 @@ import com.green.university.service.StuSubService;
 import com.green.university.service.SubjectService;
 import com.green.university.service.UserService;
 import com.green.university.utils.Define;
+import com.green.university.utils.GradeCsvUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -104,12 +111,17 @@ public class ProfessorController {
      * 해당 과목을 듣는 학생 리스트
      */
     @GetMapping("/subject/{subjectId}")
-    public ResponseEntity<Map<String, Object>> subjectStudentList(@PathVariable Integer subjectId) {
-        List<StuSubResponseDto> studentList = professorService.selectBySubjectId(subjectId);
+    public ResponseEntity<Map<String, Object>> subjectStudentList(
+            @PathVariable Integer subjectId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "0") int size) {
         Subject subject = professorService.selectSubjectById(subjectId);
+        Page<StuSubResponseDto> studentList = professorService.selectBySubject(subject, Math.max(page, 0), size);
 
         Map<String, Object> body = new HashMap<>();
-        body.put("studentList", studentList);
+        body.put("studentList", studentList.getContent());
+        body.put("totalCount", studentList.getTotalElements());
+        body.put("totalPages", studentList.getTotalPages());
         body.put("subject", subject);
         return ResponseEntity.ok(body);
     }
@@ -150,6 +162,49 @@ public class ProfessorController {
         return ResponseEntity.ok(body);
     }
 
+    /**
+     * 출결 및 성적 일괄 기입 (수강생 목록 전체를 한 번에)
+     */
+    @PutMapping("/subject/{subjectId}/grades")
+    public ResponseEntity<Map<String, Object>> updateStudentGrades(
+            @PathVariable Integer subjectId,
+            @RequestBody List<UpdateStudentGradeDto> rows,
+            Authentication authentication) {
+
+        PrincipalDto principal = (PrincipalDto) authentication.getPrincipal();
+        int updated = professorService.updateGrades(principal.getId(), subjectId, rows);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", "성적이 수정되었습니다.");
+        body.put("updated", updated);
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 출결 및 성적 일괄 기입 (CSV 업로드)
+     */
+    @PostMapping("/subject/{subjectId}/grades/csv")
+    public ResponseEntity<Map<String, Object>> uploadStudentGrades(
+            @PathVariable Integer subjectId,
+            @RequestPart("file") MultipartFile file,
+            Authentication authentication) {
+
+        List<UpdateStudentGradeDto> rows;
+        try {
+            rows = GradeCsvUtil.read(file.getInputStream(), subjectId);
+        } catch (IOException e) {
+            throw new CustomRestfullException("CSV 파일을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        PrincipalDto principal = (PrincipalDto) authentication.getPrincipal();
+        int updated = professorService.updateGrades(principal.getId(), subjectId, rows);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", "성적이 수정되었습니다.");
+        body.put("updated", updated);
+        return ResponseEntity.ok(body);
+    }
+
     /**
      * 강의계획서 업데이트 창
      */
@@ -1,14 +1,17 @@
 package com.green.university.controller;
 
-import java.util.ArrayList;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
 
 import com.green.university.dto.response.PrincipalDto;
+import com.green.university.dto.response.QueueStatusDto;
 import com.green.university.dto.response.StuSubAppDto;
-import com.green.university.repository.SubjectJpaRepository;
-import com.green.university.repository.model.*;
+import com.green.university.dto.response.StuSubPromotionDto;
 import com.green.university.utils.Define;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -16,12 +19,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.green.university.dto.CurrentSemesterSubjectSearchFormDto;
 import com.green.university.dto.response.SubjectDto;
+import com.green.university.dto.response.SubjectFacetDto;
+import com.green.university.dto.response.SubjectSearchResultDto;
+import com.green.university.dto.response.WaitlistDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.service.*;
-import com.green.university.utils.StuStatUtil;
+import com.green.university.utils.TimetableMask;
 
 /**
  * 수강 신청 관련 REST API Controller (JWT 기반)
@@ -34,28 +41,29 @@ public class StuSubController {
     private SubjectService subjectService;
 
     @Autowired
-    private SubjectJpaRepository subjectJpaRepository;
+    private PreStuSubService preStuSubService;
 
     @Autowired
-    private CollegeService collegeService;
+    private StuSubService stuSubService;
 
     @Autowired
-    private PreStuSubService preStuSubService;
+    private StuStatCheckService stuStatCheckService;
 
     @Autowired
-    private StuSubService stuSubService;
+    private AdmissionQueueService admissionQueueService;
 
     @Autowired
-    private StuStatService stuStatService;
+    private SubjectCatalogService subjectCatalogService;
 
     @Autowired
-    private BreakAppService breakAppService;
+    private StuSubPromotionService stuSubPromotionService;
 
     @Autowired
-    private UserService userService;
+    private WaitlistService waitlistService;
 
     // 예비 수강신청 기간: 0, 수강신청 기간: 1, 수강신청 기간 종료: 2
-    public static int SUGANG_PERIOD = 0;
+    @Autowired
+    private SugangPeriodService sugangPeriodService;
 
     /**
      * Authentication에서 학생 ID 추출
@@ -65,34 +73,13 @@ public class StuSubController {
         return principal.getId();
     }
 
-    // Subject 엔티티를 StuSubAppDto로 변환하는 헬퍼 메서드
-    private StuSubAppDto convertToDto(Subject subject, int period) {
-        StuSubAppDto dto = new StuSubAppDto();
-        dto.setSubjectId(subject.getId());
-        dto.setSubjectName(subject.getName());
-        dto.setGrades(subject.getGrades());
-        dto.setSubDay(subject.getSubDay());
-        dto.setStartTime(subject.getStartTime());
-        dto.setEndTime(subject.getEndTime());
-
-        // 기간에 따라 다른 인원 반환
-        if (period == 0) {
-            dto.setNumOfStudent(subject.getPreNumOfStudent());
-        } else {
-            dto.setNumOfStudent(subject.getNumOfStudent());
-        }
-
-        dto.setCapacity(subject.getCapacity());
-
-        if (subject.getProfessor() != null) {
-            dto.setProfessorName(subject.getProfessor().getName());
-        }
-
-        if (subject.getRoom() != null) {
-            dto.setRoomId(subject.getRoom().getId());
+    // 신청 내역의 학점 합계
+    private int sumGrades(List<StuSubAppDto> dtoList) {
+        int sumGrades = 0;
+        for (StuSubAppDto dto : dtoList) {
+            sumGrades += dto.getGrades();
         }
-
-        return dto;
+        return sumGrades;
     }
 
 
@@ -100,62 +87,94 @@ public class StuSubController {
      * 과목 조회 (현재 학기)
      */
     @GetMapping("/subjectList/{page}")
-    public ResponseEntity<?> readSubjectList(@PathVariable Integer page) {
-        List<SubjectDto> subjectList = subjectService.readSubjectListByCurrentSemester();
-        int subjectCount = subjectList.size();
-        int pageCount = (int) Math.ceil(subjectCount / 20.0);
+    public ResponseEntity<?> readSubjectList(@PathVariable Integer page,
+                                             @RequestParam(defaultValue = "true") boolean facets,
+                                             WebRequest webRequest) {
+        // 강의 목록/인원이 바뀌지 않았으면 304
+        String eTag = subjectCatalogService.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
-        List<SubjectDto> subjectListLimit = subjectService.readSubjectListByCurrentSemesterPage(page);
+        SubjectFacetDto facet = subjectCatalogService.readFacets(true);
+        List<SubjectDto> subjectListLimit = subjectService.readSubjectListByCurrentSemesterPage(page, false);
 
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectList) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
-        }
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
-        body.put("pageCount", pageCount);
+        body.put("subjectCount", facet.getSubjectCount());
+        body.put("pageCount", facet.getPageCount());
         body.put("page", page);
         body.put("subjectList", subjectListLimit);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
-        return ResponseEntity.ok(body);
+        putFacets(body, facet, facets);
+        return ResponseEntity.ok().eTag(eTag).body(body);
     }
 
     /**
-     * 과목 조회 (현재 학기)에서 필터링
+     * 현재 학기 강의 좌석 현황 스냅샷
+     * 이후 변경분은 /sub/sugang/seats 구독으로 받음 (seq 가 스냅샷보다 큰 메시지만 반영)
      */
-    @GetMapping("/subjectList/search")
-    public ResponseEntity<?> readSubjectListSearch(
-            @Validated CurrentSemesterSubjectSearchFormDto currentSemesterSubjectSearchFormDto) {
-
-        System.out.println("검색 요청 받음:");
-        System.out.println("type: " + currentSemesterSubjectSearchFormDto.getType());
-        System.out.println("deptId: " + currentSemesterSubjectSearchFormDto.getDeptId());
-        System.out.println("name: " + currentSemesterSubjectSearchFormDto.getName());
-
-        List<SubjectDto> subjectList = subjectService
-                .readSubjectListSearchByCurrentSemester(currentSemesterSubjectSearchFormDto);
+    @GetMapping("/seats")
+    public ResponseEntity<?> readSeatSnapshot() {
+        return ResponseEntity.ok(subjectCatalogService.readSeatSnapshot());
+    }
 
-        System.out.println("검색 결과 개수: " + subjectList.size());
+    /**
+     * 현재 학기 강의 검색 조건 목록 (학과, 강의명, 강의 구분, 전체 건수/페이지 수)
+     * 강의 목록이 바뀌지 않았으면 304 (목록 응답의 facetVersion 이 바뀌었을 때만 다시 받으면 됨)
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<?> readFacets(WebRequest webRequest) {
+        SubjectFacetDto facet = subjectCatalogService.readFacets(true);
+        String eTag = subjectCatalogService.getFacetETag(facet);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(facet);
+    }
 
-        int subjectCount = subjectList.size();
-        List<Department> deptList = collegeService.readDeptAll();
+    /**
+     * 신청 여부 표시 (학생의 신청 강의 id 를 한 번만 조회해서 메모리에서 확인)
+     */
+    private void markStatus(List<SubjectDto> subjectList, Set<Integer> registeredSubjectIds) {
+        for (SubjectDto sub : subjectList) {
+            sub.setStatus(registeredSubjectIds.contains(sub.getId()));
+        }
+    }
 
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectList) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
+    /**
+     * 검색 조건 목록을 응답에 추가 (facets=false 면 버전만 보내고 목록은 /facets 에서 받음)
+     */
+    private void putFacets(Map<String, Object> body, SubjectFacetDto facet, boolean facets) {
+        body.put("facetVersion", facet.getVersion());
+        if (facets) {
+            body.put("deptList", facet.getDeptList());
+            body.put("subNameList", facet.getSubNameList());
         }
+    }
+
+    /**
+     * 과목 조회 (현재 학기)에서 필터링
+     */
+    @GetMapping("/subjectList/search")
+    public ResponseEntity<?> readSubjectListSearch(
+            @Validated CurrentSemesterSubjectSearchFormDto currentSemesterSubjectSearchFormDto,
+            @RequestParam(defaultValue = "true") boolean facets) {
+        SubjectSearchResultDto result = subjectService
+                .readSubjectListSearchByCurrentSemester(currentSemesterSubjectSearchFormDto, false);
 
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectList", subjectList);
-        body.put("subjectCount", subjectCount);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
+        body.put("subjectList", result.getSubjectList());
+        body.put("subjectCount", result.getSubjectCount());
+        body.put("pageCount", result.getPageCount());
+        body.put("page", result.getPage());
+        body.put("deptCounts", result.getDeptCounts());
+        body.put("typeCounts", result.getTypeCounts());
+        // 강의명 목록은 검색 결과 기준
+        body.put("subNameList", result.getSubNameList());
+        SubjectFacetDto facet = subjectCatalogService.readFacets(true);
+        body.put("facetVersion", facet.getVersion());
+        if (facets) {
+            body.put("deptList", facet.getDeptList());
+        }
 
         return ResponseEntity.ok(body);
     }
@@ -164,50 +183,30 @@ public class StuSubController {
      * 예비 수강 신청 목록 조회 (페이징)
      */
     @GetMapping("/pre/{page}")
-    public ResponseEntity<?> preStuSubApplication(@PathVariable Integer page, Authentication authentication) {
-        if (SUGANG_PERIOD != 0) {
+    public ResponseEntity<?> preStuSubApplication(@PathVariable Integer page,
+                                                  @RequestParam(defaultValue = "true") boolean facets,
+                                                  Authentication authentication) {
+        if (sugangPeriodService.getPeriod() != 0) {
             throw new CustomRestfullException("예비 수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
         Integer studentId = getStudentId(authentication);
 
-        Student studentInfo = userService.readStudent(studentId);
-        StuStat stuStatEntity = stuStatService.readCurrentStatus(studentInfo.getId());
-        List<BreakApp> breakAppList = breakAppService.readByStudentId(studentInfo.getId());
-        StuStatUtil.checkStuStat("수강신청", stuStatEntity, breakAppList);
-
-        List<SubjectDto> subjectList = subjectService.readSubjectListByCurrentSemester();
-        int subjectCount = subjectList.size();
-        int pageCount = (int) Math.ceil(subjectCount / 20.0);
+        stuStatCheckService.checkStuStat("수강신청", studentId);
 
-        List<SubjectDto> subjectListLimit = subjectService.readSubjectListByCurrentSemesterPage(page);
+        SubjectFacetDto facet = subjectCatalogService.readFacets(true);
 
         // ✅ 예비 수강 신청 인원으로 교체
-        for (SubjectDto sub : subjectListLimit) {
-            Subject subject = subjectJpaRepository.findById(sub.getId()).orElse(null);
-            if (subject != null) {
-                sub.setNumOfStudent(subject.getPreNumOfStudent());
-            }
+        List<SubjectDto> subjectListLimit = subjectService.readSubjectListByCurrentSemesterPage(page, true);
 
-            PreStuSub preStuSub = preStuSubService.readPreStuSub(studentId, sub.getId());
-            sub.setStatus(preStuSub != null);
-        }
-
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectList) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
-        }
+        markStatus(subjectListLimit, preStuSubService.readPreStuSubSubjectIds(studentId));
 
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
-        body.put("pageCount", pageCount);
+        body.put("subjectCount", facet.getSubjectCount());
+        body.put("pageCount", facet.getPageCount());
         body.put("page", page);
         body.put("subjectList", subjectListLimit);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
+        putFacets(body, facet, facets);
         return ResponseEntity.ok(body);
     }
 
@@ -218,7 +217,7 @@ public class StuSubController {
      */
     @PostMapping("/pre/{subjectId}")
     public ResponseEntity<?> insertPreStuSubAppProc(@PathVariable Integer subjectId, Authentication authentication) {
-        if (SUGANG_PERIOD != 0) {
+        if (sugangPeriodService.getPeriod() != 0) {
             throw new CustomRestfullException("예비 수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
@@ -236,7 +235,7 @@ public class StuSubController {
     @DeleteMapping("/pre/{subjectId}")
     public ResponseEntity<?> deletePreStuSubAppProc(@PathVariable Integer subjectId,
                                                     @RequestParam Integer type, Authentication authentication) {
-        if (SUGANG_PERIOD != 0) {
+        if (sugangPeriodService.getPeriod() != 0) {
             throw new CustomRestfullException("예비 수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
@@ -255,41 +254,27 @@ public class StuSubController {
     @GetMapping("/pre/search")
     public ResponseEntity<?> preStuSubApplicationSearch(
             @Validated CurrentSemesterSubjectSearchFormDto currentSemesterSubjectSearchFormDto,
+            @RequestParam(defaultValue = "true") boolean facets,
             Authentication authentication) {
-        if (SUGANG_PERIOD != 0) {
+        if (sugangPeriodService.getPeriod() != 0) {
             throw new CustomRestfullException("예비 수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
         Integer studentId = getStudentId(authentication);
 
-        List<SubjectDto> subjectList = subjectService
-                .readSubjectListSearchByCurrentSemester(currentSemesterSubjectSearchFormDto);
-
         // ✅ 예비 수강 신청 인원으로 교체
-        for (SubjectDto sub : subjectList) {
-            Subject subject = subjectJpaRepository.findById(sub.getId()).orElse(null);
-            if (subject != null) {
-                sub.setNumOfStudent(subject.getPreNumOfStudent());
-            }
+        SubjectSearchResultDto result = subjectService
+                .readSubjectListSearchByCurrentSemester(currentSemesterSubjectSearchFormDto, true);
+        List<SubjectDto> subjectList = result.getSubjectList();
 
-            PreStuSub preStuSub = preStuSubService.readPreStuSub(studentId, sub.getId());
-            sub.setStatus(preStuSub != null);
-        }
-
-        int subjectCount = subjectList.size();
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectService.readSubjectListByCurrentSemester()) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
-        }
+        markStatus(subjectList, preStuSubService.readPreStuSubSubjectIds(studentId));
 
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
+        body.put("subjectCount", result.getSubjectCount());
+        body.put("pageCount", result.getPageCount());
+        body.put("page", result.getPage());
         body.put("subjectList", subjectList);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
+        putFacets(body, subjectCatalogService.readFacets(true), facets);
         return ResponseEntity.ok(body);
     }
 
@@ -297,46 +282,31 @@ public class StuSubController {
      * 수강 신청 페이지 정보 반환
      */
     @GetMapping("/application/{page}")
-    public ResponseEntity<?> stuSubApplication(@PathVariable Integer page, Authentication authentication) {
-        if (SUGANG_PERIOD != 1) {
+    public ResponseEntity<?> stuSubApplication(@PathVariable Integer page,
+                                               @RequestParam(defaultValue = "true") boolean facets,
+                                               Authentication authentication) {
+        if (sugangPeriodService.getPeriod() != 1) {
             throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
         Integer studentId = getStudentId(authentication);
 
-        Student studentInfo = userService.readStudent(studentId);
-        StuStat stuStatEntity = stuStatService.readCurrentStatus(studentInfo.getId());
-        List<BreakApp> breakAppList = breakAppService.readByStudentId(studentInfo.getId());
-        StuStatUtil.checkStuStat("수강신청", stuStatEntity, breakAppList);
+        stuStatCheckService.checkStuStat("수강신청", studentId);
 
         // ✅ 전체 과목 조회
-        List<SubjectDto> subjectList = subjectService.readSubjectListByCurrentSemester();
-        int subjectCount = subjectList.size();
-        int pageCount = (int) Math.ceil(subjectCount / 20.0);
+        SubjectFacetDto facet = subjectCatalogService.readFacets(true);
 
-        List<SubjectDto> subjectListLimit = subjectService.readSubjectListByCurrentSemesterPage(page);
+        List<SubjectDto> subjectListLimit = subjectService.readSubjectListByCurrentSemesterPage(page, false);
 
         // 본 수강 신청 완료 여부 체크
-        for (SubjectDto sub : subjectListLimit) {
-            StuSub stuSub = stuSubService.readStuSub(studentId, sub.getId());
-            sub.setStatus(stuSub != null);
-        }
-
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectList) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
-        }
+        markStatus(subjectListLimit, stuSubService.readStuSubSubjectIds(studentId));
 
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
-        body.put("pageCount", pageCount);
+        body.put("subjectCount", facet.getSubjectCount());
+        body.put("pageCount", facet.getPageCount());
         body.put("page", page);
         body.put("subjectList", subjectListLimit);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
+        putFacets(body, facet, facets);
         return ResponseEntity.ok(body);
     }
 
@@ -347,46 +317,71 @@ public class StuSubController {
     @GetMapping("/application/search")
     public ResponseEntity<?> stuSubApplicationSearch(
             @Validated CurrentSemesterSubjectSearchFormDto currentSemesterSubjectSearchFormDto,
+            @RequestParam(defaultValue = "true") boolean facets,
             Authentication authentication) {
-        if (SUGANG_PERIOD != 1) {
+        if (sugangPeriodService.getPeriod() != 1) {
             throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
         Integer studentId = getStudentId(authentication);
 
-        List<SubjectDto> subjectList = subjectService
-                .readSubjectListSearchByCurrentSemester(currentSemesterSubjectSearchFormDto);
+        SubjectSearchResultDto result = subjectService
+                .readSubjectListSearchByCurrentSemester(currentSemesterSubjectSearchFormDto, false);
+        List<SubjectDto> subjectList = result.getSubjectList();
 
-        for (SubjectDto sub : subjectList) {
-            StuSub stuSub = stuSubService.readStuSub(studentId, sub.getId());
-            sub.setStatus(stuSub != null);
+        markStatus(subjectList, stuSubService.readStuSubSubjectIds(studentId));
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("subjectCount", result.getSubjectCount());
+        body.put("pageCount", result.getPageCount());
+        body.put("page", result.getPage());
+        body.put("subjectList", subjectList);
+        // 강의명 목록은 검색 결과 기준
+        body.put("subNameList", result.getSubNameList());
+        SubjectFacetDto facet = subjectCatalogService.readFacets(true);
+        body.put("facetVersion", facet.getVersion());
+        if (facets) {
+            body.put("deptList", facet.getDeptList());
         }
+        return ResponseEntity.ok(body);
+    }
 
-        int subjectCount = subjectList.size();
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectList) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
+
+    /**
+     * 수강 신청 대기열 진입 / 상태 조회
+     * 입장 전까지 주기적으로 호출하거나 /sub/sugang/queue 를 구독해서 순번 확인
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<?> readQueueStatus(Authentication authentication) {
+        if (sugangPeriodService.getPeriod() != 1) {
+            throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
+        Integer studentId = getStudentId(authentication);
+        QueueStatusDto status = admissionQueueService.enter(studentId);
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 수강 신청 대기열에서 나가기 (수강 신청 완료 후 자리 반납)
+     */
+    @DeleteMapping("/queue")
+    public ResponseEntity<?> leaveQueue(Authentication authentication) {
+        Integer studentId = getStudentId(authentication);
+        admissionQueueService.leave(studentId);
+
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
-        body.put("subjectList", subjectList);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
+        body.put("message", "수강 신청 대기열에서 나갔습니다.");
         return ResponseEntity.ok(body);
     }
 
-
     /**
      * 수강 신청 처리 (신청)
      */
     @PostMapping("/insertApp/{subjectId}")
     public ResponseEntity<?> insertStuSubAppProc(@PathVariable Integer subjectId,
                                                  @RequestParam Integer type, Authentication authentication) {
-        if (SUGANG_PERIOD != 1) {
+        if (sugangPeriodService.getPeriod() != 1) {
             throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
@@ -405,7 +400,7 @@ public class StuSubController {
     @DeleteMapping("/deleteApp/{subjectId}")
     public ResponseEntity<?> deleteStuSubAppProc(@PathVariable Integer subjectId,
                                                  @RequestParam Integer type, Authentication authentication) {
-        if (SUGANG_PERIOD != 1) {
+        if (sugangPeriodService.getPeriod() != 1) {
             throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
@@ -418,6 +413,60 @@ public class StuSubController {
         return ResponseEntity.ok(body);
     }
 
+    /**
+     * 수강 신청 대기 등록 (정원이 찬 강의)
+     * 순서 변경은 /sub/sugang/waitlist/{subjectId} 구독으로 확인 (entryId 위치가 자기 순서)
+     */
+    @PostMapping("/waitlist/{subjectId}")
+    public ResponseEntity<?> joinWaitlist(@PathVariable Integer subjectId, Authentication authentication) {
+        if (sugangPeriodService.getPeriod() != 1) {
+            throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        Integer studentId = getStudentId(authentication);
+        WaitlistDto waitlist = waitlistService.join(studentId, subjectId);
+        return ResponseEntity.ok(waitlist);
+    }
+
+    /**
+     * 수강 신청 대기 취소
+     */
+    @DeleteMapping("/waitlist/{subjectId}")
+    public ResponseEntity<?> leaveWaitlist(@PathVariable Integer subjectId, Authentication authentication) {
+        Integer studentId = getStudentId(authentication);
+        waitlistService.leave(studentId, subjectId);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", "수강 신청 대기가 취소되었습니다.");
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 내 수강 신청 대기 현황
+     */
+    @GetMapping("/waitlist")
+    public ResponseEntity<?> readWaitlist(Authentication authentication) {
+        Integer studentId = getStudentId(authentication);
+        return ResponseEntity.ok(waitlistService.readWaitlist(studentId));
+    }
+
+    /**
+     * 대기 중 배정받은 자리로 수강 신청 (수락 기한 안에)
+     */
+    @PostMapping("/waitlist/{subjectId}/accept")
+    public ResponseEntity<?> acceptWaitlist(@PathVariable Integer subjectId, Authentication authentication) {
+        if (sugangPeriodService.getPeriod() != 1) {
+            throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        Integer studentId = getStudentId(authentication);
+        stuSubService.createStuSubByWaitlist(studentId, subjectId);
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("message", "수강 신청이 완료되었습니다.");
+        return ResponseEntity.ok(body);
+    }
+
     /**
      * 예비 수강 신청 및 수강 신청 내역 조회
      */
@@ -425,64 +474,31 @@ public class StuSubController {
     public ResponseEntity<?> preStuSubAppList(@RequestParam Integer type, Authentication authentication) {
         Integer studentId = getStudentId(authentication);
 
-        Student studentInfo = userService.readStudent(studentId);
-        StuStat stuStatEntity = stuStatService.readCurrentStatus(studentInfo.getId());
-        List<BreakApp> breakAppList = breakAppService.readByStudentId(studentInfo.getId());
-        StuStatUtil.checkStuStat("수강신청", stuStatEntity, breakAppList);
+        stuStatCheckService.checkStuStat("수강신청", studentId);
 
         Map<String, Object> body = new HashMap<>();
         body.put("type", type);
 
         if (type == 0) {
-            // 예비 수강 신청 기간 조회
-            List<PreStuSub> preStuSubList = preStuSubService.readPreStuSubList(studentId);
-
-            List<StuSubAppDto> dtoList = new ArrayList<>();
-            int sumGrades = 0;
-
-            for (PreStuSub pss : preStuSubList) {
-                Subject subject = subjectJpaRepository.findById(pss.getSubjectId()).orElse(null);
-                if (subject != null) {
-                    StuSubAppDto dto = convertToDto(subject, 0); // 예비 인원
-                    dtoList.add(dto);
-                    sumGrades += subject.getGrades();
-                }
-            }
+            // 예비 수강 신청 기간 조회 (예비 인원)
+            List<StuSubAppDto> dtoList = preStuSubService.readPreStuSubList(studentId);
 
             body.put("stuSubList", dtoList);
-            body.put("sumGrades", sumGrades);
+            body.put("sumGrades", sumGrades(dtoList));
             return ResponseEntity.ok(body);
         }
 
         // type 1: 본 수강 신청 기간
-        if (SUGANG_PERIOD != 1) {
+        if (sugangPeriodService.getPeriod() != 1) {
             throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
-        // ✅ 신청 미완료 목록: 예비 수강 신청했지만 본 수강 신청 안 한 과목
-        List<PreStuSub> preStuSubList1 = stuSubService.readPreStuSubByStuSub(studentId);
-        List<StuSubAppDto> preDtoList = new ArrayList<>();
+        // ✅ 신청 미완료 목록: 예비 수강 신청했지만 본 수강 신청 안 한 과목 (본 수강 인원)
+        List<StuSubAppDto> preDtoList = stuSubService.readPreStuSubByStuSub(studentId);
 
-        for (PreStuSub pss : preStuSubList1) {
-            Subject subject = subjectJpaRepository.findById(pss.getSubjectId()).orElse(null);
-            if (subject != null) {
-                StuSubAppDto dto = convertToDto(subject, 1); // 본 수강 인원
-                preDtoList.add(dto);
-            }
-        }
-
-        // ✅ 신청 완료 목록: 본 수강 신청 완료한 과목
-        List<StuSub> stuSubList = stuSubService.readStuSubList(studentId);
-        List<StuSubAppDto> completedDtoList = new ArrayList<>();
-        int sumGrades = 0;
-
-        for (StuSub ss : stuSubList) {
-            if (ss.getSubject() != null) {
-                StuSubAppDto dto = convertToDto(ss.getSubject(), 1); // 본 수강 인원
-                completedDtoList.add(dto);
-                sumGrades += ss.getSubject().getGrades();
-            }
-        }
+        // ✅ 신청 완료 목록: 본 수강 신청 완료한 과목 (본 수강 인원)
+        List<StuSubAppDto> completedDtoList = stuSubService.readStuSubList(studentId);
+        int sumGrades = sumGrades(completedDtoList);
 
         body.put("preStuSubList", preDtoList);     // 신청 미완료
         body.put("stuSubList", completedDtoList);  // 신청 완료
@@ -498,44 +514,41 @@ public class StuSubController {
      */
     @GetMapping("/list")
     public ResponseEntity<?> stuSubAppList(Authentication authentication) {
-        if (SUGANG_PERIOD == 0) {
+        if (sugangPeriodService.getPeriod() == 0) {
             throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
 
         Integer studentId = getStudentId(authentication);
 
-        Student studentInfo = userService.readStudent(studentId);
-        StuStat stuStatEntity = stuStatService.readCurrentStatus(studentInfo.getId());
-        List<BreakApp> breakAppList = breakAppService.readByStudentId(studentInfo.getId());
-        StuStatUtil.checkStuStat("수강신청", stuStatEntity, breakAppList);
+        stuStatCheckService.checkStuStat("수강신청", studentId);
 
-        List<StuSub> stuSubList = stuSubService.readStuSubList(studentId);
+        // ✅ 본 수강 신청 인원
+        List<StuSubAppDto> dtoList = stuSubService.readStuSubList(studentId);
 
-        List<StuSubAppDto> dtoList = new ArrayList<>();
-        int sumGrades = 0;
-
-        for (StuSub ss : stuSubList) {
-            if (ss.getSubject() != null) {
-                // ✅ 본 수강 신청 인원으로 변환
-                dtoList.add(convertToDto(ss.getSubject(), 1));
-                sumGrades += ss.getSubject().getGrades();
-            }
+        TimetableMask timetable = new TimetableMask();
+        for (StuSubAppDto dto : dtoList) {
+            timetable.add(dto.getSubDay(), dto.getStartTime(), dto.getEndTime());
         }
 
         Map<String, Object> body = new HashMap<>();
         body.put("stuSubList", dtoList);
-        body.put("sumGrades", sumGrades);
+        body.put("sumGrades", sumGrades(dtoList));
+        // 요일별 시간표 비트마스크 (n번 비트 = n시 ~ n+1시 수업)
+        body.put("timetable", timetable.toMap());
         return ResponseEntity.ok(body);
     }
 
     /**
-     * 현재 수강 신청 기간 조회
+     * 현재 수강 신청 기간 조회 (자동 시작/종료 예약 시각 포함)
      */
     @GetMapping("/period")
     public ResponseEntity<?> getSugangPeriod() {
+        int period = sugangPeriodService.getPeriod();
         Map<String, Object> body = new HashMap<>();
-        body.put("period", SUGANG_PERIOD);
-        body.put("message", getPeriodMessage(SUGANG_PERIOD));
+        body.put("period", period);
+        body.put("message", getPeriodMessage(period));
+        body.put("openAt", sugangPeriodService.getOpenAt());
+        body.put("closeAt", sugangPeriodService.getCloseAt());
         return ResponseEntity.ok(body);
     }
 
@@ -567,27 +580,37 @@ public class StuSubController {
             throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
         }
 
-        if (SUGANG_PERIOD != 0) {
-            throw new CustomRestfullException("예비 수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
-        }
-
         try {
-            // 예비 수강 신청 내역을 기반으로 수강 신청 생성
-            stuSubService.createStuSubByPreStuSub();
-
-            // 수강 신청 기간으로 변경
-            SUGANG_PERIOD = 1;
+            // 예비 수강 신청 내역을 기반으로 수강 신청 생성 후 수강 신청 기간으로 변경 (실패 시 다시 호출하면 이어서 처리)
+            StuSubPromotionDto promotion = sugangPeriodService.start();
 
             Map<String, Object> body = new HashMap<>();
-            body.put("period", SUGANG_PERIOD);
+            body.put("period", sugangPeriodService.getPeriod());
             body.put("message", "수강 신청 기간이 시작되었습니다.");
+            body.put("promotion", promotion);
             return ResponseEntity.ok(body);
+        } catch (CustomRestfullException e) {
+            throw e;
         } catch (Exception e) {
             throw new CustomRestfullException("수강 신청 기간 시작에 실패했습니다: " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 예비 수강 신청 내역 이관 진행 상황 (강의별 예비 신청 인원/이관 인원 포함)
+     */
+    @GetMapping("/period/promotion")
+    public ResponseEntity<?> readPromotionProgress(Authentication authentication) {
+        // 권한 체크 (staff만 가능)
+        PrincipalDto principal = (PrincipalDto) authentication.getPrincipal();
+        if (!"staff".equals(principal.getUserRole())) {
+            throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+
+        return ResponseEntity.ok(stuSubPromotionService.readProgress());
+    }
+
     /**
      * 수강 신청 기간 -> 수강 신청 종료로 변경
      * 경로를 /updatePeriod/2 에서 /period/end로 변경
@@ -600,24 +623,55 @@ public class StuSubController {
             throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
         }
 
-        if (SUGANG_PERIOD != 1) {
-            throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
-        }
-
         try {
-            // 수강 신청 기간 종료
-            SUGANG_PERIOD = 2;
+            // 수강 신청 기간 종료 (수강 신청 대기 삭제, 현재 인원 재계산)
+            sugangPeriodService.end();
 
             Map<String, Object> body = new HashMap<>();
-            body.put("period", SUGANG_PERIOD);
+            body.put("period", sugangPeriodService.getPeriod());
             body.put("message", "수강 신청 기간이 종료되었습니다.");
             return ResponseEntity.ok(body);
+        } catch (CustomRestfullException e) {
+            throw e;
         } catch (Exception e) {
             throw new CustomRestfullException("수강 신청 기간 종료에 실패했습니다: " + e.getMessage(),
                     HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 수강 신청 기간 자동 시작/종료 예약 (yyyy-MM-ddTHH:mm:ss, 비우면 예약 취소)
+     */
+    @PostMapping("/period/schedule")
+    public ResponseEntity<?> scheduleSugangPeriod(Authentication authentication,
+                                                  @RequestBody Map<String, String> request) {
+        // 권한 체크 (staff만 가능)
+        PrincipalDto principal = (PrincipalDto) authentication.getPrincipal();
+        if (!"staff".equals(principal.getUserRole())) {
+            throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+
+        sugangPeriodService.schedule(parseTimestamp(request.get("openAt")), parseTimestamp(request.get("closeAt")));
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("period", sugangPeriodService.getPeriod());
+        body.put("openAt", sugangPeriodService.getOpenAt());
+        body.put("closeAt", sugangPeriodService.getCloseAt());
+        body.put("message", "수강 신청 기간 예약이 변경되었습니다.");
+        return ResponseEntity.ok(body);
+    }
+
+    private Timestamp parseTimestamp(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Timestamp.valueOf(LocalDateTime.parse(value.trim()));
+        } catch (DateTimeParseException e) {
+            throw new CustomRestfullException("시각 형식이 올바르지 않습니다: " + value, HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * 수강 신청 기간 초기화 (테스트/관리용)
      * 주의: 프로덕션 환경에서는 제거하거나 추가 보안 검증 필요
@@ -630,11 +684,11 @@ public class StuSubController {
             throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
         }
 
-        SUGANG_PERIOD = 0;
+        sugangPeriodService.reset();
 
         Map<String, Object> body = new HashMap<>();
-        body.put("period", SUGANG_PERIOD);
+        body.put("period", sugangPeriodService.getPeriod());
         body.put("message", "수강 신청 기간이 초기화되었습니다.");
         return ResponseEntity.ok(body);
     }
-}
\ No newline at end of file
+}
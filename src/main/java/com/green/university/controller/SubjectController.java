@@ -1,6 +1,5 @@
 package com.green.university.controller;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import com.green.university.dto.response.SyllabusResponseDto;
@@ -13,15 +12,18 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import java.util.Map;
 import java.util.HashMap;
 
 import com.green.university.dto.AllSubjectSearchFormDto;
 import com.green.university.dto.response.ReadSyllabusDto;
 import com.green.university.dto.response.SubjectDto;
-import com.green.university.repository.model.Department;
-import com.green.university.service.CollegeService;
+import com.green.university.dto.response.SubjectFacetDto;
+import com.green.university.dto.response.SubjectSearchResultDto;
 import com.green.university.service.ProfessorService;
+import com.green.university.service.SubjectCatalogService;
 import com.green.university.service.SubjectService;
 
 /**
@@ -37,65 +39,69 @@ public class SubjectController {
 	private SubjectService subjectService;
 
 	@Autowired
-	private CollegeService collegeService;
+	private SubjectCatalogService subjectCatalogService;
 
 	@Autowired
 	private ProfessorService professorService;
 
 	// 모든 강의 조회 (모든 연도-학기에 대해서)
     @GetMapping("/list/{page}")
-    public ResponseEntity<?> readSubjectList(@PathVariable Integer page) {
-        List<SubjectDto> subjectList = subjectService.readSubjectList();
-        int subjectCount = subjectList.size();
-        int pageCount = (int) Math.ceil(subjectCount / 20.0);
-        List<SubjectDto> subjectListLimit = subjectService.readSubjectListPage(page);
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectList) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
+    public ResponseEntity<?> readSubjectList(@PathVariable Integer page,
+                                             @RequestParam(defaultValue = "true") boolean facets,
+                                             WebRequest webRequest) {
+        // 강의 목록/인원이 바뀌지 않았으면 304
+        String eTag = subjectCatalogService.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
         }
+
+        SubjectFacetDto facet = subjectCatalogService.readFacets(false);
+        List<SubjectDto> subjectListLimit = subjectService.readSubjectListPage(page);
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
-        body.put("pageCount", pageCount);
+        body.put("subjectCount", facet.getSubjectCount());
+        body.put("pageCount", facet.getPageCount());
         body.put("page", page);
         body.put("subjectList", subjectListLimit);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
-        return ResponseEntity.ok(body);
+        putFacets(body, facet, facets);
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+
+	// 전체 강의 검색 조건 목록 (강의 목록이 바뀌지 않았으면 304)
+    @GetMapping("/facets")
+    public ResponseEntity<?> readFacets(WebRequest webRequest) {
+        SubjectFacetDto facet = subjectCatalogService.readFacets(false);
+        String eTag = subjectCatalogService.getFacetETag(facet);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(facet);
     }
 
 	// 전체 강의 목록에서 필터링
     @GetMapping("/list/search")
-    public ResponseEntity<?> readSubjectListSearch(@Validated AllSubjectSearchFormDto allSubjectSearchFormDto) {
+    public ResponseEntity<?> readSubjectListSearch(@Validated AllSubjectSearchFormDto allSubjectSearchFormDto,
+                                                   @RequestParam(defaultValue = "true") boolean facets) {
+        SubjectSearchResultDto result = subjectService.readSubjectListSearch(allSubjectSearchFormDto);
 
-        System.out.println("검색 파라미터:");
-        System.out.println("subYear: " + allSubjectSearchFormDto.getSubYear());
-        System.out.println("semester: " + allSubjectSearchFormDto.getSemester());
-        System.out.println("deptId: " + allSubjectSearchFormDto.getDeptId());
-        System.out.println("name: " + allSubjectSearchFormDto.getName());
-
-        List<SubjectDto> subjectList = subjectService.readSubjectListSearch(allSubjectSearchFormDto);
-
-        System.out.println("검색 결과: " + subjectList.size() + "건");
-
-        int subjectCount = subjectList.size();
-        List<Department> deptList = collegeService.readDeptAll();
-        List<String> subNameList = new ArrayList<>();
-        for (SubjectDto subject : subjectService.readSubjectList()) {
-            if (!subNameList.contains(subject.getName())) {
-                subNameList.add(subject.getName());
-            }
-        }
         Map<String, Object> body = new HashMap<>();
-        body.put("subjectCount", subjectCount);
-        body.put("subjectList", subjectList);
-        body.put("deptList", deptList);
-        body.put("subNameList", subNameList);
+        body.put("subjectCount", result.getSubjectCount());
+        body.put("pageCount", result.getPageCount());
+        body.put("page", result.getPage());
+        body.put("subjectList", result.getSubjectList());
+        body.put("deptCounts", result.getDeptCounts());
+        putFacets(body, subjectCatalogService.readFacets(false), facets);
         return ResponseEntity.ok(body);
     }
 
+    // 검색 조건 목록을 응답에 추가 (facets=false 면 버전만 보내고 목록은 /facets 에서 받음)
+    private void putFacets(Map<String, Object> body, SubjectFacetDto facet, boolean facets) {
+        body.put("facetVersion", facet.getVersion());
+        if (facets) {
+            body.put("deptList", facet.getDeptList());
+            body.put("subNameList", facet.getSubNameList());
+        }
+    }
+
 	// 강의계획서 조회
     @GetMapping("/syllabus/{subjectId}")
     public ResponseEntity<?> readSyllabus(@PathVariable Integer subjectId) {
@@ -15,17 +15,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 
 import com.green.university.dto.response.PrincipalDto;
 import com.green.university.handler.exception.CustomRestfullException;
-import com.green.university.repository.model.BreakApp;
-import com.green.university.repository.model.StuStat;
 import com.green.university.repository.model.Student;
 import com.green.university.repository.model.Tuition;
-import com.green.university.service.BreakAppService;
 import com.green.university.service.CollegeService;
+import com.green.university.service.StuStatCheckService;
 import com.green.university.service.StuStatService;
 import com.green.university.service.TuitionService;
 import com.green.university.service.UserService;
 import com.green.university.utils.Define;
-import com.green.university.utils.StuStatUtil;
 
 // 등록금 장학금
 
@@ -46,7 +43,7 @@ public class TuitionController {
     private CollegeService collegeService;
 
     @Autowired
-    private BreakAppService breakAppService;
+    private StuStatCheckService stuStatCheckService;
 
     /**
      * @return 납부된 등록금 내역 조회 페이지
@@ -75,9 +72,7 @@ public class TuitionController {
         }
 
         Student studentInfo = userService.readStudent(principal.getId());
-        StuStat stuStatEntity = stuStatService.readCurrentStatus(studentInfo.getId());
-        List<BreakApp> breakAppList = breakAppService.readByStudentId(studentInfo.getId());
-        StuStatUtil.checkStuStat("등록금", stuStatEntity, breakAppList);
+        stuStatCheckService.checkStuStat("등록금", studentInfo.getId());
 
         String deptName = collegeService.readDeptById(studentInfo.getDeptId()).getName();
         String collName = collegeService
@@ -1,5 +1,7 @@
 package com.green.university.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import jakarta.validation.Valid;
@@ -7,6 +9,8 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,20 +19,29 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
 import java.util.Map;
 import java.util.HashMap;
 
 import com.green.university.dto.CreateProfessorDto;
 import com.green.university.dto.CreateStaffDto;
 import com.green.university.dto.CreateStudentDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.green.university.dto.ProfessorListForm;
 import com.green.university.dto.StudentListForm;
+import com.green.university.dto.response.PrincipalDto;
+import com.green.university.dto.response.UserImportResultDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.repository.model.Professor;
 import com.green.university.repository.model.Student;
 import com.green.university.service.ProfessorService;
 import com.green.university.service.StudentService;
+import com.green.university.service.UserImportService;
 import com.green.university.service.UserService;
+import com.green.university.utils.UserImportReader;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 /**
  * 유저 페이지
@@ -45,6 +58,10 @@ public class UserController {
     private StudentService studentService;
     @Autowired
     private ProfessorService professorService;
+    @Autowired
+    private UserImportService userImportService;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     // staff 입력 페이지
     @GetMapping("/staff")
@@ -97,6 +114,47 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(body);
     }
 
+    /**
+     * 학생/교수/직원 일괄 등록 (CSV 파일 업로드)
+     *
+     * @param role student, professor, staff
+     * @return 등록 건수, 생성된 id, 실패한 행 번호와 사유
+     */
+    @PostMapping(value = "/import/{role}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<UserImportResultDto> importUsersCsv(@PathVariable String role,
+            @RequestPart("file") MultipartFile file, Authentication authentication) {
+        checkStaff(authentication);
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importUsers(role, UserImportReader.csv(in)));
+        } catch (IOException e) {
+            throw new CustomRestfullException("CSV 파일을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * 학생/교수/직원 일괄 등록 (JSON 배열, 요청 본문을 한 행씩 읽음)
+     *
+     * @param role student, professor, staff
+     * @return 등록 건수, 생성된 id, 실패한 행 번호와 사유
+     */
+    @PostMapping(value = "/import/{role}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<UserImportResultDto> importUsersJson(@PathVariable String role,
+            HttpServletRequest request, Authentication authentication) {
+        checkStaff(authentication);
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(userImportService.importUsers(role, UserImportReader.json(in, objectMapper)));
+        } catch (IOException e) {
+            throw new CustomRestfullException("JSON 을 읽을 수 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private void checkStaff(Authentication authentication) {
+        PrincipalDto principal = (PrincipalDto) authentication.getPrincipal();
+        if (!"staff".equals(principal.getUserRole())) {
+            throw new CustomRestfullException("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+    }
+
     // 교수 조회 (첫 페이지 또는 필터링)
     @GetMapping("/professorList")
     public ResponseEntity<?> showProfessorList(
@@ -0,0 +1,19 @@
+package com.green.university.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import lombok.Data;
+
+/**
+ * 학점 환산 점수 수정
+ */
+@Data
+public class GradeFormDto {
+	@NotBlank
+	private String grade;
+	@NotNull
+	@PositiveOrZero
+	private Float gradeValue;
+}
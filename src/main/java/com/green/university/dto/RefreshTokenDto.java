@@ -0,0 +1,14 @@
+package com.green.university.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.Data;
+
+/**
+ * 토큰 재발급/로그아웃 요청
+ */
+@Data
+public class RefreshTokenDto {
+	@NotBlank(message = "리프레시 토큰은 필수입니다.")
+	private String refreshToken;
+}
@@ -0,0 +1,30 @@
+package com.green.university.dto;
+
+import java.sql.Date;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Data;
+
+/**
+ * 사용자 일괄 등록 1행 (학생/교수/직원 공통, 학과는 deptId 또는 학과명 deptName)
+ */
+@Data
+public class UserImportRowDto {
+
+	private String name;
+	private Date birthDate;
+	private String gender;
+	private String address;
+	private String tel;
+	private String email;
+	private Integer deptId;
+	private String deptName;
+	// 학생만
+	private Date entranceDate;
+
+	// 읽는 중 발생한 형식 오류 (있으면 저장하지 않고 오류로 보고)
+	@JsonIgnore
+	private String error;
+
+}
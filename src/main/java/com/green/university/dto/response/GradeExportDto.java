@@ -0,0 +1,43 @@
+package com.green.university.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 성적 내보내기 1행 (학생 1명의 수강 강의 1개)
+ */
+@Data
+@NoArgsConstructor
+public class GradeExportDto {
+
+	private Integer studentId;
+	private String studentName;
+	private String deptName;
+	private Integer subYear;
+	private Integer semester;
+	private Integer subjectId;
+	private String subjectName;
+	private String type;
+	// 강의 학점
+	private Integer grades;
+	// 등급 (A+ 등)
+	private String grade;
+	// 이수 학점
+	private Integer completeGrade;
+
+	// 성적 내보내기 쿼리(SELECT new ...)용 생성자
+	public GradeExportDto(Integer studentId, String studentName, String deptName, Integer subYear, Integer semester,
+			Integer subjectId, String subjectName, String type, Integer grades, String grade, Integer completeGrade) {
+		this.studentId = studentId;
+		this.studentName = studentName;
+		this.deptName = deptName;
+		this.subYear = subYear;
+		this.semester = semester;
+		this.subjectId = subjectId;
+		this.subjectName = subjectName;
+		this.type = type;
+		this.grades = grades;
+		this.grade = grade;
+		this.completeGrade = completeGrade;
+	}
+}
@@ -1,6 +1,7 @@
 package com.green.university.dto.response;
 
-import jdk.jshell.Snippet;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +14,8 @@ import lombok.NoArgsConstructor;
 public class PrincipalDto {
 
 	private Integer id;
+	// 응답에 비밀번호 해시가 나가지 않도록 직렬화하지 않음
+	@JsonIgnore
 	private String password;
 	private String userRole;
 	private String name;
@@ -0,0 +1,20 @@
+package com.green.university.dto.response;
+
+import lombok.Data;
+
+/**
+ * 수강 신청 대기열 상태
+ */
+@Data
+public class QueueStatusDto {
+
+	private Long ticket;
+	// 앞에 남은 대기 인원 (입장 시 0)
+	private Long position;
+	private Boolean admitted;
+	// 예상 대기 시간(초), 계산 불가 시 -1
+	private Long etaSeconds;
+	private Integer activeCount;
+	private Integer waitingCount;
+
+}
@@ -0,0 +1,23 @@
+package com.green.university.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 강의별 좌석 현황 (실시간 좌석 알림 / 스냅샷)
+ * 변경 알림에서는 바뀐 값만 채우고 나머지는 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatCountDto {
+
+	private Integer subjectId;
+	private Integer capacity;
+	// 본 수강 신청 현재 인원
+	private Integer numOfStudent;
+	// 예비 수강 신청 인원
+	private Integer preNumOfStudent;
+
+}
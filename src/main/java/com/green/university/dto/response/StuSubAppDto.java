@@ -1,11 +1,13 @@
 package com.green.university.dto.response;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * @author 서영
  */
 @Data
+@NoArgsConstructor
 public class StuSubAppDto {
 
 	private Integer studentId;
@@ -22,5 +24,21 @@ public class StuSubAppDto {
 	private String roomId;
 	
 	private Boolean status;
-	
+
+	// 수강 신청/예비 수강 신청 내역 조회 쿼리(SELECT new ...)용 생성자
+	public StuSubAppDto(Integer subjectId, String subjectName, String professorName, Integer grades,
+			String subDay, Integer startTime, Integer endTime, Integer numOfStudent, Integer capacity,
+			String roomId) {
+		this.subjectId = subjectId;
+		this.subjectName = subjectName;
+		this.professorName = professorName;
+		this.grades = grades;
+		this.subDay = subDay;
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.numOfStudent = numOfStudent;
+		this.capacity = capacity;
+		this.roomId = roomId;
+	}
+
 }
@@ -4,8 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class StuSubDayTimeDto {
 
 	private Integer subjectId;
@@ -13,6 +15,19 @@ public class StuSubDayTimeDto {
 	private String subDay;
 	private Integer startTime;
 	private Integer endTime;
+	// 강의 학점 (신청 학점 합계 계산용)
+	private Integer grades;
+
+	// 학생 수강 신청 내역 조회 쿼리(SELECT new ...)용 생성자
+	public StuSubDayTimeDto(Integer subjectId, String subjectName, String subDay,
+			Integer startTime, Integer endTime, Integer grades) {
+		this.subjectId = subjectId;
+		this.subjectName = subjectName;
+		this.subDay = subDay;
+		this.startTime = startTime;
+		this.endTime = endTime;
+		this.grades = grades;
+	}
 	
 	// startTime ~ endTime을 정수형 배열로 생성
 	public List<Integer> timeList() {
@@ -0,0 +1,31 @@
+package com.green.university.dto.response;
+
+import java.util.List;
+
+import com.green.university.repository.model.StuSubPromotion;
+
+import lombok.Data;
+
+/**
+ * 예비 수강 신청 -> 수강 신청 이관 진행 상황
+ */
+@Data
+public class StuSubPromotionDto {
+
+	private Boolean running;
+	private Integer totalSubjects;
+	// 이전 실행에서 이미 처리되어 건너뛴 강의 수
+	private Integer resumedSubjects;
+	private Integer doneSubjects;
+	// 정원 초과로 추첨한 강의 수
+	private Integer lotterySubjects;
+	// 정원 초과로 이관하지 않은 강의 수 (추첨 미사용 시)
+	private Integer skippedSubjects;
+	// 새로 생성된 수강 신청 내역 수
+	private Integer promotedCount;
+	private Long elapsedMs;
+	private String error;
+	// 강의별 결과 (진행 상황 조회 시)
+	private List<StuSubPromotion> subjects;
+
+}
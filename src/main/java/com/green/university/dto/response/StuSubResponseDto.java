@@ -19,4 +19,6 @@ public class StuSubResponseDto {
     private Integer midExam;
     private Integer finalExam;
     private Integer convertedMark;
+    // 등급 (A+ 등, 미입력이면 null)
+    private String grade;
 }
\ No newline at end of file
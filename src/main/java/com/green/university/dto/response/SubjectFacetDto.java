@@ -0,0 +1,34 @@
+package com.green.university.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.green.university.repository.model.Department;
+
+import lombok.Data;
+
+/**
+ * 강의 목록 화면의 검색 조건 목록 (강의 목록이 바뀔 때만 다시 만듦)
+ */
+@Data
+public class SubjectFacetDto {
+
+	// 검색 조건 내용의 해시 (목록 응답의 facetVersion 과 다르면 다시 조회, 서버가 달라도 내용이 같으면 같은 값)
+	private Long version;
+
+	private Integer subjectCount;
+	private Integer pageSize;
+	private Integer pageCount;
+
+	private List<Department> deptList;
+
+	// 강의명 (중복 제거)
+	private List<String> subNameList;
+
+	// 강의 구분 (중복 제거)
+	private List<String> typeList;
+
+	// 학과 id -> 강의 수
+	private Map<Integer, Integer> deptCounts;
+
+}
@@ -0,0 +1,30 @@
+package com.green.university.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * 강의 검색 결과 (페이지 + 전체 건수 + 학과별/구분별 건수)
+ */
+@Data
+public class SubjectSearchResultDto {
+
+	// 조건에 맞는 전체 강의 수
+	private Integer subjectCount;
+
+	// 페이지를 지정하지 않으면 null
+	private Integer page;
+	private Integer pageCount;
+
+	private List<SubjectDto> subjectList;
+
+	// 조건에 맞는 강의명 (중복 제거)
+	private List<String> subNameList;
+
+	// 학과 id -> 강의 수, 강의 구분 -> 강의 수
+	private Map<Integer, Integer> deptCounts;
+	private Map<String, Integer> typeCounts;
+
+}
@@ -0,0 +1,16 @@
+package com.green.university.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 로그인/재발급 응답 토큰 (짧은 액세스 토큰 + 재발급용 리프레시 토큰)
+ */
+@Data
+@AllArgsConstructor
+public class TokenDto {
+
+	private String accessToken;
+	private String refreshToken;
+
+}
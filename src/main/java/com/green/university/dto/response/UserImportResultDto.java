@@ -0,0 +1,40 @@
+package com.green.university.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 사용자 일괄 등록 결과 (행 번호는 헤더를 제외한 1부터)
+ */
+@Data
+public class UserImportResultDto {
+
+	private String role;
+	private int total;
+	private int created;
+	private int failed;
+	// 생성된 사용자 id (= 초기 비밀번호)
+	private List<Integer> createdIds = new ArrayList<>();
+	private List<RowError> errors = new ArrayList<>();
+
+	public void addCreated(Integer id) {
+		createdIds.add(id);
+		created++;
+	}
+
+	public void addError(int row, String message) {
+		errors.add(new RowError(row, message));
+		failed++;
+	}
+
+	@Data
+	@AllArgsConstructor
+	public static class RowError {
+		private int row;
+		private String message;
+	}
+
+}
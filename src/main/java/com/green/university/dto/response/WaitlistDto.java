@@ -0,0 +1,20 @@
+package com.green.university.dto.response;
+
+import lombok.Data;
+
+/**
+ * 수강 신청 대기 상태
+ */
+@Data
+public class WaitlistDto {
+
+	private Integer subjectId;
+	// 대기 번호 (/sub/sugang/waitlist/{subjectId} 알림에서 자기 순서를 찾을 때 사용)
+	private Integer entryId;
+	// 앞에 남은 대기 인원
+	private Integer position;
+	private Integer waitingCount;
+	// 빈 자리를 배정받은 경우 수락 기한 (epoch ms), 없으면 null
+	private Long holdExpiresAt;
+
+}
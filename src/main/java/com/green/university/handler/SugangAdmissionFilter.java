@@ -0,0 +1,115 @@
+package com.green.university.handler;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.university.dto.response.QueueStatusDto;
+import com.green.university.jwt.JwtUtil;
+import com.green.university.service.AdmissionQueueService;
+import com.green.university.service.SugangPeriodService;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수강 신청 기간에 수강 신청 API 앞에서 대기열 입장 여부를 검사하는 필터
+ * JwtAuthenticationFilter 보다 먼저 실행되어 입장하지 못한 요청은 DB 조회 없이 429로 돌려보냄
+ */
+@Component
+@RequiredArgsConstructor
+public class SugangAdmissionFilter extends OncePerRequestFilter {
+
+	// 대기열을 거쳐야 하는 수강 신청 API
+	private static final String[] QUEUE_PATHS = {
+			"/api/sugang/application/**",
+			"/api/sugang/insertApp/**",
+			"/api/sugang/deleteApp/**",
+			"/api/sugang/preAppList"
+	};
+
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final AdmissionQueueService admissionQueueService;
+	private final SugangPeriodService sugangPeriodService;
+	private final JwtUtil jwtUtil;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (sugangPeriodService.getPeriod() != SugangPeriodService.OPEN || "OPTIONS".equals(request.getMethod())) {
+			return true;
+		}
+		String path = request.getRequestURI();
+		for (String pattern : QUEUE_PATHS) {
+			if (PATH_MATCHER.match(pattern, path)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Integer studentId = parseStudentId(request);
+
+		// 토큰이 없거나 잘못된 경우는 인증 단계에서 처리
+		if (studentId == null || admissionQueueService.tryPass(studentId)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		QueueStatusDto status = admissionQueueService.enter(studentId);
+		if (Boolean.TRUE.equals(status.getAdmitted())) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		Map<String, Object> body = new HashMap<>();
+		body.put("message", "수강 신청 대기 중입니다.");
+		body.put("path", request.getRequestURI());
+		body.put("queue", status);
+
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		if (status.getEtaSeconds() != null && status.getEtaSeconds() > 0) {
+			response.setHeader("Retry-After", String.valueOf(status.getEtaSeconds()));
+		}
+		objectMapper.writeValue(response.getWriter(), body);
+	}
+
+	/**
+	 * 토큰 서명만 확인해서 학생 id 추출 (DB 조회 없음, 토큰은 한 번만 해석)
+	 */
+	private Integer parseStudentId(HttpServletRequest request) {
+		String headerAuth = request.getHeader("Authorization");
+		if (!StringUtils.hasText(headerAuth) || !headerAuth.startsWith("Bearer ")) {
+			return null;
+		}
+		String token = headerAuth.substring(7);
+		Claims claims = jwtUtil.parseClaims(token);
+		if (claims == null || !"student".equals(claims.get("role", String.class))) {
+			return null;
+		}
+		try {
+			return Integer.valueOf(claims.getSubject());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+}
@@ -1,8 +1,9 @@
 package com.green.university.jwt;
 
 import com.green.university.dto.response.PrincipalDto;
-import com.green.university.repository.model.User;
-import com.green.university.service.UserService;
+import com.green.university.service.PrincipalCacheService;
+import com.green.university.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +28,8 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserService userService;
+    private final PrincipalCacheService principalCacheService;
+    private final TokenRevocationService tokenRevocationService;
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -37,17 +39,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = parseJwt(request);
 
-            if (token != null
-                    && jwtUtil.validateToken(token)
-                    && SecurityContextHolder.getContext().getAuthentication() == null) {
-                //String username = jwtUtil.extractUsername(token);
-                User user = jwtUtil.findUserByToken(token);
-                if (user != null) {
-                    // 2) User → PrincipalDto
-                    PrincipalDto principal = userService.convertToPrincipalDto(user);
+            if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 1) 서명/만료 검증과 클레임 추출을 한 번에
+                Claims claims = jwtUtil.parseClaims(token);
 
+                // 로그아웃 등으로 폐기된 토큰은 인증하지 않음 (메모리 목록만 확인)
+                if (claims != null && claims.getId() != null && tokenRevocationService.isRevoked(claims.getId())) {
+                    log.debug("폐기된 토큰: jti={}", claims.getId());
+                    claims = null;
+                }
+
+                // 2) 클레임으로 PrincipalDto 생성, 클레임에 없거나 발급 후 정보가 바뀌었으면 캐시/DB 에서 조회
+                PrincipalDto principal = null;
+                if (claims != null) {
+                    principal = jwtUtil.toPrincipal(claims);
+                    if (principal == null || !principalCacheService.isCurrent(principal.getId(),
+                            claims.getIssuedAt().getTime())) {
+                        principal = principalCacheService.read(Integer.valueOf(claims.getSubject()));
+                    }
+                }
+
+                if (principal != null) {
                     // 3) 권한 생성 (프로젝트 규칙에 맞춰서 ROLE_ prefix 여부 조정)
-                    String role = user.getUserRole();
+                    String role = principal.getUserRole();
                     List<SimpleGrantedAuthority> authorities =
                             role != null
                                     ? List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()))
@@ -0,0 +1,103 @@
+package com.green.university.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 검증된 토큰 캐시 (토큰 SHA-256 -> 클레임, 만료 시각)
+ * 같은 토큰이 여러 요청에서 반복되므로 서명 검증/JSON 해석은 처음 한 번만 하고 이후에는 해시 조회로 처리함
+ * 항목 수가 max-size 에 도달하면 만료된 항목부터 정리하고, 그래도 가득 차 있으면 전체를 비움
+ * max-size 가 0 이하이면 캐시하지 않음
+ */
+class JwtClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final int maxSize;
+
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 캐시에 있고 아직 만료되지 않은 토큰의 클레임 (없으면 null)
+     */
+    Claims get(ByteBuffer key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims;
+    }
+
+    void put(ByteBuffer key, Claims claims, long now) {
+        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(claims, expiresAt));
+    }
+
+    static ByteBuffer key(String token) {
+        return ByteBuffer.wrap(SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+
+        private final Claims claims;
+        private final long expiresAt;
+
+        Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -1,20 +1,26 @@
 package com.green.university.jwt;
 
+import com.green.university.dto.response.PrincipalDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.repository.UserJpaRepository;
 import com.green.university.repository.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -24,15 +30,24 @@ public class JwtUtil {
     private final Long expiration;
     private final SecretKey signingKey;
 
+    // 파서는 스레드 안전하므로 하나를 만들어 재사용
+    private final JwtParser parser;
+
+    // 검증을 마친 토큰의 클레임 (요청마다 같은 토큰의 서명을 다시 검증하지 않도록)
+    private final JwtClaimsCache claimsCache;
+
     @Autowired
     private UserJpaRepository userJpaRepository;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") Long expiration) {
+            @Value("${jwt.expiration}") Long expiration,
+            @Value("${jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize) {
         this.secret = secret;
         this.expiration = expiration;
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.claimsCache = new JwtClaimsCache(claimsCacheMaxSize);
     }
 
     public String generateToken(String userId, String role) {
@@ -48,6 +63,54 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 로그인 액세스 토큰 (인증 필터가 DB 조회 없이 사용자 정보를 만들 수 있도록 이름/이메일을 함께 담음)
+     * tokenId 는 jti 로 들어가며 로그아웃 시 이 값으로 토큰을 폐기함
+     */
+    public String generateToken(PrincipalDto principal, String tokenId) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expiration);
+
+        return Jwts.builder()
+                .id(tokenId)
+                .subject(String.valueOf(principal.getId()))
+                .claim("role", principal.getUserRole())
+                .claim("name", principal.getName())
+                .claim("email", principal.getEmail())
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(signingKey)
+                .compact();
+    }
+
+    /**
+     * 서명/만료를 한 번에 검증하고 클레임 반환 (유효하지 않으면 null)
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return getClaims(token);
+        } catch (Exception e) {
+            log.error("토큰 검증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 클레임으로 사용자 정보 생성 (이름이 없는 이전 방식 토큰이면 null, 비밀번호는 담지 않음)
+     */
+    public PrincipalDto toPrincipal(Claims claims) {
+        String name = claims.get("name", String.class);
+        if (name == null) {
+            return null;
+        }
+        return PrincipalDto.builder()
+                .id(Integer.valueOf(claims.getSubject()))
+                .userRole(claims.get("role", String.class))
+                .name(name)
+                .email(claims.get("email", String.class))
+                .build();
+    }
+
     public String extractUsername(String token) {
         return getClaims(token).getSubject();
     }
@@ -69,12 +132,43 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * 캐시에 있으면 캐시된 클레임, 없으면 서명/만료를 검증하고 캐시에 저장
+     * 검증에 실패한 토큰은 캐시하지 않으므로 매번 예외가 발생함
+     */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        if (!claimsCache.isEnabled()) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        long now = System.currentTimeMillis();
+        ByteBuffer key = JwtClaimsCache.key(token);
+        Claims claims = claimsCache.get(key, now);
+        if (claims == null) {
+            claims = parser.parseSignedClaims(token).getPayload();
+            claimsCache.put(key, claims, now);
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰 검증 캐시 통계 (hits, misses, hitRate, size)
+     */
+    public Map<String, Object> getClaimsCacheStats() {
+        long hits = claimsCache.getHits();
+        long misses = claimsCache.getMisses();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("size", claimsCache.size());
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.claims-cache.log-ms:600000}")
+    public void logClaimsCacheStats() {
+        if (claimsCache.isEnabled()) {
+            log.info("[JwtUtil] 토큰 검증 캐시 {}", getClaimsCacheStats());
+        }
     }
 
     public User findUserByToken(String token) {
@@ -0,0 +1,23 @@
+package com.green.university.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.green.university.repository.model.CatalogVersion;
+
+public interface CatalogVersionJpaRepository extends JpaRepository<CatalogVersion, Integer> {
+
+    /**
+     * 현재 강의 목록 버전 (행이 없으면 null)
+     */
+    @Query(value = "SELECT version FROM catalog_version_tb WHERE id = 1", nativeQuery = true)
+    Integer findVersion();
+
+    /**
+     * 강의 목록 버전 +1 (행이 없으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE catalog_version_tb SET version = version + 1 WHERE id = 1", nativeQuery = true)
+    int increase();
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.green.university.dto.response.StuSubAppDto;
+import com.green.university.dto.response.StuSubDayTimeDto;
 import com.green.university.repository.model.PreStuSub;
 import com.green.university.repository.model.PreStuSubId;
 
@@ -35,5 +37,69 @@ public interface PreStuSubJpaRepository extends JpaRepository<PreStuSub, PreStuS
 
     List<PreStuSub> findByIdStudentId(Integer studentId);
 
+    /**
+     * 학생이 예비 수강 신청한 강의 id (강의 목록의 신청 여부 표시용)
+     */
+    @Query("SELECT p.id.subjectId FROM PreStuSub p WHERE p.id.studentId = :studentId")
+    List<Integer> findSubjectIdByStudentId(@Param("studentId") Integer studentId);
+
     List<PreStuSub> findByIdSubjectId(Integer subjectId);
-}
\ No newline at end of file
+
+    /**
+     * 학생의 해당 학기 예비 수강신청 내역을 조회한다.
+     */
+    @Query("SELECT p FROM PreStuSub p, Subject s " +
+            "WHERE s.id = p.id.subjectId AND p.id.studentId = :studentId " +
+            "AND s.subYear = :year AND s.semester = :semester")
+    List<PreStuSub> findByStudentIdAndSemester(
+            @Param("studentId") Integer studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * 학생의 해당 학기 예비 수강신청 강의의 학점/요일/시간을 한 번에 조회한다.
+     */
+    @Query("SELECT new com.green.university.dto.response.StuSubDayTimeDto(" +
+            "s.id, s.name, s.subDay, s.startTime, s.endTime, s.grades) " +
+            "FROM PreStuSub p, Subject s " +
+            "WHERE s.id = p.id.subjectId AND p.id.studentId = :studentId " +
+            "AND s.subYear = :year AND s.semester = :semester")
+    List<StuSubDayTimeDto> findDayTimeListByStudentId(
+            @Param("studentId") Integer studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * 학생의 해당 학기 예비 수강 신청 내역을 강의/교수/강의실 정보와 함께 한 번에 조회한다. (수강 인원은 예비 인원)
+     */
+    @Query("SELECT new com.green.university.dto.response.StuSubAppDto(" +
+            "s.id, s.name, pr.name, s.grades, s.subDay, s.startTime, s.endTime, s.preNumOfStudent, s.capacity, r.id) " +
+            "FROM PreStuSub p JOIN Subject s ON s.id = p.id.subjectId JOIN s.professor pr LEFT JOIN s.room r " +
+            "WHERE p.id.studentId = :studentId AND s.subYear = :year AND s.semester = :semester " +
+            "ORDER BY s.id")
+    List<StuSubAppDto> findAppListByStudentId(
+            @Param("studentId") Integer studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * 예비 수강 신청했지만 아직 수강 신청하지 않은 강의를 한 번에 조회한다. (수강 인원은 본 수강 인원)
+     */
+    @Query("SELECT new com.green.university.dto.response.StuSubAppDto(" +
+            "s.id, s.name, pr.name, s.grades, s.subDay, s.startTime, s.endTime, s.numOfStudent, s.capacity, r.id) " +
+            "FROM PreStuSub p JOIN Subject s ON s.id = p.id.subjectId JOIN s.professor pr LEFT JOIN s.room r " +
+            "WHERE p.id.studentId = :studentId AND NOT EXISTS (" +
+            "SELECT ss.id FROM StuSub ss WHERE ss.studentId = p.id.studentId AND ss.subjectId = p.id.subjectId) " +
+            "ORDER BY s.id")
+    List<StuSubAppDto> findNotRegisteredAppListByStudentId(@Param("studentId") Integer studentId);
+
+    /**
+     * 추첨용 지원자: [subjectId, studentId, 학년, 학과 id]
+     */
+    @Query("SELECT p.id.subjectId, st.id, st.grade, st.deptId FROM PreStuSub p, Student st " +
+            "WHERE st.id = p.id.studentId AND p.id.subjectId IN :subjectIds")
+    List<Object[]> findApplicantsBySubjectIdIn(@Param("subjectIds") List<Integer> subjectIds);
+}
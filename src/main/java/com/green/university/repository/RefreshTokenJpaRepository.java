@@ -0,0 +1,48 @@
+package com.green.university.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.RefreshToken;
+
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, Integer> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    Optional<RefreshToken> findFirstByAccessJti(String accessJti);
+
+    /**
+     * 재발급에 사용 처리 (아직 사용/폐기되지 않은 토큰만, 동시에 같은 토큰이 오면 한 요청만 1 반환)
+     */
+    @Modifying
+    @Query(value = "UPDATE refresh_token_tb SET used_at = :now " +
+            "WHERE id = :id AND used_at IS NULL AND revoked = FALSE", nativeQuery = true)
+    int markUsed(@Param("id") Integer id, @Param("now") Timestamp now);
+
+    /**
+     * 묶음에서 아직 유효할 수 있는 액세스 토큰의 jti (since 이후 발급)
+     */
+    @Query("SELECT r.accessJti FROM RefreshToken r WHERE r.familyId = :familyId AND r.createdAt > :since")
+    List<String> findAccessJtiByFamilyId(@Param("familyId") String familyId, @Param("since") Timestamp since);
+
+    @Query("SELECT r.accessJti FROM RefreshToken r WHERE r.userId = :userId AND r.createdAt > :since")
+    List<String> findAccessJtiByUserId(@Param("userId") Integer userId, @Param("since") Timestamp since);
+
+    @Modifying
+    @Query(value = "UPDATE refresh_token_tb SET revoked = TRUE WHERE family_id = :familyId", nativeQuery = true)
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query(value = "UPDATE refresh_token_tb SET revoked = TRUE WHERE user_id = :userId", nativeQuery = true)
+    int revokeByUserId(@Param("userId") Integer userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM refresh_token_tb WHERE expires_at < :now", nativeQuery = true)
+    int deleteExpired(@Param("now") Timestamp now);
+}
@@ -0,0 +1,38 @@
+package com.green.university.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.RevokedToken;
+
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedToken, Integer> {
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 (id 순)
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.expiresAt > :now ORDER BY r.id")
+    List<RevokedToken> findActive(@Param("now") Timestamp now);
+
+    /**
+     * since 이후에 폐기된 토큰 (다른 서버가 폐기한 토큰 반영용)
+     * id 는 커밋 순서와 다를 수 있으므로 폐기 시각으로 읽음
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.revokedAt >= :since ORDER BY r.revokedAt")
+    List<RevokedToken> findRevokedSince(@Param("since") Timestamp since);
+
+    /**
+     * 폐기 토큰 추가 (이미 폐기된 jti 면 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_token_tb (jti, expires_at) VALUES (:jti, :expiresAt)", nativeQuery = true)
+    int insertIgnore(@Param("jti") String jti, @Param("expiresAt") Timestamp expiresAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM revoked_token_tb WHERE expires_at < :now", nativeQuery = true)
+    int deleteExpired(@Param("now") Timestamp now);
+}
@@ -0,0 +1,25 @@
+package com.green.university.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.RosterVersion;
+
+public interface RosterVersionJpaRepository extends JpaRepository<RosterVersion, Integer> {
+
+    /**
+     * 강의의 명단 버전 (행이 없으면 null)
+     */
+    @Query(value = "SELECT version FROM roster_version_tb WHERE subject_id = :subjectId", nativeQuery = true)
+    Integer findVersion(@Param("subjectId") Integer subjectId);
+
+    /**
+     * 강의의 명단 버전 +1 (행이 없으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE roster_version_tb SET version = version + 1 WHERE subject_id = :subjectId",
+            nativeQuery = true)
+    int increase(@Param("subjectId") Integer subjectId);
+}
@@ -3,11 +3,31 @@ package com.green.university.repository;
 import com.green.university.repository.model.StuSubDetail;
 import com.green.university.repository.model.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StuSubDetailJpaRepository extends JpaRepository<StuSubDetail,Integer>{
 
     Optional<StuSubDetail> findByStudentIdAndSubjectId(Integer studentId, Integer subjectId);
 
+    /**
+     * 강의의 상세 내역(출결/성적 기입 대상)이 있는 학생 id
+     */
+    @Query("SELECT d.studentId FROM StuSubDetail d WHERE d.subjectId = :subjectId")
+    List<Integer> findStudentIdBySubjectId(@Param("subjectId") Integer subjectId);
+
+    /**
+     * 상세 내역이 없는 수강 신청 내역에 빈 상세 내역 생성
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stu_sub_detail_tb (id, student_id, subject_id) " +
+            "SELECT s.id, s.student_id, s.subject_id FROM stu_sub_tb s " +
+            "WHERE s.subject_id IN (:subjectIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM stu_sub_detail_tb d WHERE d.id = s.id)", nativeQuery = true)
+    int insertFromStuSub(@Param("subjectIds") List<Integer> subjectIds);
+
 }
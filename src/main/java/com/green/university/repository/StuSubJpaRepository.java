@@ -2,14 +2,22 @@ package com.green.university.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.green.university.dto.response.GradeExportDto;
+import com.green.university.dto.response.StuSubAppDto;
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.dto.response.StuSubResponseDto;
 import com.green.university.repository.model.StuSub;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * JPA repository for {@link StuSub} entities.
  */
@@ -39,5 +47,116 @@ public interface StuSubJpaRepository extends JpaRepository<StuSub, Integer> {
 
     List<StuSub> findByStudentId(Integer studentId);
 
+    /**
+     * 학생이 해당 학기에 수강 신청한 강의 id (강의 목록의 신청 여부 표시용)
+     */
+    @Query("SELECT s.subjectId FROM StuSub s WHERE s.studentId = :studentId " +
+            "AND s.subject.subYear = :subYear AND s.subject.semester = :semester")
+    List<Integer> findSubjectIdByStudentIdAndSemester(@Param("studentId") Integer studentId,
+                                                      @Param("subYear") Integer subYear,
+                                                      @Param("semester") Integer semester);
+
     List<StuSub> findByStudentIdAndSubject_SubYearAndSubject_SemesterAndSubject_Type(Integer studentId, Integer subYear, Integer semester, String type);
-}
\ No newline at end of file
+
+    /**
+     * 학생의 해당 학기 수강신청 강의의 학점/요일/시간을 한 번에 조회한다.
+     */
+    @Query("SELECT new com.green.university.dto.response.StuSubDayTimeDto(" +
+            "s.id, s.name, s.subDay, s.startTime, s.endTime, s.grades) " +
+            "FROM StuSub ss JOIN ss.subject s " +
+            "WHERE ss.studentId = :studentId AND s.subYear = :year AND s.semester = :semester")
+    List<StuSubDayTimeDto> findDayTimeListByStudentId(
+            @Param("studentId") Integer studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * 학생의 해당 학기 수강 신청 내역을 강의/교수/강의실 정보와 함께 한 번에 조회한다. (수강 인원은 본 수강 인원)
+     */
+    @Query("SELECT new com.green.university.dto.response.StuSubAppDto(" +
+            "s.id, s.name, p.name, s.grades, s.subDay, s.startTime, s.endTime, s.numOfStudent, s.capacity, r.id) " +
+            "FROM StuSub ss JOIN ss.subject s JOIN s.professor p LEFT JOIN s.room r " +
+            "WHERE ss.studentId = :studentId AND s.subYear = :year AND s.semester = :semester " +
+            "ORDER BY ss.id")
+    List<StuSubAppDto> findAppListByStudentId(
+            @Param("studentId") Integer studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * 예비 수강 신청 내역을 수강 신청 내역으로 복사 (이미 수강 신청된 과목은 제외)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stu_sub_tb (student_id, subject_id) " +
+            "SELECT p.student_id, p.subject_id FROM pre_stu_sub_tb p " +
+            "WHERE p.subject_id IN (:subjectIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM stu_sub_tb s " +
+            "WHERE s.student_id = p.student_id AND s.subject_id = p.subject_id)", nativeQuery = true)
+    int insertFromPreStuSub(@Param("subjectIds") List<Integer> subjectIds);
+
+    /**
+     * 추첨용: 지정한 강의에 예비 수강 신청한 학생들의 해당 학기 수강 신청 내역
+     * [studentId, subDay, startTime, endTime, grades]
+     */
+    @Query("SELECT ss.studentId, s.subDay, s.startTime, s.endTime, s.grades " +
+            "FROM StuSub ss JOIN ss.subject s " +
+            "WHERE s.subYear = :year AND s.semester = :semester AND ss.studentId IN " +
+            "(SELECT p.id.studentId FROM PreStuSub p WHERE p.id.subjectId IN :subjectIds)")
+    List<Object[]> findDayTimeListByApplicants(
+            @Param("subjectIds") List<Integer> subjectIds,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    /**
+     * 추첨 당첨자의 예비 수강 신청 내역을 수강 신청 내역으로 복사
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stu_sub_tb (student_id, subject_id) " +
+            "SELECT p.student_id, p.subject_id FROM pre_stu_sub_tb p " +
+            "WHERE p.subject_id = :subjectId AND p.student_id IN (:studentIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM stu_sub_tb s " +
+            "WHERE s.student_id = p.student_id AND s.subject_id = p.subject_id)", nativeQuery = true)
+    int insertFromPreStuSubByStudentIds(@Param("subjectId") Integer subjectId,
+                                        @Param("studentIds") List<Integer> studentIds);
+
+    /**
+     * 성적을 입력한 학생들의 이수 학점 일괄 계산 (F면 0, 아니면 강의 학점)
+     */
+    @Modifying
+    @Query(value = "UPDATE stu_sub_tb SET complete_grade = CASE WHEN grade = 'F' THEN 0 ELSE :grades END " +
+            "WHERE subject_id = :subjectId AND student_id IN (:studentIds)", nativeQuery = true)
+    int updateCompleteGradeBySubjectId(@Param("subjectId") Integer subjectId,
+                                       @Param("studentIds") List<Integer> studentIds,
+                                       @Param("grades") Integer grades);
+
+    /**
+     * 성적 내보내기 (조건이 null 이면 전체, 학번/연도/학기/강의 순)
+     * 엔티티 대신 DTO 로 읽어 영속성 컨텍스트에 쌓이지 않고, MySQL 에서 fetch size 가 Integer.MIN_VALUE 이면
+     * 결과를 한 번에 받지 않고 한 행씩 읽음 (스트림을 닫을 때까지 트랜잭션 유지 필요)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
+    @Query("SELECT new com.green.university.dto.response.GradeExportDto(" +
+            "ss.studentId, st.name, d.name, s.subYear, s.semester, s.id, s.name, s.type, s.grades, " +
+            "ss.grade, ss.completeGrade) " +
+            "FROM StuSub ss JOIN ss.subject s JOIN ss.student st JOIN st.department d " +
+            "WHERE (:subYear IS NULL OR s.subYear = :subYear) AND (:semester IS NULL OR s.semester = :semester) " +
+            "AND (:deptId IS NULL OR st.deptId = :deptId) " +
+            "ORDER BY ss.studentId ASC, s.subYear ASC, s.semester ASC, s.id ASC")
+    Stream<GradeExportDto> streamForExport(@Param("subYear") Integer subYear,
+                                           @Param("semester") Integer semester,
+                                           @Param("deptId") Integer deptId);
+
+    /**
+     * 강의 수강생 명단 (출결/성적 기입 화면) 학생/학과/상세 내역을 한 번에 조회
+     */
+    @Query("SELECT new com.green.university.dto.response.StuSubResponseDto(" +
+            "st.id, st.name, d.name, det.absent, det.lateness, det.homework, det.midExam, det.finalExam, " +
+            "det.convertedMark, ss.grade) " +
+            "FROM StuSub ss JOIN ss.student st JOIN st.department d " +
+            "LEFT JOIN StuSubDetail det ON det.id = ss.id " +
+            "WHERE ss.subjectId = :subjectId ORDER BY st.id ASC")
+    List<StuSubResponseDto> findRosterBySubjectId(@Param("subjectId") Integer subjectId);
+}
@@ -0,0 +1,30 @@
+package com.green.university.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.StuSubPromotion;
+
+public interface StuSubPromotionJpaRepository extends JpaRepository<StuSubPromotion, Integer> {
+
+    List<StuSubPromotion> findBySubYearAndSemesterOrderBySubjectIdAsc(Integer subYear, Integer semester);
+
+    /**
+     * 이관 완료/제외 기록 (강의 묶음 단위, 예비 신청 인원과 이관 후 수강 인원을 함께 집계)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO stu_sub_promotion_tb (subject_id, sub_year, semester, status, pre_count, promoted_count) " +
+            "SELECT s.id, s.sub_year, s.semester, :status, " +
+            "(SELECT COUNT(*) FROM pre_stu_sub_tb p WHERE p.subject_id = s.id), " +
+            "(SELECT COUNT(*) FROM stu_sub_tb ss WHERE ss.subject_id = s.id) " +
+            "FROM subject_tb s WHERE s.id IN (:subjectIds)", nativeQuery = true)
+    int insertBySubjectIds(@Param("subjectIds") List<Integer> subjectIds, @Param("status") String status);
+
+    @Modifying
+    @Query("DELETE FROM StuSubPromotion p WHERE p.subYear = :subYear AND p.semester = :semester")
+    int deleteBySubYearAndSemester(@Param("subYear") Integer subYear, @Param("semester") Integer semester);
+}
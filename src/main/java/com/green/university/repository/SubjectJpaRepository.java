@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.green.university.repository.model.Subject;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -45,30 +46,94 @@ public interface SubjectJpaRepository extends JpaRepository<Subject, Integer> {
     // 이름으로 검색 (LIKE 검색, 페이징 없음 - 수정용)
     List<Subject> findByNameContainingOrderByIdAsc(String name);
 
+    List<Subject> findByProfessor_IdAndSubDayAndSubYearAndSemester(
+            Integer professorId,
+            String subDay,
+            Integer subYear,
+            Integer semester
+    );
+
+    /**
+     * 강의 목록 캐시용: 학과/단과대/교수/강의실을 함께 조회
+     */
+    @Query("SELECT s FROM Subject s " +
+            "LEFT JOIN FETCH s.department d LEFT JOIN FETCH d.college " +
+            "LEFT JOIN FETCH s.professor LEFT JOIN FETCH s.room " +
+            "ORDER BY s.id")
+    List<Subject> findAllWithDetails();
+
     /**
-     * 정원 >= 예비 신청 인원인 과목 조회
+     * 좌석 카운터 적재용: [id, capacity, numOfStudent]
      */
-    @Query("SELECT s FROM Subject s WHERE s.capacity >= s.preNumOfStudent " +
-            "AND s.subYear = :year AND s.semester = :semester")
-    List<Subject> findByCapacityGreaterThanEqualPreNumOfStudent(
+    @Query("SELECT s.id, s.capacity, s.numOfStudent FROM Subject s " +
+            "WHERE s.subYear = :year AND s.semester = :semester")
+    List<Object[]> findSeatInfoBySubYearAndSemester(
             @Param("year") Integer year,
             @Param("semester") Integer semester
     );
 
     /**
-     * 정원 < 예비 신청 인원인 과목 조회
+     * 정원이 남아 있을 때만 현재 인원 +1 (배정되면 1, 정원이 찼으면 0)
      */
-    @Query("SELECT s FROM Subject s WHERE s.capacity < s.preNumOfStudent " +
-            "AND s.subYear = :year AND s.semester = :semester")
-    List<Subject> findByCapacityLessThanPreNumOfStudent(
+    @Modifying
+    @Query(value = "UPDATE subject_tb SET num_of_student = num_of_student + 1 " +
+            "WHERE id = :id AND num_of_student < capacity", nativeQuery = true)
+    int reserveSeat(@Param("id") Integer id);
+
+    /**
+     * 현재 인원 -1 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "UPDATE subject_tb SET num_of_student = num_of_student - 1 " +
+            "WHERE id = :id AND num_of_student > 0", nativeQuery = true)
+    int releaseSeat(@Param("id") Integer id);
+
+    /**
+     * 해당 학기 강의의 현재 인원을 실제 수강 신청 내역 수로 다시 맞춤
+     */
+    @Modifying
+    @Query(value = "UPDATE subject_tb s SET s.num_of_student = " +
+            "(SELECT COUNT(*) FROM stu_sub_tb ss WHERE ss.subject_id = s.id) " +
+            "WHERE s.sub_year = :year AND s.semester = :semester", nativeQuery = true)
+    int reconcileNumOfStudent(@Param("year") Integer year, @Param("semester") Integer semester);
+
+    /**
+     * 이관 대상 강의 id (정원 >= 예비 신청 인원)
+     */
+    @Query("SELECT s.id FROM Subject s WHERE s.capacity >= s.preNumOfStudent " +
+            "AND s.subYear = :year AND s.semester = :semester ORDER BY s.id")
+    List<Integer> findIdByCapacityGreaterThanEqualPreNumOfStudent(
             @Param("year") Integer year,
             @Param("semester") Integer semester
     );
 
-    List<Subject> findByProfessor_IdAndSubDayAndSubYearAndSemester(
-            Integer professorId,
-            String subDay,
-            Integer subYear,
-            Integer semester
+    /**
+     * 이관 제외 강의 id (정원 < 예비 신청 인원)
+     */
+    @Query("SELECT s.id FROM Subject s WHERE s.capacity < s.preNumOfStudent " +
+            "AND s.subYear = :year AND s.semester = :semester ORDER BY s.id")
+    List<Integer> findIdByCapacityLessThanPreNumOfStudent(
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
     );
+
+    /**
+     * 지정한 강의의 현재 인원을 수강 신청 내역 수로 맞춤
+     */
+    @Modifying
+    @Query(value = "UPDATE subject_tb s SET s.num_of_student = " +
+            "(SELECT COUNT(*) FROM stu_sub_tb ss WHERE ss.subject_id = s.id) " +
+            "WHERE s.id IN (:subjectIds)", nativeQuery = true)
+    int recountNumOfStudent(@Param("subjectIds") List<Integer> subjectIds);
+
+    @Modifying
+    @Query(value = "UPDATE subject_tb SET num_of_student = 0 WHERE id IN (:subjectIds)", nativeQuery = true)
+    int resetNumOfStudent(@Param("subjectIds") List<Integer> subjectIds);
+
+    /**
+     * 추첨용: [id, capacity, grades, subDay, startTime, endTime, deptId]
+     */
+    @Query("SELECT s.id, s.capacity, s.grades, s.subDay, s.startTime, s.endTime, d.id " +
+            "FROM Subject s LEFT JOIN s.department d WHERE s.id IN :subjectIds ORDER BY s.id")
+    List<Object[]> findLotteryInfoByIdIn(@Param("subjectIds") List<Integer> subjectIds);
 }
@@ -0,0 +1,59 @@
+package com.green.university.repository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.SugangPeriod;
+
+public interface SugangPeriodJpaRepository extends JpaRepository<SugangPeriod, Integer> {
+
+    Optional<SugangPeriod> findBySubYearAndSemester(Integer subYear, Integer semester);
+
+    /**
+     * 현재 기간만 조회 (수강 신청 트랜잭션 안에서 다시 확인할 때)
+     */
+    @Query(value = "SELECT period FROM sugang_period_tb WHERE sub_year = :subYear AND semester = :semester",
+            nativeQuery = true)
+    Integer findPeriod(@Param("subYear") Integer subYear, @Param("semester") Integer semester);
+
+    /**
+     * 기간 변경 작업 선점 (현재 기간이 expected 이고 다른 서버가 변경 중이 아닐 때만, expected 가 null 이면 기간 무관)
+     */
+    @Modifying
+    @Query(value = "UPDATE sugang_period_tb SET changing_by = :node, changing_until = :until " +
+            "WHERE sub_year = :subYear AND semester = :semester " +
+            "AND (:expected IS NULL OR period = :expected) " +
+            "AND (changing_until IS NULL OR changing_until < :now)", nativeQuery = true)
+    int claim(@Param("subYear") Integer subYear, @Param("semester") Integer semester,
+              @Param("expected") Integer expected, @Param("node") String node,
+              @Param("until") Timestamp until, @Param("now") Timestamp now);
+
+    /**
+     * 기간 변경 완료 (선점한 서버만)
+     */
+    @Modifying
+    @Query(value = "UPDATE sugang_period_tb SET period = :period, version = version + 1, " +
+            "changing_by = NULL, changing_until = NULL " +
+            "WHERE sub_year = :subYear AND semester = :semester AND changing_by = :node", nativeQuery = true)
+    int finish(@Param("subYear") Integer subYear, @Param("semester") Integer semester,
+               @Param("node") String node, @Param("period") Integer period);
+
+    /**
+     * 기간 변경 실패 시 선점 해제
+     */
+    @Modifying
+    @Query(value = "UPDATE sugang_period_tb SET changing_by = NULL, changing_until = NULL " +
+            "WHERE sub_year = :subYear AND semester = :semester AND changing_by = :node", nativeQuery = true)
+    int unclaim(@Param("subYear") Integer subYear, @Param("semester") Integer semester, @Param("node") String node);
+
+    @Modifying
+    @Query(value = "UPDATE sugang_period_tb SET open_at = :openAt, close_at = :closeAt, version = version + 1 " +
+            "WHERE sub_year = :subYear AND semester = :semester", nativeQuery = true)
+    int updateSchedule(@Param("subYear") Integer subYear, @Param("semester") Integer semester,
+                       @Param("openAt") Timestamp openAt, @Param("closeAt") Timestamp closeAt);
+}
@@ -0,0 +1,76 @@
+package com.green.university.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.Transcript;
+import com.green.university.repository.model.TranscriptId;
+
+public interface TranscriptJpaRepository extends JpaRepository<Transcript, TranscriptId> {
+
+    // 평점 평균은 성적이 입력된 강의만, 신청 학점은 수강 신청한 강의 전체
+    String AGGREGATE = "COALESCE(AVG(g.grade_value), 0), COUNT(g.grade), " +
+            "COALESCE(SUM(ss.complete_grade), 0), COALESCE(SUM(s.grades), 0) " +
+            "FROM stu_sub_tb ss JOIN subject_tb s ON s.id = ss.subject_id " +
+            "LEFT JOIN grade_tb g ON g.grade = ss.grade ";
+
+    String UPSERT = "ON DUPLICATE KEY UPDATE avg_grade = VALUES(avg_grade), graded_count = VALUES(graded_count), " +
+            "earned_credits = VALUES(earned_credits), attempted_credits = VALUES(attempted_credits)";
+
+    @Query("SELECT t FROM Transcript t WHERE t.id.studentId = :studentId " +
+            "ORDER BY t.id.subYear ASC, t.id.semester ASC")
+    List<Transcript> findByStudentId(@Param("studentId") Integer studentId);
+
+    /**
+     * 학생 1명의 학기 성적 요약 다시 집계 (수강 내역이 없으면 0으로)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO transcript_tb " +
+            "(student_id, sub_year, semester, avg_grade, graded_count, earned_credits, attempted_credits) " +
+            "SELECT :studentId, :subYear, :semester, " + AGGREGATE +
+            "WHERE ss.student_id = :studentId AND s.sub_year = :subYear AND s.semester = :semester " +
+            UPSERT, nativeQuery = true)
+    int refresh(@Param("studentId") Integer studentId, @Param("subYear") Integer subYear,
+                @Param("semester") Integer semester);
+
+    /**
+     * 학기 전체 학생의 성적 요약 다시 집계 (수강 신청 종료 시)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO transcript_tb " +
+            "(student_id, sub_year, semester, avg_grade, graded_count, earned_credits, attempted_credits) " +
+            "SELECT ss.student_id, s.sub_year, s.semester, " + AGGREGATE +
+            "WHERE s.sub_year = :subYear AND s.semester = :semester " +
+            "GROUP BY ss.student_id, s.sub_year, s.semester " +
+            UPSERT, nativeQuery = true)
+    int refreshBySemester(@Param("subYear") Integer subYear, @Param("semester") Integer semester);
+
+    /**
+     * 강의 수강생들의 해당 학기 성적 요약 다시 집계 (성적 일괄 입력 시)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO transcript_tb " +
+            "(student_id, sub_year, semester, avg_grade, graded_count, earned_credits, attempted_credits) " +
+            "SELECT ss.student_id, s.sub_year, s.semester, " + AGGREGATE +
+            "WHERE s.sub_year = :subYear AND s.semester = :semester " +
+            "AND ss.student_id IN (SELECT x.student_id FROM stu_sub_tb x WHERE x.subject_id = :subjectId) " +
+            "GROUP BY ss.student_id, s.sub_year, s.semester " +
+            UPSERT, nativeQuery = true)
+    int refreshBySubject(@Param("subjectId") Integer subjectId, @Param("subYear") Integer subYear,
+                         @Param("semester") Integer semester);
+
+    /**
+     * 전체 학생/학기 성적 요약 다시 집계 (학점 환산 점수 변경 시)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO transcript_tb " +
+            "(student_id, sub_year, semester, avg_grade, graded_count, earned_credits, attempted_credits) " +
+            "SELECT ss.student_id, s.sub_year, s.semester, " + AGGREGATE +
+            "GROUP BY ss.student_id, s.sub_year, s.semester " +
+            UPSERT, nativeQuery = true)
+    int refreshAll();
+}
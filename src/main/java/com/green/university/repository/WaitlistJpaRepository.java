@@ -0,0 +1,85 @@
+package com.green.university.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.green.university.repository.model.Waitlist;
+
+public interface WaitlistJpaRepository extends JpaRepository<Waitlist, Integer> {
+
+    /**
+     * 강의의 대기 내역 (대기 순서)
+     */
+    List<Waitlist> findBySubjectIdOrderById(Integer subjectId);
+
+    boolean existsByStudentIdAndSubjectId(Integer studentId, Integer subjectId);
+
+    /**
+     * 자리를 배정받지 않은 대기자가 있는지
+     */
+    boolean existsBySubjectIdAndHoldExpiresAtIsNull(Integer subjectId);
+
+    /**
+     * 자리를 배정받지 않은 대기자 (대기 순서, 행 잠금 -> 여러 서버가 같은 자리를 동시에 넘기지 않음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Waitlist w WHERE w.subjectId = :subjectId AND w.holdExpiresAt IS NULL ORDER BY w.id")
+    List<Waitlist> findWaitingForUpdate(@Param("subjectId") Integer subjectId);
+
+    /**
+     * 학생의 대기 1건 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Waitlist w WHERE w.studentId = :studentId AND w.subjectId = :subjectId")
+    Optional<Waitlist> findForUpdate(@Param("studentId") Integer studentId, @Param("subjectId") Integer subjectId);
+
+    /**
+     * 수락 기한이 지난 대기 id
+     */
+    @Query("SELECT w.id FROM Waitlist w WHERE w.holdExpiresAt <= :now ORDER BY w.id")
+    List<Integer> findExpiredIds(@Param("now") Timestamp now);
+
+    /**
+     * 수락 기한이 지난 대기 1건 (행 잠금, 그 사이 수락/취소/다른 서버가 회수했으면 비어 있음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Waitlist w WHERE w.id = :id AND w.holdExpiresAt <= :now")
+    Optional<Waitlist> findExpiredForUpdate(@Param("id") Integer id, @Param("now") Timestamp now);
+
+    /**
+     * 학생의 현재 학기 대기 현황 (강의 id, 대기 번호, 수락 기한, 앞에 남은 대기 인원, 전체 대기 인원)
+     */
+    @Query(value = "SELECT w.subject_id, w.id, w.hold_expires_at, " +
+            "(SELECT COUNT(*) FROM waitlist_tb p WHERE p.subject_id = w.subject_id AND p.id < w.id), " +
+            "(SELECT COUNT(*) FROM waitlist_tb c WHERE c.subject_id = w.subject_id) " +
+            "FROM waitlist_tb w JOIN subject_tb s ON s.id = w.subject_id " +
+            "WHERE w.student_id = :studentId AND s.sub_year = :year AND s.semester = :semester " +
+            "ORDER BY w.id", nativeQuery = true)
+    List<Object[]> findStatusByStudentId(
+            @Param("studentId") Integer studentId,
+            @Param("year") Integer year,
+            @Param("semester") Integer semester
+    );
+
+    @Modifying
+    @Query("UPDATE Waitlist w SET w.holdExpiresAt = :holdExpiresAt WHERE w.id = :id")
+    int updateHoldExpiresAt(@Param("id") Integer id, @Param("holdExpiresAt") Timestamp holdExpiresAt);
+
+    @Modifying
+    @Query("DELETE FROM Waitlist w WHERE w.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Integer> ids);
+
+    @Modifying
+    @Query("DELETE FROM Waitlist w WHERE w.subjectId IN " +
+            "(SELECT s.id FROM Subject s WHERE s.subYear = :year AND s.semester = :semester)")
+    int deleteBySemester(@Param("year") Integer year, @Param("semester") Integer semester);
+}
@@ -0,0 +1,26 @@
+package com.green.university.repository.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 강의 목록 버전(catalog_version_tb)
+ * 1행, 강의/학과/단과대 정보가 바뀌는 트랜잭션에서 version 이 올라가고 각 서버는 version 으로 강의 목록 캐시 변경을 감지함
+ */
+@Data
+@Entity
+@Table(name = "catalog_version_tb")
+public class CatalogVersion {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Integer version;
+}
@@ -0,0 +1,52 @@
+package com.green.university.repository.model;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 리프레시 토큰(refresh_token_tb)
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 저장, 재발급할 때마다 사용한 토큰은 used_at 을 남기고 새 토큰으로 교체
+ * 로그인 1회에서 이어진 토큰은 같은 family_id 를 가지며, 이미 사용한 토큰이 다시 오면 탈취로 보고 묶음 전체를 폐기함
+ */
+@Data
+@Entity
+@Table(name = "refresh_token_tb")
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "token_hash", nullable = false)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false)
+    private String familyId;
+
+    // 함께 발급한 액세스 토큰의 jti (묶음을 폐기할 때 액세스 토큰도 함께 폐기)
+    @Column(name = "access_jti", nullable = false)
+    private String accessJti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Timestamp expiresAt;
+
+    @Column(name = "used_at")
+    private Timestamp usedAt;
+
+    @Column(nullable = false)
+    private Boolean revoked;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Timestamp createdAt;
+}
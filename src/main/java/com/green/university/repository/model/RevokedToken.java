@@ -0,0 +1,36 @@
+package com.green.university.repository.model;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 폐기된 액세스 토큰(revoked_token_tb)
+ * 토큰의 jti 와 만료 시각만 저장하고, 토큰이 만료된 뒤에는 지움
+ */
+@Data
+@Entity
+@Table(name = "revoked_token_tb")
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Timestamp expiresAt;
+
+    // 폐기 시각 (DB 시계, INSERT 시 기본값)
+    @Column(name = "revoked_at", insertable = false, updatable = false)
+    private Timestamp revokedAt;
+}
@@ -0,0 +1,25 @@
+package com.green.university.repository.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 강의별 수강생 명단 버전(roster_version_tb)
+ * 강의마다 1행, 성적을 기입하는 트랜잭션에서 version 이 올라가고 각 서버는 캐시한 명단을 쓰기 전에 version 을 확인함
+ */
+@Data
+@Entity
+@Table(name = "roster_version_tb")
+public class RosterVersion {
+
+    @Id
+    @Column(name = "subject_id")
+    private Integer subjectId;
+
+    @Column(nullable = false)
+    private Integer version;
+}
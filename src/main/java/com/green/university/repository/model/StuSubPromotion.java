@@ -0,0 +1,45 @@
+package com.green.university.repository.model;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 예비 수강 신청 -> 수강 신청 이관 진행 내역(stu_sub_promotion_tb)
+ * 강의 1개의 이관이 끝나면 같은 트랜잭션에서 기록되므로, 기록이 있는 강의는 재실행 시 건너뜀
+ */
+@Data
+@Entity
+@Table(name = "stu_sub_promotion_tb")
+public class StuSubPromotion {
+
+    public static final String DONE = "DONE";
+    public static final String LOTTERY = "LOTTERY";
+    public static final String SKIPPED = "SKIPPED";
+
+    @Id
+    @Column(name = "subject_id")
+    private Integer subjectId;
+
+    @Column(name = "sub_year")
+    private Integer subYear;
+
+    private Integer semester;
+
+    // DONE: 이관 완료, LOTTERY: 정원 초과로 추첨 후 이관, SKIPPED: 정원 초과로 제외
+    private String status;
+
+    @Column(name = "pre_count")
+    private Integer preCount;
+
+    @Column(name = "promoted_count")
+    private Integer promotedCount;
+
+    @Column(name = "finished_at", insertable = false, updatable = false)
+    private Timestamp finishedAt;
+}
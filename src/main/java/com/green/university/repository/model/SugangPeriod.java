@@ -0,0 +1,52 @@
+package com.green.university.repository.model;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 수강 신청 기간(sugang_period_tb)
+ * 학기별 1행, 기간/예약 시각이 바뀔 때마다 version 이 올라가고 각 서버는 version 으로 변경을 감지함
+ */
+@Data
+@Entity
+@Table(name = "sugang_period_tb")
+public class SugangPeriod {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "sub_year", nullable = false)
+    private Integer subYear;
+
+    @Column(nullable = false)
+    private Integer semester;
+
+    // 0: 예비 수강 신청, 1: 수강 신청, 2: 수강 신청 종료
+    @Column(nullable = false)
+    private Integer period;
+
+    @Column(name = "open_at")
+    private Timestamp openAt;
+
+    @Column(name = "close_at")
+    private Timestamp closeAt;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    // 기간 변경 작업 중인 서버와 작업 만료 시각
+    @Column(name = "changing_by")
+    private String changingBy;
+
+    @Column(name = "changing_until")
+    private Timestamp changingUntil;
+}
@@ -0,0 +1,42 @@
+package com.green.university.repository.model;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 학생별 학기 성적 요약(transcript_tb)
+ * stu_sub_tb 를 학생/학기 단위로 집계한 값으로, 성적 입력 시와 수강 신청 종료 시 다시 집계함
+ */
+@Data
+@Entity
+@Table(name = "transcript_tb")
+public class Transcript {
+
+    @EmbeddedId
+    private TranscriptId id;
+
+    // 성적이 입력된 강의의 평점 평균
+    @Column(name = "avg_grade")
+    private Double avgGrade;
+
+    // 성적이 입력된 강의 수
+    @Column(name = "graded_count")
+    private Integer gradedCount;
+
+    // 취득 학점 (complete_grade 합계)
+    @Column(name = "earned_credits")
+    private Integer earnedCredits;
+
+    // 신청 학점 (강의 이수 학점 합계)
+    @Column(name = "attempted_credits")
+    private Integer attemptedCredits;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.green.university.repository.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import lombok.Data;
+
+/**
+ * 복합키: 학생별 학기 성적 요약의 식별자.
+ */
+@Data
+@Embeddable
+public class TranscriptId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "student_id")
+    private Integer studentId;
+
+    @Column(name = "sub_year")
+    private Integer subYear;
+
+    @Column(name = "semester")
+    private Integer semester;
+}
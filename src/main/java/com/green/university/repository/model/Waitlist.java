@@ -0,0 +1,38 @@
+package com.green.university.repository.model;
+
+import java.sql.Timestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Data;
+
+/**
+ * 수강 신청 대기(waitlist_tb)
+ * id 순서가 대기 순서이며, holdExpiresAt 이 있으면 빈 자리를 배정받아 수락을 기다리는 중
+ */
+@Data
+@Entity
+@Table(name = "waitlist_tb")
+public class Waitlist {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "student_id", nullable = false)
+    private Integer studentId;
+
+    @Column(name = "subject_id", nullable = false)
+    private Integer subjectId;
+
+    @Column(name = "hold_expires_at")
+    private Timestamp holdExpiresAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Timestamp createdAt;
+}
@@ -18,10 +18,12 @@ import org.springframework.validation.annotation.Validated;
 import com.green.university.dto.CollTuitFormDto;
 import com.green.university.dto.CollegeFormDto;
 import com.green.university.dto.DepartmentFormDto;
+import com.green.university.dto.GradeFormDto;
 import com.green.university.dto.RoomFormDto;
 import com.green.university.dto.SubjectFormDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.utils.SubjectUtil;
+import com.green.university.utils.TransactionUtil;
 
 /**
  * 
@@ -47,6 +49,16 @@ public class AdminService {
     private SyllaBusJpaRepository syllaBusJpaRepository;
     @Autowired
     private ProfessorJpaRepository professorJpaRepository;
+    @Autowired
+    private SeatReservationService seatReservationService;
+    @Autowired
+    private SubjectCatalogService subjectCatalogService;
+    @Autowired
+    private GradeJpaRepository gradeJpaRepository;
+    @Autowired
+    private TranscriptJpaRepository transcriptJpaRepository;
+    @Autowired
+    private GradeScaleService gradeScaleService;
 
 
 	// 단과대 입력 서비스
@@ -63,6 +75,7 @@ public class AdminService {
         College college = new College();
         college.setName(collegeFormDto.getName());
         collegeJpaRepository.save(college);
+        subjectCatalogService.changed();
     }
 
 	// 단과대 조회 서비스
@@ -78,6 +91,7 @@ public class AdminService {
             return 0;
         }
         collegeJpaRepository.deleteById(id);
+        subjectCatalogService.changed();
         return 1;
     }
 
@@ -98,6 +112,7 @@ public class AdminService {
         department.setName(departmentFormDto.getName());
         department.setCollege(college);
         departmentJpaRepository.save(department);
+        subjectCatalogService.changed();
     }
 
 	// 학과 조회 서비스
@@ -112,6 +127,7 @@ public class AdminService {
             return 0;
         }
         departmentJpaRepository.deleteById(collegeId);
+        subjectCatalogService.changed();
         return 1;
     }
 
@@ -131,6 +147,7 @@ public class AdminService {
                 }
             }
             departmentJpaRepository.save(dept);
+            subjectCatalogService.changed();
             return 1;
         }).orElse(0);
     }
@@ -193,6 +210,33 @@ public class AdminService {
         }).orElse(0);
     }
 
+	// 학점 환산 점수 조회 서비스
+    public Map<String, Float> readGradeScale() {
+        return gradeScaleService.readScale();
+    }
+
+	// 학점 환산 점수 수정 서비스 (성적 요약 평점도 다시 집계)
+    @Transactional
+    public void updateGradeScale(@Validated GradeFormDto gradeFormDto) {
+        // 서비스는 @Validated 대상이 아니므로 직접 확인 (학점 환산 점수 변경은 전체 성적 요약을 다시 계산함)
+        if (gradeFormDto.getGrade() == null || gradeFormDto.getGrade().isBlank()) {
+            throw new CustomRestfullException("학점을 입력해주세요", HttpStatus.BAD_REQUEST);
+        }
+        if (gradeFormDto.getGradeValue() == null || gradeFormDto.getGradeValue() < 0
+                || gradeFormDto.getGradeValue().isNaN() || gradeFormDto.getGradeValue().isInfinite()) {
+            throw new CustomRestfullException("환산 점수는 0 이상이어야 합니다", HttpStatus.BAD_REQUEST);
+        }
+        Grade grade = gradeJpaRepository.findById(gradeFormDto.getGrade())
+                .orElseThrow(() -> new CustomRestfullException("해당 학점이 존재하지 않습니다", HttpStatus.BAD_REQUEST));
+        if (grade.getGradeValue().equals(gradeFormDto.getGradeValue())) {
+            return;
+        }
+        grade.setGradeValue(gradeFormDto.getGradeValue());
+        gradeJpaRepository.save(grade);
+        transcriptJpaRepository.refreshAll();
+        TransactionUtil.afterCommit(gradeScaleService::reload);
+    }
+
 	// 강의실 입력 서비스
     @Transactional
     public void createRoom(@Validated RoomFormDto roomFormDto) {
@@ -290,6 +334,7 @@ public class AdminService {
         syllaBus.setSubjectId(savedSubject.getId());
         syllaBusJpaRepository.save(syllaBus);
 
+        subjectCatalogService.changed();
         return subjectList;
     }
 
@@ -342,6 +387,7 @@ public class AdminService {
         syllaBusJpaRepository.deleteById(id);
         // 과목 삭제
         subjectJpaRepository.deleteById(id);
+        subjectCatalogService.changed();
         return 1;
 	}
 
@@ -455,6 +501,14 @@ public class AdminService {
 
         // save() 호출 (변경 감지로 자동 업데이트)
         subjectJpaRepository.save(subject);
+
+        // 수강 신청 좌석 카운터 정원 반영
+        if (subjectFormDto.getCapacity() != null) {
+            TransactionUtil.afterCommit(
+                    () -> seatReservationService.updateCapacity(subject.getId(), subject.getCapacity()));
+        }
+        // 강의 목록 캐시 갱신
+        subjectCatalogService.changed();
     }
 
 
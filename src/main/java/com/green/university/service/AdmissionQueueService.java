@@ -0,0 +1,271 @@
+package com.green.university.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.green.university.dto.response.QueueStatusDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강 신청 대기열 (가상 대기실)
+ * 동시에 수강 신청 API를 사용할 수 있는 학생 수를 제한하고
+ * 나머지 학생에게는 순서대로 대기표를 발급함
+ * 모든 상태는 메모리에만 있으므로 대기 중인 요청은 DB에 닿지 않음
+ * max-active 는 서버별 값이므로 서버가 여러 대면 (전체 허용 인원 / 서버 수)로 설정 (정원 초과는 좌석 배정에서 DB 로 막음)
+ */
+@Slf4j
+@Service
+public class AdmissionQueueService {
+
+	public static final String QUEUE_DESTINATION = "/sub/sugang/queue";
+
+	private final int maxActive;
+	private final long activeTtlMs;
+	private final long waitingTtlMs;
+
+	@Autowired(required = false)
+	private SimpMessagingTemplate messagingTemplate;
+
+	// 입장한 학생 id -> 마지막 요청 시각
+	private final Map<Integer, Long> active = new ConcurrentHashMap<>();
+
+	// 대기 중인 학생 id -> 대기표
+	private final Map<Integer, Ticket> waitingByStudent = new ConcurrentHashMap<>();
+
+	// 대기표 번호 -> 대기표 (번호 순)
+	private final ConcurrentSkipListMap<Long, Ticket> waiting = new ConcurrentSkipListMap<>();
+
+	private final AtomicLong ticketSeq = new AtomicLong();
+
+	// 지난 tick 이후 입장 인원
+	private final AtomicInteger admittedSinceTick = new AtomicInteger();
+
+	// 마지막으로 처리(입장/만료)된 대기표 번호
+	private volatile long admittedUpTo = 0;
+
+	// 초당 입장 인원 (지수 평활)
+	private volatile double admitRate = 0;
+
+	private long lastTickAt = 0;
+
+	@Autowired
+	public AdmissionQueueService(
+			@Value("${sugang.queue.max-active:500}") int maxActive,
+			@Value("${sugang.queue.active-ttl-ms:60000}") long activeTtlMs,
+			@Value("${sugang.queue.waiting-ttl-ms:30000}") long waitingTtlMs) {
+		this.maxActive = maxActive;
+		this.activeTtlMs = activeTtlMs;
+		this.waitingTtlMs = waitingTtlMs;
+	}
+
+	/**
+	 * 수강 신청 API 통과 여부
+	 * 이미 입장한 학생이거나, 대기자가 없고 자리가 남아 있으면 통과
+	 */
+	public boolean tryPass(Integer studentId) {
+		return tryPass(studentId, System.currentTimeMillis());
+	}
+
+	boolean tryPass(Integer studentId, long now) {
+		if (active.computeIfPresent(studentId, (id, lastSeen) -> now) != null) {
+			return true;
+		}
+		if (!waiting.isEmpty() || active.size() >= maxActive) {
+			return false;
+		}
+		synchronized (this) {
+			if (!waiting.isEmpty() || active.size() >= maxActive) {
+				return false;
+			}
+			admit(studentId, now);
+			return true;
+		}
+	}
+
+	/**
+	 * 대기열 진입 또는 현재 상태 조회
+	 * 대기표가 없으면 새로 발급함
+	 */
+	public QueueStatusDto enter(Integer studentId) {
+		return enter(studentId, System.currentTimeMillis());
+	}
+
+	QueueStatusDto enter(Integer studentId, long now) {
+		if (tryPass(studentId, now)) {
+			return admittedStatus();
+		}
+
+		Ticket ticket = waitingByStudent.get(studentId);
+		if (ticket == null) {
+			synchronized (this) {
+				if (active.containsKey(studentId)) {
+					return admittedStatus();
+				}
+				ticket = waitingByStudent.get(studentId);
+				if (ticket == null) {
+					ticket = new Ticket(ticketSeq.incrementAndGet(), studentId, now);
+					waiting.put(ticket.number, ticket);
+					waitingByStudent.put(studentId, ticket);
+				}
+			}
+		}
+		ticket.lastSeen = now;
+		return waitingStatus(ticket);
+	}
+
+	/**
+	 * 대기열/입장 상태에서 나감
+	 */
+	public void leave(Integer studentId) {
+		leave(studentId, System.currentTimeMillis());
+	}
+
+	void leave(Integer studentId, long now) {
+		synchronized (this) {
+			active.remove(studentId);
+			Ticket ticket = waitingByStudent.remove(studentId);
+			if (ticket != null) {
+				waiting.remove(ticket.number);
+			}
+		}
+		admitWaiting(now);
+	}
+
+	/**
+	 * 대기열 초기화 (수강 신청 기간 종료 시)
+	 */
+	public synchronized void clear() {
+		active.clear();
+		waiting.clear();
+		waitingByStudent.clear();
+		admittedSinceTick.set(0);
+		admitRate = 0;
+	}
+
+	/**
+	 * 오래 요청이 없는 입장 학생을 내보내고 대기자를 순서대로 입장시킴
+	 */
+	@Scheduled(fixedDelayString = "${sugang.queue.tick-ms:500}")
+	public void tick() {
+		tick(System.currentTimeMillis());
+	}
+
+	void tick(long now) {
+		active.entrySet().removeIf(entry -> now - entry.getValue() > activeTtlMs);
+		admitWaiting(now);
+
+		if (lastTickAt > 0 && now > lastTickAt) {
+			double current = admittedSinceTick.getAndSet(0) * 1000.0 / (now - lastTickAt);
+			admitRate = admitRate == 0 ? current : admitRate * 0.8 + current * 0.2;
+		}
+		lastTickAt = now;
+
+		broadcast();
+	}
+
+	synchronized void admitWaiting(long now) {
+		while (active.size() < maxActive) {
+			Map.Entry<Long, Ticket> head = waiting.pollFirstEntry();
+			if (head == null) {
+				return;
+			}
+			Ticket ticket = head.getValue();
+			admittedUpTo = ticket.number;
+			// 입장 처리 후 대기표를 지워야 enter()에서 새 대기표가 발급되지 않음
+			if (now - ticket.lastSeen <= waitingTtlMs) {
+				admit(ticket.studentId, now);
+			}
+			waitingByStudent.remove(ticket.studentId, ticket);
+		}
+	}
+
+	private void admit(Integer studentId, long now) {
+		active.put(studentId, now);
+		admittedSinceTick.incrementAndGet();
+	}
+
+	/**
+	 * 대기 중인 클라이언트는 자기 대기표 번호 - admittedUpTo 로 순번을 계산함
+	 */
+	private void broadcast() {
+		if (messagingTemplate == null || waiting.isEmpty()) {
+			return;
+		}
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("admittedUpTo", admittedUpTo);
+		payload.put("activeCount", active.size());
+		payload.put("waitingCount", waitingByStudent.size());
+		payload.put("admitRate", admitRate);
+		try {
+			messagingTemplate.convertAndSend(QUEUE_DESTINATION, payload);
+		} catch (Exception e) {
+			log.warn("[AdmissionQueueService] 대기열 상태 전송 실패: {}", e.getMessage());
+		}
+	}
+
+	private QueueStatusDto admittedStatus() {
+		QueueStatusDto dto = new QueueStatusDto();
+		dto.setPosition(0L);
+		dto.setAdmitted(true);
+		dto.setEtaSeconds(0L);
+		dto.setActiveCount(active.size());
+		dto.setWaitingCount(waitingByStudent.size());
+		return dto;
+	}
+
+	private QueueStatusDto waitingStatus(Ticket ticket) {
+		// 중간에 나간 대기자도 포함된 값이므로 실제 순번보다 크거나 같음
+		long position = Math.max(ticket.number - admittedUpTo, 1);
+		double rate = admitRate;
+
+		QueueStatusDto dto = new QueueStatusDto();
+		dto.setTicket(ticket.number);
+		dto.setPosition(position);
+		dto.setAdmitted(false);
+		dto.setEtaSeconds(rate > 0 ? (long) Math.ceil(position / rate) : -1L);
+		dto.setActiveCount(active.size());
+		dto.setWaitingCount(waitingByStudent.size());
+		return dto;
+	}
+
+	public int getActiveCount() {
+		return active.size();
+	}
+
+	public int getWaitingCount() {
+		return waitingByStudent.size();
+	}
+
+	public int getMaxActive() {
+		return maxActive;
+	}
+
+	/**
+	 * 대기표
+	 */
+	private static class Ticket {
+
+		private final long number;
+		private final Integer studentId;
+		// 마지막으로 상태를 조회한 시각 (오래 조회가 없으면 만료)
+		private volatile long lastSeen;
+
+		Ticket(long number, Integer studentId, long issuedAt) {
+			this.number = number;
+			this.studentId = studentId;
+			this.lastSeen = issuedAt;
+		}
+	}
+
+}
@@ -12,7 +12,6 @@ import com.green.university.handler.exception.CustomPathException;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.repository.BreakAppJpaRepository;
 import com.green.university.repository.StudentJpaRepository;
-import java.util.stream.Collectors;
 import com.green.university.repository.model.BreakApp;
 
 /**
@@ -32,6 +31,9 @@ public class BreakAppService {
     @Autowired
     private StuStatService stuStatService;
 
+    @Autowired
+    private StuStatCheckService stuStatCheckService;
+
     /**
      * @param breakAppFormDto 휴학 신청
      */
@@ -65,6 +67,7 @@ public class BreakAppService {
         newApp.setAppDate(new java.sql.Date(System.currentTimeMillis()));
         // 저장
         breakAppJpaRepository.save(newApp);
+        stuStatCheckService.evict(stuId);
     }
 
     /**
@@ -72,10 +75,7 @@ public class BreakAppService {
      */
     @Transactional
     public List<BreakApp> readByStudentId(Integer studentId) {
-        // find all by student id via JPA. If no custom method, filter in memory
-        return breakAppJpaRepository.findAll().stream()
-                .filter(b -> b.getStudentId() != null && b.getStudentId().equals(studentId))
-                .collect(Collectors.toList());
+        return breakAppJpaRepository.findByStudentId(studentId);
     }
 
     /**
@@ -83,9 +83,7 @@ public class BreakAppService {
      */
     @Transactional
     public List<BreakApp> readByStatus(String status) {
-        return breakAppJpaRepository.findAll().stream()
-                .filter(b -> b.getStatus() != null && b.getStatus().equals(status))
-                .collect(Collectors.toList());
+        return breakAppJpaRepository.findByStatus(status);
     }
 
     /**
@@ -108,6 +106,7 @@ public class BreakAppService {
             throw new CustomRestfullException("이미 처리가 완료되어, 신청이 취소되지 않았습니다.", HttpStatus.BAD_REQUEST);
         }
         breakAppJpaRepository.deleteById(id);
+        stuStatCheckService.evict(breakAppEntity.getStudentId());
     }
 
     /**
@@ -118,6 +117,7 @@ public class BreakAppService {
         BreakApp breakAppEntity = readById(id);
         breakAppEntity.setStatus(status);
         breakAppJpaRepository.save(breakAppEntity);
+        stuStatCheckService.evict(breakAppEntity.getStudentId());
         // 승인 시 학적 상태를 휴학으로 변경하기
         if ("승인".equals(status)) {
             String newToDate;
@@ -0,0 +1,191 @@
+package com.green.university.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.green.university.dto.response.GradeExportDto;
+import com.green.university.repository.StuSubJpaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학사 담당자용 성적 내보내기 (CSV)
+ * 수강 내역을 한 행씩 읽어 바로 출력 스트림에 쓰므로 내보내는 행 수와 관계없이 메모리 사용량이 일정함
+ * 엑셀에서 바로 열 수 있도록 UTF-8 BOM 을 붙이고, =,+,-,@ 로 시작하는 값은 수식으로 실행되지 않게 ' 를 앞에 붙임
+ */
+@Slf4j
+@Service
+public class GradeExportService {
+
+	@Autowired
+	private StuSubJpaRepository stuSubJpaRepository;
+
+	@Autowired
+	private GradeScaleService gradeScaleService;
+
+	/**
+	 * 강의별 성적 (학생 1명의 수강 강의 1개가 1행)
+	 * @return 내보낸 행 수
+	 */
+	@Transactional(readOnly = true)
+	public int writeGrades(Integer subYear, Integer semester, Integer deptId, OutputStream out) throws IOException {
+		Writer writer = writer(out);
+		writer.write("학번,이름,학과,연도,학기,강의번호,강의명,구분,학점,등급,평점,이수학점\n");
+		int count = 0;
+		try (Stream<GradeExportDto> rows = stuSubJpaRepository.streamForExport(subYear, semester, deptId)) {
+			Iterator<GradeExportDto> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				GradeExportDto row = iterator.next();
+				write(writer, row.getStudentId(), row.getStudentName(), row.getDeptName(), row.getSubYear(),
+						row.getSemester(), row.getSubjectId(), row.getSubjectName(), row.getType(), row.getGrades(),
+						row.getGrade(), row.getGrade() == null ? null : format(gradeScaleService.valueOf(row.getGrade())),
+						row.getCompleteGrade());
+				count++;
+			}
+		}
+		writer.flush();
+		log.info("[GradeExportService] 강의별 성적 내보내기 subYear={} semester={} deptId={} rows={}", subYear, semester,
+				deptId, count);
+		return count;
+	}
+
+	/**
+	 * 학기별 누계 (학생 1명의 학기 1개가 1행, 학번/연도/학기 순으로 읽으므로 앞 행과 학생/학기가 바뀔 때마다 출력)
+	 * 평점 평균은 등급이 입력된 강의만, 신청 학점은 수강 신청한 강의 전체
+	 * @return 내보낸 행 수
+	 */
+	@Transactional(readOnly = true)
+	public int writeSummary(Integer subYear, Integer semester, Integer deptId, OutputStream out) throws IOException {
+		Writer writer = writer(out);
+		writer.write("학번,이름,학과,연도,학기,수강강의수,평점평균,취득학점,신청학점\n");
+		int count = 0;
+		Summary current = null;
+		try (Stream<GradeExportDto> rows = stuSubJpaRepository.streamForExport(subYear, semester, deptId)) {
+			Iterator<GradeExportDto> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				GradeExportDto row = iterator.next();
+				if (current == null || !current.matches(row)) {
+					if (current != null) {
+						current.write(writer);
+						count++;
+					}
+					current = new Summary(row);
+				}
+				current.add(row, gradeScaleService);
+			}
+		}
+		if (current != null) {
+			current.write(writer);
+			count++;
+		}
+		writer.flush();
+		log.info("[GradeExportService] 학기별 누계 내보내기 subYear={} semester={} deptId={} rows={}", subYear,
+				semester, deptId, count);
+		return count;
+	}
+
+	private static Writer writer(OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writer.write('\uFEFF');
+		return writer;
+	}
+
+	private static void write(Writer writer, Object... values) throws IOException {
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			if (values[i] != null) {
+				writer.write(escape(values[i].toString()));
+			}
+		}
+		writer.write('\n');
+	}
+
+	// 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 ' 를 붙임
+	private static String escape(String value) {
+		String escaped = value;
+		if (!escaped.isEmpty() && "=+-@".indexOf(escaped.charAt(0)) >= 0 && !isNumber(escaped)) {
+			escaped = "'" + escaped;
+		}
+		if (escaped.indexOf(',') >= 0 || escaped.indexOf('"') >= 0 || escaped.indexOf('\n') >= 0
+				|| escaped.indexOf('\r') >= 0) {
+			escaped = "\"" + escaped.replace("\"", "\"\"") + "\"";
+		}
+		return escaped;
+	}
+
+	private static boolean isNumber(String value) {
+		try {
+			Double.parseDouble(value);
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+	/**
+	 * 학생 1명의 학기 1개 누계
+	 */
+	private static class Summary {
+
+		private final Integer studentId;
+		private final String studentName;
+		private final String deptName;
+		private final Integer subYear;
+		private final Integer semester;
+		private int courses;
+		private int graded;
+		private double gradeValueSum;
+		private int earned;
+		private int attempted;
+
+		Summary(GradeExportDto row) {
+			this.studentId = row.getStudentId();
+			this.studentName = row.getStudentName();
+			this.deptName = row.getDeptName();
+			this.subYear = row.getSubYear();
+			this.semester = row.getSemester();
+		}
+
+		boolean matches(GradeExportDto row) {
+			return studentId.equals(row.getStudentId()) && subYear.equals(row.getSubYear())
+					&& semester.equals(row.getSemester());
+		}
+
+		void add(GradeExportDto row, GradeScaleService gradeScaleService) {
+			courses++;
+			if (row.getGrade() != null) {
+				graded++;
+				gradeValueSum += gradeScaleService.valueOf(row.getGrade());
+			}
+			if (row.getCompleteGrade() != null) {
+				earned += row.getCompleteGrade();
+			}
+			if (row.getGrades() != null) {
+				attempted += row.getGrades();
+			}
+		}
+
+		void write(Writer writer) throws IOException {
+			GradeExportService.write(writer, studentId, studentName, deptName, subYear, semester, courses,
+					format(graded == 0 ? 0 : gradeValueSum / graded), earned, attempted);
+		}
+	}
+
+}
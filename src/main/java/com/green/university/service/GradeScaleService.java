@@ -0,0 +1,78 @@
+package com.green.university.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.green.university.repository.GradeJpaRepository;
+import com.green.university.utils.GradeScale;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학점 환산 점수 표 (grade_tb)
+ * 시작 시 한 번 읽어 수정하지 않는 표로 들고 있고, 성적 계산은 모두 이 표를 사용함 (강의마다 grade_tb 조회 없음)
+ * 관리자가 환산 점수를 바꾸면 커밋 후 reload(), 다른 서버는 poll-ms 마다 다시 읽어 값이 달라졌을 때만 교체
+ */
+@Slf4j
+@Service
+public class GradeScaleService {
+
+	@Autowired
+	private GradeJpaRepository gradeJpaRepository;
+
+	private volatile GradeScale scale = new GradeScale(List.of());
+
+	@PostConstruct
+	public void init() {
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			log.warn("[GradeScaleService] 학점 환산 점수 조회 실패, 다음 확인 때 다시 읽음 error={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 환산 점수 (없는 학점이면 0, DB 조회 없음)
+	 */
+	public double valueOf(String grade) {
+		return scale.valueOf(grade);
+	}
+
+	public boolean contains(String grade) {
+		return scale.contains(grade);
+	}
+
+	/**
+	 * 학점별 환산 점수 (수정 불가)
+	 */
+	public Map<String, Float> readScale() {
+		return scale.asMap();
+	}
+
+	/**
+	 * grade_tb 를 다시 읽어 값이 달라졌으면 교체
+	 */
+	public synchronized void reload() {
+		GradeScale next = new GradeScale(gradeJpaRepository.findAll());
+		if (next.sameAs(scale)) {
+			return;
+		}
+		scale = next;
+		log.info("[GradeScaleService] 학점 환산 점수 적재 {}", next.asMap());
+	}
+
+	@Scheduled(fixedDelayString = "${grade.scale.poll-ms:60000}", initialDelayString = "${grade.scale.poll-ms:60000}")
+	public void poll() {
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			log.warn("[GradeScaleService] 학점 환산 점수 갱신 실패 error={}", e.getMessage());
+		}
+	}
+
+}
@@ -1,15 +1,17 @@
 package com.green.university.service;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import com.green.university.repository.GradeJpaRepository;
 import com.green.university.repository.StuSubJpaRepository;
-import com.green.university.repository.model.Grade;
+import com.green.university.repository.TranscriptJpaRepository;
 import com.green.university.repository.model.StuSub;
 import com.green.university.repository.model.Subject;
+import com.green.university.repository.model.Transcript;
+import com.green.university.repository.model.TranscriptId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,11 +26,17 @@ import com.green.university.utils.Define;
 public class GradeService {
 
     @Autowired
-    private GradeJpaRepository gradeJpaRepository;
+    private GradeScaleService gradeScaleService;
 
     @Autowired
     private StuSubJpaRepository stuSubJpaRepository;
 
+    @Autowired
+    private TranscriptJpaRepository transcriptJpaRepository;
+
+    @Autowired
+    private SugangPeriodService sugangPeriodService;
+
     // 학생이 수강한 연도 조회
     @Transactional(readOnly = true)
     public List<Integer> readGradeYearByStudentId(Integer studentId) {
@@ -67,79 +75,47 @@ public class GradeService {
     // 금학기 누계성적 조회
     @Transactional(readOnly = true)
     public MyGradeDto readMyGradeByStudentId(Integer studentId) {
+        if (isSettled(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER)) {
+            Transcript transcript = readTranscript(studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+            if (transcript != null) {
+                return toMyGradeDto(transcript);
+            }
+        }
+
         List<StuSub> stuSubs = stuSubJpaRepository.findByStudentIdAndSubject_SubYearAndSubject_Semester(
                 studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
-
-        double avgGrade = stuSubs.stream()
-                .filter(ss -> ss.getGrade() != null)
-                .mapToDouble(ss -> convertGradeToValue(ss.getGrade()))
-                .average()
-                .orElse(0.0);
-
-        int sumGrades = stuSubs.stream()
-                .filter(ss -> ss.getCompleteGrade() != null)
-                .mapToInt(StuSub::getCompleteGrade)
-                .sum();
-
-        MyGradeDto myGradeDto = new MyGradeDto();
-        myGradeDto.setStudentId(studentId);
-        myGradeDto.setSubYear(Define.CURRENT_YEAR);
-        myGradeDto.setSemester(Define.CURRENT_SEMESTER);
-        myGradeDto.setAverage((float) avgGrade);
-        myGradeDto.setMyGrades(sumGrades);
-        // sumGrades는 이수해야 할 학점이므로 Subject의 grades 합계 필요
-        int totalGrades = stuSubs.stream()
-                .filter(ss -> ss.getSubject() != null)
-                .mapToInt(ss -> ss.getSubject().getGrades())
-                .sum();
-        myGradeDto.setSumGrades(totalGrades);
-
-        return myGradeDto;
+        return aggregate(studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, stuSubs);
     }
 
     // 전체 누계성적 조회
     @Transactional(readOnly = true)
     public List<MyGradeDto> readgradeinquiryList(Integer studentId) {
-        List<StuSub> stuSubs = stuSubJpaRepository.findByStudentId(studentId);
-
-        // 연도-학기별로 그룹핑
-        Map<String, List<StuSub>> groupedStuSubs = stuSubs.stream()
-                .filter(ss -> ss.getSubject() != null)
-                .collect(Collectors.groupingBy(ss ->
-                        ss.getSubject().getSubYear() + "-" + ss.getSubject().getSemester()));
-
-        return groupedStuSubs.entrySet().stream()
-                .map(entry -> {
-                    List<StuSub> stuSubList = entry.getValue();
-
-                    double avgGrade = stuSubList.stream()
-                            .filter(ss -> ss.getGrade() != null)
-                            .mapToDouble(ss -> convertGradeToValue(ss.getGrade()))
-                            .average()
-                            .orElse(0.0);
-
-                    int myGrades = stuSubList.stream()
-                            .filter(ss -> ss.getCompleteGrade() != null)
-                            .mapToInt(StuSub::getCompleteGrade)
-                            .sum();
-
-                    int totalGrades = stuSubList.stream()
-                            .filter(ss -> ss.getSubject() != null)
-                            .mapToInt(ss -> ss.getSubject().getGrades())
-                            .sum();
-
-                    MyGradeDto dto = new MyGradeDto();
-                    dto.setStudentId(studentId);
-                    dto.setSubYear(stuSubList.get(0).getSubject().getSubYear());
-                    dto.setSemester(stuSubList.get(0).getSubject().getSemester());
-                    dto.setAverage((float) avgGrade);
-                    dto.setMyGrades(myGrades);
-                    dto.setSumGrades(totalGrades);
-
-                    return dto;
-                })
-                .sorted(Comparator.comparing(MyGradeDto::getSubYear).thenComparing(MyGradeDto::getSemester))
-                .collect(Collectors.toList());
+        List<Transcript> transcripts = transcriptJpaRepository.findByStudentId(studentId);
+
+        // 성적 요약이 아직 없는 학생 (요약 테이블 추가 전 수강 내역)
+        if (transcripts.isEmpty()) {
+            return aggregateBySemester(studentId, stuSubJpaRepository.findByStudentId(studentId));
+        }
+
+        List<MyGradeDto> result = new ArrayList<>();
+        for (Transcript transcript : transcripts) {
+            if (transcript.getAttemptedCredits() > 0
+                    && isSettled(transcript.getId().getSubYear(), transcript.getId().getSemester())) {
+                result.add(toMyGradeDto(transcript));
+            }
+        }
+
+        // 수강 신청이 끝나지 않은 이번 학기는 수강 내역으로 집계
+        if (!isSettled(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER)) {
+            List<StuSub> stuSubs = stuSubJpaRepository.findByStudentIdAndSubject_SubYearAndSubject_Semester(
+                    studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+            if (!stuSubs.isEmpty()) {
+                result.add(aggregate(studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, stuSubs));
+            }
+        }
+
+        result.sort(Comparator.comparing(MyGradeDto::getSubYear).thenComparing(MyGradeDto::getSemester));
+        return result;
     }
 
     // 학기별 성적조회 (전체 조회)
@@ -171,17 +147,18 @@ public class GradeService {
                 .collect(Collectors.toList());
     }
 
-    // 성적 평균 가져오기
+    // 성적 평균 가져오기 (장학금 유형 결정)
     @Transactional(readOnly = true)
     public GradeForScholarshipDto readAvgGrade(Integer studentId, Integer subYear, Integer semester) {
-        List<StuSub> stuSubs = stuSubJpaRepository.findByStudentIdAndSubject_SubYearAndSubject_Semester(
-                studentId, subYear, semester);
-
-        double avgGrade = stuSubs.stream()
-                .filter(ss -> ss.getGrade() != null)
-                .mapToDouble(ss -> convertGradeToValue(ss.getGrade()))
-                .average()
-                .orElse(0.0);
+        double avgGrade;
+        Transcript transcript = isSettled(subYear, semester) ? readTranscript(studentId, subYear, semester) : null;
+        if (transcript != null) {
+            avgGrade = transcript.getAvgGrade();
+        } else {
+            List<StuSub> stuSubs = stuSubJpaRepository.findByStudentIdAndSubject_SubYearAndSubject_Semester(
+                    studentId, subYear, semester);
+            avgGrade = averageGrade(stuSubs);
+        }
 
         GradeForScholarshipDto dto = new GradeForScholarshipDto();
         dto.setAvgGrade(avgGrade);
@@ -189,6 +166,80 @@ public class GradeService {
         return dto;
     }
 
+    private Transcript readTranscript(Integer studentId, Integer subYear, Integer semester) {
+        TranscriptId id = new TranscriptId();
+        id.setStudentId(studentId);
+        id.setSubYear(subYear);
+        id.setSemester(semester);
+        return transcriptJpaRepository.findById(id).orElse(null);
+    }
+
+    // 성적 요약을 믿을 수 있는 학기인지 (이번 학기는 수강 신청이 끝나야 수강 내역이 더 바뀌지 않음)
+    private boolean isSettled(Integer subYear, Integer semester) {
+        boolean current = Integer.valueOf(Define.CURRENT_YEAR).equals(subYear)
+                && Integer.valueOf(Define.CURRENT_SEMESTER).equals(semester);
+        return !current || sugangPeriodService.getPeriod() == SugangPeriodService.CLOSED;
+    }
+
+    private MyGradeDto toMyGradeDto(Transcript transcript) {
+        MyGradeDto dto = new MyGradeDto();
+        dto.setStudentId(transcript.getId().getStudentId());
+        dto.setSubYear(transcript.getId().getSubYear());
+        dto.setSemester(transcript.getId().getSemester());
+        dto.setAverage(transcript.getAvgGrade().floatValue());
+        dto.setMyGrades(transcript.getEarnedCredits());
+        dto.setSumGrades(transcript.getAttemptedCredits());
+        return dto;
+    }
+
+    // 수강 내역을 연도-학기별로 집계
+    private List<MyGradeDto> aggregateBySemester(Integer studentId, List<StuSub> stuSubs) {
+        Map<String, List<StuSub>> groupedStuSubs = stuSubs.stream()
+                .filter(ss -> ss.getSubject() != null)
+                .collect(Collectors.groupingBy(ss ->
+                        ss.getSubject().getSubYear() + "-" + ss.getSubject().getSemester()));
+
+        return groupedStuSubs.values().stream()
+                .map(stuSubList -> aggregate(studentId, stuSubList.get(0).getSubject().getSubYear(),
+                        stuSubList.get(0).getSubject().getSemester(), stuSubList))
+                .sorted(Comparator.comparing(MyGradeDto::getSubYear).thenComparing(MyGradeDto::getSemester))
+                .collect(Collectors.toList());
+    }
+
+    // 한 학기 수강 내역 집계 (성적 요약과 같은 기준)
+    private MyGradeDto aggregate(Integer studentId, Integer subYear, Integer semester, List<StuSub> stuSubs) {
+        double avgGrade = averageGrade(stuSubs);
+
+        int myGrades = stuSubs.stream()
+                .filter(ss -> ss.getCompleteGrade() != null)
+                .mapToInt(StuSub::getCompleteGrade)
+                .sum();
+
+        // sumGrades는 이수해야 할 학점이므로 Subject의 grades 합계 필요
+        int totalGrades = stuSubs.stream()
+                .filter(ss -> ss.getSubject() != null)
+                .mapToInt(ss -> ss.getSubject().getGrades())
+                .sum();
+
+        MyGradeDto dto = new MyGradeDto();
+        dto.setStudentId(studentId);
+        dto.setSubYear(subYear);
+        dto.setSemester(semester);
+        dto.setAverage((float) avgGrade);
+        dto.setMyGrades(myGrades);
+        dto.setSumGrades(totalGrades);
+        return dto;
+    }
+
+    // 성적이 입력된 강의의 평점 평균
+    private double averageGrade(List<StuSub> stuSubs) {
+        return stuSubs.stream()
+                .filter(ss -> ss.getGrade() != null)
+                .mapToDouble(ss -> convertGradeToValue(ss.getGrade()))
+                .average()
+                .orElse(0.0);
+    }
+
     // StuSub을 GradeDto로 변환
     private GradeDto convertToGradeDto(StuSub stuSub) {
         GradeDto dto = new GradeDto();
@@ -206,10 +257,9 @@ public class GradeService {
         return dto;
     }
 
-    // 학점을 숫자로 변환 (A+ → 4.5 등)
+    // 학점을 숫자로 변환 (A+ → 4.5 등, 메모리의 환산 점수 표 사용)
     private double convertGradeToValue(String gradeStr) {
-        Grade grade = gradeJpaRepository.findById(gradeStr).orElse(null);
-        return grade != null ? grade.getGradeValue() : 0.0;
+        return gradeScaleService.valueOf(gradeStr);
     }
 
 }
@@ -0,0 +1,151 @@
+package com.green.university.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.green.university.handler.exception.CustomRestfullException;
+
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * 아이디별, 접속 IP 별로 버킷을 두고 시도할 때마다 1개씩 꺼내며, 비어 있으면 DB 조회/BCrypt 비교 전에 429 로 바로 거절
+ * 아이디 버킷은 로그인에 성공하면 꺼낸 1개를 돌려주므로 비밀번호가 틀린(또는 없는 아이디) 시도만 차감됨
+ * (비교가 끝나기 전에 미리 꺼내 두므로 동시에 여러 번 시도해도 한도를 넘지 않음)
+ * 버킷은 capacity 개까지 차고 분당 refill-per-minute 개씩 다시 참 (학내망은 여러 학생이 같은 IP 를 쓰므로 IP 쪽을 넉넉하게)
+ * IP 는 server.forward-headers-strategy 설정으로 프록시 뒤에서도 실제 접속 IP 를 쓰며, ip-enabled=false 면 IP 버킷을 쓰지 않음
+ * 버킷 수가 max-keys 에 도달하면 다시 가득 찬(한동안 시도가 없던) 버킷만 정리하고 (전체 확인은 초당 1번까지),
+ * 그래도 가득 차 있으면 새 아이디/IP 는 429 로 거절함 (차감된 버킷을 지우면 잠긴 아이디의 한도가 풀리므로 지우지 않음)
+ */
+@Service
+public class LoginThrottleService {
+
+	private static final String MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+
+	@Value("${auth.login.user-capacity:5}")
+	private int userCapacity;
+
+	@Value("${auth.login.user-refill-per-minute:6}")
+	private double userRefillPerMinute;
+
+	@Value("${auth.login.ip-enabled:true}")
+	private boolean ipEnabled;
+
+	@Value("${auth.login.ip-capacity:200}")
+	private int ipCapacity;
+
+	@Value("${auth.login.ip-refill-per-minute:600}")
+	private double ipRefillPerMinute;
+
+	@Value("${auth.login.max-keys:100000}")
+	private int maxKeys;
+
+	// 버킷 정리 간격 (버킷이 가득 찬 동안 새 키마다 전체를 확인하지 않도록)
+	private static final long PRUNE_INTERVAL_MS = 1000;
+
+	private final Buckets<Integer> userBuckets = new Buckets<>();
+	private final Buckets<String> ipBuckets = new Buckets<>();
+
+	/**
+	 * 로그인 시도 1회 (한도를 넘으면 429)
+	 */
+	public void acquire(Integer userId, String clientIp) {
+		acquire(userId, clientIp, System.currentTimeMillis());
+	}
+
+	void acquire(Integer userId, String clientIp, long now) {
+		if (ipEnabled && clientIp != null && !take(ipBuckets, clientIp, ipCapacity, ipRefillPerMinute, now)) {
+			throw new CustomRestfullException(MESSAGE, HttpStatus.TOO_MANY_REQUESTS);
+		}
+		if (!take(userBuckets, userId, userCapacity, userRefillPerMinute, now)) {
+			throw new CustomRestfullException(MESSAGE, HttpStatus.TOO_MANY_REQUESTS);
+		}
+	}
+
+	/**
+	 * 로그인 성공 (acquire 에서 꺼낸 아이디 버킷 1개를 돌려줌)
+	 */
+	public void succeeded(Integer userId) {
+		succeeded(userId, System.currentTimeMillis());
+	}
+
+	void succeeded(Integer userId, long now) {
+		Bucket bucket = userBuckets.map.get(userId);
+		if (bucket != null) {
+			bucket.giveBack(userCapacity, userRefillPerMinute, now);
+		}
+	}
+
+	private <K> boolean take(Buckets<K> buckets, K key, int capacity, double refillPerMinute, long now) {
+		Bucket bucket = buckets.map.get(key);
+		if (bucket == null) {
+			if (buckets.map.size() >= maxKeys) {
+				buckets.prune(capacity, refillPerMinute, now);
+				if (buckets.map.size() >= maxKeys) {
+					return false;
+				}
+			}
+			bucket = buckets.map.computeIfAbsent(key, k -> new Bucket(capacity, now));
+		}
+		return bucket.tryTake(capacity, refillPerMinute, now);
+	}
+
+	/**
+	 * 키별 버킷 모음
+	 */
+	private static class Buckets<K> {
+
+		private final Map<K, Bucket> map = new ConcurrentHashMap<>();
+
+		private long prunedAt;
+
+		// 다시 가득 찬 버킷만 삭제 (PRUNE_INTERVAL_MS 에 1번까지)
+		synchronized void prune(int capacity, double refillPerMinute, long now) {
+			if (prunedAt != 0 && now - prunedAt < PRUNE_INTERVAL_MS) {
+				return;
+			}
+			prunedAt = now;
+			map.values().removeIf(b -> b.isFull(capacity, refillPerMinute, now));
+		}
+	}
+
+	private static class Bucket {
+
+		private double tokens;
+		private long refilledAt;
+
+		Bucket(int capacity, long now) {
+			this.tokens = capacity;
+			this.refilledAt = now;
+		}
+
+		synchronized boolean tryTake(int capacity, double refillPerMinute, long now) {
+			refill(capacity, refillPerMinute, now);
+			if (tokens < 1) {
+				return false;
+			}
+			tokens--;
+			return true;
+		}
+
+		synchronized void giveBack(int capacity, double refillPerMinute, long now) {
+			refill(capacity, refillPerMinute, now);
+			tokens = Math.min(capacity, tokens + 1);
+		}
+
+		synchronized boolean isFull(int capacity, double refillPerMinute, long now) {
+			refill(capacity, refillPerMinute, now);
+			return tokens >= capacity;
+		}
+
+		private void refill(int capacity, double refillPerMinute, long now) {
+			if (now > refilledAt) {
+				tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerMinute / 60000.0);
+				refilledAt = now;
+			}
+		}
+	}
+
+}
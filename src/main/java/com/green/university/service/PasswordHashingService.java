@@ -0,0 +1,225 @@
+package com.green.university.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.green.university.handler.exception.CustomRestfullException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 스레드 풀
+ * BCrypt 는 한 번에 수십 ms 동안 CPU 를 쓰므로 요청 스레드에서 바로 실행하지 않고 threads 개 스레드에서만 실행함
+ * 대기열(queue-size)이 가득 차면 기다리지 않고 503 으로 거절하며, 로그인은 CompletableFuture 로 결과를 받아 요청 스레드를 잡지 않음
+ * 같은 기기(IP + User-Agent)에서 verified-ttl-ms 안에 같은 비밀번호로 다시 로그인하면 BCrypt 비교를 건너뜀
+ * (비밀번호 원문 대신 서버 시작 시 만든 임의 키로 HMAC 한 값만 보관하고, 저장된 해시가 바뀌면 값이 달라져 자동으로 무효)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+	private static final String BUSY_MESSAGE = "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMs;
+	private final long verifiedTtlMs;
+	private final int verifiedMaxSize;
+
+	private final SecretKeySpec markerKey;
+
+	// 최근 확인한 (기기, 해시, 비밀번호) HMAC -> 만료 시각
+	private final Map<String, Long> verified = new ConcurrentHashMap<>();
+
+	@Autowired
+	public PasswordHashingService(
+			@Value("${auth.hashing.threads:0}") int threads,
+			@Value("${auth.hashing.queue-size:64}") int queueSize,
+			@Value("${auth.hashing.timeout-ms:5000}") long timeoutMs,
+			@Value("${auth.login.verified-ttl-ms:10000}") long verifiedTtlMs,
+			@Value("${auth.login.verified-max-size:10000}") int verifiedMaxSize) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger seq = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize), runnable -> {
+					Thread thread = new Thread(runnable, "password-hash-" + seq.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+		this.timeoutMs = timeoutMs;
+		this.verifiedTtlMs = verifiedTtlMs;
+		this.verifiedMaxSize = verifiedMaxSize;
+
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		this.markerKey = new SecretKeySpec(key, "HmacSHA256");
+	}
+
+	/**
+	 * 비밀번호 비교 (풀이 가득 차 있으면 바로 503)
+	 * @param device 같은 기기 재로그인 확인용 (IP + User-Agent, null 이면 항상 BCrypt 비교)
+	 */
+	public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword, String device) {
+		String marker = device == null ? null : marker(device, encodedPassword, rawPassword);
+		if (marker != null && isVerified(marker)) {
+			return CompletableFuture.completedFuture(true);
+		}
+		try {
+			return CompletableFuture.supplyAsync(() -> {
+				boolean matched = passwordEncoder.matches(rawPassword, encodedPassword);
+				if (matched && marker != null) {
+					remember(marker);
+				}
+				return matched;
+			}, executor);
+		} catch (RejectedExecutionException e) {
+			throw busy();
+		}
+	}
+
+	/**
+	 * 비밀번호 비교 (결과가 나올 때까지 대기, 트랜잭션 안에서 사용)
+	 */
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return await(matchesAsync(rawPassword, encodedPassword, null));
+	}
+
+	/**
+	 * 비밀번호 암호화 (결과가 나올 때까지 대기, 트랜잭션 안에서 사용)
+	 */
+	public String encode(String rawPassword) {
+		try {
+			return await(executor.submit(() -> passwordEncoder.encode(rawPassword)));
+		} catch (RejectedExecutionException e) {
+			throw busy();
+		}
+	}
+
+	/**
+	 * 여러 비밀번호 암호화 (일괄 등록용, 로그인 처리 여유를 남기도록 풀 스레드의 절반까지만 나눠서 실행)
+	 * 대기열이 가득 차 있으면 해당 몫은 호출한 스레드에서 직접 암호화하므로 거절되지 않음
+	 */
+	public List<String> encodeAll(List<String> rawPasswords) {
+		int size = rawPasswords.size();
+		int parallelism = Math.max(1, Math.min(executor.getMaximumPoolSize() / 2, size));
+		String[] encoded = new String[size];
+		List<Future<?>> futures = new ArrayList<>();
+		for (int p = 0; p < parallelism; p++) {
+			int from = p;
+			Runnable slice = () -> {
+				for (int i = from; i < size; i += parallelism) {
+					encoded[i] = passwordEncoder.encode(rawPasswords.get(i));
+				}
+			};
+			try {
+				futures.add(executor.submit(slice));
+			} catch (RejectedExecutionException e) {
+				slice.run();
+			}
+		}
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw busy();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+		return Arrays.asList(encoded);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private <T> T await(Future<T> future) {
+		try {
+			return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(false);
+			throw busy();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw busy();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private CustomRestfullException busy() {
+		log.warn("[PasswordHashingService] 해시 대기열 초과 active={} queued={}", executor.getActiveCount(),
+				executor.getQueue().size());
+		return new CustomRestfullException(BUSY_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	private boolean isVerified(String marker) {
+		Long expiresAt = verified.get(marker);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt <= System.currentTimeMillis()) {
+			verified.remove(marker, expiresAt);
+			return false;
+		}
+		return true;
+	}
+
+	// 만료 항목 정리, 그래도 가득 차 있으면 전체 비움
+	private void remember(String marker) {
+		long now = System.currentTimeMillis();
+		if (verified.size() >= verifiedMaxSize) {
+			verified.values().removeIf(expiresAt -> expiresAt <= now);
+			if (verified.size() >= verifiedMaxSize) {
+				verified.clear();
+			}
+		}
+		verified.put(marker, now + verifiedTtlMs);
+	}
+
+	private String marker(String device, String encodedPassword, String rawPassword) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(markerKey);
+			byte[] digest = mac.doFinal((device + "\n" + encodedPassword + "\n" + rawPassword)
+					.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -1,8 +1,9 @@
 package com.green.university.service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.green.university.repository.SubjectJpaRepository;
 import com.green.university.repository.model.PreStuSubId;
@@ -13,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.green.university.dto.response.StuSubAppDto;
 import com.green.university.dto.response.StuSubDayTimeDto;
-import com.green.university.dto.response.StuSubSumGradesDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.repository.PreStuSubJpaRepository;
 import com.green.university.repository.model.PreStuSub;
@@ -44,20 +44,23 @@ public class PreStuSubService {
         return preStuSubJpaRepository.findByIdStudentIdAndIdSubjectId(studentId, subjectId);
     }
 
+    /**
+     * 학생이 예비 수강 신청한 강의 id (한 번 조회해서 페이지의 모든 강의 신청 여부를 메모리에서 확인)
+     */
     @Transactional(readOnly = true)
-    public List<PreStuSub> readPreStuSubList(Integer studentId) {
-
-        List<PreStuSub> allPreStuSubs = preStuSubJpaRepository.findByIdStudentId(studentId);
-
-        // 현재 학기만 필터링
-        return allPreStuSubs.stream()
-                .filter(ps -> {
-                    Subject subject = subjectJpaRepository.findById(ps.getSubjectId()).orElse(null);
-                    return subject != null
-                            && subject.getSubYear().equals(Define.CURRENT_YEAR)
-                            && subject.getSemester().equals(Define.CURRENT_SEMESTER);
-                })
-                .collect(Collectors.toList());
+    public Set<Integer> readPreStuSubSubjectIds(Integer studentId) {
+        return new HashSet<>(preStuSubJpaRepository.findSubjectIdByStudentId(studentId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<StuSubAppDto> readPreStuSubList(Integer studentId) {
+
+        // 현재 학기 내역만 조회 (강의/교수/강의실 정보까지 쿼리 1번)
+        return preStuSubJpaRepository.findAppListByStudentId(
+                studentId,
+                Define.CURRENT_YEAR,
+                Define.CURRENT_SEMESTER
+        );
     }
 
 	// 학생의 예비 수강신청 내역 추가
@@ -78,32 +81,17 @@ public class PreStuSubService {
             throw new CustomRestfullException("정원이 초과되었습니다.", HttpStatus.BAD_REQUEST);
         }
 
+        // 현재 학기 예비 수강 신청 내역 (강의 학점/요일/시간 포함, 쿼리 1번)
+        List<StuSubDayTimeDto> dayTimeList = preStuSubJpaRepository.findDayTimeListByStudentId(
+                studentId,
+                Define.CURRENT_YEAR,
+                Define.CURRENT_SEMESTER
+        );
+
         // 학점 체크
-        List<PreStuSub> preStuSubs = preStuSubJpaRepository.findByIdStudentId(studentId);
-        int sumGrades = preStuSubs.stream()
-                .map(ps -> subjectJpaRepository.findById(ps.getSubjectId()).orElse(null))
-                .filter(subject -> subject != null
-                        && subject.getSubYear().equals(Define.CURRENT_YEAR)
-                        && subject.getSemester().equals(Define.CURRENT_SEMESTER))
-                .mapToInt(Subject::getGrades)
-                .sum();
-
-        StuSubSumGradesDto stuSubSumGradesDto = new StuSubSumGradesDto();
-        stuSubSumGradesDto.setSumGrades(sumGrades);
-        StuSubUtil.checkSumGrades(targetSubject, stuSubSumGradesDto);
+        StuSubUtil.checkSumGrades(targetSubject, StuSubUtil.sumGrades(dayTimeList));
 
         // 시간표 겹침 체크
-        List<StuSubDayTimeDto> dayTimeList = preStuSubs.stream()
-                .map(ps -> subjectJpaRepository.findById(ps.getSubjectId()).orElse(null))
-                .filter(subject -> subject != null)
-                .map(subject -> {
-                    StuSubDayTimeDto dto = new StuSubDayTimeDto();
-                    dto.setSubDay(subject.getSubDay());
-                    dto.setStartTime(subject.getStartTime());
-                    dto.setEndTime(subject.getEndTime());
-                    return dto;
-                })
-                .collect(Collectors.toList());
         StuSubUtil.checkDayTime(targetSubject, dayTimeList);
 
         // 예비 수강 신청 내역 추가
@@ -0,0 +1,167 @@
+package com.green.university.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.green.university.dto.response.PrincipalDto;
+import com.green.university.repository.ProfessorJpaRepository;
+import com.green.university.repository.StaffJpaRepository;
+import com.green.university.repository.StudentJpaRepository;
+import com.green.university.repository.UserJpaRepository;
+import com.green.university.repository.model.Professor;
+import com.green.university.repository.model.Staff;
+import com.green.university.repository.model.Student;
+import com.green.university.repository.model.User;
+
+/**
+ * 인증 사용자 정보(PrincipalDto) 캐시
+ * 토큰에 이름/이메일이 들어 있으면 DB 를 읽지 않고, 없거나(이전 방식 토큰) 발급 후 정보가 바뀐 토큰이면 여기서 조회함
+ * 항목은 ttl-ms 후 만료되고 max-size 를 넘으면 만료된 항목부터 정리하며, 비밀번호 해시는 담지 않음
+ * 비밀번호/개인 정보 변경 시 invalidate() 로 항목을 지우고 변경 시각을 남겨 그 전에 발급된 토큰의 정보를 쓰지 않게 함
+ */
+@Service
+public class PrincipalCacheService {
+
+	@Autowired
+	private UserJpaRepository userJpaRepository;
+
+	@Autowired
+	private StudentJpaRepository studentJpaRepository;
+
+	@Autowired
+	private ProfessorJpaRepository professorJpaRepository;
+
+	@Autowired
+	private StaffJpaRepository staffJpaRepository;
+
+	@Value("${auth.principal-cache.ttl-ms:60000}")
+	private long ttlMs;
+
+	@Value("${auth.principal-cache.max-size:10000}")
+	private int maxSize;
+
+	// 변경 시각은 토큰 유효 기간이 지나면 의미가 없으므로 그 이후 정리
+	@Value("${jwt.expiration}")
+	private long tokenExpirationMs;
+
+	private final Map<Integer, Entry> cache = new ConcurrentHashMap<>();
+
+	// 사용자 id -> 마지막 정보 변경 시각
+	private final Map<Integer, Long> changedAt = new ConcurrentHashMap<>();
+
+	/**
+	 * 사용자 정보 (없는 사용자면 null)
+	 */
+	public PrincipalDto read(Integer userId) {
+		long now = System.currentTimeMillis();
+		Entry entry = cache.get(userId);
+		if (entry != null && entry.expiresAt > now) {
+			return copy(entry.principal);
+		}
+
+		User user = userJpaRepository.findById(userId).orElse(null);
+		if (user == null) {
+			cache.remove(userId);
+			return null;
+		}
+		PrincipalDto principal = load(user);
+		if (cache.size() >= maxSize) {
+			evict(now);
+		}
+		cache.put(userId, new Entry(principal, now + ttlMs));
+		return copy(principal);
+	}
+
+	/**
+	 * 역할별 테이블에서 이름/이메일을 읽어 사용자 정보 생성 (비밀번호 제외)
+	 */
+	public PrincipalDto load(User user) {
+		String name = null;
+		String email = null;
+		if ("student".equals(user.getUserRole())) {
+			Student student = studentJpaRepository.findById(user.getId()).orElse(null);
+			if (student != null) {
+				name = student.getName();
+				email = student.getEmail();
+			}
+		} else if ("professor".equals(user.getUserRole())) {
+			Professor professor = professorJpaRepository.findById(user.getId()).orElse(null);
+			if (professor != null) {
+				name = professor.getName();
+				email = professor.getEmail();
+			}
+		} else if ("staff".equals(user.getUserRole())) {
+			Staff staff = staffJpaRepository.findById(user.getId()).orElse(null);
+			if (staff != null) {
+				name = staff.getName();
+				email = staff.getEmail();
+			}
+		}
+		return PrincipalDto.builder()
+				.id(user.getId())
+				.userRole(user.getUserRole())
+				.name(name)
+				.email(email)
+				.build();
+	}
+
+	/**
+	 * issuedAt 에 발급된 토큰의 정보를 그대로 써도 되는지 (발급 후 정보가 바뀌지 않았는지)
+	 */
+	public boolean isCurrent(Integer userId, long issuedAt) {
+		Long changed = changedAt.get(userId);
+		return changed == null || issuedAt > changed;
+	}
+
+	/**
+	 * 사용자 정보 변경 (트랜잭션 커밋 후 호출)
+	 */
+	public void invalidate(Integer userId) {
+		long now = System.currentTimeMillis();
+		cache.remove(userId);
+		changedAt.put(userId, now);
+		if (changedAt.size() >= maxSize) {
+			changedAt.values().removeIf(changed -> changed + tokenExpirationMs < now);
+		}
+	}
+
+	// 만료 항목 정리, 그래도 가득 차 있으면 전체 비움
+	private void evict(long now) {
+		Iterator<Entry> iterator = cache.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().expiresAt <= now) {
+				iterator.remove();
+			}
+		}
+		if (cache.size() >= maxSize) {
+			cache.clear();
+		}
+	}
+
+	// 요청마다 수정될 수 있으므로 복사해서 반환
+	private static PrincipalDto copy(PrincipalDto principal) {
+		return PrincipalDto.builder()
+				.id(principal.getId())
+				.userRole(principal.getUserRole())
+				.name(principal.getName())
+				.email(principal.getEmail())
+				.build();
+	}
+
+	private static class Entry {
+
+		private final PrincipalDto principal;
+		private final long expiresAt;
+
+		Entry(PrincipalDto principal, long expiresAt) {
+			this.principal = principal;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+}
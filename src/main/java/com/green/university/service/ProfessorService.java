@@ -2,7 +2,9 @@ package com.green.university.service;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.green.university.dto.response.*;
@@ -11,11 +13,13 @@ import com.green.university.repository.model.*;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +46,19 @@ public class ProfessorService {
     private SyllaBusJpaRepository syllaBusJpaRepository;
     @Autowired
     private ProfessorJpaRepository professorJpaRepository;
+    @Autowired
+    private TranscriptJpaRepository transcriptJpaRepository;
+    @Autowired
+    private GradeScaleService gradeScaleService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SubjectRosterService subjectRosterService;
+
+    // 성적 일괄 입력 JDBC batch 크기
+    private static final int GRADE_BATCH_SIZE = 100;
+    // 검증 실패 시 응답에 담는 최대 오류 수
+    private static final int MAX_GRADE_ERRORS = 10;
 
     // 교수가 맡은 과목들의 학기 검색
     @Transactional(readOnly = true)
@@ -67,33 +84,18 @@ public class ProfessorService {
         return periods;
     }
 
-	// 년도와 학기, 교수 id를 이용하여 해당 과목의 정보 불러오기
-    public List<StuSubResponseDto> selectBySubjectId(Integer subjectId) {
-
-        List<StuSub> stuSubs = stuSubJpaRepository.findBySubjectId(subjectId);
-
-        return stuSubs.stream().map(stuSub -> {
-
-            Student st = stuSub.getStudent();
-
-            // 🔥 StuSubDetail 가져오기
-            StuSubDetail detail = stuSubDetailJpaRepository
-                    .findByStudentIdAndSubjectId(st.getId(), subjectId)
-                    .orElse(new StuSubDetail()); // null 방지
-
-            return new StuSubResponseDto(
-                    st.getId(),
-                    st.getName(),
-                    st.getDepartment().getName(),
-                    detail.getAbsent(),
-                    detail.getLateness(),
-                    detail.getHomework(),
-                    detail.getMidExam(),
-                    detail.getFinalExam(),
-                    detail.getConvertedMark()
-            );
-
-        }).toList();
+	// 과목의 수강생 명단 (학생/학과/출결·성적을 한 번에 조회, size 가 0 이하이면 전체)
+    public Page<StuSubResponseDto> selectBySubject(Subject subject, int page, int size) {
+        if (subject == null) {
+            return Page.empty();
+        }
+        List<StuSubResponseDto> roster = subjectRosterService.readRoster(subject);
+        if (size <= 0) {
+            return new PageImpl<>(roster);
+        }
+        int from = (int) Math.min((long) page * size, roster.size());
+        int to = Math.min(from + size, roster.size());
+        return new PageImpl<>(roster.subList(from, to), PageRequest.of(page, size), roster.size());
     }
 
 	// 과목 id로 과목 Entity 불러오기
@@ -155,9 +157,96 @@ public class ProfessorService {
 
         stuSubJpaRepository.save(stuSub);
         System.out.println("✅ StuSub 저장 완료");
+
+        // 해당 학기 성적 요약 갱신 (같은 트랜잭션)
+        transcriptJpaRepository.refresh(updateStudentGradeDto.getStudentId(),
+                stuSub.getSubject().getSubYear(), stuSub.getSubject().getSemester());
+        subjectRosterService.changed(updateStudentGradeDto.getSubjectId());
         System.out.println("=== updateGrade 종료 ===");
     }
 
+    /**
+     * 출결 및 성적 일괄 기입 (강의 수강생 여러 명)
+     * 모든 행을 먼저 검증하고, 한 트랜잭션에서 상세 내역/학점을 JDBC batch 로 갱신한 뒤
+     * 이수 학점과 성적 요약은 강의 단위 쿼리 한 번씩으로 다시 계산
+     * @return 갱신한 학생 수
+     */
+    @Transactional
+    public int updateGrades(Integer professorId, Integer subjectId, List<UpdateStudentGradeDto> rows) {
+        Subject subject = subjectJpaRepository.findById(subjectId)
+                .orElseThrow(() -> new CustomRestfullException("강의를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+        if (professorId != null && !professorId.equals(subject.getProfessor().getId())) {
+            throw new CustomRestfullException("본인 강의의 성적만 입력할 수 있습니다.", HttpStatus.FORBIDDEN);
+        }
+        if (rows == null || rows.isEmpty()) {
+            throw new CustomRestfullException("입력할 성적이 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        // 1. 검증 (상세 내역이 있는 수강생만, 학생 중복 불가, 학점은 grade_tb 에 있는 값)
+        Set<Integer> enrolled = new HashSet<>(stuSubDetailJpaRepository.findStudentIdBySubjectId(subjectId));
+        Set<Integer> seen = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UpdateStudentGradeDto row = rows.get(i);
+            String error = null;
+            if (row.getStudentId() == null) {
+                error = "학번이 없습니다.";
+            } else if (!enrolled.contains(row.getStudentId())) {
+                error = row.getStudentId() + " 학생은 수강생이 아닙니다.";
+            } else if (!seen.add(row.getStudentId())) {
+                error = row.getStudentId() + " 학생이 중복되었습니다.";
+            } else if (row.getGrade() == null || !gradeScaleService.contains(row.getGrade())) {
+                error = "등급이 올바르지 않습니다. (" + row.getGrade() + ")";
+            } else if (isNegative(row.getAbsent(), row.getLateness(), row.getHomework(), row.getMidExam(),
+                    row.getFinalExam(), row.getConvertedMark())) {
+                error = "출결/점수는 0 이상이어야 합니다.";
+            }
+            if (error != null && errors.size() < MAX_GRADE_ERRORS) {
+                errors.add((i + 1) + "번째 행: " + error);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CustomRestfullException(String.join(" / ", errors), HttpStatus.BAD_REQUEST);
+        }
+
+        // 2. 출결/점수, 등급 (JDBC batch)
+        jdbcTemplate.batchUpdate("UPDATE stu_sub_detail_tb SET absent = ?, lateness = ?, homework = ?, "
+                        + "mid_exam = ?, final_exam = ?, converted_mark = ? WHERE student_id = ? AND subject_id = ?",
+                rows, GRADE_BATCH_SIZE, (ps, row) -> {
+                    ps.setObject(1, row.getAbsent());
+                    ps.setObject(2, row.getLateness());
+                    ps.setObject(3, row.getHomework());
+                    ps.setObject(4, row.getMidExam());
+                    ps.setObject(5, row.getFinalExam());
+                    ps.setObject(6, row.getConvertedMark());
+                    ps.setInt(7, row.getStudentId());
+                    ps.setInt(8, subjectId);
+                });
+        jdbcTemplate.batchUpdate("UPDATE stu_sub_tb SET grade = ? WHERE student_id = ? AND subject_id = ?",
+                rows, GRADE_BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, row.getGrade());
+                    ps.setInt(2, row.getStudentId());
+                    ps.setInt(3, subjectId);
+                });
+
+        // 3. 이수 학점 (F면 0, 아니면 강의 학점), 성적 요약
+        List<Integer> studentIds = new ArrayList<>(seen);
+        stuSubJpaRepository.updateCompleteGradeBySubjectId(subjectId, studentIds, subject.getGrades());
+        transcriptJpaRepository.refreshBySubject(subjectId, subject.getSubYear(), subject.getSemester());
+        subjectRosterService.changed(subjectId);
+
+        return rows.size();
+    }
+
+    private static boolean isNegative(Integer... values) {
+        for (Integer value : values) {
+            if (value != null && value < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // 강의계획서 조회
     @Transactional(readOnly = true)
     public SyllabusResponseDto readSyllabus(Integer subjectId) {
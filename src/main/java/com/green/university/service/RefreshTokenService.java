@@ -0,0 +1,180 @@
+package com.green.university.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.green.university.dto.response.PrincipalDto;
+import com.green.university.dto.response.TokenDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.jwt.JwtUtil;
+import com.green.university.repository.RefreshTokenJpaRepository;
+import com.green.university.repository.model.RefreshToken;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로그인 토큰 발급/재발급/폐기
+ * 액세스 토큰은 jwt.expiration 동안만 유효하고, 만료되면 리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰을 받음
+ * 리프레시 토큰은 한 번만 사용할 수 있으며, 이미 사용한 토큰이 다시 오면 같은 로그인에서 이어진 토큰을 모두 폐기함
+ * 로그아웃/비밀번호 변경 시 리프레시 토큰과 아직 유효할 수 있는 액세스 토큰을 폐기 목록(TokenRevocationService)에 올림
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	@Autowired
+	private RefreshTokenJpaRepository refreshTokenJpaRepository;
+
+	@Autowired
+	private TokenRevocationService tokenRevocationService;
+
+	@Autowired
+	private PrincipalCacheService principalCacheService;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Value("${jwt.expiration}")
+	private long accessExpirationMs;
+
+	@Value("${jwt.refresh-expiration:1209600000}")
+	private long refreshExpirationMs;
+
+	/**
+	 * 로그인 토큰 발급 (새 묶음)
+	 */
+	@Transactional
+	public TokenDto issue(PrincipalDto principal) {
+		return issue(principal, UUID.randomUUID().toString());
+	}
+
+	/**
+	 * 리프레시 토큰으로 재발급 (사용한 토큰은 더 쓸 수 없음)
+	 */
+	@Transactional(noRollbackFor = CustomRestfullException.class)
+	public TokenDto rotate(String refreshToken) {
+		RefreshToken token = refreshTokenJpaRepository.findByTokenHash(hash(refreshToken)).orElse(null);
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		if (token == null || token.getRevoked() || token.getExpiresAt().before(now)) {
+			throw new CustomRestfullException("다시 로그인해 주세요.", HttpStatus.UNAUTHORIZED);
+		}
+
+		// 이미 사용한 토큰 (동시에 같은 토큰으로 요청한 경우 포함) -> 탈취로 보고 묶음 전체 폐기
+		if (token.getUsedAt() != null || refreshTokenJpaRepository.markUsed(token.getId(), now) == 0) {
+			log.warn("[RefreshTokenService] 사용된 리프레시 토큰 재사용 userId={} familyId={}", token.getUserId(),
+					token.getFamilyId());
+			revokeFamily(token.getFamilyId());
+			throw new CustomRestfullException("다시 로그인해 주세요.", HttpStatus.UNAUTHORIZED);
+		}
+
+		PrincipalDto principal = principalCacheService.read(token.getUserId());
+		if (principal == null) {
+			throw new CustomRestfullException("다시 로그인해 주세요.", HttpStatus.UNAUTHORIZED);
+		}
+		return issue(principal, token.getFamilyId());
+	}
+
+	/**
+	 * 로그아웃 (현재 액세스 토큰과 같은 로그인에서 이어진 토큰 폐기)
+	 * @param accessJti 현재 액세스 토큰 jti (없으면 null)
+	 * @param refreshToken 리프레시 토큰 (없으면 null)
+	 */
+	@Transactional
+	public void logout(String accessJti, String refreshToken) {
+		RefreshToken token = null;
+		if (refreshToken != null) {
+			token = refreshTokenJpaRepository.findByTokenHash(hash(refreshToken)).orElse(null);
+		}
+		if (token == null && accessJti != null) {
+			token = refreshTokenJpaRepository.findFirstByAccessJti(accessJti).orElse(null);
+		}
+		if (token != null) {
+			revokeFamily(token.getFamilyId());
+		} else if (accessJti != null) {
+			tokenRevocationService.revoke(List.of(accessJti), accessExpiresAt());
+		}
+	}
+
+	/**
+	 * 사용자의 모든 토큰 폐기 (비밀번호 변경 시)
+	 */
+	@Transactional
+	public void revokeAll(Integer userId) {
+		List<String> jtis = refreshTokenJpaRepository.findAccessJtiByUserId(userId, accessIssuedSince());
+		refreshTokenJpaRepository.revokeByUserId(userId);
+		tokenRevocationService.revoke(jtis, accessExpiresAt());
+	}
+
+	@Scheduled(fixedDelayString = "${jwt.refresh-purge-ms:3600000}", initialDelayString = "${jwt.refresh-purge-ms:3600000}")
+	@Transactional
+	public void purgeExpired() {
+		int deleted = refreshTokenJpaRepository.deleteExpired(new Timestamp(System.currentTimeMillis()));
+		if (deleted > 0) {
+			log.info("[RefreshTokenService] 만료된 리프레시 토큰 삭제 count={}", deleted);
+		}
+	}
+
+	private TokenDto issue(PrincipalDto principal, String familyId) {
+		String accessJti = UUID.randomUUID().toString();
+		String refreshToken = newToken();
+
+		RefreshToken token = new RefreshToken();
+		token.setUserId(principal.getId());
+		token.setTokenHash(hash(refreshToken));
+		token.setFamilyId(familyId);
+		token.setAccessJti(accessJti);
+		token.setExpiresAt(new Timestamp(System.currentTimeMillis() + refreshExpirationMs));
+		token.setRevoked(false);
+		refreshTokenJpaRepository.save(token);
+
+		return new TokenDto(jwtUtil.generateToken(principal, accessJti), refreshToken);
+	}
+
+	private void revokeFamily(String familyId) {
+		List<String> jtis = refreshTokenJpaRepository.findAccessJtiByFamilyId(familyId, accessIssuedSince());
+		refreshTokenJpaRepository.revokeFamily(familyId);
+		tokenRevocationService.revoke(jtis, accessExpiresAt());
+	}
+
+	// 이 시각 이후에 발급된 액세스 토큰만 아직 유효할 수 있음
+	private Timestamp accessIssuedSince() {
+		return new Timestamp(System.currentTimeMillis() - accessExpirationMs);
+	}
+
+	// 지금 폐기하는 액세스 토큰이 늦어도 만료되는 시각
+	private Timestamp accessExpiresAt() {
+		return new Timestamp(System.currentTimeMillis() + accessExpirationMs);
+	}
+
+	private static String newToken() {
+		byte[] bytes = new byte[32];
+		RANDOM.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.green.university.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.green.university.dto.response.SeatCountDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 좌석 현황 알림
+ * 바뀐 강의와 값을 읽을 곳(좌석 카운터 등)만 표시해 두었다가 주기적으로 그 시점의 값을 읽어 /sub/sugang/seats 로 한 번에 보냄
+ * 커밋 후 콜백의 실행 순서와 무관하게 항상 최신 값이 전송됨 (강의당 주기별 최대 1건)
+ * 클라이언트는 /api/sugang/seats 스냅샷을 받은 뒤 seq 가 더 큰 메시지만 반영하면 됨
+ */
+@Slf4j
+@Service
+public class SeatBroadcastService {
+
+	public static final String SEAT_DESTINATION = "/sub/sugang/seats";
+
+	@Autowired(required = false)
+	private SimpMessagingTemplate messagingTemplate;
+
+	// 강의 id -> 아직 전송하지 않은 변경 항목 (값은 전송할 때 읽음)
+	private final Map<Integer, Changed> pending = new ConcurrentHashMap<>();
+
+	// 전송 순번 (스냅샷과 알림 순서 비교용)
+	private final AtomicLong seq = new AtomicLong();
+
+	/**
+	 * 본 수강 신청 현재 인원 변경
+	 * @param numOfStudent 전송 시점의 현재 인원 (좌석 카운터 등 최신 값을 읽는 함수)
+	 */
+	public void numOfStudentChanged(Integer subjectId, IntSupplier numOfStudent) {
+		pending.merge(subjectId, new Changed(null, numOfStudent, null), Changed::merge);
+	}
+
+	/**
+	 * 예비 수강 신청 인원 변경
+	 * @param preNumOfStudent 전송 시점의 예비 신청 인원
+	 */
+	public void preNumOfStudentChanged(Integer subjectId, IntSupplier preNumOfStudent) {
+		pending.merge(subjectId, new Changed(null, null, preNumOfStudent), Changed::merge);
+	}
+
+	/**
+	 * 정원 변경
+	 * @param capacity 전송 시점의 정원
+	 */
+	public void capacityChanged(Integer subjectId, IntSupplier capacity) {
+		pending.merge(subjectId, new Changed(capacity, null, null), Changed::merge);
+	}
+
+	public long getSeq() {
+		return seq.get();
+	}
+
+	/**
+	 * 모아둔 변경분 전송
+	 */
+	@Scheduled(fixedDelayString = "${sugang.seat.broadcast-interval-ms:200}")
+	public void publish() {
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		List<SeatCountDto> seats = new ArrayList<>();
+		for (Integer subjectId : pending.keySet()) {
+			Changed changed = pending.remove(subjectId);
+			if (changed != null) {
+				seats.add(changed.read(subjectId));
+			}
+		}
+		if (seats.isEmpty() || messagingTemplate == null) {
+			return;
+		}
+
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("seq", seq.incrementAndGet());
+		payload.put("seats", seats);
+		try {
+			messagingTemplate.convertAndSend(SEAT_DESTINATION, payload);
+		} catch (Exception e) {
+			log.warn("[SeatBroadcastService] 좌석 현황 전송 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 전송 대기 중인 변경분 제거 (수강 신청 기간 변경 시)
+	 */
+	public void clear() {
+		pending.clear();
+	}
+
+	/**
+	 * 강의 1개의 바뀐 항목 (null 이면 바뀌지 않음)
+	 */
+	private static class Changed {
+
+		private final IntSupplier capacity;
+		private final IntSupplier numOfStudent;
+		private final IntSupplier preNumOfStudent;
+
+		Changed(IntSupplier capacity, IntSupplier numOfStudent, IntSupplier preNumOfStudent) {
+			this.capacity = capacity;
+			this.numOfStudent = numOfStudent;
+			this.preNumOfStudent = preNumOfStudent;
+		}
+
+		// 같은 강의의 변경 항목을 합침 (같은 값을 읽으므로 어느 쪽을 써도 됨)
+		static Changed merge(Changed before, Changed after) {
+			return new Changed(after.capacity != null ? after.capacity : before.capacity,
+					after.numOfStudent != null ? after.numOfStudent : before.numOfStudent,
+					after.preNumOfStudent != null ? after.preNumOfStudent : before.preNumOfStudent);
+		}
+
+		SeatCountDto read(Integer subjectId) {
+			return new SeatCountDto(subjectId, read(capacity), read(numOfStudent), read(preNumOfStudent));
+		}
+
+		private static Integer read(IntSupplier value) {
+			return value == null ? null : value.getAsInt();
+		}
+	}
+
+}
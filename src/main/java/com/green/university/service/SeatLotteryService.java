@@ -0,0 +1,126 @@
+package com.green.university.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.green.university.repository.PreStuSubJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.utils.Define;
+import com.green.university.utils.SeatLottery;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정원 초과 강의 좌석 추첨 (수강 신청 기간 시작 시)
+ * 추첨 대상 강의/지원자/지원자의 기존 수강 신청 내역을 한 번에 읽어 메모리에서 추첨함
+ */
+@Slf4j
+@Service
+public class SeatLotteryService {
+
+	@Autowired
+	private SubjectJpaRepository subjectJpaRepository;
+
+	@Autowired
+	private PreStuSubJpaRepository preStuSubJpaRepository;
+
+	@Autowired
+	private StuSubJpaRepository stuSubJpaRepository;
+
+	@Value("${sugang.lottery.enabled:true}")
+	private boolean enabled;
+
+	// 비어 있으면 학년도 * 10 + 학기
+	@Value("${sugang.lottery.seed:}")
+	private String seed;
+
+	// department, grade (앞에 쓴 조건이 우선), 비어 있으면 추첨만
+	@Value("${sugang.lottery.priority:}")
+	private String priority;
+
+	// 0 이면 CPU 코어 수
+	@Value("${sugang.lottery.parallelism:0}")
+	private int parallelism;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 추첨
+	 * @return 강의 id -> 당첨 학생 id
+	 */
+	public Map<Integer, List<Integer>> draw(List<Integer> subjectIds) {
+		if (subjectIds.isEmpty()) {
+			return new LinkedHashMap<>();
+		}
+		long startedAt = System.currentTimeMillis();
+
+		Map<Integer, SeatLottery.Course> courses = new LinkedHashMap<>();
+		for (Object[] row : subjectJpaRepository.findLotteryInfoByIdIn(subjectIds)) {
+			SeatLottery.Course course = new SeatLottery.Course((Integer) row[0], toInt(row[1]), (Integer) row[2],
+					(String) row[3], (Integer) row[4], (Integer) row[5], (Integer) row[6]);
+			courses.put(course.getId(), course);
+		}
+
+		int applicantCount = 0;
+		for (Object[] row : preStuSubJpaRepository.findApplicantsBySubjectIdIn(subjectIds)) {
+			SeatLottery.Course course = courses.get((Integer) row[0]);
+			if (course != null) {
+				course.addApplicant((Integer) row[1], (Integer) row[2], (Integer) row[3]);
+				applicantCount++;
+			}
+		}
+
+		SeatLottery lottery = new SeatLottery(readSeed(), readPriorities());
+		for (Object[] row : stuSubJpaRepository.findDayTimeListByApplicants(
+				subjectIds, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER)) {
+			lottery.addRegistered((Integer) row[0], (String) row[1], (Integer) row[2], (Integer) row[3],
+					(Integer) row[4]);
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		try {
+			Map<Integer, List<Integer>> winners = lottery.draw(new ArrayList<>(courses.values()), pool);
+			log.info("[SeatLotteryService] 추첨 완료 subjects={} applicants={} elapsedMs={}",
+					courses.size(), applicantCount, System.currentTimeMillis() - startedAt);
+			return winners;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private long readSeed() {
+		if (seed == null || seed.isBlank()) {
+			return Define.CURRENT_YEAR * 10L + Define.CURRENT_SEMESTER;
+		}
+		return Long.parseLong(seed.trim());
+	}
+
+	private List<SeatLottery.Priority> readPriorities() {
+		List<SeatLottery.Priority> priorities = new ArrayList<>();
+		if (priority == null || priority.isBlank()) {
+			return priorities;
+		}
+		for (String name : priority.split(",")) {
+			if (!name.isBlank()) {
+				priorities.add(SeatLottery.Priority.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+			}
+		}
+		return priorities;
+	}
+
+	private static int toInt(Object value) {
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+
+}
@@ -0,0 +1,285 @@
+package com.green.university.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.Define;
+import com.green.university.utils.TransactionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강 신청 기간 좌석 관리
+ * 좌석 배정은 수강 신청 트랜잭션 안에서 subject_tb 조건부 UPDATE(num_of_student < capacity)로 결정하므로
+ * 서버가 여러 대여도 정원을 넘지 않고, 트랜잭션이 롤백되면 현재 인원도 함께 되돌아감
+ * 메모리의 강의별 좌석 카운터는 정원이 찬 강의를 DB 조회 없이 바로 거절하기 위한 참고 값으로,
+ * 이 서버의 증감을 바로 반영하고 sync-interval-ms 마다 DB 값으로 다시 맞춤 (다른 서버에서 빈 자리가 나면 그 사이에는 거절될 수 있음)
+ * 수강 신청 대기자에게 넘긴 자리도 현재 인원에 포함됨 (hold/releaseHeld)
+ */
+@Slf4j
+@Service
+public class SeatReservationService {
+
+	private static final String FULL_MESSAGE = "정원이 초과되었습니다.";
+
+	@Autowired
+	private SubjectJpaRepository subjectJpaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private SeatBroadcastService seatBroadcastService;
+
+	// 강의 id -> 좌석 카운터 (정원이 찬 강의를 바로 거절하기 위한 참고 값)
+	private final Map<Integer, SeatCounter> counters = new ConcurrentHashMap<>();
+
+	// 좌석 수 변경 횟수 (강의 목록 ETag 용)
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * 현재 학기 강의의 좌석 카운터를 DB 값으로 다시 적재
+	 */
+	public void load() {
+		counters.clear();
+		List<Object[]> rows = subjectJpaRepository.findSeatInfoBySubYearAndSemester(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+		for (Object[] row : rows) {
+			Integer subjectId = (Integer) row[0];
+			counters.put(subjectId, new SeatCounter(toInt(row[1]), toInt(row[2])));
+		}
+		version.incrementAndGet();
+		log.info("[SeatReservationService] 좌석 카운터 적재 완료 subjects={}", counters.size());
+	}
+
+	/**
+	 * 좌석 1개 배정 (현재 트랜잭션 안에서 현재 인원 +1, 정원 초과 시 예외)
+	 * 강의 행 잠금을 짧게 잡도록 수강 신청 트랜잭션의 마지막에 호출
+	 */
+	public void reserve(Subject subject) {
+		SeatCounter counter = counters.computeIfAbsent(subject.getId(),
+				id -> new SeatCounter(toInt(subject.getCapacity()), toInt(subject.getNumOfStudent())));
+		if (counter.isFull()) {
+			throw new CustomRestfullException(FULL_MESSAGE, HttpStatus.BAD_REQUEST);
+		}
+		if (subjectJpaRepository.reserveSeat(subject.getId()) == 0) {
+			counter.markFull();
+			throw new CustomRestfullException(FULL_MESSAGE, HttpStatus.BAD_REQUEST);
+		}
+
+		counter.increment();
+		TransactionUtil.afterCompletion(
+				() -> changed(subject.getId(), counter),
+				counter::decrement);
+	}
+
+	/**
+	 * 좌석 1개 반납 (현재 트랜잭션 안에서 현재 인원 -1)
+	 */
+	public void release(Integer subjectId) {
+		release(subjectId, id -> {
+		});
+	}
+
+	/**
+	 * 좌석 1개 반납 (현재 트랜잭션 안에서 현재 인원 -1)
+	 * 커밋 후 onFreed 를 호출함 (수강 신청 대기자에게 빈 자리를 넘기는 등)
+	 */
+	public void release(Integer subjectId, Consumer<Integer> onFreed) {
+		subjectJpaRepository.releaseSeat(subjectId);
+		TransactionUtil.afterCommit(() -> {
+			SeatCounter counter = counters.get(subjectId);
+			if (counter != null) {
+				counter.decrement();
+				changed(subjectId, counter);
+			}
+			onFreed.accept(subjectId);
+		});
+	}
+
+	/**
+	 * 수강 신청 대기자에게 넘길 자리 잡기 (현재 트랜잭션 안에서 현재 인원 +1)
+	 * @return 잡았으면 true (그 사이 다른 학생이 신청해서 정원이 찼으면 false)
+	 */
+	public boolean hold(Integer subjectId) {
+		SeatCounter counter = counters.get(subjectId);
+		if (subjectJpaRepository.reserveSeat(subjectId) == 0) {
+			if (counter != null) {
+				counter.markFull();
+			}
+			return false;
+		}
+		TransactionUtil.afterCommit(() -> {
+			if (counter != null) {
+				counter.increment();
+				changed(subjectId, counter);
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * 수강 신청 대기자에게 넘겼던 자리 반납 (현재 트랜잭션 안에서 현재 인원 -1)
+	 */
+	public void releaseHeld(Integer subjectId) {
+		subjectJpaRepository.releaseSeat(subjectId);
+		TransactionUtil.afterCommit(() -> {
+			SeatCounter counter = counters.get(subjectId);
+			if (counter != null) {
+				counter.decrement();
+				changed(subjectId, counter);
+			}
+		});
+	}
+
+	/**
+	 * 정원이 다 찼는지 (카운터 기준, 카운터가 없으면 null)
+	 */
+	public Boolean isFull(Integer subjectId) {
+		SeatCounter counter = counters.get(subjectId);
+		return counter == null ? null : counter.isFull();
+	}
+
+	/**
+	 * 강의 정원 변경 반영
+	 */
+	public void updateCapacity(Integer subjectId, Integer capacity) {
+		SeatCounter counter = counters.get(subjectId);
+		if (counter != null) {
+			counter.capacity = toInt(capacity);
+			seatBroadcastService.capacityChanged(subjectId, () -> counters.getOrDefault(subjectId, counter).capacity);
+		}
+	}
+
+	public long getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * 현재 좌석 수 조회 (카운터가 없으면 null)
+	 */
+	public Integer readCount(Integer subjectId) {
+		SeatCounter counter = counters.get(subjectId);
+		return counter == null ? null : counter.count.get();
+	}
+
+	/**
+	 * 좌석 카운터를 DB 의 현재 인원/정원으로 다시 맞춤 (다른 서버의 신청/취소 반영)
+	 */
+	@Scheduled(fixedDelayString = "${sugang.seat.sync-interval-ms:1000}")
+	public void sync() {
+		if (counters.isEmpty()) {
+			return;
+		}
+		try {
+			List<Object[]> rows = subjectJpaRepository.findSeatInfoBySubYearAndSemester(
+					Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+			for (Object[] row : rows) {
+				Integer subjectId = (Integer) row[0];
+				SeatCounter counter = counters.get(subjectId);
+				if (counter != null && counter.reset(toInt(row[1]), toInt(row[2]))) {
+					changed(subjectId, counter);
+				}
+			}
+		} catch (Exception e) {
+			log.warn("[SeatReservationService] 좌석 카운터 동기화 실패 error={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 수강 신청 기간 종료 시 현재 인원을 수강 신청 내역 기준으로 맞추고 카운터를 비움
+	 * (모든 서버에서 실행되지만 종료 후에는 수강 신청 내역이 바뀌지 않으므로 결과가 같음)
+	 */
+	public void reconcile() {
+		Integer updated = requiresNew().execute(status ->
+				subjectJpaRepository.reconcileNumOfStudent(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER));
+		clear();
+		log.info("[SeatReservationService] 현재 인원 재계산 완료 subjects={}", updated);
+	}
+
+	/**
+	 * 카운터 초기화
+	 */
+	public void clear() {
+		counters.clear();
+		version.incrementAndGet();
+	}
+
+	private void changed(Integer subjectId, SeatCounter counter) {
+		version.incrementAndGet();
+		seatBroadcastService.numOfStudentChanged(subjectId, liveCount(subjectId, counter));
+	}
+
+	// 알림을 보낼 때 읽을 현재 인원 (그 사이 카운터를 다시 적재했으면 새 카운터 값)
+	private IntSupplier liveCount(Integer subjectId, SeatCounter counter) {
+		return () -> counters.getOrDefault(subjectId, counter).count.get();
+	}
+
+	// 커밋 후 콜백에서도 호출되므로 항상 새 트랜잭션
+	private TransactionTemplate requiresNew() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return template;
+	}
+
+	private static int toInt(Object value) {
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+
+	/**
+	 * 강의 1개의 좌석 카운터 (DB 값의 사본)
+	 */
+	private static class SeatCounter {
+
+		private final AtomicInteger count;
+
+		private volatile int capacity;
+
+		SeatCounter(int capacity, int count) {
+			this.capacity = capacity;
+			this.count = new AtomicInteger(count);
+		}
+
+		boolean isFull() {
+			return count.get() >= capacity;
+		}
+
+		void increment() {
+			count.incrementAndGet();
+		}
+
+		void decrement() {
+			count.updateAndGet(current -> current > 0 ? current - 1 : 0);
+		}
+
+		// DB 에서 정원이 찼다고 확인된 경우
+		void markFull() {
+			count.updateAndGet(current -> Math.max(current, capacity));
+		}
+
+		// DB 값으로 교체 (바뀌었으면 true)
+		boolean reset(int capacity, int count) {
+			boolean changed = this.capacity != capacity || this.count.get() != count;
+			this.capacity = capacity;
+			this.count.set(count);
+			return changed;
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.green.university.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.green.university.repository.BreakAppJpaRepository;
+import com.green.university.repository.StuStatJpaRepository;
+import com.green.university.repository.model.StuStat;
+import com.green.university.utils.StuStatUtil;
+import com.green.university.utils.TransactionUtil;
+
+/**
+ * 학생별 이번 학기 재학 여부 캐시 (수강 신청/등록금 화면의 StuStatUtil.checkStuStat 용)
+ * 학적 상태 변경, 휴학 신청/처리, 등록금 납부가 커밋되면 해당 학생 항목을 지움
+ * 다른 서버에서 바뀐 내용은 ttl-ms 가 지나면 반영됨
+ */
+@Service
+public class StuStatCheckService {
+
+	@Autowired
+	private StuStatJpaRepository stuStatJpaRepository;
+
+	@Autowired
+	private BreakAppJpaRepository breakAppJpaRepository;
+
+	@Value("${sugang.eligibility.ttl-ms:60000}")
+	private long ttlMs;
+
+	private final Map<Integer, Verdict> verdicts = new ConcurrentHashMap<>();
+
+	/**
+	 * 이번 학기 재학 상태가 아니면 type(등록금/수강신청)에 맞는 예외
+	 */
+	public void checkStuStat(String type, Integer studentId) {
+		StuStatUtil.checkStuStat(type, isEnrolled(studentId));
+	}
+
+	public boolean isEnrolled(Integer studentId) {
+		long now = System.currentTimeMillis();
+		Verdict verdict = verdicts.get(studentId);
+		if (verdict == null || verdict.expiresAt <= now) {
+			StuStat stuStat = stuStatJpaRepository.findFirstByStudentIdOrderByIdDesc(studentId);
+			boolean enrolled = StuStatUtil.isEnrolled(stuStat, breakAppJpaRepository.findByStudentId(studentId));
+			verdict = new Verdict(enrolled, now + ttlMs);
+			verdicts.put(studentId, verdict);
+		}
+		return verdict.enrolled;
+	}
+
+	/**
+	 * 학생의 재학 여부를 다시 계산하도록 삭제 (현재 트랜잭션 커밋 후)
+	 */
+	public void evict(Integer studentId) {
+		if (studentId != null) {
+			TransactionUtil.afterCommit(() -> verdicts.remove(studentId));
+		}
+	}
+
+	private static class Verdict {
+
+		private final boolean enrolled;
+		private final long expiresAt;
+
+		Verdict(boolean enrolled, long expiresAt) {
+			this.enrolled = enrolled;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+}
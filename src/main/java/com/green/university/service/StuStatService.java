@@ -34,6 +34,9 @@ public class StuStatService {
     @Autowired
     private BreakAppJpaRepository breakAppJpaRepository;
 
+    @Autowired
+    private StuStatCheckService stuStatCheckService;
+
     /**
      * @param studentId
      * @return 해당 학생의 현재 학적 상태 (가장 최근 StuStat)
@@ -86,6 +89,7 @@ public class StuStatService {
         stuStat.setToDate(Date.valueOf("9999-01-01"));
 
         stuStatJpaRepository.save(stuStat);
+        stuStatCheckService.evict(studentId);
     }
 
     /**
@@ -135,5 +139,6 @@ public class StuStatService {
         }
 
         stuStatJpaRepository.save(newStatusEntity);
+        stuStatCheckService.evict(studentId);
     }
 }
@@ -0,0 +1,236 @@
+package com.green.university.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.dto.response.StuSubPromotionDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.StuSubDetailJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.StuSubPromotionJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.model.StuSubPromotion;
+import com.green.university.utils.Define;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예비 수강 신청 -> 수강 신청 이관 (수강 신청 기간 시작 시)
+ * 강의를 chunk-size 개씩 묶어 묶음마다 별도 트랜잭션에서 INSERT ... SELECT 로 복사함
+ * 묶음이 끝나면 같은 트랜잭션에서 stu_sub_promotion_tb 에 강의별 결과를 남기므로
+ * 중간에 실패/중단되어도 다시 실행하면 기록이 없는 강의부터 이어서 처리함
+ * 정원을 넘은 강의는 SeatLotteryService 추첨 결과대로 정원만큼만 이관함
+ */
+@Slf4j
+@Service
+public class StuSubPromotionService {
+
+	@Autowired
+	private SubjectJpaRepository subjectJpaRepository;
+
+	@Autowired
+	private StuSubJpaRepository stuSubJpaRepository;
+
+	@Autowired
+	private StuSubDetailJpaRepository stuSubDetailJpaRepository;
+
+	@Autowired
+	private StuSubPromotionJpaRepository stuSubPromotionJpaRepository;
+
+	@Autowired
+	private SeatLotteryService seatLotteryService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${sugang.promotion.chunk-size:100}")
+	private int chunkSize;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	// 마지막 실행 진행 상황
+	private volatile Progress progress = new Progress();
+
+	/**
+	 * 이관 실행 (이미 실행 중이면 예외)
+	 */
+	public StuSubPromotionDto promote() {
+		if (!running.compareAndSet(false, true)) {
+			throw new CustomRestfullException("예비 수강 신청 내역 이관이 이미 진행 중입니다.", HttpStatus.CONFLICT);
+		}
+		try {
+			return doPromote();
+		} finally {
+			running.set(false);
+		}
+	}
+
+	/**
+	 * 진행 상황 + 강의별 결과
+	 */
+	public StuSubPromotionDto readProgress() {
+		StuSubPromotionDto dto = progress.toDto(running.get());
+		dto.setSubjects(stuSubPromotionJpaRepository.findBySubYearAndSemesterOrderBySubjectIdAsc(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER));
+		return dto;
+	}
+
+	/**
+	 * 이관 기록 삭제 (수강 신청 기간 초기화 시, 다음 실행에서 전체 강의를 다시 처리)
+	 */
+	public void clear() {
+		if (running.get()) {
+			throw new CustomRestfullException("예비 수강 신청 내역 이관이 진행 중입니다.", HttpStatus.CONFLICT);
+		}
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				stuSubPromotionJpaRepository.deleteBySubYearAndSemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER));
+		progress = new Progress();
+	}
+
+	private StuSubPromotionDto doPromote() {
+		long startedAt = System.currentTimeMillis();
+
+		// 이미 처리된 강의 제외
+		Set<Integer> finished = new HashSet<>();
+		for (StuSubPromotion promotion : stuSubPromotionJpaRepository.findBySubYearAndSemesterOrderBySubjectIdAsc(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER)) {
+			finished.add(promotion.getSubjectId());
+		}
+		List<Integer> targets = exclude(subjectJpaRepository.findIdByCapacityGreaterThanEqualPreNumOfStudent(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER), finished);
+		List<Integer> overCapacity = exclude(subjectJpaRepository.findIdByCapacityLessThanPreNumOfStudent(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER), finished);
+
+		Progress current = new Progress();
+		current.startedAt = startedAt;
+		current.totalSubjects = finished.size() + targets.size() + overCapacity.size();
+		current.resumedSubjects = finished.size();
+		progress = current;
+
+		log.info("[StuSubPromotionService] 이관 시작 targets={} overCapacity={} resumed={}",
+				targets.size(), overCapacity.size(), finished.size());
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		try {
+			// 1. 정원 >= 예비 신청 인원: 예비 수강 신청 내역을 그대로 수강 신청 내역으로
+			for (List<Integer> chunk : chunks(targets)) {
+				Integer inserted = transactionTemplate.execute(status -> {
+					int count = stuSubJpaRepository.insertFromPreStuSub(chunk);
+					stuSubDetailJpaRepository.insertFromStuSub(chunk);
+					subjectJpaRepository.recountNumOfStudent(chunk);
+					stuSubPromotionJpaRepository.insertBySubjectIds(chunk, StuSubPromotion.DONE);
+					return count;
+				});
+				current.promotedCount += inserted == null ? 0 : inserted;
+				current.doneSubjects += chunk.size();
+			}
+
+			// 2. 정원 < 예비 신청 인원: 추첨으로 정원만큼 이관 (1번 결과 반영 후 학점/시간표 확인)
+			if (seatLotteryService.isEnabled()) {
+				Map<Integer, List<Integer>> winners = seatLotteryService.draw(overCapacity);
+				for (List<Integer> chunk : chunks(overCapacity)) {
+					Integer inserted = transactionTemplate.execute(status -> {
+						int count = 0;
+						for (Integer subjectId : chunk) {
+							List<Integer> studentIds = winners.get(subjectId);
+							if (studentIds != null && !studentIds.isEmpty()) {
+								count += stuSubJpaRepository.insertFromPreStuSubByStudentIds(subjectId, studentIds);
+							}
+						}
+						stuSubDetailJpaRepository.insertFromStuSub(chunk);
+						subjectJpaRepository.recountNumOfStudent(chunk);
+						stuSubPromotionJpaRepository.insertBySubjectIds(chunk, StuSubPromotion.LOTTERY);
+						return count;
+					});
+					current.promotedCount += inserted == null ? 0 : inserted;
+					current.lotterySubjects += chunk.size();
+				}
+			} else {
+				// 추첨을 끄면 이관하지 않고 현재 인원 0
+				for (List<Integer> chunk : chunks(overCapacity)) {
+					transactionTemplate.executeWithoutResult(status -> {
+						subjectJpaRepository.resetNumOfStudent(chunk);
+						stuSubPromotionJpaRepository.insertBySubjectIds(chunk, StuSubPromotion.SKIPPED);
+					});
+					current.skippedSubjects += chunk.size();
+				}
+			}
+		} catch (RuntimeException e) {
+			current.error = e.getMessage();
+			log.error("[StuSubPromotionService] 이관 실패 (다시 실행하면 이어서 처리) done={} lottery={} skipped={}",
+					current.doneSubjects, current.lotterySubjects, current.skippedSubjects, e);
+			throw e;
+		} finally {
+			current.finishedAt = System.currentTimeMillis();
+		}
+
+		log.info("[StuSubPromotionService] 이관 완료 subjects={} promoted={} elapsedMs={}",
+				current.doneSubjects + current.lotterySubjects + current.skippedSubjects, current.promotedCount,
+				current.finishedAt - startedAt);
+		return current.toDto(false);
+	}
+
+	private List<List<Integer>> chunks(List<Integer> ids) {
+		int size = Math.max(chunkSize, 1);
+		List<List<Integer>> chunks = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i += size) {
+			chunks.add(new ArrayList<>(ids.subList(i, Math.min(ids.size(), i + size))));
+		}
+		return chunks;
+	}
+
+	private static List<Integer> exclude(List<Integer> ids, Set<Integer> finished) {
+		List<Integer> result = new ArrayList<>(ids.size());
+		for (Integer id : ids) {
+			if (!finished.contains(id)) {
+				result.add(id);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 실행 1회의 진행 상황 (이관 스레드만 수정)
+	 */
+	private static class Progress {
+
+		private volatile long startedAt;
+		private volatile long finishedAt;
+		private volatile int totalSubjects;
+		private volatile int resumedSubjects;
+		private volatile int doneSubjects;
+		private volatile int lotterySubjects;
+		private volatile int skippedSubjects;
+		private volatile int promotedCount;
+		private volatile String error;
+
+		StuSubPromotionDto toDto(boolean running) {
+			StuSubPromotionDto dto = new StuSubPromotionDto();
+			dto.setRunning(running);
+			dto.setTotalSubjects(totalSubjects);
+			dto.setResumedSubjects(resumedSubjects);
+			dto.setDoneSubjects(doneSubjects);
+			dto.setLotterySubjects(lotterySubjects);
+			dto.setSkippedSubjects(skippedSubjects);
+			dto.setPromotedCount(promotedCount);
+			if (startedAt > 0) {
+				long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+				dto.setElapsedMs(end - startedAt);
+			}
+			dto.setError(error);
+			return dto;
+		}
+	}
+
+}
@@ -1,8 +1,8 @@
 package com.green.university.service;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.green.university.repository.*;
 import com.green.university.repository.model.*;
@@ -11,11 +11,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.green.university.dto.response.StuSubAppDto;
 import com.green.university.dto.response.StuSubDayTimeDto;
-import com.green.university.dto.response.StuSubSumGradesDto;
 import com.green.university.handler.exception.CustomRestfullException;
 import com.green.university.utils.Define;
 import com.green.university.utils.StuSubUtil;
+import com.green.university.utils.TransactionUtil;
 
 /**
  * @author 서영
@@ -42,6 +43,18 @@ public class StuSubService {
     @Autowired
     private StudentJpaRepository studentJpaRepository;
 
+    @Autowired
+    private SeatReservationService seatReservationService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private TranscriptJpaRepository transcriptJpaRepository;
+
+    @Autowired
+    private SugangPeriodJpaRepository sugangPeriodJpaRepository;
+
 	// 학생의 수강신청 내역에 해당 강의가 존재하는지 확인
     @Transactional(readOnly = true)
     public StuSub readStuSub(Integer studentId, Integer subjectId) {
@@ -50,11 +63,21 @@ public class StuSubService {
                 .orElse(null);
     }
 
+    /**
+     * 학생이 이번 학기에 수강 신청한 강의 id (한 번 조회해서 페이지의 모든 강의 신청 여부를 메모리에서 확인)
+     */
+    @Transactional(readOnly = true)
+    public Set<Integer> readStuSubSubjectIds(Integer studentId) {
+        return new HashSet<>(stuSubJpaRepository.findSubjectIdByStudentIdAndSemester(
+                studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER));
+    }
+
 	// 학생의 해당 학기 수강신청 내역 조회
     @Transactional(readOnly = true)
-    public List<StuSub> readStuSubList(Integer studentId) {
+    public List<StuSubAppDto> readStuSubList(Integer studentId) {
 
-        return stuSubJpaRepository.findByStudentIdAndSubject_SubYearAndSubject_Semester(
+        // 강의/교수/강의실 정보까지 쿼리 1번
+        return stuSubJpaRepository.findAppListByStudentId(
                 studentId,
                 Define.CURRENT_YEAR,
                 Define.CURRENT_SEMESTER
@@ -64,47 +87,39 @@ public class StuSubService {
     @Transactional
     public void createStuSub(Integer studentId, Integer subjectId) {
 
+        // 정원이 찬 강의는 DB 조회 없이 바로 거절
+        if (Boolean.TRUE.equals(seatReservationService.isFull(subjectId))) {
+            throw new CustomRestfullException("정원이 초과되었습니다.", HttpStatus.BAD_REQUEST);
+        }
+        checkOpenPeriod();
+
         // 신청 대상 과목 정보
         Subject targetSubject = subjectJpaRepository.findById(subjectId)
                 .orElseThrow(() -> new CustomRestfullException("과목 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
-        // 현재 이 신청 학점 - PreStuSub에서 Subject 조회
-        List<PreStuSub> preStuSubs = preStuSubJpaRepository.findByIdStudentId(studentId);
-
-        int sumGrades = preStuSubs.stream()
-                .map(ps -> subjectJpaRepository.findById(ps.getSubjectId()).orElse(null))
-                .filter(subject -> subject != null
-                        && subject.getSubYear().equals(Define.CURRENT_YEAR)
-                        && subject.getSemester().equals(Define.CURRENT_SEMESTER))
-                .mapToInt(Subject::getGrades)
-                .sum();
+        // 현재 학기 수강 신청 내역 (강의 학점/요일/시간 포함, 쿼리 1번)
+        List<StuSubDayTimeDto> dayTimeList = stuSubJpaRepository.findDayTimeListByStudentId(
+                studentId,
+                Define.CURRENT_YEAR,
+                Define.CURRENT_SEMESTER
+        );
 
-        StuSubSumGradesDto stuSubSumGradesDto = new StuSubSumGradesDto();
-        stuSubSumGradesDto.setSumGrades(sumGrades);
+        // 중복 신청 확인
+        if (StuSubUtil.containsSubject(dayTimeList, subjectId)) {
+            throw new CustomRestfullException("이미 수강 신청한 과목입니다.", HttpStatus.BAD_REQUEST);
+        }
 
         // 최대 수강 가능 학점을 넘지 않는지 확인
-        StuSubUtil.checkSumGrades(targetSubject, stuSubSumGradesDto);
-
-        // 해당 학생의 예비 수강 신청 내역 시간표
-        List<StuSubDayTimeDto> dayTimeList = preStuSubs.stream()
-                .map(ps -> subjectJpaRepository.findById(ps.getSubjectId()).orElse(null))
-                .filter(subject -> subject != null)
-                .map(subject -> {
-                    StuSubDayTimeDto dto = new StuSubDayTimeDto();
-                    dto.setSubDay(subject.getSubDay());
-                    dto.setStartTime(subject.getStartTime());
-                    dto.setEndTime(subject.getEndTime());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        StuSubUtil.checkSumGrades(targetSubject, StuSubUtil.sumGrades(dayTimeList));
 
         // 현재 학생의 시간표와 겹치지 않는지 확인
         StuSubUtil.checkDayTime(targetSubject, dayTimeList);
 
-        // ✅ 수강신청 내역 추가
         Student student = studentJpaRepository.findById(studentId)
                 .orElseThrow(() -> new CustomRestfullException("학생 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
+        // ✅ 수강신청 내역 추가
+
         StuSub stuSub = new StuSub();
         stuSub.setStudent(student);
         stuSub.setSubject(targetSubject);
@@ -119,100 +134,81 @@ public class StuSubService {
 
         stuSubDetailJpaRepository.save(stuSubDetail);
 
-        // 해당 강의 현재인원 +1
-        subjectService.updatePlusNumOfStudent(subjectId);
+        // 좌석 배정 = 해당 강의 현재인원 +1 (정원 초과 시 예외, 강의 행 잠금을 커밋 직전까지만 잡도록 마지막에 실행)
+        seatReservationService.reserve(targetSubject);
+
+        // 이 강의를 대기 중이었다면 커밋 후 대기 취소
+        TransactionUtil.afterCommit(() -> waitlistService.registered(studentId, subjectId));
     }
 
     // 학생의 수강신청 내역 삭제
     @Transactional
     public void deleteStuSub(Integer studentId, Integer subjectId) {
 
+        checkOpenPeriod();
+
         // 수강신청 내역 삭제
         StuSub stuSub = stuSubJpaRepository.findByStudentIdAndSubjectId(studentId, subjectId)
                 .orElseThrow(() -> new CustomRestfullException("예비 수강신청 취소가 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR));
 
         stuSubJpaRepository.delete(stuSub);
 
-        // 해당 강의 현재인원 -1
-        subjectService.updateMinusNumOfStudent(subjectId);
+        // 해당 강의 현재인원 -1 (커밋 후 대기자가 있으면 빈 자리를 맨 앞 대기자에게 넘김)
+        seatReservationService.release(subjectId, waitlistService::offerFreedSeat);
     }
 
-	// 예비 수강 신청 기간 -> 수강 신청 기간 변경 시 로직
+    // 수강 신청 대기 중 배정받은 자리로 수강 신청
     @Transactional
-    public void createStuSubByPreStuSub() {
+    public void createStuSubByWaitlist(Integer studentId, Integer subjectId) {
+        checkOpenPeriod();
+
+        // 배정받은 자리 확인 후 대기 삭제 (대기 행을 잠그므로 처리 중에는 기한이 지나도 회수되지 않고, 롤백되면 대기가 그대로 남음)
+        waitlistService.accept(studentId, subjectId);
+
+        Subject targetSubject = subjectJpaRepository.findById(subjectId)
+                .orElseThrow(() -> new CustomRestfullException("과목 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
-        // 1. 정원 >= 예비신청인원인 강의
-        List<Subject> subjects1 = subjectJpaRepository.findByCapacityGreaterThanEqualPreNumOfStudent(
+        // 대기 중 다른 강의를 신청했을 수 있으므로 학점/시간표 다시 확인
+        List<StuSubDayTimeDto> dayTimeList = stuSubJpaRepository.findDayTimeListByStudentId(
+                studentId,
                 Define.CURRENT_YEAR,
                 Define.CURRENT_SEMESTER
         );
+        if (StuSubUtil.containsSubject(dayTimeList, subjectId)) {
+            throw new CustomRestfullException("이미 수강 신청한 과목입니다.", HttpStatus.BAD_REQUEST);
+        }
+        StuSubUtil.checkSumGrades(targetSubject, StuSubUtil.sumGrades(dayTimeList));
+        StuSubUtil.checkDayTime(targetSubject, dayTimeList);
 
-        for (Subject subject : subjects1) {
-            List<PreStuSub> preAppList = preStuSubJpaRepository.findByIdSubjectId(subject.getId());
-
-            for (PreStuSub pss : preAppList) {
-                try {
-                    Optional<StuSub> existingStuSub = stuSubJpaRepository
-                            .findByStudentIdAndSubjectId(pss.getStudentId(), pss.getSubjectId());
-
-                    if (!existingStuSub.isPresent()) {
-                        Student student = studentJpaRepository.findById(pss.getStudentId())
-                                .orElseThrow(() -> new CustomRestfullException(
-                                        "학생 정보를 찾을 수 없습니다. ID: " + pss.getStudentId(),
-                                        HttpStatus.NOT_FOUND));
-
-                        StuSub stuSub = new StuSub();
-                        stuSub.setStudent(student);
-                        stuSub.setSubject(subject);
-
-                        StuSub savedStuSub = stuSubJpaRepository.save(stuSub);
-
-                        StuSubDetail stuSubDetail = new StuSubDetail();
-                        stuSubDetail.setStuSub(savedStuSub);
-                        stuSubDetail.setStudentId(pss.getStudentId());
-                        stuSubDetail.setSubjectId(pss.getSubjectId());
-
-                        stuSubDetailJpaRepository.save(stuSubDetail);
-
-                        subject.setNumOfStudent(subject.getNumOfStudent() + 1);
-                    }
-                } catch (Exception e) {
-                    System.err.println("자동 처리 실패: 학생 " + pss.getStudentId() +
-                            ", 과목 " + pss.getSubjectId() + " - " + e.getMessage());
-                }
-            }
+        Student student = studentJpaRepository.findById(studentId)
+                .orElseThrow(() -> new CustomRestfullException("학생 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
 
-            subjectJpaRepository.save(subject);
-        }
+        // 배정받은 자리는 현재 인원에 이미 포함되어 있으므로 좌석 배정 없이 내역만 추가
+        StuSub stuSub = new StuSub();
+        stuSub.setStudent(student);
+        stuSub.setSubject(targetSubject);
+        StuSub savedStuSub = stuSubJpaRepository.save(stuSub);
 
-        // 2. 정원 초과 과목 처리
-        List<Subject> subjects2 = subjectJpaRepository.findByCapacityLessThanPreNumOfStudent(
-                Define.CURRENT_YEAR,
-                Define.CURRENT_SEMESTER
-        );
+        StuSubDetail stuSubDetail = new StuSubDetail();
+        stuSubDetail.setStuSub(savedStuSub);
+        stuSubDetail.setStudentId(studentId);
+        stuSubDetail.setSubjectId(subjectId);
+        stuSubDetailJpaRepository.save(stuSubDetail);
+    }
 
-        for (Subject subject : subjects2) {
-            subject.setNumOfStudent(0);
-            subjectJpaRepository.save(subject);
+    // 다른 서버가 방금 기간을 종료했을 수 있으므로 (이 서버의 기간은 poll-ms 마다 갱신) 신청 트랜잭션 안에서 DB 의 기간을 다시 확인
+    private void checkOpenPeriod() {
+        Integer period = sugangPeriodJpaRepository.findPeriod(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+        if (period == null || period != SugangPeriodService.OPEN) {
+            throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
         }
     }
 
     // 수강 신청 내역과 예비 수강 신청 내역 조인 후 조회 -> 예비 수강 신청에만 존재
     @Transactional(readOnly = true)
-    public List<PreStuSub> readPreStuSubByStuSub(Integer studentId) {
-        // 예비 수강 신청 목록
-        List<PreStuSub> preStuSubs = preStuSubJpaRepository.findByIdStudentId(studentId);
-
-        // 수강 신청에 없는 것만 필터링
-        List<PreStuSub> result = preStuSubs.stream()
-                .filter(pss -> {
-                    Optional<StuSub> stuSub = stuSubJpaRepository.findByStudentIdAndSubjectId(
-                            pss.getStudentId(), pss.getSubjectId());
-                    return !stuSub.isPresent(); // 수강 신청에 없는 것만
-                })
-                .collect(Collectors.toList());
-
-        return result;
+    public List<StuSubAppDto> readPreStuSubByStuSub(Integer studentId) {
+        // 예비 수강 신청 중 수강 신청에 없는 것만 (강의/교수/강의실 정보까지 쿼리 1번)
+        return preStuSubJpaRepository.findNotRegisteredAppListByStudentId(studentId);
     }
 
     // 점수 입력 시 F면 취득학점 0, F가 아니면 강의의 이수학점
@@ -223,5 +219,8 @@ public class StuSubService {
 
         stuSub.setCompleteGrade(completeGrade);
         stuSubJpaRepository.save(stuSub);
+
+        // 해당 학기 성적 요약 갱신 (같은 트랜잭션)
+        transcriptJpaRepository.refresh(studentId, stuSub.getSubject().getSubYear(), stuSub.getSubject().getSemester());
     }
 }
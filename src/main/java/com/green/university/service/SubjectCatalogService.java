@@ -0,0 +1,505 @@
+package com.green.university.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.dto.response.SeatCountDto;
+import com.green.university.dto.response.SubjectDto;
+import com.green.university.dto.response.SubjectFacetDto;
+import com.green.university.dto.response.SubjectSearchResultDto;
+import com.green.university.repository.CatalogVersionJpaRepository;
+import com.green.university.repository.DepartmentJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.model.CatalogVersion;
+import com.green.university.repository.model.College;
+import com.green.university.repository.model.Department;
+import com.green.university.repository.model.Professor;
+import com.green.university.repository.model.Room;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.Define;
+import com.green.university.utils.SubjectSearchIndex;
+import com.green.university.utils.TransactionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의 목록 캐시
+ * 전체/현재 학기 강의 목록, 강의명 목록, 학과 목록, 검색 색인을 미리 만들어 두고 DB 조회 없이 제공함
+ * 강의/학과 정보를 바꾸는 트랜잭션은 changed() 로 DB 의 강의 목록 버전(catalog_version_tb)을 올리고,
+ * 각 서버는 poll-ms 마다 버전을 확인해 목록을 만든 뒤 바뀌었으면 다시 만듦 (수강 신청 기간이 바뀌면 각 서버가 invalidate())
+ * 현재 인원/예비 신청 인원은 목록을 다시 만들지 않고 메모리 값으로 덮어씀
+ */
+@Slf4j
+@Service
+public class SubjectCatalogService {
+
+	public static final int PAGE_SIZE = 20;
+
+	@Autowired
+	private SubjectJpaRepository subjectJpaRepository;
+
+	@Autowired
+	private DepartmentJpaRepository departmentJpaRepository;
+
+	@Autowired
+	private SeatReservationService seatReservationService;
+
+	@Autowired
+	private SeatBroadcastService seatBroadcastService;
+
+	@Autowired
+	private CatalogVersionJpaRepository catalogVersionJpaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final AtomicLong versionSeq = new AtomicLong();
+
+	// 서버 구분용 (versionSeq/인원 변경 횟수는 서버마다 따로 세므로 다른 서버의 ETag 와 겹치지 않게 붙임)
+	private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+	// invalidate() 횟수 (이보다 먼저 만들기 시작한 목록은 버림)
+	private final AtomicLong generation = new AtomicLong();
+
+	// 예비 신청 인원 변경 횟수 (ETag 용)
+	private final AtomicLong preCountVersion = new AtomicLong();
+
+	private volatile Catalog catalog;
+
+	/**
+	 * 전체 강의 목록 (수정 불가, 응답에 쓸 때는 withCounts 로 복사)
+	 */
+	public List<SubjectDto> readSubjectList() {
+		return getCatalog().allSubjects;
+	}
+
+	/**
+	 * 현재 학기 강의 목록 (수정 불가, 응답에 쓸 때는 withCounts 로 복사)
+	 */
+	public List<SubjectDto> readSubjectListByCurrentSemester() {
+		return getCatalog().currentSubjects;
+	}
+
+	/**
+	 * 검색 조건 목록 (학과, 강의명, 강의 구분, 전체 건수/페이지 수)
+	 * 강의 목록 버전마다 한 번 만들어 둔 것을 그대로 반환
+	 */
+	public SubjectFacetDto readFacets(boolean currentSemester) {
+		Catalog current = getCatalog();
+		return currentSemester ? current.currentFacets : current.allFacets;
+	}
+
+	/**
+	 * 검색 조건 목록용 조건부 GET 버전 (검색 조건 내용의 해시이므로 서버/재시작과 무관하게 내용이 같으면 같음)
+	 */
+	public String getFacetETag(SubjectFacetDto facets) {
+		return "\"facets-" + facets.getVersion() + "\"";
+	}
+
+	/**
+	 * 강의 검색 (검색 색인 사용)
+	 * @param currentSemester true 면 현재 학기 강의만
+	 * @param page 1부터 시작, null 이면 전체
+	 * @param preCount true 면 현재 인원 대신 예비 신청 인원을 채움
+	 */
+	public SubjectSearchResultDto search(boolean currentSemester, SubjectSearchIndex.Query query, Integer page,
+			boolean preCount) {
+		Catalog current = getCatalog();
+		SubjectSearchIndex index = currentSemester ? current.currentIndex : current.allIndex;
+
+		boolean paged = page != null && page > 0;
+		SubjectSearchIndex.Result result = paged ? index.search(query, (page - 1) * PAGE_SIZE, PAGE_SIZE)
+				: index.search(query, 0, 0);
+
+		SubjectSearchResultDto dto = new SubjectSearchResultDto();
+		dto.setSubjectCount(result.getTotal());
+		if (paged) {
+			dto.setPage(page);
+			dto.setPageCount((int) Math.ceil(result.getTotal() / (double) PAGE_SIZE));
+		}
+		dto.setSubjectList(withCounts(result.getSubjects(), preCount));
+		dto.setSubNameList(result.getNames());
+		dto.setDeptCounts(result.getDeptCounts());
+		dto.setTypeCounts(result.getTypeCounts());
+		return dto;
+	}
+
+	/**
+	 * 목록의 page 번째 페이지를 복사해서 반환
+	 * @param preCount true 면 현재 인원 대신 예비 신청 인원을 채움
+	 */
+	public List<SubjectDto> readPage(List<SubjectDto> subjectList, Integer page, boolean preCount) {
+		if (page == null || page < 1) {
+			page = 1;
+		}
+		int fromIndex = (page - 1) * PAGE_SIZE;
+		if (fromIndex >= subjectList.size()) {
+			return new ArrayList<>();
+		}
+		int toIndex = Math.min(subjectList.size(), fromIndex + PAGE_SIZE);
+		return withCounts(subjectList.subList(fromIndex, toIndex), preCount);
+	}
+
+	/**
+	 * 강의 목록을 복사하고 인원을 최신 값으로 채움
+	 * @param preCount true 면 현재 인원 대신 예비 신청 인원을 채움
+	 */
+	public List<SubjectDto> withCounts(List<SubjectDto> subjectList, boolean preCount) {
+		Catalog current = getCatalog();
+		List<SubjectDto> result = new ArrayList<>(subjectList.size());
+		for (SubjectDto source : subjectList) {
+			SubjectDto dto = copy(source);
+			if (preCount) {
+				AtomicInteger count = current.preCounts.get(dto.getId());
+				dto.setNumOfStudent(count == null ? 0 : count.get());
+			} else {
+				Integer count = seatReservationService.readCount(dto.getId());
+				if (count != null) {
+					dto.setNumOfStudent(count);
+				}
+			}
+			result.add(dto);
+		}
+		return result;
+	}
+
+	/**
+	 * 예비 신청 인원 증감 (예비 수강 신청 트랜잭션 커밋 후 호출)
+	 */
+	public void adjustPreNumOfStudent(Integer subjectId, int delta) {
+		Catalog current = catalog;
+		if (current == null) {
+			return;
+		}
+		AtomicInteger count = current.preCounts.get(subjectId);
+		if (count != null) {
+			count.updateAndGet(before -> Math.max(before + delta, 0));
+			preCountVersion.incrementAndGet();
+			seatBroadcastService.preNumOfStudentChanged(subjectId, () -> livePreCount(subjectId, count));
+		}
+	}
+
+	// 알림을 보낼 때 읽을 예비 신청 인원 (그 사이 목록을 다시 만들었으면 새 목록의 값)
+	private int livePreCount(Integer subjectId, AtomicInteger count) {
+		Catalog current = catalog;
+		AtomicInteger live = current == null ? null : current.preCounts.get(subjectId);
+		return (live != null ? live : count).get();
+	}
+
+	/**
+	 * 현재 학기 강의 좌석 현황 스냅샷
+	 * seq 는 스냅샷을 만들기 전 마지막 알림 순번 (이후 알림은 모두 반영해야 함)
+	 */
+	public Map<String, Object> readSeatSnapshot() {
+		long seq = seatBroadcastService.getSeq();
+		Catalog current = getCatalog();
+
+		List<SeatCountDto> seats = new ArrayList<>(current.currentSubjects.size());
+		for (SubjectDto subject : current.currentSubjects) {
+			Integer numOfStudent = seatReservationService.readCount(subject.getId());
+			AtomicInteger preCount = current.preCounts.get(subject.getId());
+			seats.add(new SeatCountDto(subject.getId(), subject.getCapacity(),
+					numOfStudent != null ? numOfStudent : subject.getNumOfStudent(),
+					preCount == null ? 0 : preCount.get()));
+		}
+
+		Map<String, Object> snapshot = new HashMap<>();
+		snapshot.put("seq", seq);
+		snapshot.put("seats", seats);
+		return snapshot;
+	}
+
+	/**
+	 * 조건부 GET 용 버전 (서버 + 목록 버전 + 인원 변경 횟수)
+	 */
+	public String getETag() {
+		return "\"" + epoch + "-" + getCatalog().version + "-" + seatReservationService.getVersion()
+				+ "-" + preCountVersion.get() + "\"";
+	}
+
+	/**
+	 * 캐시 무효화 (다음 조회 시 다시 만듦)
+	 * 이미 만들고 있던 목록은 무효화 전 데이터일 수 있으므로 완성되어도 쓰지 않고 다시 만듦
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+	}
+
+	/**
+	 * 강의 목록이 바뀌었음을 기록 (강의/학과 정보를 바꾸는 트랜잭션 안에서 호출)
+	 * DB 의 강의 목록 버전을 올리고 커밋 후 이 서버의 캐시를 무효화, 다른 서버는 poll() 에서 버전이 바뀐 것을 보고 무효화
+	 */
+	@Transactional
+	public void changed() {
+		if (catalogVersionJpaRepository.increase() == 0) {
+			ensureRow();
+			catalogVersionJpaRepository.increase();
+		}
+		TransactionUtil.afterCommit(this::invalidate);
+	}
+
+	/**
+	 * 다른 서버의 강의 목록 변경 확인 (목록을 만들 때 읽은 버전과 다르면 무효화)
+	 */
+	@Scheduled(fixedDelayString = "${sugang.catalog.poll-ms:1000}")
+	public void poll() {
+		Catalog current = catalog;
+		if (current == null || current.generation != generation.get()) {
+			return;
+		}
+		try {
+			int dbVersion = readDbVersion();
+			if (dbVersion != current.dbVersion) {
+				log.info("[SubjectCatalogService] 다른 서버에서 강의 목록 변경 dbVersion {} -> {}", current.dbVersion,
+						dbVersion);
+				invalidate();
+			}
+		} catch (RuntimeException e) {
+			log.warn("[SubjectCatalogService] 강의 목록 버전 확인 실패 error={}", e.getMessage());
+		}
+	}
+
+	private Catalog getCatalog() {
+		Catalog current = catalog;
+		if (current != null && current.generation == generation.get()) {
+			return current;
+		}
+		synchronized (this) {
+			while (true) {
+				long startedAt = generation.get();
+				current = catalog;
+				if (current != null && current.generation == startedAt) {
+					return current;
+				}
+				current = build(startedAt);
+				catalog = current;
+				if (generation.get() == startedAt) {
+					return current;
+				}
+				log.info("[SubjectCatalogService] 생성 중 무효화되어 다시 생성 version={}", current.version);
+			}
+		}
+	}
+
+	private Catalog build(long startedAt) {
+		// 목록보다 먼저 읽음 (읽는 사이 바뀌었으면 다음 poll() 에서 다시 만듦)
+		int dbVersion = readDbVersion();
+		List<Subject> subjects = subjectJpaRepository.findAllWithDetails();
+		List<Department> deptList = departmentJpaRepository.findAll();
+
+		List<SubjectDto> allSubjects = new ArrayList<>(subjects.size());
+		List<SubjectDto> currentSubjects = new ArrayList<>();
+		Set<String> allSubNames = new LinkedHashSet<>();
+		Set<String> currentSubNames = new LinkedHashSet<>();
+		Map<Integer, AtomicInteger> preCounts = new HashMap<>();
+
+		for (Subject subject : subjects) {
+			SubjectDto dto = toDto(subject);
+			allSubjects.add(dto);
+			allSubNames.add(dto.getName());
+
+			if (Integer.valueOf(Define.CURRENT_YEAR).equals(dto.getSubYear())
+					&& Integer.valueOf(Define.CURRENT_SEMESTER).equals(dto.getSemester())) {
+				currentSubjects.add(dto);
+				currentSubNames.add(dto.getName());
+			}
+
+			int preNumOfStudent = subject.getPreNumOfStudent() == null ? 0 : subject.getPreNumOfStudent();
+			preCounts.put(subject.getId(), new AtomicInteger(preNumOfStudent));
+		}
+
+		Catalog built = new Catalog(startedAt, versionSeq.incrementAndGet(), dbVersion, allSubjects, currentSubjects,
+				new ArrayList<>(allSubNames), new ArrayList<>(currentSubNames), deptList, preCounts);
+		log.info("[SubjectCatalogService] 강의 목록 생성 version={} subjects={} current={}",
+				built.version, allSubjects.size(), currentSubjects.size());
+		return built;
+	}
+
+	private int readDbVersion() {
+		Integer dbVersion = catalogVersionJpaRepository.findVersion();
+		return dbVersion == null ? 0 : dbVersion;
+	}
+
+	private void ensureRow() {
+		CatalogVersion row = new CatalogVersion();
+		row.setId(CatalogVersion.ID);
+		row.setVersion(0);
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		try {
+			template.executeWithoutResult(status -> catalogVersionJpaRepository.save(row));
+		} catch (DataIntegrityViolationException e) {
+			log.debug("[SubjectCatalogService] 강의 목록 버전 행이 이미 생성됨");
+		}
+	}
+
+	private SubjectDto toDto(Subject sub) {
+		SubjectDto dto = new SubjectDto();
+		// 단과대/학과/교수/강의실 이름 정보 채우기
+		Department dept = sub.getDepartment();
+		if (dept != null) {
+			dto.setDeptId(dept.getId());
+			dto.setDeptName(dept.getName());
+			College col = dept.getCollege();
+			if (col != null) {
+				dto.setCollName(col.getName());
+			}
+		}
+		// 과목 정보
+		dto.setId(sub.getId());
+		dto.setName(sub.getName());
+		// 교수
+		Professor prof = sub.getProfessor();
+		if (prof != null) {
+			dto.setProfessorId(prof.getId());
+			dto.setProfessorName(prof.getName());
+		}
+		// 강의실
+		Room room = sub.getRoom();
+		if (room != null) {
+			dto.setRoomId(room.getId());
+		}
+		// 기타 필드
+		dto.setType(sub.getType());
+		dto.setSubYear(sub.getSubYear());
+		dto.setSemester(sub.getSemester());
+		dto.setSubDay(sub.getSubDay());
+		dto.setStartTime(sub.getStartTime());
+		dto.setEndTime(sub.getEndTime());
+		dto.setGrades(sub.getGrades());
+		dto.setCapacity(sub.getCapacity());
+		dto.setNumOfStudent(sub.getNumOfStudent());
+		// status 는 기본 false 처리
+		dto.setStatus(Boolean.FALSE);
+		return dto;
+	}
+
+	private static SubjectDto copy(SubjectDto source) {
+		SubjectDto dto = new SubjectDto();
+		dto.setCollName(source.getCollName());
+		dto.setDeptId(source.getDeptId());
+		dto.setDeptName(source.getDeptName());
+		dto.setId(source.getId());
+		dto.setName(source.getName());
+		dto.setProfessorId(source.getProfessorId());
+		dto.setProfessorName(source.getProfessorName());
+		dto.setRoomId(source.getRoomId());
+		dto.setType(source.getType());
+		dto.setSubYear(source.getSubYear());
+		dto.setSemester(source.getSemester());
+		dto.setSubDay(source.getSubDay());
+		dto.setStartTime(source.getStartTime());
+		dto.setEndTime(source.getEndTime());
+		dto.setGrades(source.getGrades());
+		dto.setCapacity(source.getCapacity());
+		dto.setNumOfStudent(source.getNumOfStudent());
+		dto.setStatus(source.getStatus());
+		return dto;
+	}
+
+	/**
+	 * 한 번 만들면 바뀌지 않는 강의 목록 (예비 신청 인원 카운터 제외)
+	 */
+	private static final class Catalog {
+
+		private final long generation;
+		private final long version;
+		private final int dbVersion;
+		private final List<SubjectDto> allSubjects;
+		private final List<SubjectDto> currentSubjects;
+		private final List<String> allSubNames;
+		private final List<String> currentSubNames;
+		private final List<Department> deptList;
+		private final Map<Integer, AtomicInteger> preCounts;
+		private final SubjectSearchIndex allIndex;
+		private final SubjectSearchIndex currentIndex;
+		private final SubjectFacetDto allFacets;
+		private final SubjectFacetDto currentFacets;
+
+		Catalog(long generation, long version, int dbVersion, List<SubjectDto> allSubjects,
+				List<SubjectDto> currentSubjects, List<String> allSubNames, List<String> currentSubNames,
+				List<Department> deptList, Map<Integer, AtomicInteger> preCounts) {
+			this.generation = generation;
+			this.version = version;
+			this.dbVersion = dbVersion;
+			this.allSubjects = Collections.unmodifiableList(allSubjects);
+			this.currentSubjects = Collections.unmodifiableList(currentSubjects);
+			this.allSubNames = Collections.unmodifiableList(allSubNames);
+			this.currentSubNames = Collections.unmodifiableList(currentSubNames);
+			this.deptList = Collections.unmodifiableList(deptList);
+			this.preCounts = preCounts;
+			this.allIndex = new SubjectSearchIndex(this.allSubjects);
+			this.currentIndex = new SubjectSearchIndex(this.currentSubjects);
+			this.allFacets = facets(this.allSubjects, this.allSubNames, this.deptList);
+			this.currentFacets = facets(this.currentSubjects, this.currentSubNames, this.deptList);
+		}
+
+		private static SubjectFacetDto facets(List<SubjectDto> subjects, List<String> subNames,
+				List<Department> deptList) {
+			Set<String> types = new LinkedHashSet<>();
+			Map<Integer, Integer> deptCounts = new HashMap<>();
+			for (SubjectDto subject : subjects) {
+				if (subject.getType() != null) {
+					types.add(subject.getType());
+				}
+				if (subject.getDeptId() != null) {
+					deptCounts.merge(subject.getDeptId(), 1, Integer::sum);
+				}
+			}
+			SubjectFacetDto dto = new SubjectFacetDto();
+			dto.setVersion(contentVersion(subjects.size(), subNames, types, deptCounts, deptList));
+			dto.setSubjectCount(subjects.size());
+			dto.setPageSize(PAGE_SIZE);
+			dto.setPageCount((int) Math.ceil(subjects.size() / (double) PAGE_SIZE));
+			dto.setDeptList(deptList);
+			dto.setSubNameList(subNames);
+			dto.setTypeList(Collections.unmodifiableList(new ArrayList<>(types)));
+			dto.setDeptCounts(Collections.unmodifiableMap(deptCounts));
+			return dto;
+		}
+
+		// 검색 조건 내용의 SHA-256 앞 8바이트
+		private static long contentVersion(int subjectCount, List<String> subNames, Set<String> types,
+				Map<Integer, Integer> deptCounts, List<Department> deptList) {
+			StringBuilder content = new StringBuilder();
+			content.append(subjectCount).append('|').append(PAGE_SIZE).append('|');
+			for (Department department : deptList) {
+				content.append(department.getId()).append(':').append(department.getName()).append(':')
+						.append(department.getCollege() == null ? null : department.getCollege().getId()).append(',');
+			}
+			content.append('|').append(String.join("\u0000", subNames));
+			content.append('|').append(String.join("\u0000", types));
+			content.append('|').append(new TreeMap<>(deptCounts));
+			try {
+				byte[] digest = MessageDigest.getInstance("SHA-256")
+						.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+				return ByteBuffer.wrap(digest).getLong();
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.green.university.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.dto.response.StuSubResponseDto;
+import com.green.university.repository.RosterVersionJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.model.RosterVersion;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.Define;
+import com.green.university.utils.TransactionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 강의별 수강생 명단 캐시 (교수 출결/성적 기입 화면)
+ * 명단은 한 번의 쿼리로 읽고, 수강 인원이 더 바뀌지 않는 강의(지난 학기 또는 수강 신청이 끝난 이번 학기)만 캐시함
+ * 성적을 기입하는 트랜잭션은 changed() 로 DB 의 강의별 명단 버전(roster_version_tb)을 올리고,
+ * 캐시한 명단은 쓰기 전에 버전을 확인해 다른 서버에서 기입한 성적도 바로 반영함 (ttl-ms 는 학생 정보 변경 반영용)
+ */
+@Slf4j
+@Service
+public class SubjectRosterService {
+
+	@Autowired
+	private StuSubJpaRepository stuSubJpaRepository;
+
+	@Autowired
+	private SugangPeriodService sugangPeriodService;
+
+	@Autowired
+	private RosterVersionJpaRepository rosterVersionJpaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${professor.roster.ttl-ms:300000}")
+	private long ttlMs;
+
+	@Value("${professor.roster.max-subjects:1000}")
+	private int maxSubjects;
+
+	private final Map<Integer, Entry> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * 수강생 명단 (학번 순, 수정 불가)
+	 */
+	@Transactional(readOnly = true)
+	public List<StuSubResponseDto> readRoster(Subject subject) {
+		if (!isSettled(subject)) {
+			return stuSubJpaRepository.findRosterBySubjectId(subject.getId());
+		}
+
+		// 명단보다 먼저 읽음 (읽는 사이 성적이 바뀌었으면 다음 조회 때 버전이 달라 다시 읽음)
+		int version = readVersion(subject.getId());
+		long now = System.currentTimeMillis();
+		Entry entry = cache.get(subject.getId());
+		if (entry != null && entry.version == version && entry.expiresAt > now) {
+			return entry.roster;
+		}
+
+		List<StuSubResponseDto> roster = List.copyOf(stuSubJpaRepository.findRosterBySubjectId(subject.getId()));
+		if (cache.size() >= maxSubjects) {
+			cache.clear();
+		}
+		cache.put(subject.getId(), new Entry(roster, version, now + ttlMs));
+		return roster;
+	}
+
+	/**
+	 * 강의 명단이 바뀌었음을 기록 (성적 기입 트랜잭션 안에서 호출)
+	 * DB 의 명단 버전을 올리고 커밋 후 이 서버의 캐시에서 제거, 다른 서버는 다음 조회 때 버전이 바뀐 것을 보고 다시 읽음
+	 */
+	@Transactional
+	public void changed(Integer subjectId) {
+		if (rosterVersionJpaRepository.increase(subjectId) == 0) {
+			ensureRow(subjectId);
+			rosterVersionJpaRepository.increase(subjectId);
+		}
+		TransactionUtil.afterCommit(() -> cache.remove(subjectId));
+	}
+
+	private int readVersion(Integer subjectId) {
+		Integer version = rosterVersionJpaRepository.findVersion(subjectId);
+		return version == null ? 0 : version;
+	}
+
+	private void ensureRow(Integer subjectId) {
+		RosterVersion row = new RosterVersion();
+		row.setSubjectId(subjectId);
+		row.setVersion(0);
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		try {
+			template.executeWithoutResult(status -> rosterVersionJpaRepository.save(row));
+		} catch (DataIntegrityViolationException e) {
+			log.debug("[SubjectRosterService] 명단 버전 행이 이미 생성됨 subjectId={}", subjectId);
+		}
+	}
+
+	// 수강 인원이 더 바뀌지 않는 강의인지
+	private boolean isSettled(Subject subject) {
+		boolean current = Integer.valueOf(Define.CURRENT_YEAR).equals(subject.getSubYear())
+				&& Integer.valueOf(Define.CURRENT_SEMESTER).equals(subject.getSemester());
+		return !current || sugangPeriodService.getPeriod() == SugangPeriodService.CLOSED;
+	}
+
+	private static class Entry {
+
+		private final List<StuSubResponseDto> roster;
+		private final int version;
+		private final long expiresAt;
+
+		Entry(List<StuSubResponseDto> roster, int version, long expiresAt) {
+			this.roster = roster;
+			this.version = version;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+}
@@ -0,0 +1,305 @@
+package com.green.university.service;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.dto.response.StuSubPromotionDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.SugangPeriodJpaRepository;
+import com.green.university.repository.TranscriptJpaRepository;
+import com.green.university.repository.model.SugangPeriod;
+import com.green.university.utils.Define;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강 신청 기간 (예비 수강 신청: 0, 수강 신청: 1, 수강 신청 종료: 2)
+ * 기간은 sugang_period_tb 에 저장하고, 요청마다 DB 를 읽지 않도록 volatile 스냅샷으로 들고 있음
+ * 각 서버는 poll-ms 마다 DB 를 다시 읽어 version 이 바뀌면 스냅샷을 교체하고 서버별 메모리 상태(좌석 카운터, 입장 대기열 등)를 맞춤
+ * 스냅샷은 화면/필터용이고, 수강 신청/취소는 트랜잭션 안에서 DB 의 기간을 다시 확인하므로 다른 서버가 종료한 직후에도 받지 않음
+ * (좌석 배정과 수강 신청 대기도 DB 에서 결정하므로 서버가 여러 대여도 정원을 넘지 않음, 입장 대기열의 동시 입장 수는 서버별)
+ * 기간 변경은 changing_by/changing_until 로 한 서버만 선점해서 실행하므로 여러 서버에서 동시에 눌러도 한 번만 처리됨
+ * open_at/close_at 을 지정하면 그 시각 이후 처음 폴링한 서버가 기간을 자동으로 시작/종료함
+ */
+@Slf4j
+@Service
+public class SugangPeriodService {
+
+	public static final int PRE = 0;
+	public static final int OPEN = 1;
+	public static final int CLOSED = 2;
+
+	@Autowired
+	private SugangPeriodJpaRepository sugangPeriodJpaRepository;
+
+	@Autowired
+	private StuSubPromotionService stuSubPromotionService;
+
+	@Autowired
+	private SeatReservationService seatReservationService;
+
+	@Autowired
+	private AdmissionQueueService admissionQueueService;
+
+	@Autowired
+	private SubjectCatalogService subjectCatalogService;
+
+	@Autowired
+	private SeatBroadcastService seatBroadcastService;
+
+	@Autowired
+	private WaitlistService waitlistService;
+
+	@Autowired
+	private TranscriptJpaRepository transcriptJpaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// 기간 변경 작업(예비 수강 신청 내역 이관 등) 최대 시간, 지나면 다른 서버가 다시 변경할 수 있음
+	@Value("${sugang.period.change-timeout-ms:600000}")
+	private long changeTimeoutMs;
+
+	// 서버 구분용 (pid@host)
+	private final String node = ManagementFactory.getRuntimeMXBean().getName();
+
+	// 자동 시작/종료 재시도 간격
+	private static final long SCHEDULE_RETRY_MS = 30000;
+
+	private volatile Snapshot snapshot = new Snapshot(PRE, null, null, -1);
+
+	// 자동 시작/종료가 실패하면 이 시각까지 다시 시도하지 않음
+	private volatile long scheduleRetryAt;
+
+	@PostConstruct
+	public void init() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			log.warn("[SugangPeriodService] 수강 신청 기간 조회 실패, 예비 수강 신청 기간으로 시작 error={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 기간 (DB 조회 없음)
+	 */
+	public int getPeriod() {
+		return snapshot.period;
+	}
+
+	public Timestamp getOpenAt() {
+		return snapshot.openAt;
+	}
+
+	public Timestamp getCloseAt() {
+		return snapshot.closeAt;
+	}
+
+	/**
+	 * DB 의 기간을 다시 읽고, 예약 시각이 지났으면 기간 시작/종료
+	 */
+	@Scheduled(fixedDelayString = "${sugang.period.poll-ms:1000}")
+	public void poll() {
+		try {
+			refresh();
+			Snapshot current = snapshot;
+			long now = System.currentTimeMillis();
+			if (now < scheduleRetryAt) {
+				return;
+			}
+			if (current.period == PRE && current.openAt != null && current.openAt.getTime() <= now) {
+				log.info("[SugangPeriodService] 예약된 수강 신청 기간 시작 openAt={}", current.openAt);
+				start();
+			} else if (current.period == OPEN && current.closeAt != null && current.closeAt.getTime() <= now) {
+				log.info("[SugangPeriodService] 예약된 수강 신청 기간 종료 closeAt={}", current.closeAt);
+				end();
+			}
+		} catch (CustomRestfullException e) {
+			// 다른 서버가 먼저 변경한 경우
+			log.debug("[SugangPeriodService] 기간 변경 건너뜀 message={}", e.getMessage());
+		} catch (RuntimeException e) {
+			scheduleRetryAt = System.currentTimeMillis() + SCHEDULE_RETRY_MS;
+			log.warn("[SugangPeriodService] 수강 신청 기간 갱신 실패 error={}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 예비 수강 신청 기간 -> 수강 신청 기간
+	 * 예비 수강 신청 내역 이관은 선점한 서버에서 한 번만 실행 (실패 시 다시 호출하면 이어서 처리)
+	 */
+	public StuSubPromotionDto start() {
+		if (snapshot.period != PRE) {
+			throw new CustomRestfullException("예비 수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
+		}
+		return change(PRE, OPEN, false, stuSubPromotionService::promote);
+	}
+
+	/**
+	 * 수강 신청 기간 -> 수강 신청 종료
+	 * 이번 학기 수강 내역이 확정되므로 선점한 서버에서 이번 학기 성적 요약을 한 번에 다시 계산
+	 */
+	public void end() {
+		if (snapshot.period != OPEN) {
+			throw new CustomRestfullException("수강 신청 기간이 아닙니다.", HttpStatus.BAD_REQUEST);
+		}
+		change(OPEN, CLOSED, false, () -> {
+			transactionTemplate().executeWithoutResult(status -> transcriptJpaRepository
+					.refreshBySemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER));
+			return null;
+		});
+	}
+
+	/**
+	 * 예비 수강 신청 기간으로 초기화 (예약 시각도 삭제)
+	 * 이미 예비 수강 신청 기간이면 기간이 바뀌지 않아 다른 서버는 정리하지 않으므로 DB 기록은 선점한 서버에서 먼저 삭제
+	 */
+	public void reset() {
+		change(null, PRE, true, () -> {
+			waitlistService.clear();
+			stuSubPromotionService.clear();
+			return null;
+		});
+	}
+
+	/**
+	 * 수강 신청 기간 자동 시작/종료 시각 지정 (null 이면 예약 취소)
+	 */
+	public void schedule(Timestamp openAt, Timestamp closeAt) {
+		if (openAt != null && closeAt != null && !closeAt.after(openAt)) {
+			throw new CustomRestfullException("종료 시각은 시작 시각 이후여야 합니다.", HttpStatus.BAD_REQUEST);
+		}
+		ensureRow();
+		transactionTemplate().executeWithoutResult(status -> sugangPeriodJpaRepository.updateSchedule(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, openAt, closeAt));
+		refresh();
+	}
+
+	/**
+	 * DB 에서 기간을 다시 읽어 version 이 바뀌었으면 스냅샷 교체 후 이 서버의 메모리 상태를 새 기간에 맞춤
+	 */
+	public synchronized void refresh() {
+		SugangPeriod row = sugangPeriodJpaRepository
+				.findBySubYearAndSemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER).orElse(null);
+		Snapshot next = row == null ? new Snapshot(PRE, null, null, 0)
+				: new Snapshot(row.getPeriod(), row.getOpenAt(), row.getCloseAt(), row.getVersion());
+		Snapshot previous = snapshot;
+		if (next.version == previous.version) {
+			return;
+		}
+		snapshot = next;
+		if (next.period != previous.period) {
+			log.info("[SugangPeriodService] 수강 신청 기간 변경 {} -> {} version={}", previous.period, next.period,
+					next.version);
+			apply(next.period);
+		}
+	}
+
+	// 서버별 메모리 상태 정리 (모든 서버에서 실행되므로 DB 작업은 여러 번 실행되어도 결과가 같아야 함)
+	private void apply(int to) {
+		if (to == OPEN) {
+			// 수강 신청 기간 좌석 카운터 적재
+			seatReservationService.load();
+		} else if (to == CLOSED) {
+			// 수강 신청 대기 삭제 후 현재 인원을 수강 신청 내역 기준으로 재계산
+			// (대기자에게 잡아둔 자리도 이때 빠짐, 모든 서버가 같은 내역으로 재계산하므로 결과가 같음)
+			waitlistService.clear();
+			seatReservationService.reconcile();
+			admissionQueueService.clear();
+		} else {
+			waitlistService.clear();
+			seatReservationService.clear();
+			admissionQueueService.clear();
+			seatBroadcastService.clear();
+			stuSubPromotionService.clear();
+		}
+		subjectCatalogService.invalidate();
+	}
+
+	private <T> T change(Integer expected, int next, boolean clearSchedule, Supplier<T> action) {
+		ensureRow();
+		long now = System.currentTimeMillis();
+		Integer claimed = transactionTemplate().execute(status -> sugangPeriodJpaRepository.claim(
+				Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, expected, node,
+				new Timestamp(now + changeTimeoutMs), new Timestamp(now)));
+		if (claimed == null || claimed == 0) {
+			refresh();
+			throw new CustomRestfullException("다른 서버에서 수강 신청 기간을 변경 중이거나 이미 변경되었습니다.",
+					HttpStatus.CONFLICT);
+		}
+
+		T result;
+		try {
+			result = action == null ? null : action.get();
+		} catch (RuntimeException e) {
+			transactionTemplate().executeWithoutResult(status -> sugangPeriodJpaRepository.unclaim(
+					Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, node));
+			throw e;
+		}
+
+		Integer finished = transactionTemplate().execute(status -> {
+			if (clearSchedule) {
+				sugangPeriodJpaRepository.updateSchedule(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, null, null);
+			}
+			return sugangPeriodJpaRepository.finish(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER, node, next);
+		});
+		if (finished == null || finished == 0) {
+			// change-timeout-ms 를 넘겨 다른 서버가 선점한 경우
+			refresh();
+			throw new CustomRestfullException("수강 신청 기간 변경 시간이 초과되었습니다.", HttpStatus.CONFLICT);
+		}
+		refresh();
+		return result;
+	}
+
+	// 이번 학기 행이 없으면 예비 수강 신청 기간으로 생성 (다른 서버가 먼저 만들었으면 무시)
+	private void ensureRow() {
+		if (sugangPeriodJpaRepository.findBySubYearAndSemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER)
+				.isPresent()) {
+			return;
+		}
+		SugangPeriod row = new SugangPeriod();
+		row.setSubYear(Define.CURRENT_YEAR);
+		row.setSemester(Define.CURRENT_SEMESTER);
+		row.setPeriod(PRE);
+		row.setVersion(0);
+		try {
+			transactionTemplate().executeWithoutResult(status -> sugangPeriodJpaRepository.save(row));
+		} catch (DataIntegrityViolationException e) {
+			log.debug("[SugangPeriodService] 수강 신청 기간 행이 이미 생성됨");
+		}
+	}
+
+	private TransactionTemplate transactionTemplate() {
+		return new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 한 시점의 기간 정보 (통째로 교체)
+	 */
+	private static class Snapshot {
+
+		private final int period;
+		private final Timestamp openAt;
+		private final Timestamp closeAt;
+		private final int version;
+
+		Snapshot(int period, Timestamp openAt, Timestamp closeAt, int version) {
+			this.period = period;
+			this.openAt = openAt;
+			this.closeAt = closeAt;
+			this.version = version;
+		}
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.green.university.service;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.repository.RevokedTokenJpaRepository;
+import com.green.university.repository.model.RevokedToken;
+import com.green.university.utils.BloomFilter;
+import com.green.university.utils.TransactionUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 폐기된 액세스 토큰 목록 (revoked_token_tb)
+ * 인증 필터는 메모리만 확인함: 블룸 필터에 없으면 바로 통과, 있으면 jti 집합으로 한 번 더 확인 (DB 조회 없음)
+ * 시작 시 테이블 전체를 읽고, 이 서버에서 폐기하면 커밋 후 바로, 다른 서버에서 폐기한 토큰은 poll-ms 마다 최근 행만 읽어 반영
+ * (id 는 커밋 순서와 다를 수 있으므로, 지금까지 본 가장 늦은 폐기 시각에서 overlap-ms 만큼 겹쳐서 다시 읽음 -> 그보다 오래 걸린 폐기 트랜잭션만 놓침)
+ * 블룸 필터는 값을 뺄 수 없으므로 purge-ms 마다 만료된 행을 지우고 새로 만들어 교체
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+	private static final double FPP = 0.01;
+
+	@Autowired
+	private RevokedTokenJpaRepository revokedTokenJpaRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${auth.revocation.expected-size:100000}")
+	private int expectedSize;
+
+	@Value("${auth.revocation.overlap-ms:30000}")
+	private long overlapMs;
+
+	private volatile DenyList denyList = new DenyList(new BloomFilter(1024, FPP));
+
+	// 지금까지 읽은 가장 늦은 revoked_at (DB 시계, 0 이면 아직 읽지 않음)
+	private volatile long lastRevokedAt;
+
+	@PostConstruct
+	public void init() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("[TokenRevocationService] 폐기 토큰 조회 실패, 다음 정리 때 다시 읽음 error={}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 폐기된 토큰인지 (DB 조회 없음)
+	 */
+	public boolean isRevoked(String jti) {
+		DenyList current = denyList;
+		return current.bloom.mightContain(jti) && current.jtis.containsKey(jti);
+	}
+
+	/**
+	 * 토큰 폐기 (만료 시각까지 보관, 트랜잭션 커밋 후 메모리 반영)
+	 */
+	@Transactional
+	public void revoke(Collection<String> jtis, Timestamp expiresAt) {
+		for (String jti : jtis) {
+			revokedTokenJpaRepository.insertIgnore(jti, expiresAt);
+		}
+		TransactionUtil.afterCommit(() -> {
+			for (String jti : jtis) {
+				add(jti, expiresAt.getTime());
+			}
+		});
+	}
+
+	/**
+	 * 테이블 전체를 다시 읽어 블룸 필터/집합 교체
+	 */
+	public synchronized void rebuild() {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				revokedTokenJpaRepository.deleteExpired(now));
+		List<RevokedToken> rows = revokedTokenJpaRepository.findActive(now);
+		DenyList next = new DenyList(new BloomFilter(Math.max(expectedSize, rows.size() * 2), FPP));
+		long maxRevokedAt = lastRevokedAt;
+		for (RevokedToken row : rows) {
+			next.add(row.getJti(), row.getExpiresAt().getTime());
+			maxRevokedAt = Math.max(maxRevokedAt, revokedAt(row));
+		}
+		denyList = next;
+		lastRevokedAt = maxRevokedAt;
+		log.info("[TokenRevocationService] 폐기 토큰 적재 count={}", rows.size());
+	}
+
+	@Scheduled(fixedDelayString = "${auth.revocation.poll-ms:5000}", initialDelayString = "${auth.revocation.poll-ms:5000}")
+	public synchronized void poll() {
+		try {
+			// 이미 반영한 행도 다시 읽지만 add 는 같은 값을 덮어쓰므로 문제없음
+			Timestamp since = new Timestamp(Math.max(0, lastRevokedAt - overlapMs));
+			for (RevokedToken row : revokedTokenJpaRepository.findRevokedSince(since)) {
+				add(row.getJti(), row.getExpiresAt().getTime());
+				lastRevokedAt = Math.max(lastRevokedAt, revokedAt(row));
+			}
+		} catch (RuntimeException e) {
+			log.warn("[TokenRevocationService] 폐기 토큰 갱신 실패 error={}", e.getMessage());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${auth.revocation.purge-ms:3600000}", initialDelayString = "${auth.revocation.purge-ms:3600000}")
+	public void purge() {
+		try {
+			rebuild();
+		} catch (RuntimeException e) {
+			log.warn("[TokenRevocationService] 폐기 토큰 정리 실패 error={}", e.getMessage());
+		}
+	}
+
+	private synchronized void add(String jti, long expiresAt) {
+		denyList.add(jti, expiresAt);
+	}
+
+	private static long revokedAt(RevokedToken row) {
+		return row.getRevokedAt() == null ? 0 : row.getRevokedAt().getTime();
+	}
+
+	/**
+	 * 블룸 필터 + jti 집합 (jti -> 토큰 만료 시각)
+	 */
+	private static class DenyList {
+
+		private final BloomFilter bloom;
+		private final Map<String, Long> jtis = new ConcurrentHashMap<>();
+
+		DenyList(BloomFilter bloom) {
+			this.bloom = bloom;
+		}
+
+		void add(String jti, long expiresAt) {
+			jtis.put(jti, expiresAt);
+			bloom.add(jti);
+		}
+	}
+
+}
@@ -34,6 +34,9 @@ public class TuitionService {
     @Autowired
     private StuStatService stuStatService;
 
+    @Autowired
+    private StuStatCheckService stuStatCheckService;
+
     @Autowired
     private BreakAppService breakAppService;
 
@@ -225,6 +228,7 @@ public class TuitionService {
 
         // 상태만 true로 업데이트
         tuition.setStatus(true);
+        stuStatCheckService.evict(studentId);
 
         // 납부 성공 시, 휴학 상태인 학생이라면 재학 상태로 변경
         String status = stuStatService.readCurrentStatus(studentId).getStatus();
@@ -0,0 +1,299 @@
+package com.green.university.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.dto.UserImportRowDto;
+import com.green.university.dto.response.UserImportResultDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.DepartmentJpaRepository;
+import com.green.university.repository.model.Department;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 학생/교수/직원 일괄 등록
+ * 행을 하나씩 읽어 검증하고 chunk-size 행마다 저장 (역할 테이블 -> 학적 상태(학생) -> user_tb, 모두 JDBC batch)
+ * 학과는 시작할 때 한 번 읽은 표에서 찾고, 초기 비밀번호(= 생성된 id)는 트랜잭션 밖에서 PasswordHashingService 풀로 나눠서 암호화함
+ * 검증에 실패한 행과 저장에 실패한 chunk 의 행은 건너뛰고 행 번호와 사유를 결과에 담음 (이미 저장된 chunk 는 유지)
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+	private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+	private static final Date OPEN_TO_DATE = Date.valueOf("9999-01-01");
+
+	@Autowired
+	private DepartmentJpaRepository departmentJpaRepository;
+
+	@Autowired
+	private PasswordHashingService passwordHashingService;
+
+	@Autowired
+	private StuStatCheckService stuStatCheckService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${user.import.chunk-size:500}")
+	private int chunkSize;
+
+	/**
+	 * @param role student, professor, staff
+	 */
+	public UserImportResultDto importUsers(String role, Iterator<UserImportRowDto> rows) {
+		if (!"student".equals(role) && !"professor".equals(role) && !"staff".equals(role)) {
+			throw new CustomRestfullException("지원하지 않는 사용자 유형입니다.", HttpStatus.BAD_REQUEST);
+		}
+
+		// 학과 번호/학과명 -> 학과 번호
+		Map<Integer, Integer> deptById = new HashMap<>();
+		Map<String, Integer> deptByName = new HashMap<>();
+		for (Department department : departmentJpaRepository.findAll()) {
+			deptById.put(department.getId(), department.getId());
+			deptByName.put(department.getName(), department.getId());
+		}
+
+		UserImportResultDto result = new UserImportResultDto();
+		result.setRole(role);
+		List<Pending> chunk = new ArrayList<>(chunkSize);
+		int rowNo = 0;
+		try {
+			while (rows.hasNext()) {
+				rowNo++;
+				UserImportRowDto row = rows.next();
+				String error = row.getError() != null ? row.getError() : validate(role, row, deptById, deptByName);
+				if (error != null) {
+					result.addError(rowNo, error);
+					continue;
+				}
+				chunk.add(new Pending(rowNo, row));
+				if (chunk.size() >= chunkSize) {
+					save(role, chunk, result);
+					chunk.clear();
+				}
+			}
+		} catch (RuntimeException e) {
+			// 파일이 중간에 깨진 경우, 그 전까지 읽은 행은 저장
+			log.warn("[UserImportService] 파일 읽기 실패 role={} row={} error={}", role, rowNo, e.getMessage());
+			result.addError(rowNo, "파일을 더 읽을 수 없습니다.");
+		}
+		if (!chunk.isEmpty()) {
+			save(role, chunk, result);
+		}
+
+		result.setTotal(rowNo);
+		log.info("[UserImportService] 일괄 등록 role={} total={} created={} failed={}", role, rowNo,
+				result.getCreated(), result.getFailed());
+		return result;
+	}
+
+	// 검증 후 학과명으로 들어온 학과는 deptId 로 바꿔 둠 (오류 없으면 null)
+	private static String validate(String role, UserImportRowDto row, Map<Integer, Integer> deptById,
+			Map<String, Integer> deptByName) {
+		if (row.getName() == null || row.getName().length() < 2 || row.getName().length() > 30) {
+			return "이름은 2~30자여야 합니다.";
+		}
+		if (row.getBirthDate() == null) {
+			return "생년월일이 없습니다.";
+		}
+		if (!"남성".equals(row.getGender()) && !"여성".equals(row.getGender())) {
+			return "성별은 남성 또는 여성이어야 합니다.";
+		}
+		if (row.getAddress() == null || row.getAddress().length() > 100) {
+			return "주소가 없거나 너무 깁니다.";
+		}
+		if (row.getTel() == null || row.getTel().length() > 13) {
+			return "전화번호가 없거나 너무 깁니다.";
+		}
+		if (row.getEmail() == null || row.getEmail().length() > 30 || !EMAIL.matcher(row.getEmail()).matches()) {
+			return "이메일이 올바르지 않습니다.";
+		}
+		if ("staff".equals(role)) {
+			return null;
+		}
+
+		Integer deptId = row.getDeptId() != null ? deptById.get(row.getDeptId()) : deptByName.get(row.getDeptName());
+		if (deptId == null) {
+			return "학과를 찾을 수 없습니다. (" + (row.getDeptId() != null ? row.getDeptId() : row.getDeptName()) + ")";
+		}
+		row.setDeptId(deptId);
+		if ("student".equals(role) && row.getEntranceDate() == null) {
+			return "입학일이 없습니다.";
+		}
+		return null;
+	}
+
+	/**
+	 * chunk 1개 저장 (실패하면 chunk 전체를 되돌리고 각 행을 오류로 보고)
+	 * 초기 비밀번호 암호화(BCrypt)는 오래 걸리므로 트랜잭션 밖에서 함
+	 * 역할 테이블/학적 상태 저장 -> 커밋 -> 암호화 -> 계정 저장 순서이고, 암호화나 계정 저장이 실패하면 먼저 저장한 행을 지움
+	 * (그 사이에는 계정 없이 역할 테이블에만 있으므로 로그인할 수 없음)
+	 */
+	private void save(String role, List<Pending> chunk, UserImportResultDto result) {
+		List<Integer> ids;
+		try {
+			ids = new TransactionTemplate(transactionManager).execute(status -> {
+				// 1. 역할 테이블 (생성된 id 를 받아 초기 비밀번호/학적 상태에 사용)
+				List<Integer> created = insertProfiles(role, chunk);
+
+				// 2. 학적 상태 (재학)
+				if ("student".equals(role)) {
+					Date today = new Date(System.currentTimeMillis());
+					jdbcTemplate.batchUpdate("INSERT INTO stu_stat_tb (student_id, status, from_date, to_date) "
+							+ "VALUES (?, '재학', ?, ?)", created, chunk.size(), (ps, id) -> {
+								ps.setInt(1, id);
+								ps.setDate(2, today);
+								ps.setDate(3, OPEN_TO_DATE);
+							});
+				}
+				return created;
+			});
+		} catch (RuntimeException e) {
+			fail(role, chunk, result, e);
+			return;
+		}
+
+		try {
+			// 3. 초기 비밀번호 (= id) 암호화, 트랜잭션 밖
+			List<String> rawPasswords = new ArrayList<>(ids.size());
+			for (Integer id : ids) {
+				rawPasswords.add(String.valueOf(id));
+			}
+			List<String> passwords = passwordHashingService.encodeAll(rawPasswords);
+
+			// 4. 계정
+			List<Integer> indexes = new ArrayList<>(ids.size());
+			for (int i = 0; i < ids.size(); i++) {
+				indexes.add(i);
+			}
+			new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+					jdbcTemplate.batchUpdate("INSERT INTO user_tb (id, password, user_role) VALUES (?, ?, ?)",
+							indexes, chunk.size(), (ps, i) -> {
+								ps.setInt(1, ids.get(i));
+								ps.setString(2, passwords.get(i));
+								ps.setString(3, role);
+							}));
+		} catch (RuntimeException e) {
+			discard(role, ids);
+			fail(role, chunk, result, e);
+			return;
+		} finally {
+			if ("student".equals(role)) {
+				for (Integer id : ids) {
+					stuStatCheckService.evict(id);
+				}
+			}
+		}
+
+		for (Integer id : ids) {
+			result.addCreated(id);
+		}
+	}
+
+	// 계정 저장에 실패한 chunk 의 역할 테이블/학적 상태 행 삭제
+	private void discard(String role, List<Integer> ids) {
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				if ("student".equals(role)) {
+					jdbcTemplate.batchUpdate("DELETE FROM stu_stat_tb WHERE student_id = ?", ids, ids.size(),
+							(ps, id) -> ps.setInt(1, id));
+				}
+				jdbcTemplate.batchUpdate("DELETE FROM " + role + "_tb WHERE id = ?", ids, ids.size(),
+						(ps, id) -> ps.setInt(1, id));
+			});
+		} catch (RuntimeException e) {
+			log.error("[UserImportService] 계정 없는 사용자 삭제 실패 role={} ids={} error={}", role, ids, e.getMessage());
+		}
+	}
+
+	private static void fail(String role, List<Pending> chunk, UserImportResultDto result, RuntimeException e) {
+		log.warn("[UserImportService] chunk 저장 실패 role={} rows={}~{} error={}", role, chunk.get(0).rowNo,
+				chunk.get(chunk.size() - 1).rowNo, e.getMessage());
+		for (Pending pending : chunk) {
+			result.addError(pending.rowNo, "저장에 실패했습니다.");
+		}
+	}
+
+	// 역할 테이블 batch insert 후 생성된 id (행 순서대로)
+	private List<Integer> insertProfiles(String role, List<Pending> chunk) {
+		String sql;
+		if ("student".equals(role)) {
+			sql = "INSERT INTO student_tb (name, birth_date, gender, address, tel, email, dept_id, grade, semester, "
+					+ "entrance_date) VALUES (?, ?, ?, ?, ?, ?, ?, 1, 1, ?)";
+		} else if ("professor".equals(role)) {
+			sql = "INSERT INTO professor_tb (name, birth_date, gender, address, tel, email, dept_id) "
+					+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+		} else {
+			sql = "INSERT INTO staff_tb (name, birth_date, gender, address, tel, email) VALUES (?, ?, ?, ?, ?, ?)";
+		}
+
+		List<Integer> ids = jdbcTemplate.execute((ConnectionCallback<List<Integer>>) connection -> {
+			try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+				for (Pending pending : chunk) {
+					UserImportRowDto row = pending.row;
+					ps.setString(1, row.getName());
+					ps.setDate(2, row.getBirthDate());
+					ps.setString(3, row.getGender());
+					ps.setString(4, row.getAddress());
+					ps.setString(5, row.getTel());
+					ps.setString(6, row.getEmail());
+					if (!"staff".equals(role)) {
+						ps.setInt(7, row.getDeptId());
+					}
+					if ("student".equals(role)) {
+						ps.setDate(8, row.getEntranceDate());
+					}
+					ps.addBatch();
+				}
+				ps.executeBatch();
+
+				List<Integer> generated = new ArrayList<>(chunk.size());
+				try (ResultSet keys = ps.getGeneratedKeys()) {
+					while (keys.next()) {
+						generated.add(keys.getInt(1));
+					}
+				}
+				return generated;
+			}
+		});
+		if (ids == null || ids.size() != chunk.size()) {
+			throw new IllegalStateException("생성된 id 수가 행 수와 다릅니다.");
+		}
+		return ids;
+	}
+
+	private static class Pending {
+
+		private final int rowNo;
+		private final UserImportRowDto row;
+
+		Pending(int rowNo, UserImportRowDto row) {
+			this.rowNo = rowNo;
+			this.row = row;
+		}
+	}
+
+}
@@ -2,13 +2,13 @@ package com.green.university.service;
 
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import com.green.university.dto.response.*;
 import com.green.university.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +26,7 @@ import com.green.university.repository.model.Student;
 import com.green.university.repository.model.User;
 import com.green.university.utils.Define;
 import com.green.university.utils.TempPassword;
+import com.green.university.utils.TransactionUtil;
 
 /**
  * 유저 서비스
@@ -47,10 +48,16 @@ public class UserService {
     private StudentJpaRepository studentJpaRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    @Autowired
+    private LoginThrottleService loginThrottleService;
     @Autowired
     private StuStatService stuStatService;
     @Autowired
+    private PrincipalCacheService principalCacheService;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
     private StuStatJpaRepository stuStatJpaRepository;
 
     // 추가 JPA 레포지토리: 학과 조회에 사용
@@ -76,7 +83,7 @@ public class UserService {
         // User 엔티티 생성
         com.green.university.repository.model.User user = new com.green.university.repository.model.User();
         user.setId(staffId);
-        user.setPassword(passwordEncoder.encode(staffId + ""));
+        user.setPassword(passwordHashingService.encode(staffId + ""));
         user.setUserRole("staff");
         userJpaRepository.save(user);
     }
@@ -111,7 +118,7 @@ public class UserService {
         // User 엔티티 생성
         com.green.university.repository.model.User user = new com.green.university.repository.model.User();
         user.setId(professorId);
-        user.setPassword(passwordEncoder.encode(professorId + ""));
+        user.setPassword(passwordHashingService.encode(professorId + ""));
         user.setUserRole("professor");
         userJpaRepository.save(user);
     }
@@ -149,45 +156,42 @@ public class UserService {
         // user 생성
         com.green.university.repository.model.User user = new com.green.university.repository.model.User();
         user.setId(studentId);
-        user.setPassword(passwordEncoder.encode(studentId + ""));
+        user.setPassword(passwordHashingService.encode(studentId + ""));
         user.setUserRole("student");
         userJpaRepository.save(user);
     }
 
-    @Transactional
-    public PrincipalDto login(LoginDto loginDto) {
+    /**
+     * 로그인 (비밀번호 비교는 해시 전용 스레드 풀에서 실행하고 결과를 CompletableFuture 로 반환)
+     * 아이디/IP 별 시도 한도를 넘으면 DB 조회 전에 429 (아이디 한도는 비밀번호가 틀린 시도만 차감)
+     *
+     * @param clientIp 접속 IP
+     * @param device 같은 기기 재로그인 확인용 (IP + User-Agent)
+     */
+    public CompletableFuture<PrincipalDto> login(LoginDto loginDto, String clientIp, String device) {
+        loginThrottleService.acquire(loginDto.getId(), clientIp);
+
         User user = userJpaRepository.findById(loginDto.getId())
                 .orElseThrow(() -> new CustomRestfullException(
                         Define.NOT_FOUND_ID, HttpStatus.INTERNAL_SERVER_ERROR));
 
-        if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
-            throw new CustomRestfullException(Define.WRONG_PASSWORD, HttpStatus.BAD_REQUEST);
-        }
-
-        String name = null;
-        String userRole = user.getUserRole();
-
-        // 역할에 따라 이름 조회
-        if ("student".equals(userRole)) {
-            name = studentJpaRepository.findById(user.getId())
-                    .map(Student::getName)
-                    .orElse(null);
-        } else if ("professor".equals(userRole)) {
-            name = professorJpaRepository.findById(user.getId())
-                    .map(com.green.university.repository.model.Professor::getName)
-                    .orElse(null);
-        } else if ("staff".equals(userRole)) {
-            name = staffJpaRepository.findById(user.getId())
-                    .map(Staff::getName)
-                    .orElse(null);
-        }
-
-        return PrincipalDto.builder()
-                .id(user.getId())
-                .password(user.getPassword())
-                .userRole(userRole)
-                .name(name)
-                .build();
+        // 역할에 따라 이름/이메일 조회 (토큰에 함께 담음, 해시 스레드에서 DB 를 읽지 않도록 비교 전에 조회)
+        PrincipalDto profile = principalCacheService.load(user);
+
+        return passwordHashingService.matchesAsync(loginDto.getPassword(), user.getPassword(), device)
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new CustomRestfullException(Define.WRONG_PASSWORD, HttpStatus.BAD_REQUEST);
+                    }
+                    loginThrottleService.succeeded(user.getId());
+                    // 응답/토큰으로 나가므로 비밀번호 해시는 담지 않음
+                    return PrincipalDto.builder()
+                            .id(user.getId())
+                            .userRole(user.getUserRole())
+                            .name(profile.getName())
+                            .email(profile.getEmail())
+                            .build();
+                });
     }
 
     public UserInfoForUpdateDto readStudentInfoForUpdate(Integer userId) {
@@ -238,6 +242,7 @@ public class UserService {
         student.setEmail(updateDto.getEmail());
 
         studentJpaRepository.save(student);
+        TransactionUtil.afterCommit(() -> principalCacheService.invalidate(updateDto.getUserId()));
     }
 
     @Transactional
@@ -251,6 +256,7 @@ public class UserService {
         staff.setEmail(updateDto.getEmail());
 
         staffJpaRepository.save(staff);
+        TransactionUtil.afterCommit(() -> principalCacheService.invalidate(updateDto.getUserId()));
     }
 
     @Transactional
@@ -265,6 +271,7 @@ public class UserService {
         professor.setEmail(updateDto.getEmail());
 
         professorJpaRepository.save(professor);
+        TransactionUtil.afterCommit(() -> principalCacheService.invalidate(updateDto.getUserId()));
     }
 
     /**
@@ -281,6 +288,9 @@ public class UserService {
 
         user.setPassword(changePasswordDto.getAfterPassword());
         userJpaRepository.save(user);
+        // 다른 기기에서 로그인한 토큰도 더 쓸 수 없게 폐기
+        refreshTokenService.revokeAll(changePasswordDto.getId());
+        TransactionUtil.afterCommit(() -> principalCacheService.invalidate(changePasswordDto.getId()));
     }
 
     /**
@@ -406,8 +416,10 @@ public class UserService {
                 .orElseThrow(() -> new CustomRestfullException(
                         "사용자 정보를 찾을 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR));
 
-        user.setPassword(passwordEncoder.encode(tempPw));
+        user.setPassword(passwordHashingService.encode(tempPw));
         userJpaRepository.save(user);
+        refreshTokenService.revokeAll(user.getId());
+        TransactionUtil.afterCommit(() -> principalCacheService.invalidate(user.getId()));
 
         return tempPw;
     }
@@ -435,7 +447,7 @@ public class UserService {
                         "사용자를 찾을 수 없습니다.", HttpStatus.INTERNAL_SERVER_ERROR));
 
         // 2) 비밀번호 검증 (DB 기준)
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+        if (!passwordHashingService.matches(rawPassword, user.getPassword())) {
             throw new CustomRestfullException(Define.WRONG_PASSWORD, HttpStatus.BAD_REQUEST);
         }
 
@@ -449,6 +461,7 @@ public class UserService {
         } else {
             throw new CustomRestfullException("지원하지 않는 사용자 유형입니다.", HttpStatus.BAD_REQUEST);
         }
+        TransactionUtil.afterCommit(() -> principalCacheService.invalidate(userId));
     }
 
     // 학생 정보 수정 (JPA)
@@ -524,7 +537,6 @@ public class UserService {
 
         return PrincipalDto.builder()
                 .id(user.getId())
-                .password(user.getPassword())
                 .userRole(userRole)
                 .name(name)
                 .build();
@@ -543,7 +555,6 @@ public class UserService {
         return PrincipalDto.builder()
                 .id(user.getId())
                 .email(email)
-                .password(user.getPassword())
                 .userRole(user.getUserRole())
                 .name(name)
                 .build();
@@ -0,0 +1,330 @@
+package com.green.university.service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.dto.response.WaitlistDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.WaitlistJpaRepository;
+import com.green.university.repository.model.Subject;
+import com.green.university.repository.model.Waitlist;
+import com.green.university.utils.Define;
+import com.green.university.utils.StuSubUtil;
+import com.green.university.utils.TimetableMask;
+import com.green.university.utils.TransactionUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수강 신청 대기
+ * 정원이 찬 강의에 선착순으로 대기하고, 수강 취소로 자리가 나면 맨 앞 대기자에게 자리를 넘겨
+ * hold-ms 동안 잡아둠 (잡아둔 자리는 현재 인원에 포함되므로 그 사이 다른 학생은 신청 불가). 기한 안에 수락하지 않으면 다음 대기자에게 넘어감
+ * 대기 순서(id)와 배정/수락 기한은 waitlist_tb 가 기준이고 서버 메모리에 따로 두지 않으므로 어느 서버에서든 등록/수락/취소 가능
+ * 자리를 넘길 때는 대기 행을 잠그고(SELECT ... FOR UPDATE) 좌석 배정과 같은 트랜잭션에서 기한을 저장하므로
+ * 여러 서버가 같은 자리를 동시에 넘기거나, 수락 중인 자리를 다른 서버가 회수하지 않음 (기한 만료는 모든 서버가 확인)
+ * 순서 변경은 /sub/sugang/waitlist/{subjectId} 로 알림
+ */
+@Slf4j
+@Service
+public class WaitlistService {
+
+	public static final String WAITLIST_DESTINATION = "/sub/sugang/waitlist/";
+
+	private static final String NO_HOLD_MESSAGE = "배정된 대기 자리가 없거나 수락 기한이 지났습니다.";
+
+	@Autowired
+	private WaitlistJpaRepository waitlistJpaRepository;
+
+	@Autowired
+	private SubjectJpaRepository subjectJpaRepository;
+
+	@Autowired
+	private StuSubJpaRepository stuSubJpaRepository;
+
+	@Autowired
+	private SeatReservationService seatReservationService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired(required = false)
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Value("${sugang.waitlist.hold-ms:300000}")
+	private long holdMs;
+
+	/**
+	 * 대기 등록 (정원이 찬 강의만, 학점/시간표를 미리 확인)
+	 */
+	public WaitlistDto join(Integer studentId, Integer subjectId) {
+		Subject subject = subjectJpaRepository.findById(subjectId)
+				.orElseThrow(() -> new CustomRestfullException("과목 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND));
+		// 좌석 카운터가 아직 없으면(재시작 직후 등) DB 의 현재 인원으로 판단
+		Boolean full = seatReservationService.isFull(subjectId);
+		if (full == null) {
+			full = subject.getNumOfStudent() != null && subject.getCapacity() != null
+					&& subject.getNumOfStudent() >= subject.getCapacity();
+		}
+		if (!full) {
+			throw new CustomRestfullException("빈 자리가 있는 강의입니다. 바로 신청해 주세요.", HttpStatus.BAD_REQUEST);
+		}
+		List<StuSubDayTimeDto> dayTimeList = readDayTimeList(studentId);
+		if (StuSubUtil.containsSubject(dayTimeList, subjectId)) {
+			throw new CustomRestfullException("이미 수강 신청한 과목입니다.", HttpStatus.BAD_REQUEST);
+		}
+		StuSubUtil.checkSumGrades(subject, StuSubUtil.sumGrades(dayTimeList));
+		StuSubUtil.checkDayTime(subject, dayTimeList);
+
+		try {
+			requiresNew().executeWithoutResult(status -> {
+				Waitlist entity = new Waitlist();
+				entity.setStudentId(studentId);
+				entity.setSubjectId(subjectId);
+				waitlistJpaRepository.save(entity);
+			});
+		} catch (DataIntegrityViolationException e) {
+			// (student_id, subject_id) 유니크
+			throw new CustomRestfullException("이미 대기 중인 강의입니다.", HttpStatus.BAD_REQUEST);
+		}
+		broadcast(subjectId);
+		for (WaitlistDto dto : readWaitlist(studentId)) {
+			if (subjectId.equals(dto.getSubjectId())) {
+				return dto;
+			}
+		}
+		// 등록 직후 자리를 배정받아 수락했거나 취소된 경우
+		throw new CustomRestfullException("대기 내역을 찾을 수 없습니다.", HttpStatus.CONFLICT);
+	}
+
+	/**
+	 * 대기 취소 (자리를 배정받은 상태였다면 다음 대기자에게 넘김)
+	 * 배정받은 자리로 수강 신청 중이면 그 트랜잭션이 끝날 때까지 기다림
+	 */
+	public void leave(Integer studentId, Integer subjectId) {
+		requiresNew().executeWithoutResult(status -> {
+			Waitlist row = waitlistJpaRepository.findForUpdate(studentId, subjectId).orElse(null);
+			if (row == null) {
+				return;
+			}
+			waitlistJpaRepository.deleteByIdIn(List.of(row.getId()));
+			if (row.getHoldExpiresAt() != null) {
+				offer(subjectId, true);
+			}
+			TransactionUtil.afterCommit(() -> broadcast(subjectId));
+		});
+	}
+
+	/**
+	 * 대기 중인 강의를 직접 수강 신청한 경우 대기 취소 (수강 신청 트랜잭션 커밋 후 호출)
+	 * 다른 빈 자리로 신청했으므로 배정받아 잡고 있던 자리가 있으면 다음 대기자에게 넘김
+	 */
+	public void registered(Integer studentId, Integer subjectId) {
+		// 대부분은 대기하지 않은 강의이므로 잠그기 전에 확인
+		if (waitlistJpaRepository.existsByStudentIdAndSubjectId(studentId, subjectId)) {
+			leave(studentId, subjectId);
+		}
+	}
+
+	/**
+	 * 학생의 대기 현황
+	 */
+	public List<WaitlistDto> readWaitlist(Integer studentId) {
+		List<Object[]> rows = waitlistJpaRepository.findStatusByStudentId(
+				studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+		List<WaitlistDto> result = new ArrayList<>();
+		for (Object[] row : rows) {
+			WaitlistDto dto = new WaitlistDto();
+			dto.setSubjectId(toInt(row[0]));
+			dto.setEntryId(toInt(row[1]));
+			dto.setHoldExpiresAt(row[2] == null ? null : ((Timestamp) row[2]).getTime());
+			dto.setPosition(toInt(row[3]));
+			dto.setWaitingCount(toInt(row[4]));
+			result.add(dto);
+		}
+		return result;
+	}
+
+	/**
+	 * 수강 취소로 빈 자리가 났을 때 맨 앞 대기자에게 넘김 (수강 취소 트랜잭션 커밋 후 호출)
+	 * 그 사이 다른 학생이 신청할 수 있으므로 대기자를 정한 뒤 같은 트랜잭션에서 자리를 잡고(현재 인원 +1), 못 잡으면 넘기지 않음
+	 */
+	public void offerFreedSeat(Integer subjectId) {
+		// 수강 신청 기간이 아니거나(좌석 카운터 없음) 받을 사람이 없으면 잠그지 않음
+		if (seatReservationService.isFull(subjectId) == null
+				|| !waitlistJpaRepository.existsBySubjectIdAndHoldExpiresAtIsNull(subjectId)) {
+			return;
+		}
+		requiresNew().executeWithoutResult(status -> offer(subjectId, false));
+	}
+
+	/**
+	 * 배정받은 자리로 수강 신청 (수강 신청 트랜잭션 안에서 호출)
+	 * 대기 행을 잠그고 삭제하므로 커밋되면 잡아둔 자리가 그대로 수강 인원이 되고,
+	 * 롤백되면 대기/배정이 그대로 남아 기한 안이면 다시 수락 가능 (처리 중에는 다른 서버도 회수하지 못함)
+	 */
+	public void accept(Integer studentId, Integer subjectId) {
+		Waitlist row = waitlistJpaRepository.findForUpdate(studentId, subjectId).orElse(null);
+		if (row == null || row.getHoldExpiresAt() == null
+				|| row.getHoldExpiresAt().getTime() <= System.currentTimeMillis()) {
+			throw new CustomRestfullException(NO_HOLD_MESSAGE, HttpStatus.BAD_REQUEST);
+		}
+		waitlistJpaRepository.deleteByIdIn(List.of(row.getId()));
+		TransactionUtil.afterCommit(() -> broadcast(subjectId));
+	}
+
+	/**
+	 * 수락 기한이 지난 자리를 다음 대기자에게 넘김 (모든 서버에서 실행, 행 잠금으로 한 서버만 처리)
+	 */
+	@Scheduled(fixedDelayString = "${sugang.waitlist.tick-ms:1000}")
+	public void expireHolds() {
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		List<Integer> expiredIds;
+		try {
+			expiredIds = waitlistJpaRepository.findExpiredIds(now);
+		} catch (Exception e) {
+			log.warn("[WaitlistService] 수락 기한 만료 조회 실패 error={}", e.getMessage());
+			return;
+		}
+		for (Integer id : expiredIds) {
+			try {
+				requiresNew().executeWithoutResult(status -> {
+					Waitlist row = waitlistJpaRepository.findExpiredForUpdate(id, now).orElse(null);
+					if (row == null) {
+						return;
+					}
+					waitlistJpaRepository.deleteByIdIn(List.of(id));
+					offer(row.getSubjectId(), true);
+					TransactionUtil.afterCommit(() -> broadcast(row.getSubjectId()));
+					log.info("[WaitlistService] 수락 기한 만료 subjectId={} studentId={}", row.getSubjectId(),
+							row.getStudentId());
+				});
+			} catch (Exception e) {
+				log.error("[WaitlistService] 수락 기한 만료 처리 실패 waitlistId={}", id, e);
+			}
+		}
+	}
+
+	/**
+	 * 대기 내역 전체 삭제 (수강 신청 기간 종료/초기화 시)
+	 */
+	public void clear() {
+		requiresNew().executeWithoutResult(status ->
+				waitlistJpaRepository.deleteBySemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER));
+	}
+
+	/**
+	 * 자리를 배정받지 않은 맨 앞 대기자부터 학점/시간표를 다시 확인해서 배정 (조건이 안 맞으면 대기 취소)
+	 * 현재 트랜잭션 안에서 대기 행을 잠그고 호출 (seatHeld: 이미 잡아둔 자리를 넘기는지, 아니면 새로 잡아야 하는지)
+	 * 받을 사람이 없으면 잡아둔 자리는 반납
+	 * @return 배정했으면 true
+	 */
+	private boolean offer(Integer subjectId, boolean seatHeld) {
+		List<Waitlist> candidates = waitlistJpaRepository.findWaitingForUpdate(subjectId);
+		Waitlist eligible = null;
+		List<Integer> invalidIds = new ArrayList<>();
+		if (!candidates.isEmpty()) {
+			Subject subject = subjectJpaRepository.findById(subjectId).orElse(null);
+			for (Waitlist candidate : candidates) {
+				if (subject == null) {
+					break;
+				}
+				if (isEligible(candidate.getStudentId(), subject)) {
+					eligible = candidate;
+					break;
+				}
+				invalidIds.add(candidate.getId());
+			}
+		}
+		if (!invalidIds.isEmpty()) {
+			waitlistJpaRepository.deleteByIdIn(invalidIds);
+			TransactionUtil.afterCommit(() -> broadcast(subjectId));
+		}
+
+		if (eligible == null) {
+			if (seatHeld) {
+				seatReservationService.releaseHeld(subjectId);
+			}
+			return false;
+		}
+		if (!seatHeld && !seatReservationService.hold(subjectId)) {
+			// 그 사이 다른 학생이 빈 자리로 신청함
+			return false;
+		}
+		waitlistJpaRepository.updateHoldExpiresAt(eligible.getId(),
+				new Timestamp(System.currentTimeMillis() + holdMs));
+		TransactionUtil.afterCommit(() -> broadcast(subjectId));
+		log.info("[WaitlistService] 대기자에게 자리 배정 subjectId={} studentId={}", subjectId, eligible.getStudentId());
+		return true;
+	}
+
+	private boolean isEligible(Integer studentId, Subject subject) {
+		List<StuSubDayTimeDto> dayTimeList = readDayTimeList(studentId);
+		if (StuSubUtil.containsSubject(dayTimeList, subject.getId())) {
+			return false;
+		}
+		if (StuSubUtil.sumGrades(dayTimeList).getSumGrades() + subject.getGrades() > Define.MAX_GRADES) {
+			return false;
+		}
+		return !TimetableMask.of(dayTimeList).overlaps(subject);
+	}
+
+	private List<StuSubDayTimeDto> readDayTimeList(Integer studentId) {
+		return stuSubJpaRepository.findDayTimeListByStudentId(studentId, Define.CURRENT_YEAR, Define.CURRENT_SEMESTER);
+	}
+
+	// 커밋 후 콜백/스케줄러에서 호출되므로 항상 새 트랜잭션에서 저장
+	private TransactionTemplate requiresNew() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return template;
+	}
+
+	private static int toInt(Object value) {
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+
+	/**
+	 * 대기 번호 순서와 자리를 배정받은 대기 번호(수락 기한)를 보냄 (커밋 후 호출)
+	 * 학생은 등록 시 받은 entryId 의 위치로 자기 순번을 계산함
+	 */
+	private void broadcast(Integer subjectId) {
+		if (messagingTemplate == null) {
+			return;
+		}
+		try {
+			List<Integer> waiting = new ArrayList<>();
+			Map<Integer, Long> held = new HashMap<>();
+			for (Waitlist row : waitlistJpaRepository.findBySubjectIdOrderById(subjectId)) {
+				waiting.add(row.getId());
+				if (row.getHoldExpiresAt() != null) {
+					held.put(row.getId(), row.getHoldExpiresAt().getTime());
+				}
+			}
+			Map<String, Object> payload = new HashMap<>();
+			payload.put("subjectId", subjectId);
+			payload.put("waiting", waiting);
+			payload.put("held", held);
+			messagingTemplate.convertAndSend(WAITLIST_DESTINATION + subjectId, payload);
+		} catch (Exception e) {
+			log.warn("[WaitlistService] 대기 현황 전송 실패: {}", e.getMessage());
+		}
+	}
+
+}
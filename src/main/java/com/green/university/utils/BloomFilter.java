@@ -0,0 +1,77 @@
+package com.green.university.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터 (없는 값은 확실히 false, 있는 값은 true, 없는 값이 true 일 확률은 약 fpp)
+ * 비트는 AtomicLongArray 로 들고 있어 조회/추가를 잠금 없이 동시에 할 수 있음, 값 삭제는 불가하므로 새로 만들어 교체
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * @param expectedSize 넣을 값 개수
+	 * @param fpp 오탐률 (0~1)
+	 */
+	public BloomFilter(int expectedSize, double fpp) {
+		long n = Math.max(expectedSize, 1);
+		long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		m = Math.max(64, (m + 63) / 64 * 64);
+		this.bits = new AtomicLongArray((int) (m / 64));
+		this.bitSize = m;
+		this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+	}
+
+	public void add(String value) {
+		long hash = hash(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = hash(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = index(h1 + i * h2);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long index(int combined) {
+		return (combined & Integer.MAX_VALUE) % bitSize;
+	}
+
+	// FNV-1a 64 비트 후 섞기 (두 해시 값을 상위/하위 32 비트로 나눠 사용)
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
@@ -0,0 +1,186 @@
+package com.green.university.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import com.green.university.dto.UpdateStudentGradeDto;
+import com.green.university.handler.exception.CustomRestfullException;
+
+/**
+ * 출결/성적 일괄 입력 CSV 읽기 (사용자 일괄 등록 등 다른 CSV 도 CsvReader/cell 을 같이 씀)
+ * 첫 줄은 헤더 (studentId, absent, lateness, homework, midExam, finalExam, convertedMark, grade, 순서 무관, studentId 필수)
+ * 빈 칸은 null, 빈 줄은 건너뜀, 따옴표로 감싼 칸은 RFC 4180 형식 (칸 안의 쉼표/줄바꿈, "" 는 따옴표 1개)
+ */
+public class GradeCsvUtil {
+
+	public static List<UpdateStudentGradeDto> read(InputStream in, Integer subjectId) throws IOException {
+		CsvReader reader = new CsvReader(in);
+		Map<String, Integer> header = reader.readHeader();
+		if (!header.containsKey("studentid")) {
+			throw new CustomRestfullException("CSV 헤더에 studentId 가 없습니다.", HttpStatus.BAD_REQUEST);
+		}
+
+		List<UpdateStudentGradeDto> rows = new ArrayList<>();
+		String[] cells;
+		while ((cells = reader.next()) != null) {
+			try {
+				UpdateStudentGradeDto dto = new UpdateStudentGradeDto();
+				dto.setSubjectId(subjectId);
+				dto.setStudentId(intCell(cells, header, "studentid"));
+				dto.setAbsent(intCell(cells, header, "absent"));
+				dto.setLateness(intCell(cells, header, "lateness"));
+				dto.setHomework(intCell(cells, header, "homework"));
+				dto.setMidExam(intCell(cells, header, "midexam"));
+				dto.setFinalExam(intCell(cells, header, "finalexam"));
+				dto.setConvertedMark(intCell(cells, header, "convertedmark"));
+				dto.setGrade(cell(cells, header, "grade"));
+				rows.add(dto);
+			} catch (NumberFormatException e) {
+				throw new CustomRestfullException(reader.getLineNo() + "번째 줄: 숫자 형식이 올바르지 않습니다.",
+						HttpStatus.BAD_REQUEST);
+			}
+		}
+		return rows;
+	}
+
+	public static Integer intCell(String[] cells, Map<String, Integer> header, String column) {
+		String value = cell(cells, header, column);
+		return value == null ? null : Integer.valueOf(value);
+	}
+
+	/**
+	 * 헤더 이름(소문자, _ 제거)으로 칸 값 조회 (앞뒤 공백 제거, 빈 칸/없는 칸은 null)
+	 */
+	public static String cell(String[] cells, Map<String, Integer> header, String column) {
+		Integer index = header.get(column);
+		if (index == null || index >= cells.length) {
+			return null;
+		}
+		String value = cells[index].trim();
+		return value.isEmpty() ? null : value;
+	}
+
+	/**
+	 * 한 행씩 읽는 CSV 읽기 (파일 전체를 메모리에 올리지 않음)
+	 */
+	public static class CsvReader {
+
+		private final BufferedReader reader;
+
+		// 지금까지 읽은 줄 수
+		private int lines;
+
+		// 마지막으로 읽은 행이 시작된 줄 번호 (1부터)
+		private int lineNo;
+
+		private boolean first = true;
+
+		public CsvReader(InputStream in) {
+			this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * 첫 행을 헤더로 읽음 (헤더 이름 소문자, _ 제거 -> 칸 위치)
+		 */
+		public Map<String, Integer> readHeader() throws IOException {
+			String[] names = next();
+			if (names == null) {
+				throw new CustomRestfullException("CSV 파일이 비어 있습니다.", HttpStatus.BAD_REQUEST);
+			}
+			Map<String, Integer> header = new HashMap<>();
+			for (int i = 0; i < names.length; i++) {
+				header.put(names[i].trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+			}
+			return header;
+		}
+
+		/**
+		 * 다음 행 (빈 줄은 건너뜀, 파일 끝이면 null)
+		 */
+		public String[] next() throws IOException {
+			while (true) {
+				int c = reader.read();
+				// 엑셀에서 저장한 UTF-8 BOM 제거
+				if (first) {
+					first = false;
+					if (c == '\uFEFF') {
+						c = reader.read();
+					}
+				}
+				if (c == -1) {
+					return null;
+				}
+				lines++;
+				lineNo = lines;
+
+				List<String> cells = new ArrayList<>();
+				StringBuilder cell = new StringBuilder();
+				boolean quoted = false;
+				boolean inQuotes = false;
+				while (c != -1) {
+					if (inQuotes) {
+						if (c == '"') {
+							reader.mark(1);
+							if (reader.read() == '"') {
+								cell.append('"');
+							} else {
+								inQuotes = false;
+								reader.reset();
+							}
+						} else {
+							if (c == '\n') {
+								lines++;
+							}
+							cell.append((char) c);
+						}
+					} else if (c == '"' && !quoted && cell.toString().isBlank()) {
+						// 따옴표 앞 공백은 버림
+						cell.setLength(0);
+						quoted = true;
+						inQuotes = true;
+					} else if (c == ',') {
+						cells.add(cell.toString());
+						cell.setLength(0);
+						quoted = false;
+					} else if (c == '\n') {
+						break;
+					} else if (c == '\r') {
+						reader.mark(1);
+						if (reader.read() != '\n') {
+							reader.reset();
+						}
+						break;
+					} else {
+						cell.append((char) c);
+					}
+					c = reader.read();
+				}
+				if (inQuotes) {
+					throw new CustomRestfullException(lineNo + "번째 줄: 따옴표가 닫히지 않았습니다.",
+							HttpStatus.BAD_REQUEST);
+				}
+				cells.add(cell.toString());
+
+				if (cells.size() == 1 && !quoted && cells.get(0).isBlank()) {
+					continue;
+				}
+				return cells.toArray(new String[0]);
+			}
+		}
+
+		public int getLineNo() {
+			return lineNo;
+		}
+	}
+
+}
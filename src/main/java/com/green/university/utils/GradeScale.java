@@ -0,0 +1,113 @@
+package com.green.university.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.green.university.repository.model.Grade;
+
+/**
+ * 학점 -> 환산 점수 표 (grade_tb 전체를 한 번 읽어 만들고 이후 수정하지 않음)
+ * 학점은 영문 대문자 1글자 + (없음, '+', '0', '-') 형태이므로 글자 코드로 배열 위치를 계산해서 조회 (Map/박싱 없음)
+ * 그 외 형태의 학점은 별도 Map 에서 조회
+ */
+public class GradeScale {
+
+	// 접미사 없음, +, 0, -
+	private static final int SUFFIXES = 4;
+
+	private static final int SLOTS = 26 * SUFFIXES;
+
+	private final float[] values = new float[SLOTS];
+	private final boolean[] present = new boolean[SLOTS];
+	private final Map<String, Float> others = new LinkedHashMap<>();
+
+	// 원본 행 (변경 여부 비교, 관리자 조회용)
+	private final Map<String, Float> rows = new LinkedHashMap<>();
+
+	public GradeScale(List<Grade> grades) {
+		for (Grade grade : grades) {
+			if (grade.getGrade() == null || grade.getGradeValue() == null) {
+				continue;
+			}
+			rows.put(grade.getGrade(), grade.getGradeValue());
+			int slot = slot(grade.getGrade());
+			if (slot < 0) {
+				others.put(grade.getGrade(), grade.getGradeValue());
+			} else {
+				values[slot] = grade.getGradeValue();
+				present[slot] = true;
+			}
+		}
+	}
+
+	/**
+	 * 환산 점수 (없는 학점이면 0)
+	 */
+	public double valueOf(String grade) {
+		int slot = slot(grade);
+		if (slot >= 0) {
+			return present[slot] ? values[slot] : 0.0;
+		}
+		if (grade == null || others.isEmpty()) {
+			return 0.0;
+		}
+		Float value = others.get(grade);
+		return value != null ? value : 0.0;
+	}
+
+	public boolean contains(String grade) {
+		int slot = slot(grade);
+		return slot >= 0 ? present[slot] : grade != null && others.containsKey(grade);
+	}
+
+	public int size() {
+		return rows.size();
+	}
+
+	/**
+	 * 학점별 환산 점수 (grade_tb 순서, 수정 불가)
+	 */
+	public Map<String, Float> asMap() {
+		return Collections.unmodifiableMap(rows);
+	}
+
+	/**
+	 * 같은 행으로 만든 표인지 (다시 읽은 값이 같으면 교체하지 않음)
+	 */
+	public boolean sameAs(GradeScale other) {
+		return other != null && rows.equals(other.rows);
+	}
+
+	// 배열 위치 (형태가 다르면 -1)
+	private static int slot(String grade) {
+		if (grade == null || grade.isEmpty() || grade.length() > 2) {
+			return -1;
+		}
+		char letter = grade.charAt(0);
+		if (letter < 'A' || letter > 'Z') {
+			return -1;
+		}
+		int suffix;
+		if (grade.length() == 1) {
+			suffix = 0;
+		} else {
+			switch (grade.charAt(1)) {
+			case '+':
+				suffix = 1;
+				break;
+			case '0':
+				suffix = 2;
+				break;
+			case '-':
+				suffix = 3;
+				break;
+			default:
+				return -1;
+			}
+		}
+		return (letter - 'A') * SUFFIXES + suffix;
+	}
+
+}
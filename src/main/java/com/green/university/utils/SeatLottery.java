@@ -0,0 +1,188 @@
+package com.green.university.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 정원 초과 강의 추첨
+ * 1. 강의별 지원자 순위 결정 (우선순위 -> 시드 기반 난수), 강의 단위로 ForkJoinPool 에서 병렬 처리
+ * 2. 모든 강의가 한 명씩 돌아가며 순위대로 좌석 배정 (학생별 최대 학점/시간표 겹침 확인)
+ * 같은 시드와 같은 입력이면 스레드 수와 관계없이 같은 결과가 나옴
+ */
+public class SeatLottery {
+
+	public enum Priority {
+		// 강의 개설 학과 학생 우선
+		DEPARTMENT,
+		// 고학년 우선
+		GRADE
+	}
+
+	private final long seed;
+	private final List<Priority> priorities;
+
+	// 학생 id -> 신청 학점 합계 / 시간표 (기존 수강 신청 내역 + 추첨 당첨 강의)
+	private final Map<Integer, Integer> sumGrades = new HashMap<>();
+	private final Map<Integer, TimetableMask> timetables = new HashMap<>();
+
+	public SeatLottery(long seed, List<Priority> priorities) {
+		this.seed = seed;
+		this.priorities = priorities;
+	}
+
+	/**
+	 * 학생이 이미 수강 신청한 강의 반영
+	 */
+	public void addRegistered(Integer studentId, String subDay, Integer startTime, Integer endTime, Integer grades) {
+		sumGrades.merge(studentId, grades == null ? 0 : grades, Integer::sum);
+		timetables.computeIfAbsent(studentId, id -> new TimetableMask()).add(subDay, startTime, endTime);
+	}
+
+	/**
+	 * 추첨
+	 * @return 강의 id -> 당첨 학생 id (순위 순)
+	 */
+	public Map<Integer, List<Integer>> draw(List<Course> courses, ForkJoinPool pool) {
+		List<List<Applicant>> rankings;
+		try {
+			rankings = pool.submit(() -> courses.parallelStream()
+					.map(this::rank)
+					.collect(Collectors.toList())).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("수강 신청 추첨이 중단되었습니다.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("수강 신청 추첨에 실패했습니다.", e.getCause());
+		}
+
+		Map<Integer, List<Integer>> winners = new LinkedHashMap<>();
+		int[] next = new int[courses.size()];
+		for (Course course : courses) {
+			winners.put(course.id, new ArrayList<>());
+		}
+
+		// 강의마다 한 명씩 돌아가며 배정 (앞 번호 강의가 학생의 학점을 먼저 다 가져가지 않도록)
+		boolean progressed = true;
+		while (progressed) {
+			progressed = false;
+			for (int i = 0; i < courses.size(); i++) {
+				Course course = courses.get(i);
+				List<Integer> seats = winners.get(course.id);
+				List<Applicant> ranking = rankings.get(i);
+				while (seats.size() < course.capacity && next[i] < ranking.size()) {
+					Applicant applicant = ranking.get(next[i]++);
+					if (admit(applicant.studentId, course)) {
+						seats.add(applicant.studentId);
+						progressed = true;
+						break;
+					}
+				}
+			}
+		}
+		return winners;
+	}
+
+	// 강의 지원자 순위 (학생 id 순으로 난수를 뽑으므로 입력 순서와 무관)
+	List<Applicant> rank(Course course) {
+		List<Applicant> applicants = new ArrayList<>(course.applicants);
+		applicants.sort(Comparator.comparing(applicant -> applicant.studentId));
+
+		SplittableRandom random = new SplittableRandom(seed * 31 + course.id);
+		Map<Integer, Long> tickets = new HashMap<>();
+		for (Applicant applicant : applicants) {
+			tickets.put(applicant.studentId, random.nextLong());
+		}
+
+		Comparator<Applicant> comparator = (a, b) -> 0;
+		for (Priority priority : priorities) {
+			if (priority == Priority.DEPARTMENT) {
+				comparator = comparator.thenComparing(applicant -> !isSameDept(applicant, course));
+			} else if (priority == Priority.GRADE) {
+				comparator = comparator.thenComparing(
+						(Applicant applicant) -> applicant.grade == null ? 0 : applicant.grade, Comparator.reverseOrder());
+			}
+		}
+		comparator = comparator.thenComparing(applicant -> tickets.get(applicant.studentId));
+
+		applicants.sort(comparator);
+		return applicants;
+	}
+
+	private boolean admit(Integer studentId, Course course) {
+		int grades = sumGrades.getOrDefault(studentId, 0);
+		int courseGrades = course.grades == null ? 0 : course.grades;
+		if (grades + courseGrades > Define.MAX_GRADES) {
+			return false;
+		}
+		TimetableMask timetable = timetables.computeIfAbsent(studentId, id -> new TimetableMask());
+		if (timetable.overlaps(course.subDay, course.startTime, course.endTime)) {
+			return false;
+		}
+		sumGrades.put(studentId, grades + courseGrades);
+		timetable.add(course.subDay, course.startTime, course.endTime);
+		return true;
+	}
+
+	private static boolean isSameDept(Applicant applicant, Course course) {
+		return applicant.deptId != null && applicant.deptId.equals(course.deptId);
+	}
+
+	/**
+	 * 추첨 대상 강의
+	 */
+	public static class Course {
+
+		private final Integer id;
+		private final int capacity;
+		private final Integer grades;
+		private final String subDay;
+		private final Integer startTime;
+		private final Integer endTime;
+		private final Integer deptId;
+		private final List<Applicant> applicants = new ArrayList<>();
+
+		public Course(Integer id, int capacity, Integer grades, String subDay, Integer startTime, Integer endTime,
+				Integer deptId) {
+			this.id = id;
+			this.capacity = capacity;
+			this.grades = grades;
+			this.subDay = subDay;
+			this.startTime = startTime;
+			this.endTime = endTime;
+			this.deptId = deptId;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void addApplicant(Integer studentId, Integer grade, Integer deptId) {
+			applicants.add(new Applicant(studentId, grade, deptId));
+		}
+	}
+
+	/**
+	 * 추첨 지원자 (예비 수강 신청 학생)
+	 */
+	static class Applicant {
+
+		private final Integer studentId;
+		private final Integer grade;
+		private final Integer deptId;
+
+		Applicant(Integer studentId, Integer grade, Integer deptId) {
+			this.studentId = studentId;
+			this.grade = grade;
+			this.deptId = deptId;
+		}
+	}
+
+}
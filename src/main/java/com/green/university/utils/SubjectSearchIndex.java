@@ -0,0 +1,303 @@
+package com.green.university.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.green.university.dto.response.SubjectDto;
+
+/**
+ * 강의 검색 색인 (강의 목록 캐시와 함께 만들고 이후 수정하지 않음)
+ * 강의명: 공백 제거/소문자 변환 후 1글자, 2글자(bigram) 단위 역색인 (한글 강의명은 띄어쓰기가 일정하지 않아 단어 대신 글자 단위)
+ * 학과/구분/연도/학기: 값별 BitSet
+ * 검색은 가장 짧은 역색인 목록을 한 번 훑으면서 나머지 조건을 확인하고, 전체 건수/학과별·구분별 건수/요청한 페이지를 함께 구함
+ * 결과 순서는 색인을 만들 때의 목록 순서와 같음
+ */
+public class SubjectSearchIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final List<SubjectDto> subjects;
+
+	// 강의별 정규화된 이름
+	private final String[] names;
+
+	// 1글자/2글자 -> 강의 번호 (오름차순)
+	private final Map<String, int[]> postings;
+
+	private final Map<Integer, BitSet> deptBits = new HashMap<>();
+	private final Map<String, BitSet> typeBits = new HashMap<>();
+	private final Map<Integer, BitSet> yearBits = new HashMap<>();
+	private final Map<Integer, BitSet> semesterBits = new HashMap<>();
+
+	public SubjectSearchIndex(List<SubjectDto> subjects) {
+		this.subjects = subjects;
+		this.names = new String[subjects.size()];
+
+		Map<String, IntList> building = new HashMap<>();
+		Set<String> grams = new LinkedHashSet<>();
+		for (int doc = 0; doc < subjects.size(); doc++) {
+			SubjectDto subject = subjects.get(doc);
+			names[doc] = normalize(subject.getName());
+
+			grams.clear();
+			addGrams(names[doc], grams);
+			for (String gram : grams) {
+				building.computeIfAbsent(gram, key -> new IntList()).add(doc);
+			}
+
+			set(deptBits, subject.getDeptId(), doc);
+			set(typeBits, subject.getType(), doc);
+			set(yearBits, subject.getSubYear(), doc);
+			set(semesterBits, subject.getSemester(), doc);
+		}
+
+		Map<String, int[]> built = new HashMap<>(building.size() * 2);
+		for (Map.Entry<String, IntList> entry : building.entrySet()) {
+			built.put(entry.getKey(), entry.getValue().toArray());
+		}
+		this.postings = built;
+	}
+
+	public int size() {
+		return subjects.size();
+	}
+
+	/**
+	 * 검색
+	 * @param offset 페이지 시작 위치
+	 * @param limit 페이지 크기 (0 이하이면 전체)
+	 */
+	public Result search(Query query, int offset, int limit) {
+		Result result = new Result();
+
+		// 1. 학과/구분/연도/학기 조건 (조건이 없으면 null)
+		BitSet filter = null;
+		List<BitSet> facets = new ArrayList<>();
+		if (query.deptId != null) {
+			facets.add(deptBits.get(query.deptId));
+		}
+		if (query.type != null) {
+			facets.add(typeBits.get(query.type));
+		}
+		if (query.subYear != null) {
+			facets.add(yearBits.get(query.subYear));
+		}
+		if (query.semester != null) {
+			facets.add(semesterBits.get(query.semester));
+		}
+		for (BitSet facet : facets) {
+			if (facet == null) {
+				return result;
+			}
+			if (filter == null) {
+				filter = (BitSet) facet.clone();
+			} else {
+				filter.and(facet);
+			}
+		}
+
+		// 2. 강의명 조건이 없으면 조건에 맞는 강의를 순서대로
+		String name = normalize(query.name);
+		if (name.isEmpty()) {
+			if (filter == null) {
+				for (int doc = 0; doc < subjects.size(); doc++) {
+					accept(result, doc, offset, limit);
+				}
+			} else {
+				for (int doc = filter.nextSetBit(0); doc >= 0; doc = filter.nextSetBit(doc + 1)) {
+					accept(result, doc, offset, limit);
+				}
+			}
+			return result;
+		}
+
+		// 3. 검색어의 글자 조각이 모두 들어 있는 강의 중 실제로 검색어를 포함하는 강의
+		Set<String> grams = new LinkedHashSet<>();
+		if (name.length() == 1) {
+			grams.add(name);
+		} else {
+			for (int i = 0; i + 1 < name.length(); i++) {
+				grams.add(name.substring(i, i + 2));
+			}
+		}
+		int[][] lists = new int[grams.size()][];
+		int index = 0;
+		for (String gram : grams) {
+			int[] posting = postings.getOrDefault(gram, EMPTY);
+			if (posting.length == 0) {
+				return result;
+			}
+			lists[index++] = posting;
+		}
+		Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+		for (int doc : lists[0]) {
+			if (filter != null && !filter.get(doc)) {
+				continue;
+			}
+			if (!containsAll(lists, doc) || !names[doc].contains(name)) {
+				continue;
+			}
+			accept(result, doc, offset, limit);
+		}
+		return result;
+	}
+
+	/**
+	 * 검색용 이름 정규화 (공백 제거, 소문자)
+	 */
+	public static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				builder.append(c);
+			}
+		}
+		return builder.toString().toLowerCase(Locale.ROOT);
+	}
+
+	private void accept(Result result, int doc, int offset, int limit) {
+		SubjectDto subject = subjects.get(doc);
+		if (result.total >= offset && (limit <= 0 || result.subjects.size() < limit)) {
+			result.subjects.add(subject);
+		}
+		result.total++;
+		if (subject.getName() != null) {
+			result.names.add(subject.getName());
+		}
+		if (subject.getDeptId() != null) {
+			result.deptCounts.merge(subject.getDeptId(), 1, Integer::sum);
+		}
+		if (subject.getType() != null) {
+			result.typeCounts.merge(subject.getType(), 1, Integer::sum);
+		}
+	}
+
+	private static boolean containsAll(int[][] lists, int doc) {
+		for (int i = 1; i < lists.length; i++) {
+			if (Arrays.binarySearch(lists[i], doc) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void addGrams(String name, Set<String> grams) {
+		for (int i = 0; i < name.length(); i++) {
+			grams.add(name.substring(i, i + 1));
+			if (i + 1 < name.length()) {
+				grams.add(name.substring(i, i + 2));
+			}
+		}
+	}
+
+	private static <K> void set(Map<K, BitSet> bits, K key, int doc) {
+		if (key != null) {
+			bits.computeIfAbsent(key, k -> new BitSet()).set(doc);
+		}
+	}
+
+	/**
+	 * 검색 조건 (null 이면 조건 없음)
+	 */
+	public static class Query {
+
+		private String name;
+		private Integer deptId;
+		private String type;
+		private Integer subYear;
+		private Integer semester;
+
+		public Query name(String name) {
+			this.name = name;
+			return this;
+		}
+
+		public Query deptId(Integer deptId) {
+			this.deptId = deptId;
+			return this;
+		}
+
+		public Query type(String type) {
+			this.type = type;
+			return this;
+		}
+
+		public Query subYear(Integer subYear) {
+			this.subYear = subYear;
+			return this;
+		}
+
+		public Query semester(Integer semester) {
+			this.semester = semester;
+			return this;
+		}
+	}
+
+	/**
+	 * 검색 결과 (강의는 색인의 원본이므로 응답에 쓸 때는 복사)
+	 */
+	public static class Result {
+
+		private int total;
+		private final List<SubjectDto> subjects = new ArrayList<>();
+		private final Set<String> names = new LinkedHashSet<>();
+		private final Map<Integer, Integer> deptCounts = new LinkedHashMap<>();
+		private final Map<String, Integer> typeCounts = new LinkedHashMap<>();
+
+		public int getTotal() {
+			return total;
+		}
+
+		public List<SubjectDto> getSubjects() {
+			return subjects;
+		}
+
+		// 검색된 강의명 (중복 제거)
+		public List<String> getNames() {
+			return new ArrayList<>(names);
+		}
+
+		public Map<Integer, Integer> getDeptCounts() {
+			return deptCounts;
+		}
+
+		public Map<String, Integer> getTypeCounts() {
+			return typeCounts;
+		}
+	}
+
+	/**
+	 * 색인 생성 중 강의 번호 목록
+	 */
+	private static class IntList {
+
+		private int[] values = new int[4];
+		private int size;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+
+}
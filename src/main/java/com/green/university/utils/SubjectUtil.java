@@ -13,15 +13,10 @@ import com.green.university.service.AdminService;
  */
 public class SubjectUtil {
 
+	// 같은 강의실/요일의 강의들과 시간이 겹치지 않으면 true
 	public boolean calculate(SubjectFormDto subjectFormDto, List<Subject> subjectList) {
-		for (int i = 0; i < subjectList.size(); i++) {
-			if ((subjectList.get(i).getStartTime() <= subjectFormDto.getStartTime()
-					&& subjectFormDto.getStartTime() < subjectList.get(i).getEndTime())
-					|| (subjectList.get(i).getStartTime() < subjectFormDto.getEndTime()
-							&& subjectFormDto.getEndTime() <= subjectList.get(i).getEndTime())) {
-				return false;
-			}
-		}
-		return true;
+		TimetableMask timetable = TimetableMask.ofSubjects(subjectList);
+		return !timetable.overlaps(subjectFormDto.getSubDay(), subjectFormDto.getStartTime(),
+				subjectFormDto.getEndTime());
 	}
 }
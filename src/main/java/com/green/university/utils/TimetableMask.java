@@ -0,0 +1,110 @@
+package com.green.university.utils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.repository.model.Subject;
+
+/**
+ * 요일별 시간표 비트마스크
+ * 요일마다 long 하나를 두고 n시 ~ n+1시 구간을 n번 비트로 표시함
+ * 시작/종료 시간이 맞닿는 경우(9~11, 11~13)는 겹치지 않는 것으로 봄
+ */
+public class TimetableMask {
+
+	private static final String[] DAYS = { "월", "화", "수", "목", "금", "토", "일" };
+
+	private final long[] masks = new long[DAYS.length];
+
+	// 위 요일 외의 값이 들어온 경우
+	private Map<String, Long> etcMasks;
+
+	// 학생의 수강 신청 내역으로 시간표 생성
+	public static TimetableMask of(List<StuSubDayTimeDto> dayTimeList) {
+		TimetableMask timetable = new TimetableMask();
+		for (StuSubDayTimeDto dayTime : dayTimeList) {
+			timetable.add(dayTime.getSubDay(), dayTime.getStartTime(), dayTime.getEndTime());
+		}
+		return timetable;
+	}
+
+	// 강의 목록으로 시간표 생성 (강의실 사용 시간 등)
+	public static TimetableMask ofSubjects(List<Subject> subjectList) {
+		TimetableMask timetable = new TimetableMask();
+		for (Subject subject : subjectList) {
+			timetable.add(subject.getSubDay(), subject.getStartTime(), subject.getEndTime());
+		}
+		return timetable;
+	}
+
+	// start시 ~ end시 구간의 비트마스크
+	public static long hourMask(int startTime, int endTime) {
+		int start = Math.max(startTime, 0);
+		int end = Math.min(endTime, Long.SIZE);
+		if (end <= start) {
+			return 0L;
+		}
+		long width = end - start == Long.SIZE ? -1L : (1L << (end - start)) - 1;
+		return width << start;
+	}
+
+	public TimetableMask add(String subDay, Integer startTime, Integer endTime) {
+		long mask = hourMask(startTime, endTime);
+		int index = dayIndex(subDay);
+		if (index >= 0) {
+			masks[index] |= mask;
+		} else {
+			if (etcMasks == null) {
+				etcMasks = new HashMap<>();
+			}
+			etcMasks.merge(subDay, mask, (a, b) -> a | b);
+		}
+		return this;
+	}
+
+	public boolean overlaps(String subDay, Integer startTime, Integer endTime) {
+		return (getMask(subDay) & hourMask(startTime, endTime)) != 0;
+	}
+
+	public boolean overlaps(Subject subject) {
+		return overlaps(subject.getSubDay(), subject.getStartTime(), subject.getEndTime());
+	}
+
+	public long getMask(String subDay) {
+		int index = dayIndex(subDay);
+		if (index >= 0) {
+			return masks[index];
+		}
+		return etcMasks == null ? 0L : etcMasks.getOrDefault(subDay, 0L);
+	}
+
+	// 요일 -> 비트마스크 (시간표 화면용, 비어있는 요일 제외)
+	public Map<String, Long> toMap() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		for (int i = 0; i < DAYS.length; i++) {
+			if (masks[i] != 0) {
+				result.put(DAYS[i], masks[i]);
+			}
+		}
+		if (etcMasks != null) {
+			result.putAll(etcMasks);
+		}
+		return result;
+	}
+
+	private static int dayIndex(String subDay) {
+		if (subDay == null) {
+			return -1;
+		}
+		for (int i = 0; i < DAYS.length; i++) {
+			if (DAYS[i].equals(subDay)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+}
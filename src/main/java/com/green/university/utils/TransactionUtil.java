@@ -0,0 +1,44 @@
+package com.green.university.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 결과에 맞춰 메모리 상태를 반영하기 위한 유틸
+ * 진행 중인 트랜잭션이 없으면 즉시 커밋된 것으로 보고 실행함
+ */
+public class TransactionUtil {
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤에 실행
+	 */
+	public static void afterCommit(Runnable onCommit) {
+		afterCompletion(onCommit, null);
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋되면 onCommit, 롤백되면 onRollback 실행
+	 */
+	public static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			if (onCommit != null) {
+				onCommit.run();
+			}
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_COMMITTED) {
+					if (onCommit != null) {
+						onCommit.run();
+					}
+				} else if (onRollback != null) {
+					onRollback.run();
+				}
+			}
+		});
+	}
+
+}
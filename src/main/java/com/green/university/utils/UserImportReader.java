@@ -0,0 +1,142 @@
+package com.green.university.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.university.dto.UserImportRowDto;
+import com.green.university.handler.exception.CustomRestfullException;
+
+/**
+ * 사용자 일괄 등록 파일 읽기 (한 행씩 읽으므로 파일 전체를 메모리에 올리지 않음)
+ * CSV: 첫 줄은 헤더 (name, birthDate, gender, address, tel, email, deptId 또는 deptName, entranceDate, 순서 무관)
+ *      날짜는 yyyy-MM-dd, 빈 칸은 null, 빈 줄은 건너뜀, 따옴표 칸/BOM 처리는 GradeCsvUtil.CsvReader 와 같음 (RFC 4180)
+ * JSON: 행 객체의 배열
+ * 형식이 잘못된 행은 error 를 채워 돌려주고 다음 행을 계속 읽음
+ */
+public class UserImportReader {
+
+	public static Iterator<UserImportRowDto> csv(InputStream in) throws IOException {
+		GradeCsvUtil.CsvReader reader = new GradeCsvUtil.CsvReader(in);
+		Map<String, Integer> header = reader.readHeader();
+		if (!header.containsKey("name")) {
+			throw new CustomRestfullException("CSV 헤더에 name 이 없습니다.", HttpStatus.BAD_REQUEST);
+		}
+
+		return new Iterator<>() {
+
+			// 미리 읽지 않음 (다음 행이 깨져 있어도 이번 행은 돌려줌)
+			private String[] next;
+			private boolean read;
+
+			@Override
+			public boolean hasNext() {
+				if (!read) {
+					next = readNext();
+					read = true;
+				}
+				return next != null;
+			}
+
+			@Override
+			public UserImportRowDto next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				read = false;
+				return toRow(next, header);
+			}
+
+			private String[] readNext() {
+				try {
+					return reader.next();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+	}
+
+	public static Iterator<UserImportRowDto> json(InputStream in, ObjectMapper objectMapper) throws IOException {
+		JsonParser parser = objectMapper.getFactory().createParser(in);
+		if (parser.nextToken() != JsonToken.START_ARRAY) {
+			throw new CustomRestfullException("JSON 배열이어야 합니다.", HttpStatus.BAD_REQUEST);
+		}
+
+		return new Iterator<>() {
+
+			private JsonToken token = nextToken();
+
+			@Override
+			public boolean hasNext() {
+				return token != JsonToken.END_ARRAY && token != null;
+			}
+
+			@Override
+			public UserImportRowDto next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				try {
+					JsonNode node = objectMapper.readTree(parser);
+					token = nextToken();
+					try {
+						return objectMapper.treeToValue(node, UserImportRowDto.class);
+					} catch (IOException | IllegalArgumentException e) {
+						UserImportRowDto row = new UserImportRowDto();
+						row.setError("형식이 올바르지 않습니다.");
+						return row;
+					}
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			private JsonToken nextToken() {
+				try {
+					return parser.nextToken();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+	}
+
+	private static UserImportRowDto toRow(String[] cells, Map<String, Integer> header) {
+		UserImportRowDto row = new UserImportRowDto();
+		row.setName(GradeCsvUtil.cell(cells, header, "name"));
+		row.setGender(GradeCsvUtil.cell(cells, header, "gender"));
+		row.setAddress(GradeCsvUtil.cell(cells, header, "address"));
+		row.setTel(GradeCsvUtil.cell(cells, header, "tel"));
+		row.setEmail(GradeCsvUtil.cell(cells, header, "email"));
+		row.setDeptName(GradeCsvUtil.cell(cells, header, "deptname"));
+		try {
+			row.setDeptId(GradeCsvUtil.intCell(cells, header, "deptid"));
+		} catch (NumberFormatException e) {
+			row.setError("학과 번호 형식이 올바르지 않습니다.");
+		}
+		try {
+			row.setBirthDate(dateCell(cells, header, "birthdate"));
+			row.setEntranceDate(dateCell(cells, header, "entrancedate"));
+		} catch (IllegalArgumentException e) {
+			row.setError("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+		}
+		return row;
+	}
+
+	private static Date dateCell(String[] cells, Map<String, Integer> header, String column) {
+		String value = GradeCsvUtil.cell(cells, header, column);
+		return value == null ? null : Date.valueOf(value);
+	}
+
+}
@@ -1,4 +1,5 @@
-<%@page import="com.green.university.controller.StuSubController"%>
+<%@page import="com.green.university.service.SugangPeriodService"%>
+<%@page import="org.springframework.web.context.support.WebApplicationContextUtils"%>
 <%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
 <%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c"%>
 
@@ -48,13 +49,15 @@
 		<h1>수강 신청 기간 설정</h1>
 		<div class="split--div"></div>
 		<%
-		if (StuSubController.SUGANG_PERIOD == 0) {
+		int sugangPeriod = WebApplicationContextUtils.getRequiredWebApplicationContext(application)
+				.getBean(SugangPeriodService.class).getPeriod();
+		if (sugangPeriod == 0) {
 		%>
 		<p class="no--list--p">현재 예비 수강 신청 기간입니다.</p>
 		<br> <a href="/sugang/updatePeriod1"><button type="submit" class="btn btn-primary create--tui">수강 신청 기간 시작</button></a>
 
 		<%
-		} else if (StuSubController.SUGANG_PERIOD == 1) {
+		} else if (sugangPeriod == 1) {
 		%>
 		<p class="no--list--p">현재 수강 신청 기간입니다.</p>
 		<br> <a href="/sugang/updatePeriod2"><button type="submit" class="btn btn-primary create--tui">수강 신청 기간 종료</button></a>
@@ -0,0 +1,155 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.green.university.dto.response.QueueStatusDto;
+
+/**
+ * 수강 신청 대기열 부하 시뮬레이션 (학생 10,000명)
+ */
+class AdmissionQueueServiceTest {
+
+	private static final int STUDENTS = 10_000;
+	private static final int MAX_ACTIVE = 500;
+	private static final long TICK_MS = 500;
+
+	/**
+	 * 가상 시간으로 10,000명이 동시에 몰렸을 때
+	 * 동시 입장 인원이 제한을 넘지 않고, 대기표 순서대로 입장하며
+	 * 정상 상태 처리량이 (동시 입장 인원 / 평균 체류 시간) 에 수렴하는지 확인
+	 */
+	@Test
+	void steadyStateThroughput() {
+		AdmissionQueueService queue = new AdmissionQueueService(MAX_ACTIVE, 60_000, 30_000);
+		Random random = new Random(42);
+
+		// 학생별 체류 시간 2~6초 (평균 4초)
+		Map<Integer, Long> leaveAt = new HashMap<>();
+		// 대기표 번호 -> 학생 id (대기 중인 학생)
+		TreeMap<Long, Integer> waitingByTicket = new TreeMap<>();
+		List<Long> admittedTickets = new ArrayList<>();
+		int admittedCount = 0;
+
+		long now = 1_000;
+		for (int studentId = 1; studentId <= STUDENTS; studentId++) {
+			QueueStatusDto status = queue.enter(studentId, now);
+			if (Boolean.TRUE.equals(status.getAdmitted())) {
+				leaveAt.put(studentId, now + 2_000 + random.nextInt(4_000));
+				admittedCount++;
+			} else {
+				waitingByTicket.put(status.getTicket(), studentId);
+			}
+		}
+		assertEquals(MAX_ACTIVE, queue.getActiveCount());
+		assertEquals(STUDENTS - MAX_ACTIVE, queue.getWaitingCount());
+
+		long start = now;
+		long steadyFrom = 0;
+		int admittedAtSteadyFrom = 0;
+		int maxObservedActive = 0;
+
+		while (admittedCount < STUDENTS) {
+			now += TICK_MS;
+
+			// 체류 시간이 끝난 학생은 나감
+			Iterator<Map.Entry<Integer, Long>> sessions = leaveAt.entrySet().iterator();
+			while (sessions.hasNext()) {
+				Map.Entry<Integer, Long> session = sessions.next();
+				if (session.getValue() <= now) {
+					queue.leave(session.getKey(), now);
+					sessions.remove();
+				}
+			}
+
+			// 대기 중인 학생은 대기표 순서대로 상태 조회 (대기표 만료 방지)
+			Iterator<Map.Entry<Long, Integer>> waiters = waitingByTicket.entrySet().iterator();
+			while (waiters.hasNext()) {
+				Map.Entry<Long, Integer> waiter = waiters.next();
+				QueueStatusDto status = queue.enter(waiter.getValue(), now);
+				if (Boolean.TRUE.equals(status.getAdmitted())) {
+					leaveAt.put(waiter.getValue(), now + 2_000 + random.nextInt(4_000));
+					admittedTickets.add(waiter.getKey());
+					admittedCount++;
+					waiters.remove();
+				}
+			}
+
+			queue.tick(now);
+			maxObservedActive = Math.max(maxObservedActive, queue.getActiveCount());
+
+			if (steadyFrom == 0 && now - start >= 10_000) {
+				steadyFrom = now;
+				admittedAtSteadyFrom = admittedCount;
+			}
+		}
+
+		assertTrue(maxObservedActive <= MAX_ACTIVE, "동시 입장 인원 초과: " + maxObservedActive);
+		assertEquals(0, queue.getWaitingCount());
+
+		// 대기표 순서대로 입장했는지 확인
+		for (int i = 1; i < admittedTickets.size(); i++) {
+			assertTrue(admittedTickets.get(i) > admittedTickets.get(i - 1));
+		}
+
+		double seconds = (now - steadyFrom) / 1000.0;
+		double throughput = (admittedCount - admittedAtSteadyFrom) / seconds;
+		double expected = MAX_ACTIVE / 4.0;
+		assertTrue(throughput > expected * 0.8 && throughput < expected * 1.2,
+				"정상 상태 처리량이 기대값과 다름: " + throughput);
+	}
+
+	/**
+	 * 여러 스레드에서 동시에 입장을 시도해도 동시 입장 인원이 제한을 넘지 않는지 확인
+	 */
+	@Test
+	void concurrentEnterNeverExceedsMaxActive() throws Exception {
+		AdmissionQueueService queue = new AdmissionQueueService(MAX_ACTIVE, 60_000, 30_000);
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(STUDENTS);
+		AtomicInteger passed = new AtomicInteger();
+
+		for (int i = 1; i <= STUDENTS; i++) {
+			final int studentId = i;
+			executor.execute(() -> {
+				try {
+					startLatch.await();
+					if (queue.tryPass(studentId) || Boolean.TRUE.equals(queue.enter(studentId).getAdmitted())) {
+						passed.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		startLatch.countDown();
+		assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+		executor.shutdown();
+
+		assertEquals(MAX_ACTIVE, passed.get());
+		assertEquals(MAX_ACTIVE, queue.getActiveCount());
+		assertEquals(STUDENTS - MAX_ACTIVE, queue.getWaitingCount());
+		assertFalse(queue.tryPass(STUDENTS + 1));
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.green.university.handler.exception.CustomRestfullException;
+
+/**
+ * 로그인 시도 제한: 틀린 시도만 아이디 한도 차감, 한도를 넘으면 429, 시간이 지나면 다시 참, IP 한도는 성공해도 차감,
+ * 버킷 수가 max-keys 에 도달해도 잠긴 아이디는 풀리지 않음
+ */
+class LoginThrottleServiceTest {
+
+	private static final int USER_ID = 2023000001;
+	private static final String IP = "10.0.0.1";
+	private static final long BASE = 1_700_000_000_000L;
+
+	private LoginThrottleService loginThrottleService;
+
+	@BeforeEach
+	void setUp() {
+		loginThrottleService = new LoginThrottleService();
+		ReflectionTestUtils.setField(loginThrottleService, "userCapacity", 5);
+		ReflectionTestUtils.setField(loginThrottleService, "userRefillPerMinute", 6.0);
+		ReflectionTestUtils.setField(loginThrottleService, "ipEnabled", true);
+		ReflectionTestUtils.setField(loginThrottleService, "ipCapacity", 20);
+		ReflectionTestUtils.setField(loginThrottleService, "ipRefillPerMinute", 60.0);
+		ReflectionTestUtils.setField(loginThrottleService, "maxKeys", 1000);
+	}
+
+	@Test
+	void successfulLoginsAreNotCharged() {
+		for (int i = 0; i < 10; i++) {
+			loginThrottleService.acquire(USER_ID, IP, BASE);
+			loginThrottleService.succeeded(USER_ID, BASE);
+		}
+
+		// 성공한 시도는 돌려받았으므로 틀린 시도 5번까지 가능
+		for (int i = 0; i < 5; i++) {
+			loginThrottleService.acquire(USER_ID, IP, BASE);
+		}
+		assertLocked(USER_ID, IP, BASE);
+	}
+
+	@Test
+	void failedLoginsLockOutUser() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottleService.acquire(USER_ID, IP, BASE);
+		}
+
+		assertLocked(USER_ID, IP, BASE);
+		// 다른 아이디는 같은 IP 라도 영향 없음
+		loginThrottleService.acquire(USER_ID + 1, IP, BASE);
+	}
+
+	@Test
+	void bucketRefillsOverTime() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottleService.acquire(USER_ID, IP, BASE);
+		}
+		assertLocked(USER_ID, IP, BASE);
+
+		// 분당 6개 -> 10초에 1개
+		assertLocked(USER_ID, IP, BASE + 9_000);
+		loginThrottleService.acquire(USER_ID, IP, BASE + 10_000);
+		assertLocked(USER_ID, IP, BASE + 10_000);
+
+		// 오래 지나도 capacity 까지만 참
+		for (int i = 0; i < 5; i++) {
+			loginThrottleService.acquire(USER_ID, IP, BASE + 3_600_000);
+		}
+		assertLocked(USER_ID, IP, BASE + 3_600_000);
+	}
+
+	@Test
+	void ipLimitCountsEveryAttempt() {
+		for (int i = 0; i < 20; i++) {
+			loginThrottleService.acquire(USER_ID + i, IP, BASE);
+			loginThrottleService.succeeded(USER_ID + i, BASE);
+		}
+
+		assertLocked(USER_ID + 100, IP, BASE);
+		loginThrottleService.acquire(USER_ID + 100, "10.0.0.2", BASE);
+
+		// IP 한도를 끄면 아이디 한도만 적용
+		ReflectionTestUtils.setField(loginThrottleService, "ipEnabled", false);
+		loginThrottleService.acquire(USER_ID + 100, IP, BASE);
+	}
+
+	@Test
+	void maxKeysNeverDropsLockedUsers() {
+		ReflectionTestUtils.setField(loginThrottleService, "maxKeys", 3);
+		ReflectionTestUtils.setField(loginThrottleService, "ipEnabled", false);
+		for (int user = 0; user < 3; user++) {
+			for (int i = 0; i < 5; i++) {
+				loginThrottleService.acquire(USER_ID + user, IP, BASE);
+			}
+		}
+
+		// 버킷이 가득 찼고 다시 찬 버킷이 없으므로 새 아이디는 거절하고 잠긴 아이디는 그대로
+		assertLocked(USER_ID + 3, IP, BASE);
+		assertLocked(USER_ID + 3, IP, BASE + 1_500);
+		for (int user = 0; user < 3; user++) {
+			assertLocked(USER_ID + user, IP, BASE + 1_500);
+		}
+
+		// 다시 가득 찬 버킷은 정리되어 새 아이디를 받음
+		loginThrottleService.acquire(USER_ID + 3, IP, BASE + 60_000);
+	}
+
+	private void assertLocked(Integer userId, String clientIp, long now) {
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> loginThrottleService.acquire(userId, clientIp, now));
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, e.getStatus());
+	}
+
+}
@@ -0,0 +1,141 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.green.university.dto.UpdateStudentGradeDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.StuSubDetailJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.TranscriptJpaRepository;
+import com.green.university.repository.model.Professor;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.GradeCsvUtil;
+
+/**
+ * 성적 일괄 입력: CSV 로 읽은 행 검증 (수강생/중복/등급/음수), 통과하면 batch 갱신 후 이수 학점/성적 요약 재계산
+ */
+class ProfessorServiceGradeTest {
+
+	private static final int PROFESSOR_ID = 230001;
+	private static final int SUBJECT_ID = 10;
+
+	private ProfessorService professorService;
+	private JdbcTemplate jdbcTemplate;
+	private StuSubJpaRepository stuSubJpaRepository;
+	private TranscriptJpaRepository transcriptJpaRepository;
+	private SubjectRosterService subjectRosterService;
+
+	@BeforeEach
+	void setUp() {
+		SubjectJpaRepository subjectJpaRepository = mock(SubjectJpaRepository.class);
+		StuSubDetailJpaRepository stuSubDetailJpaRepository = mock(StuSubDetailJpaRepository.class);
+		GradeScaleService gradeScaleService = mock(GradeScaleService.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		stuSubJpaRepository = mock(StuSubJpaRepository.class);
+		transcriptJpaRepository = mock(TranscriptJpaRepository.class);
+		subjectRosterService = mock(SubjectRosterService.class);
+
+		professorService = new ProfessorService();
+		ReflectionTestUtils.setField(professorService, "subjectJpaRepository", subjectJpaRepository);
+		ReflectionTestUtils.setField(professorService, "stuSubDetailJpaRepository", stuSubDetailJpaRepository);
+		ReflectionTestUtils.setField(professorService, "gradeScaleService", gradeScaleService);
+		ReflectionTestUtils.setField(professorService, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(professorService, "stuSubJpaRepository", stuSubJpaRepository);
+		ReflectionTestUtils.setField(professorService, "transcriptJpaRepository", transcriptJpaRepository);
+		ReflectionTestUtils.setField(professorService, "subjectRosterService", subjectRosterService);
+
+		Professor professor = new Professor();
+		professor.setId(PROFESSOR_ID);
+		Subject subject = new Subject();
+		subject.setId(SUBJECT_ID);
+		subject.setProfessor(professor);
+		subject.setSubYear(2023);
+		subject.setSemester(1);
+		subject.setGrades(3);
+		when(subjectJpaRepository.findById(SUBJECT_ID)).thenReturn(Optional.of(subject));
+		when(stuSubDetailJpaRepository.findStudentIdBySubjectId(SUBJECT_ID)).thenReturn(List.of(1, 2, 3));
+		when(gradeScaleService.contains(any())).thenAnswer(invocation ->
+				List.of("A+", "A0", "B+", "F").contains(invocation.getArgument(0)));
+	}
+
+	@Test
+	void updatesRowsReadFromCsv() throws IOException {
+		String csv = "studentId,absent,midExam,finalExam,grade\n1,0,80,90,A+\n2,1,,\"50\",F\n";
+		List<UpdateStudentGradeDto> rows = GradeCsvUtil.read(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), SUBJECT_ID);
+
+		assertEquals(2, professorService.updateGrades(PROFESSOR_ID, SUBJECT_ID, rows));
+
+		verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList(), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+		verify(stuSubJpaRepository).updateCompleteGradeBySubjectId(SUBJECT_ID, List.of(1, 2), 3);
+		verify(transcriptJpaRepository).refreshBySubject(SUBJECT_ID, 2023, 1);
+		verify(subjectRosterService).changed(SUBJECT_ID);
+	}
+
+	@Test
+	void rejectsInvalidRowsWithoutUpdating() {
+		List<UpdateStudentGradeDto> rows = List.of(
+				row(1, "A+", 80),
+				row(9, "A+", 80),
+				row(1, "B+", 70),
+				row(2, "Z", 70),
+				row(3, "A0", -1),
+				row(null, "A0", 70));
+
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> professorService.updateGrades(PROFESSOR_ID, SUBJECT_ID, rows));
+
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+		assertTrue(e.getMessage().contains("2번째 행: 9 학생은 수강생이 아닙니다."), e.getMessage());
+		assertTrue(e.getMessage().contains("3번째 행: 1 학생이 중복되었습니다."), e.getMessage());
+		assertTrue(e.getMessage().contains("4번째 행: 등급이 올바르지 않습니다. (Z)"), e.getMessage());
+		assertTrue(e.getMessage().contains("5번째 행: 출결/점수는 0 이상이어야 합니다."), e.getMessage());
+		assertTrue(e.getMessage().contains("6번째 행: 학번이 없습니다."), e.getMessage());
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+	}
+
+	@Test
+	void rejectsOtherProfessorsSubject() {
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> professorService.updateGrades(PROFESSOR_ID + 1, SUBJECT_ID, List.of(row(1, "A+", 80))));
+
+		assertEquals(HttpStatus.FORBIDDEN, e.getStatus());
+	}
+
+	private static UpdateStudentGradeDto row(Integer studentId, String grade, Integer midExam) {
+		UpdateStudentGradeDto row = new UpdateStudentGradeDto();
+		row.setStudentId(studentId);
+		row.setSubjectId(SUBJECT_ID);
+		row.setGrade(grade);
+		row.setMidExam(midExam);
+		return row;
+	}
+
+}
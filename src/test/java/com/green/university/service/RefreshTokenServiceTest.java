@@ -0,0 +1,142 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.green.university.dto.response.PrincipalDto;
+import com.green.university.dto.response.TokenDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.jwt.JwtUtil;
+import com.green.university.repository.RefreshTokenJpaRepository;
+import com.green.university.repository.model.RefreshToken;
+
+/**
+ * 리프레시 토큰: 재발급 시 같은 묶음으로 새 토큰 발급, 사용한 토큰 재사용/동시 사용 시 묶음 전체 폐기, 만료/폐기된 토큰 거절
+ */
+class RefreshTokenServiceTest {
+
+	private static final int USER_ID = 2023000001;
+
+	private RefreshTokenService refreshTokenService;
+	private RefreshTokenJpaRepository refreshTokenJpaRepository;
+	private TokenRevocationService tokenRevocationService;
+
+	private final PrincipalDto principal = PrincipalDto.builder().id(USER_ID).userRole("student").build();
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenJpaRepository = mock(RefreshTokenJpaRepository.class);
+		tokenRevocationService = mock(TokenRevocationService.class);
+		PrincipalCacheService principalCacheService = mock(PrincipalCacheService.class);
+		JwtUtil jwtUtil = mock(JwtUtil.class);
+
+		refreshTokenService = new RefreshTokenService();
+		ReflectionTestUtils.setField(refreshTokenService, "refreshTokenJpaRepository", refreshTokenJpaRepository);
+		ReflectionTestUtils.setField(refreshTokenService, "tokenRevocationService", tokenRevocationService);
+		ReflectionTestUtils.setField(refreshTokenService, "principalCacheService", principalCacheService);
+		ReflectionTestUtils.setField(refreshTokenService, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(refreshTokenService, "accessExpirationMs", 900_000L);
+		ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationMs", 1_209_600_000L);
+
+		when(principalCacheService.read(USER_ID)).thenReturn(principal);
+		when(jwtUtil.generateToken(eq(principal), anyString()))
+				.thenAnswer(invocation -> "access-" + invocation.getArgument(1));
+	}
+
+	@Test
+	void rotateIssuesNewTokenInSameFamily() {
+		TokenDto first = refreshTokenService.issue(principal);
+		RefreshToken issued = lastSaved(1);
+		assertNotEquals(first.getRefreshToken(), issued.getTokenHash());
+		issued.setId(1);
+		when(refreshTokenJpaRepository.findByTokenHash(issued.getTokenHash())).thenReturn(Optional.of(issued));
+		when(refreshTokenJpaRepository.markUsed(eq(1), any(Timestamp.class))).thenReturn(1);
+
+		TokenDto second = refreshTokenService.rotate(first.getRefreshToken());
+
+		RefreshToken rotated = lastSaved(2);
+		assertNotEquals(first.getRefreshToken(), second.getRefreshToken());
+		assertNotEquals(issued.getTokenHash(), rotated.getTokenHash());
+		assertEquals(issued.getFamilyId(), rotated.getFamilyId());
+		assertEquals("access-" + rotated.getAccessJti(), second.getAccessToken());
+		verify(refreshTokenJpaRepository, never()).revokeFamily(anyString());
+	}
+
+	@Test
+	void reusedTokenRevokesFamily() {
+		TokenDto first = refreshTokenService.issue(principal);
+		RefreshToken issued = lastSaved(1);
+		issued.setId(1);
+		issued.setUsedAt(new Timestamp(System.currentTimeMillis()));
+		when(refreshTokenJpaRepository.findByTokenHash(issued.getTokenHash())).thenReturn(Optional.of(issued));
+		when(refreshTokenJpaRepository.findAccessJtiByFamilyId(eq(issued.getFamilyId()), any(Timestamp.class)))
+				.thenReturn(List.of("jti-1", "jti-2"));
+
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> refreshTokenService.rotate(first.getRefreshToken()));
+
+		assertEquals(HttpStatus.UNAUTHORIZED, e.getStatus());
+		verify(refreshTokenJpaRepository).revokeFamily(issued.getFamilyId());
+		verify(tokenRevocationService).revoke(eq(List.of("jti-1", "jti-2")), any(Timestamp.class));
+		// 새 토큰은 발급하지 않음
+		verify(refreshTokenJpaRepository, times(1)).save(any(RefreshToken.class));
+	}
+
+	@Test
+	void concurrentUseRevokesFamily() {
+		TokenDto first = refreshTokenService.issue(principal);
+		RefreshToken issued = lastSaved(1);
+		issued.setId(1);
+		when(refreshTokenJpaRepository.findByTokenHash(issued.getTokenHash())).thenReturn(Optional.of(issued));
+		// 다른 요청이 먼저 사용 처리함
+		when(refreshTokenJpaRepository.markUsed(eq(1), any(Timestamp.class))).thenReturn(0);
+
+		assertThrows(CustomRestfullException.class, () -> refreshTokenService.rotate(first.getRefreshToken()));
+
+		verify(refreshTokenJpaRepository).revokeFamily(issued.getFamilyId());
+	}
+
+	@Test
+	void expiredOrRevokedTokenIsRejectedWithoutRevoking() {
+		TokenDto first = refreshTokenService.issue(principal);
+		RefreshToken issued = lastSaved(1);
+		when(refreshTokenJpaRepository.findByTokenHash(issued.getTokenHash())).thenReturn(Optional.of(issued));
+
+		issued.setExpiresAt(new Timestamp(System.currentTimeMillis() - 1));
+		assertThrows(CustomRestfullException.class, () -> refreshTokenService.rotate(first.getRefreshToken()));
+
+		issued.setExpiresAt(new Timestamp(System.currentTimeMillis() + 60_000));
+		issued.setRevoked(true);
+		assertThrows(CustomRestfullException.class, () -> refreshTokenService.rotate(first.getRefreshToken()));
+
+		assertThrows(CustomRestfullException.class, () -> refreshTokenService.rotate("unknown"));
+		verify(refreshTokenJpaRepository, never()).revokeFamily(anyString());
+	}
+
+	// save 가 times 번 호출되었는지 확인하고 마지막에 저장한 토큰
+	private RefreshToken lastSaved(int times) {
+		ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+		verify(refreshTokenJpaRepository, times(times)).save(captor.capture());
+		return captor.getValue();
+	}
+
+}
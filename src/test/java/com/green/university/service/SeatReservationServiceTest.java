@@ -0,0 +1,223 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.Define;
+
+/**
+ * 좌석 배정: DB 조건부 UPDATE 기준으로 정원 초과 없음 (다른 서버 신청 포함), 정원이 찬 강의는 카운터로 바로 거절,
+ * 롤백/취소 시 카운터 반영, 주기적으로 DB 값에 맞춤
+ */
+class SeatReservationServiceTest {
+
+	private static final int SUBJECT_ID = 1;
+	private static final int CAPACITY = 30;
+
+	private SeatReservationService seatReservationService;
+	private SubjectJpaRepository subjectJpaRepository;
+
+	// subject_tb 의 현재 인원 (reserveSeat/releaseSeat 조건부 UPDATE 흉내)
+	private final AtomicInteger numOfStudent = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		subjectJpaRepository = mock(SubjectJpaRepository.class);
+		seatReservationService = new SeatReservationService();
+		ReflectionTestUtils.setField(seatReservationService, "subjectJpaRepository", subjectJpaRepository);
+		ReflectionTestUtils.setField(seatReservationService, "transactionManager", mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(seatReservationService, "seatBroadcastService", new SeatBroadcastService());
+
+		when(subjectJpaRepository.reserveSeat(SUBJECT_ID)).thenAnswer(invocation ->
+				numOfStudent.getAndUpdate(count -> count < CAPACITY ? count + 1 : count) < CAPACITY ? 1 : 0);
+		when(subjectJpaRepository.releaseSeat(SUBJECT_ID)).thenAnswer(invocation ->
+				numOfStudent.getAndUpdate(count -> count > 0 ? count - 1 : count) > 0 ? 1 : 0);
+		stubSeatInfo(0);
+		seatReservationService.load();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * 다른 서버가 이미 자리를 가져간 상태(카운터는 모름)에서 동시에 요청이 몰려도 DB 정원만큼만 배정
+	 */
+	@Test
+	void concurrentReserveNeverExceedsCapacity() throws Exception {
+		int takenByOtherNode = 10;
+		numOfStudent.set(takenByOtherNode);
+
+		int requests = 2_000;
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(requests);
+		AtomicInteger reserved = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		for (int i = 0; i < requests; i++) {
+			executor.execute(() -> {
+				try {
+					startLatch.await();
+					seatReservationService.reserve(subject());
+					reserved.incrementAndGet();
+				} catch (CustomRestfullException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+		startLatch.countDown();
+		assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+		executor.shutdown();
+
+		assertEquals(CAPACITY - takenByOtherNode, reserved.get());
+		assertEquals(requests - reserved.get(), rejected.get());
+		assertEquals(CAPACITY, numOfStudent.get());
+		assertTrue(seatReservationService.isFull(SUBJECT_ID));
+	}
+
+	/**
+	 * DB 에서 정원이 찼다고 확인되면 이후 요청은 DB 에 가지 않고 거절
+	 */
+	@Test
+	void fullInDatabaseRejectsWithoutFurtherUpdates() {
+		numOfStudent.set(CAPACITY);
+
+		assertThrows(CustomRestfullException.class, () -> seatReservationService.reserve(subject()));
+		assertTrue(seatReservationService.isFull(SUBJECT_ID));
+		assertThrows(CustomRestfullException.class, () -> seatReservationService.reserve(subject()));
+
+		verify(subjectJpaRepository, times(1)).reserveSeat(SUBJECT_ID);
+	}
+
+	/**
+	 * 수강 신청 트랜잭션이 롤백되면 카운터도 되돌림 (DB 의 현재 인원은 트랜잭션과 함께 롤백)
+	 */
+	@Test
+	void rollbackReleasesCounter() {
+		TransactionSynchronizationManager.initSynchronization();
+		seatReservationService.reserve(subject());
+		assertEquals(1, seatReservationService.readCount(SUBJECT_ID));
+
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertEquals(0, seatReservationService.readCount(SUBJECT_ID));
+	}
+
+	/**
+	 * 수강 취소는 트랜잭션 안에서 현재 인원을 줄이고, 커밋된 뒤에 카운터 반영과 빈 자리 알림
+	 */
+	@Test
+	void releaseNotifiesAfterCommit() {
+		seatReservationService.reserve(subject());
+		List<Integer> freed = new ArrayList<>();
+
+		TransactionSynchronizationManager.initSynchronization();
+		seatReservationService.release(SUBJECT_ID, freed::add);
+		verify(subjectJpaRepository).releaseSeat(SUBJECT_ID);
+		assertEquals(1, seatReservationService.readCount(SUBJECT_ID));
+		assertTrue(freed.isEmpty());
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertEquals(0, seatReservationService.readCount(SUBJECT_ID));
+		assertEquals(List.of(SUBJECT_ID), freed);
+	}
+
+	/**
+	 * 대기자에게 넘길 자리는 현재 트랜잭션에서 DB 로 잡고 카운터는 커밋 후 반영, 그 사이 정원이 찼으면 잡지 못함
+	 */
+	@Test
+	void holdCountsInDatabase() {
+		TransactionSynchronizationManager.initSynchronization();
+		assertTrue(seatReservationService.hold(SUBJECT_ID));
+		assertEquals(1, numOfStudent.get());
+		assertEquals(0, seatReservationService.readCount(SUBJECT_ID));
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+		assertEquals(1, seatReservationService.readCount(SUBJECT_ID));
+
+		seatReservationService.releaseHeld(SUBJECT_ID);
+		assertEquals(0, numOfStudent.get());
+		assertEquals(0, seatReservationService.readCount(SUBJECT_ID));
+
+		numOfStudent.set(CAPACITY);
+		assertFalse(seatReservationService.hold(SUBJECT_ID));
+		assertTrue(seatReservationService.isFull(SUBJECT_ID));
+	}
+
+	/**
+	 * 다른 서버의 신청/취소는 동기화 주기에 카운터로 반영
+	 */
+	@Test
+	void syncAppliesOtherNodesChanges() {
+		long version = seatReservationService.getVersion();
+		stubSeatInfo(CAPACITY);
+
+		seatReservationService.sync();
+		assertTrue(seatReservationService.isFull(SUBJECT_ID));
+		assertEquals(CAPACITY, seatReservationService.readCount(SUBJECT_ID));
+		assertTrue(seatReservationService.getVersion() > version);
+
+		stubSeatInfo(CAPACITY - 1);
+		seatReservationService.sync();
+		assertFalse(seatReservationService.isFull(SUBJECT_ID));
+		verify(subjectJpaRepository, never()).reserveSeat(SUBJECT_ID);
+	}
+
+	private void stubSeatInfo(int count) {
+		Object[] row = { SUBJECT_ID, CAPACITY, count };
+		when(subjectJpaRepository.findSeatInfoBySubYearAndSemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER))
+				.thenReturn(List.<Object[]>of(row));
+	}
+
+	private static Subject subject() {
+		Subject subject = new Subject();
+		subject.setId(SUBJECT_ID);
+		subject.setCapacity(CAPACITY);
+		subject.setNumOfStudent(0);
+		return subject;
+	}
+
+	// 등록된 트랜잭션 콜백을 status 로 완료 처리
+	private static void complete(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		for (TransactionSynchronization synchronization : synchronizations) {
+			synchronization.afterCompletion(status);
+		}
+	}
+
+}
@@ -0,0 +1,206 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.green.university.dto.response.StuSubPromotionDto;
+import com.green.university.repository.StuSubDetailJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.StuSubPromotionJpaRepository;
+import com.green.university.repository.model.College;
+import com.green.university.repository.model.Department;
+import com.green.university.repository.model.PreStuSub;
+import com.green.university.repository.model.Professor;
+import com.green.university.repository.model.Room;
+import com.green.university.repository.model.StuSubPromotion;
+import com.green.university.repository.model.Student;
+import com.green.university.repository.model.Subject;
+import com.green.university.utils.Define;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 예비 수강 신청 -> 수강 신청 이관: 정원 초과 강의 추첨, 재실행 시 중복 생성 없음
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.sql.init.mode=never",
+		"sugang.promotion.chunk-size=2"
+})
+@Import({ StuSubPromotionService.class, SeatLotteryService.class })
+class StuSubPromotionServiceTest {
+
+	private static final String[] DAYS = { "월", "화", "수" };
+
+	@Autowired
+	private StuSubPromotionService stuSubPromotionService;
+
+	@Autowired
+	private StuSubJpaRepository stuSubJpaRepository;
+
+	@Autowired
+	private StuSubDetailJpaRepository stuSubDetailJpaRepository;
+
+	@Autowired
+	private StuSubPromotionJpaRepository stuSubPromotionJpaRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Department department;
+	private Professor professor;
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		College college = new College();
+		college.setName("공과대학");
+		entityManager.persist(college);
+
+		department = new Department();
+		department.setName("컴퓨터공학과");
+		department.setCollege(college);
+		entityManager.persist(department);
+
+		professor = new Professor();
+		professor.setName("교수");
+		professor.setBirthDate(Date.valueOf("1970-01-01"));
+		professor.setGender("남성");
+		professor.setAddress("부산");
+		professor.setTel("010-0000-0000");
+		professor.setEmail("professor@green.ac.kr");
+		professor.setDepartment(department);
+		entityManager.persist(professor);
+
+		room = new Room();
+		room.setId("E601");
+		room.setCollege(college);
+		entityManager.persist(room);
+	}
+
+	@Test
+	void promoteCopiesPreStuSubAndDrawsOverCapacity() {
+		Student[] students = new Student[3];
+		for (int i = 0; i < students.length; i++) {
+			students[i] = createStudent();
+		}
+		// 정원 안: 3개 강의 x 3명, 정원 초과: 1개 강의 (정원 2명에 3명 신청)
+		Subject[] subjects = new Subject[3];
+		for (int i = 0; i < subjects.length; i++) {
+			subjects[i] = createSubject(30, DAYS[i], students);
+		}
+		Subject over = createSubject(2, "목", students);
+		entityManager.flush();
+		entityManager.clear();
+
+		StuSubPromotionDto result = stuSubPromotionService.promote();
+
+		assertEquals(11, result.getPromotedCount());
+		assertEquals(3, result.getDoneSubjects());
+		assertEquals(1, result.getLotterySubjects());
+		assertEquals(11, stuSubJpaRepository.count());
+		assertEquals(11, stuSubDetailJpaRepository.count());
+
+		entityManager.clear();
+		assertEquals(3, entityManager.find(Subject.class, subjects[0].getId()).getNumOfStudent());
+		assertEquals(2, entityManager.find(Subject.class, over.getId()).getNumOfStudent());
+		StuSubPromotion lottery = stuSubPromotionJpaRepository.findById(over.getId()).orElseThrow();
+		assertEquals(StuSubPromotion.LOTTERY, lottery.getStatus());
+		assertEquals(3, lottery.getPreCount());
+		assertEquals(2, lottery.getPromotedCount());
+	}
+
+	@Test
+	void lotterySkipsTimetableConflict() {
+		Student busy = createStudent();
+		Student free = createStudent();
+		// busy 학생은 월 9~11시 강의를 이미 신청
+		createSubject(30, "월", busy);
+		Subject over = createSubject(1, "월", busy, free);
+		entityManager.flush();
+		entityManager.clear();
+
+		stuSubPromotionService.promote();
+
+		entityManager.clear();
+		assertEquals(1, entityManager.find(Subject.class, over.getId()).getNumOfStudent());
+		assertEquals(1, stuSubJpaRepository.findBySubjectId(over.getId()).size());
+		assertEquals(free.getId(), stuSubJpaRepository.findBySubjectId(over.getId()).get(0).getStudentId());
+	}
+
+	@Test
+	void rerunResumesWithoutDuplicates() {
+		Student student = createStudent();
+		Subject first = createSubject(30, "월", student);
+		createSubject(30, "화", student);
+		entityManager.flush();
+
+		// 첫 번째 강의까지만 처리된 뒤 중단된 상황
+		stuSubJpaRepository.insertFromPreStuSub(List.of(first.getId()));
+		stuSubDetailJpaRepository.insertFromStuSub(List.of(first.getId()));
+		stuSubPromotionJpaRepository.insertBySubjectIds(List.of(first.getId()), StuSubPromotion.DONE);
+		entityManager.clear();
+
+		StuSubPromotionDto result = stuSubPromotionService.promote();
+		assertEquals(1, result.getResumedSubjects());
+		assertEquals(1, result.getPromotedCount());
+		assertEquals(2, stuSubJpaRepository.count());
+
+		// 기록을 지우고 다시 실행해도 이미 있는 수강 신청 내역은 다시 만들지 않음
+		stuSubPromotionService.clear();
+		result = stuSubPromotionService.promote();
+		assertEquals(0, result.getPromotedCount());
+		assertEquals(2, stuSubJpaRepository.count());
+		assertEquals(2, stuSubDetailJpaRepository.count());
+	}
+
+	private Student createStudent() {
+		Student student = new Student();
+		student.setName("학생");
+		student.setBirthDate(Date.valueOf("2000-01-01"));
+		student.setGender("여성");
+		student.setAddress("부산");
+		student.setTel("010-1111-1111");
+		student.setEmail("student@green.ac.kr");
+		student.setDepartment(department);
+		student.setGrade(1);
+		student.setSemester(1);
+		student.setEntranceDate(Date.valueOf("2023-03-02"));
+		entityManager.persist(student);
+		return student;
+	}
+
+	private Subject createSubject(int capacity, String subDay, Student... preStudents) {
+		Subject subject = new Subject();
+		subject.setName("과목");
+		subject.setProfessor(professor);
+		subject.setRoom(room);
+		subject.setDepartment(department);
+		subject.setType("전공");
+		subject.setSubYear(Define.CURRENT_YEAR);
+		subject.setSemester(Define.CURRENT_SEMESTER);
+		subject.setSubDay(subDay);
+		subject.setStartTime(9);
+		subject.setEndTime(11);
+		subject.setGrades(3);
+		subject.setCapacity(capacity);
+		subject.setNumOfStudent(0);
+		subject.setPreNumOfStudent(preStudents.length);
+		entityManager.persist(subject);
+
+		for (Student student : preStudents) {
+			entityManager.persist(new PreStuSub(student.getId(), subject.getId()));
+		}
+		return subject;
+	}
+
+}
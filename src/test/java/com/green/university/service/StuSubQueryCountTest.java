@@ -0,0 +1,236 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.green.university.dto.response.StuSubAppDto;
+import com.green.university.repository.model.College;
+import com.green.university.repository.model.Department;
+import com.green.university.repository.model.PreStuSub;
+import com.green.university.repository.model.Professor;
+import com.green.university.repository.model.Room;
+import com.green.university.repository.model.StuSub;
+import com.green.university.repository.model.Student;
+import com.green.university.repository.model.Subject;
+import com.green.university.repository.model.SugangPeriod;
+import com.green.university.utils.Define;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 수강 신청/예비 수강 신청 및 신청 내역 조회 시 실행되는 SQL 수가 기존 신청 과목 수와 무관한지 확인
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.sql.init.mode=never"
+})
+@Import({ StuSubService.class, PreStuSubService.class, SubjectService.class, SeatReservationService.class,
+		SubjectCatalogService.class, SeatBroadcastService.class, WaitlistService.class })
+class StuSubQueryCountTest {
+
+	private static final String[] DAYS = { "월", "화", "수", "목", "금", "토" };
+
+	@Autowired
+	private StuSubService stuSubService;
+
+	@Autowired
+	private PreStuSubService preStuSubService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Department department;
+	private Professor professor;
+	private Room room;
+
+	@BeforeEach
+	void setUp() {
+		College college = new College();
+		college.setName("공과대학");
+		entityManager.persist(college);
+
+		department = new Department();
+		department.setName("컴퓨터공학과");
+		department.setCollege(college);
+		entityManager.persist(department);
+
+		professor = new Professor();
+		professor.setName("교수");
+		professor.setBirthDate(Date.valueOf("1970-01-01"));
+		professor.setGender("남성");
+		professor.setAddress("부산");
+		professor.setTel("010-0000-0000");
+		professor.setEmail("professor@green.ac.kr");
+		professor.setDepartment(department);
+		entityManager.persist(professor);
+
+		room = new Room();
+		room.setId("E601");
+		room.setCollege(college);
+		entityManager.persist(room);
+
+		// 수강 신청은 DB 의 기간을 다시 확인함
+		SugangPeriod period = new SugangPeriod();
+		period.setSubYear(Define.CURRENT_YEAR);
+		period.setSemester(Define.CURRENT_SEMESTER);
+		period.setPeriod(SugangPeriodService.OPEN);
+		period.setVersion(1);
+		entityManager.persist(period);
+	}
+
+	@Test
+	void createStuSubQueryCountDoesNotDependOnRegisteredSubjects() {
+		long withOne = countCreateStuSub(1);
+		long withSix = countCreateStuSub(6);
+
+		assertEquals(withOne, withSix, "수강 신청 과목 수에 따라 SQL 수가 달라짐");
+	}
+
+	@Test
+	void createPreStuSubQueryCountDoesNotDependOnRegisteredSubjects() {
+		long withOne = countCreatePreStuSub(1);
+		long withSix = countCreatePreStuSub(6);
+
+		assertEquals(withOne, withSix, "예비 수강 신청 과목 수에 따라 SQL 수가 달라짐");
+	}
+
+	@Test
+	void registeredSubjectIdsLoadedInOneStatement() {
+		Student student = createStudent();
+		Subject registered = createSubject("월");
+		Subject other = createSubject("화");
+		StuSub stuSub = new StuSub();
+		stuSub.setStudent(student);
+		stuSub.setSubject(registered);
+		entityManager.persist(stuSub);
+		entityManager.persist(new PreStuSub(student.getId(), other.getId()));
+
+		List<Set<Integer>> result = new ArrayList<>();
+		long statements = countStatements(() -> result.add(stuSubService.readStuSubSubjectIds(student.getId())));
+		statements += countStatements(() -> result.add(preStuSubService.readPreStuSubSubjectIds(student.getId())));
+
+		assertEquals(2, statements);
+		assertEquals(Set.of(registered.getId()), result.get(0));
+		assertEquals(Set.of(other.getId()), result.get(1));
+	}
+
+	@Test
+	void appListsLoadedInOneStatementEach() {
+		Student student = createStudent();
+		for (int i = 0; i < 4; i++) {
+			Subject subject = createSubject(DAYS[i]);
+			entityManager.persist(new PreStuSub(student.getId(), subject.getId()));
+			if (i < 2) {
+				StuSub stuSub = new StuSub();
+				stuSub.setStudent(student);
+				stuSub.setSubject(subject);
+				entityManager.persist(stuSub);
+			}
+		}
+
+		List<List<StuSubAppDto>> result = new ArrayList<>();
+		assertEquals(1, countStatements(() -> result.add(preStuSubService.readPreStuSubList(student.getId()))));
+		assertEquals(1, countStatements(() -> result.add(stuSubService.readPreStuSubByStuSub(student.getId()))));
+		assertEquals(1, countStatements(() -> result.add(stuSubService.readStuSubList(student.getId()))));
+
+		assertEquals(4, result.get(0).size());
+		assertEquals(List.of("수", "목"), result.get(1).stream().map(StuSubAppDto::getSubDay).toList());
+		assertEquals(List.of("월", "화"), result.get(2).stream().map(StuSubAppDto::getSubDay).toList());
+		assertEquals("교수", result.get(2).get(0).getProfessorName());
+		assertEquals("E601", result.get(2).get(0).getRoomId());
+	}
+
+	private long countCreateStuSub(int registered) {
+		Student student = createStudent();
+		for (int i = 0; i < registered; i++) {
+			StuSub stuSub = new StuSub();
+			stuSub.setStudent(student);
+			stuSub.setSubject(createSubject(DAYS[i]));
+			entityManager.persist(stuSub);
+		}
+		Subject target = createSubject("월");
+		target.setStartTime(17);
+		target.setEndTime(18);
+
+		return countStatements(() -> stuSubService.createStuSub(student.getId(), target.getId()));
+	}
+
+	private long countCreatePreStuSub(int registered) {
+		Student student = createStudent();
+		for (int i = 0; i < registered; i++) {
+			entityManager.persist(new PreStuSub(student.getId(), createSubject(DAYS[i]).getId()));
+		}
+		Subject target = createSubject("월");
+		target.setStartTime(17);
+		target.setEndTime(18);
+
+		return countStatements(() -> preStuSubService.createPreStuSub(student.getId(), target.getId()));
+	}
+
+	private long countStatements(Runnable action) {
+		entityManager.flush();
+		entityManager.clear();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		action.run();
+		entityManager.flush();
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Student createStudent() {
+		Student student = new Student();
+		student.setName("학생");
+		student.setBirthDate(Date.valueOf("2000-01-01"));
+		student.setGender("여성");
+		student.setAddress("부산");
+		student.setTel("010-1111-1111");
+		student.setEmail("student@green.ac.kr");
+		student.setDepartment(department);
+		student.setGrade(1);
+		student.setSemester(1);
+		student.setEntranceDate(Date.valueOf("2023-03-02"));
+		entityManager.persist(student);
+		return student;
+	}
+
+	private Subject createSubject(String subDay) {
+		Subject subject = new Subject();
+		subject.setName("과목");
+		subject.setProfessor(professor);
+		subject.setRoom(room);
+		subject.setDepartment(department);
+		subject.setType("전공");
+		subject.setSubYear(Define.CURRENT_YEAR);
+		subject.setSemester(Define.CURRENT_SEMESTER);
+		subject.setSubDay(subDay);
+		subject.setStartTime(9);
+		subject.setEndTime(11);
+		subject.setGrades(2);
+		subject.setCapacity(30);
+		subject.setNumOfStudent(0);
+		entityManager.persist(subject);
+		return subject;
+	}
+
+}
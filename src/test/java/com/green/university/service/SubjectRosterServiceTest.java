@@ -0,0 +1,82 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.green.university.dto.response.StuSubResponseDto;
+import com.green.university.repository.RosterVersionJpaRepository;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.model.RosterVersion;
+import com.green.university.repository.model.Subject;
+
+/**
+ * 수강생 명단 캐시: 같은 버전이면 캐시 사용, 다른 서버가 성적을 기입해 버전이 바뀌면 다시 조회, 버전 행이 없으면 만들고 올림
+ */
+class SubjectRosterServiceTest {
+
+	private static final int SUBJECT_ID = 10;
+
+	private SubjectRosterService subjectRosterService;
+	private StuSubJpaRepository stuSubJpaRepository;
+	private RosterVersionJpaRepository rosterVersionJpaRepository;
+	private Subject subject;
+
+	@BeforeEach
+	void setUp() {
+		stuSubJpaRepository = mock(StuSubJpaRepository.class);
+		rosterVersionJpaRepository = mock(RosterVersionJpaRepository.class);
+
+		subjectRosterService = new SubjectRosterService();
+		ReflectionTestUtils.setField(subjectRosterService, "stuSubJpaRepository", stuSubJpaRepository);
+		ReflectionTestUtils.setField(subjectRosterService, "sugangPeriodService", mock(SugangPeriodService.class));
+		ReflectionTestUtils.setField(subjectRosterService, "rosterVersionJpaRepository", rosterVersionJpaRepository);
+		ReflectionTestUtils.setField(subjectRosterService, "transactionManager", mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(subjectRosterService, "ttlMs", 300000L);
+		ReflectionTestUtils.setField(subjectRosterService, "maxSubjects", 1000);
+
+		// 지난 학기 강의 (수강 인원이 더 바뀌지 않으므로 캐시 대상)
+		subject = new Subject();
+		subject.setId(SUBJECT_ID);
+		subject.setSubYear(2000);
+		subject.setSemester(1);
+		when(stuSubJpaRepository.findRosterBySubjectId(SUBJECT_ID)).thenReturn(List.of(new StuSubResponseDto()));
+	}
+
+	@Test
+	void cachedRosterIsReloadedWhenVersionChanges() {
+		when(rosterVersionJpaRepository.findVersion(SUBJECT_ID)).thenReturn(null, 0, 1, 1);
+
+		for (int i = 0; i < 4; i++) {
+			assertEquals(1, subjectRosterService.readRoster(subject).size());
+		}
+
+		verify(stuSubJpaRepository, times(2)).findRosterBySubjectId(SUBJECT_ID);
+	}
+
+	@Test
+	void changedCreatesMissingVersionRow() {
+		when(rosterVersionJpaRepository.findVersion(SUBJECT_ID)).thenReturn(0);
+		when(rosterVersionJpaRepository.increase(SUBJECT_ID)).thenReturn(0, 1);
+		subjectRosterService.readRoster(subject);
+
+		subjectRosterService.changed(SUBJECT_ID);
+
+		verify(rosterVersionJpaRepository).save(any(RosterVersion.class));
+		verify(rosterVersionJpaRepository, times(2)).increase(SUBJECT_ID);
+		// 이 서버의 캐시는 커밋 후 바로 제거
+		subjectRosterService.readRoster(subject);
+		verify(stuSubJpaRepository, times(2)).findRosterBySubjectId(SUBJECT_ID);
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.green.university.repository.RevokedTokenJpaRepository;
+import com.green.university.repository.model.RevokedToken;
+
+/**
+ * 폐기 토큰 목록: 다른 서버의 폐기를 폐기 시각으로 겹쳐 읽어서, id 순서와 다르게 늦게 커밋된 행도 반영
+ */
+class TokenRevocationServiceTest {
+
+	private static final long OVERLAP_MS = 30_000;
+	private static final long BASE = 1_700_000_000_000L;
+
+	private TokenRevocationService tokenRevocationService;
+	private RevokedTokenJpaRepository revokedTokenJpaRepository;
+
+	@BeforeEach
+	void setUp() {
+		revokedTokenJpaRepository = mock(RevokedTokenJpaRepository.class);
+		tokenRevocationService = new TokenRevocationService();
+		ReflectionTestUtils.setField(tokenRevocationService, "revokedTokenJpaRepository", revokedTokenJpaRepository);
+		ReflectionTestUtils.setField(tokenRevocationService, "transactionManager", mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(tokenRevocationService, "expectedSize", 1000);
+		ReflectionTestUtils.setField(tokenRevocationService, "overlapMs", OVERLAP_MS);
+
+		when(revokedTokenJpaRepository.findActive(any())).thenReturn(List.of(row(1, "a", BASE)));
+		tokenRevocationService.rebuild();
+	}
+
+	@Test
+	void pollRereadsOverlapWindow() {
+		// id 3 이 먼저 커밋되고, 먼저 INSERT 한 id 2 는 나중에 커밋됨
+		when(revokedTokenJpaRepository.findRevokedSince(any())).thenReturn(
+				List.of(row(3, "c", BASE + 2_000)),
+				List.of(row(2, "b", BASE + 1_000), row(3, "c", BASE + 2_000)));
+
+		tokenRevocationService.poll();
+		assertTrue(tokenRevocationService.isRevoked("c"));
+		assertFalse(tokenRevocationService.isRevoked("b"));
+
+		tokenRevocationService.poll();
+		assertTrue(tokenRevocationService.isRevoked("a"));
+		assertTrue(tokenRevocationService.isRevoked("b"));
+		assertTrue(tokenRevocationService.isRevoked("c"));
+
+		ArgumentCaptor<Timestamp> since = ArgumentCaptor.forClass(Timestamp.class);
+		verify(revokedTokenJpaRepository, times(2)).findRevokedSince(since.capture());
+		List<Long> values = new ArrayList<>();
+		for (Timestamp timestamp : since.getAllValues()) {
+			values.add(timestamp.getTime());
+		}
+		// 지금까지 본 가장 늦은 폐기 시각 - overlap
+		assertEquals(List.of(BASE - OVERLAP_MS, BASE + 2_000 - OVERLAP_MS), values);
+	}
+
+	@Test
+	void failedPollKeepsPosition() {
+		when(revokedTokenJpaRepository.findRevokedSince(any()))
+				.thenThrow(new IllegalStateException("DB 연결 실패"))
+				.thenReturn(List.of(row(2, "b", BASE + 1_000)));
+
+		tokenRevocationService.poll();
+		tokenRevocationService.poll();
+
+		assertTrue(tokenRevocationService.isRevoked("b"));
+		assertFalse(tokenRevocationService.isRevoked("unknown"));
+	}
+
+	private static RevokedToken row(int id, String jti, long revokedAt) {
+		RevokedToken row = new RevokedToken();
+		row.setId(id);
+		row.setJti(jti);
+		row.setExpiresAt(new Timestamp(revokedAt + 900_000));
+		row.setRevokedAt(new Timestamp(revokedAt));
+		return row;
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.green.university.dto.UserImportRowDto;
+import com.green.university.dto.response.UserImportResultDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.DepartmentJpaRepository;
+import com.green.university.repository.model.Department;
+
+/**
+ * 사용자 일괄 등록: 검증 실패 행 보고, 비밀번호 암호화는 트랜잭션 밖, 계정 저장 실패 시 먼저 저장한 역할 행 삭제
+ */
+class UserImportServiceTest {
+
+	private UserImportService userImportService;
+	private JdbcTemplate jdbcTemplate;
+	private PlatformTransactionManager transactionManager;
+	private PasswordHashingService passwordHashingService;
+	private StuStatCheckService stuStatCheckService;
+
+	@BeforeEach
+	void setUp() {
+		DepartmentJpaRepository departmentJpaRepository = mock(DepartmentJpaRepository.class);
+		jdbcTemplate = mock(JdbcTemplate.class);
+		transactionManager = mock(PlatformTransactionManager.class);
+		passwordHashingService = mock(PasswordHashingService.class);
+		stuStatCheckService = mock(StuStatCheckService.class);
+
+		userImportService = new UserImportService();
+		ReflectionTestUtils.setField(userImportService, "departmentJpaRepository", departmentJpaRepository);
+		ReflectionTestUtils.setField(userImportService, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(userImportService, "transactionManager", transactionManager);
+		ReflectionTestUtils.setField(userImportService, "passwordHashingService", passwordHashingService);
+		ReflectionTestUtils.setField(userImportService, "stuStatCheckService", stuStatCheckService);
+		ReflectionTestUtils.setField(userImportService, "chunkSize", 500);
+
+		Department department = new Department();
+		department.setId(101);
+		department.setName("컴퓨터공학과");
+		when(departmentJpaRepository.findAll()).thenReturn(List.of(department));
+		when(passwordHashingService.encodeAll(anyList())).thenAnswer(invocation -> {
+			List<String> hashed = new ArrayList<>();
+			for (Object raw : invocation.<List<?>>getArgument(0)) {
+				hashed.add("hash-" + raw);
+			}
+			return hashed;
+		});
+	}
+
+	@Test
+	void hashesPasswordsOutsideTransaction() {
+		when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(List.of(2024000001, 2024000002));
+		UserImportRowDto byName = row("김영희");
+		byName.setDeptId(null);
+		byName.setDeptName("컴퓨터공학과");
+		UserImportRowDto noEmail = row("이철수");
+		noEmail.setEmail("lee");
+
+		UserImportResultDto result = userImportService.importUsers("student",
+				List.of(row("홍길동"), noEmail, byName).iterator());
+
+		assertEquals(3, result.getTotal());
+		assertEquals(List.of(2024000001, 2024000002), result.getCreatedIds());
+		assertEquals(1, result.getFailed());
+		assertEquals(2, result.getErrors().get(0).getRow());
+		assertEquals("이메일이 올바르지 않습니다.", result.getErrors().get(0).getMessage());
+		assertEquals(101, byName.getDeptId());
+
+		// 역할 테이블 트랜잭션 커밋 -> 암호화 -> 계정 트랜잭션
+		InOrder inOrder = inOrder(transactionManager, passwordHashingService, jdbcTemplate);
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+		inOrder.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO stu_stat_tb"), anyList(), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+		inOrder.verify(transactionManager).commit(any());
+		inOrder.verify(passwordHashingService).encodeAll(List.of("2024000001", "2024000002"));
+		inOrder.verify(transactionManager).getTransaction(any());
+		inOrder.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO user_tb"), anyList(), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+		inOrder.verify(transactionManager).commit(any());
+		verify(stuStatCheckService).evict(2024000001);
+		verify(stuStatCheckService).evict(2024000002);
+	}
+
+	@Test
+	void failedAccountInsertRemovesProfiles() {
+		List<Integer> ids = List.of(2024000001, 2024000002);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(ids);
+		when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO user_tb"), anyList(), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class))).thenThrow(new DuplicateKeyException("user_tb"));
+
+		UserImportResultDto result = userImportService.importUsers("student",
+				List.of(row("홍길동"), row("김영희")).iterator());
+
+		assertEquals(0, result.getCreated());
+		assertEquals(2, result.getFailed());
+		assertTrue(result.getCreatedIds().isEmpty());
+		verify(jdbcTemplate).batchUpdate(eq("DELETE FROM stu_stat_tb WHERE student_id = ?"), eq(ids), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+		verify(jdbcTemplate).batchUpdate(eq("DELETE FROM student_tb WHERE id = ?"), eq(ids), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+	}
+
+	@Test
+	void savesEachChunk() {
+		ReflectionTestUtils.setField(userImportService, "chunkSize", 2);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+				.thenReturn(List.of(230001, 230002), List.of(230003));
+
+		UserImportResultDto result = userImportService.importUsers("professor",
+				List.of(row("홍길동"), row("김영희"), row("이철수")).iterator());
+
+		assertEquals(List.of(230001, 230002, 230003), result.getCreatedIds());
+		verify(passwordHashingService, times(2)).encodeAll(anyList());
+		verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO stu_stat_tb"), anyList(), anyInt(),
+				any(ParameterizedPreparedStatementSetter.class));
+	}
+
+	@Test
+	void unknownRoleIsRejected() {
+		assertThrows(CustomRestfullException.class,
+				() -> userImportService.importUsers("admin", List.of(row("홍길동")).iterator()));
+	}
+
+	private static UserImportRowDto row(String name) {
+		UserImportRowDto row = new UserImportRowDto();
+		row.setName(name);
+		row.setBirthDate(Date.valueOf("2005-01-01"));
+		row.setGender("남성");
+		row.setAddress("부산시");
+		row.setTel("010-1234-5678");
+		row.setEmail("user@green.ac.kr");
+		row.setDeptId(101);
+		row.setEntranceDate(Date.valueOf("2024-03-02"));
+		return row;
+	}
+
+}
@@ -0,0 +1,290 @@
+package com.green.university.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.dto.response.WaitlistDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.StuSubJpaRepository;
+import com.green.university.repository.SubjectJpaRepository;
+import com.green.university.repository.WaitlistJpaRepository;
+import com.green.university.repository.model.Subject;
+import com.green.university.repository.model.Waitlist;
+import com.green.university.utils.Define;
+
+/**
+ * 수강 신청 대기: 등록 순서/중복, 빈 자리는 조건이 맞는 맨 앞 대기자에게, 기한 만료 시 다음 대기자에게, 수락한 자리는 회수하지 않음
+ */
+class WaitlistServiceTest {
+
+	private static final int SUBJECT_ID = 10;
+	private static final long HOLD_MS = 300_000;
+
+	private WaitlistService waitlistService;
+	private SeatReservationService seatReservationService;
+	private WaitlistJpaRepository waitlistJpaRepository;
+
+	// waitlist_tb 흉내 (id 순서 = 대기 순서)
+	private final List<Waitlist> table = new ArrayList<>();
+	// 학생 id -> 수강 신청 내역
+	private final Map<Integer, List<StuSubDayTimeDto>> registrations = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		waitlistJpaRepository = mock(WaitlistJpaRepository.class);
+		seatReservationService = mock(SeatReservationService.class);
+		SubjectJpaRepository subjectJpaRepository = mock(SubjectJpaRepository.class);
+		StuSubJpaRepository stuSubJpaRepository = mock(StuSubJpaRepository.class);
+
+		waitlistService = new WaitlistService();
+		ReflectionTestUtils.setField(waitlistService, "waitlistJpaRepository", waitlistJpaRepository);
+		ReflectionTestUtils.setField(waitlistService, "seatReservationService", seatReservationService);
+		ReflectionTestUtils.setField(waitlistService, "subjectJpaRepository", subjectJpaRepository);
+		ReflectionTestUtils.setField(waitlistService, "stuSubJpaRepository", stuSubJpaRepository);
+		ReflectionTestUtils.setField(waitlistService, "transactionManager", mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(waitlistService, "holdMs", HOLD_MS);
+
+		Subject subject = new Subject();
+		subject.setId(SUBJECT_ID);
+		subject.setCapacity(30);
+		subject.setNumOfStudent(30);
+		subject.setGrades(3);
+		subject.setSubDay("월");
+		subject.setStartTime(9);
+		subject.setEndTime(11);
+		when(subjectJpaRepository.findById(SUBJECT_ID)).thenReturn(Optional.of(subject));
+		when(stuSubJpaRepository.findDayTimeListByStudentId(anyInt(), any(), any())).thenAnswer(invocation ->
+				registrations.getOrDefault(invocation.<Integer>getArgument(0), List.of()));
+		when(seatReservationService.isFull(SUBJECT_ID)).thenReturn(true);
+		when(seatReservationService.hold(SUBJECT_ID)).thenReturn(true);
+		stubTable();
+	}
+
+	@Test
+	void joinKeepsOrderAndRejectsDuplicates() {
+		WaitlistDto first = waitlistService.join(1, SUBJECT_ID);
+		WaitlistDto second = waitlistService.join(2, SUBJECT_ID);
+
+		assertEquals(0, first.getPosition());
+		assertEquals(1, second.getPosition());
+		assertEquals(2, second.getWaitingCount());
+		assertNull(second.getHoldExpiresAt());
+
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> waitlistService.join(1, SUBJECT_ID));
+		assertEquals("이미 대기 중인 강의입니다.", e.getMessage());
+
+		when(seatReservationService.isFull(SUBJECT_ID)).thenReturn(false);
+		e = assertThrows(CustomRestfullException.class, () -> waitlistService.join(3, SUBJECT_ID));
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+		assertEquals(2, table.size());
+	}
+
+	@Test
+	void freedSeatGoesToFirstEligibleWaiter() {
+		waitlistService.join(1, SUBJECT_ID);
+		waitlistService.join(2, SUBJECT_ID);
+		waitlistService.join(3, SUBJECT_ID);
+		// 1번은 대기 후 같은 시간 강의를 신청함
+		registrations.put(1, List.of(new StuSubDayTimeDto(99, "다른 강의", "월", 10, 12, 3)));
+
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+
+		assertNull(row(1));
+		assertNotNull(row(2).getHoldExpiresAt());
+		assertNull(row(3).getHoldExpiresAt());
+		verify(seatReservationService, times(1)).hold(SUBJECT_ID);
+
+		// 남은 대기자는 3번뿐, 다음 빈 자리는 3번에게
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+		assertNotNull(row(3).getHoldExpiresAt());
+	}
+
+	@Test
+	void seatIsNotTakenWithoutEligibleWaiter() {
+		waitlistService.join(1, SUBJECT_ID);
+		registrations.put(1, List.of(new StuSubDayTimeDto(SUBJECT_ID, "대기 강의", "월", 9, 11, 3)));
+
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+
+		assertTrue(table.isEmpty());
+		verify(seatReservationService, never()).hold(anyInt());
+	}
+
+	@Test
+	void waiterStaysUnassignedWhenSeatWasTakenFirst() {
+		waitlistService.join(1, SUBJECT_ID);
+		when(seatReservationService.hold(SUBJECT_ID)).thenReturn(false);
+
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+
+		assertNull(row(1).getHoldExpiresAt());
+	}
+
+	@Test
+	void expiredHoldPassesToNextWaiter() {
+		waitlistService.join(1, SUBJECT_ID);
+		waitlistService.join(2, SUBJECT_ID);
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+		expire(1);
+
+		waitlistService.expireHolds();
+
+		assertNull(row(1));
+		assertNotNull(row(2).getHoldExpiresAt());
+		// 잡아둔 자리를 그대로 넘기므로 새로 잡지도 반납하지도 않음
+		verify(seatReservationService, times(1)).hold(SUBJECT_ID);
+		verify(seatReservationService, never()).releaseHeld(anyInt());
+
+		expire(2);
+		waitlistService.expireHolds();
+		assertTrue(table.isEmpty());
+		verify(seatReservationService).releaseHeld(SUBJECT_ID);
+	}
+
+	@Test
+	void acceptedHoldIsNotReclaimed() {
+		waitlistService.join(1, SUBJECT_ID);
+		waitlistService.join(2, SUBJECT_ID);
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+
+		waitlistService.accept(1, SUBJECT_ID);
+		assertNull(row(1));
+
+		// 수락 뒤에 기한이 지나도 회수할 행이 없음
+		waitlistService.expireHolds();
+		verify(seatReservationService, never()).releaseHeld(anyInt());
+		assertNull(row(2).getHoldExpiresAt());
+
+		// 배정받지 않은 대기자는 수락 불가
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> waitlistService.accept(2, SUBJECT_ID));
+		assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+	}
+
+	@Test
+	void expiredHoldCannotBeAccepted() {
+		waitlistService.join(1, SUBJECT_ID);
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+		expire(1);
+
+		assertThrows(CustomRestfullException.class, () -> waitlistService.accept(1, SUBJECT_ID));
+		assertNotNull(row(1));
+	}
+
+	@Test
+	void leavingHolderPassesSeat() {
+		waitlistService.join(1, SUBJECT_ID);
+		waitlistService.join(2, SUBJECT_ID);
+		waitlistService.offerFreedSeat(SUBJECT_ID);
+
+		waitlistService.registered(1, SUBJECT_ID);
+
+		assertNull(row(1));
+		assertNotNull(row(2).getHoldExpiresAt());
+		verify(seatReservationService, times(1)).hold(SUBJECT_ID);
+
+		// 대기하지 않은 강의를 신청한 경우는 잠그지 않음
+		waitlistService.registered(3, SUBJECT_ID);
+		verify(waitlistJpaRepository, never()).findForUpdate(3, SUBJECT_ID);
+	}
+
+	private Waitlist row(int studentId) {
+		for (Waitlist row : table) {
+			if (row.getStudentId() == studentId) {
+				return row;
+			}
+		}
+		return null;
+	}
+
+	private void expire(int studentId) {
+		row(studentId).setHoldExpiresAt(new Timestamp(System.currentTimeMillis() - 1));
+	}
+
+	private void stubTable() {
+		when(waitlistJpaRepository.save(any(Waitlist.class))).thenAnswer(invocation -> {
+			Waitlist entity = invocation.getArgument(0);
+			if (row(entity.getStudentId()) != null) {
+				throw new DataIntegrityViolationException("UNIQUE (student_id, subject_id)");
+			}
+			entity.setId(table.isEmpty() ? 1 : table.get(table.size() - 1).getId() + 1);
+			table.add(entity);
+			return entity;
+		});
+		when(waitlistJpaRepository.findBySubjectIdOrderById(SUBJECT_ID)).thenAnswer(invocation -> new ArrayList<>(table));
+		when(waitlistJpaRepository.existsByStudentIdAndSubjectId(anyInt(), anyInt())).thenAnswer(invocation ->
+				row(invocation.getArgument(0)) != null);
+		when(waitlistJpaRepository.existsBySubjectIdAndHoldExpiresAtIsNull(SUBJECT_ID)).thenAnswer(invocation ->
+				table.stream().anyMatch(row -> row.getHoldExpiresAt() == null));
+		when(waitlistJpaRepository.findWaitingForUpdate(SUBJECT_ID)).thenAnswer(invocation ->
+				table.stream().filter(row -> row.getHoldExpiresAt() == null).toList());
+		when(waitlistJpaRepository.findForUpdate(anyInt(), anyInt())).thenAnswer(invocation ->
+				Optional.ofNullable(row(invocation.getArgument(0))));
+		when(waitlistJpaRepository.findExpiredIds(any(Timestamp.class))).thenAnswer(invocation -> {
+			Timestamp now = invocation.getArgument(0);
+			return table.stream().filter(row -> expired(row, now)).map(Waitlist::getId).toList();
+		});
+		when(waitlistJpaRepository.findExpiredForUpdate(anyInt(), any(Timestamp.class))).thenAnswer(invocation -> {
+			Integer id = invocation.getArgument(0);
+			Timestamp now = invocation.getArgument(1);
+			return table.stream().filter(row -> row.getId().equals(id) && expired(row, now)).findFirst();
+		});
+		when(waitlistJpaRepository.findStatusByStudentId(anyInt(), any(), any())).thenAnswer(invocation -> {
+			Waitlist target = row(invocation.getArgument(0));
+			if (target == null) {
+				return List.of();
+			}
+			Object[] status = { SUBJECT_ID, target.getId(), target.getHoldExpiresAt(),
+					(long) table.indexOf(target), (long) table.size() };
+			return List.<Object[]>of(status);
+		});
+		when(waitlistJpaRepository.updateHoldExpiresAt(anyInt(), any(Timestamp.class))).thenAnswer(invocation -> {
+			Integer id = invocation.getArgument(0);
+			table.stream().filter(row -> row.getId().equals(id))
+					.forEach(row -> row.setHoldExpiresAt(invocation.getArgument(1)));
+			return 1;
+		});
+		when(waitlistJpaRepository.deleteByIdIn(anyList())).thenAnswer(invocation -> {
+			List<Integer> ids = invocation.getArgument(0);
+			table.removeIf(row -> ids.contains(row.getId()));
+			return ids.size();
+		});
+		when(waitlistJpaRepository.deleteBySemester(Define.CURRENT_YEAR, Define.CURRENT_SEMESTER)).thenAnswer(invocation -> {
+			int size = table.size();
+			table.clear();
+			return size;
+		});
+	}
+
+	private static boolean expired(Waitlist row, Timestamp now) {
+		return row.getHoldExpiresAt() != null && !row.getHoldExpiresAt().after(now);
+	}
+
+}
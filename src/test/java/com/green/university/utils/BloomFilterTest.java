@@ -0,0 +1,91 @@
+package com.green.university.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 블룸 필터: 넣은 값은 항상 true, 넣지 않은 값의 오탐률은 지정한 값 근처, 동시에 넣어도 빠지는 값 없음
+ */
+class BloomFilterTest {
+
+	private static final int SIZE = 20_000;
+	private static final double FPP = 0.01;
+
+	@Test
+	void addedValuesAreAlwaysFound() {
+		BloomFilter filter = new BloomFilter(SIZE, FPP);
+		List<String> values = jtis(SIZE);
+		values.forEach(filter::add);
+
+		for (String value : values) {
+			assertTrue(filter.mightContain(value), value);
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTarget() {
+		BloomFilter filter = new BloomFilter(SIZE, FPP);
+		jtis(SIZE).forEach(filter::add);
+
+		int probes = 100_000;
+		int falsePositives = 0;
+		for (String value : jtis(probes)) {
+			if (filter.mightContain(value)) {
+				falsePositives++;
+			}
+		}
+		// 기대값 1% (1,000건), 여유를 두고 2% 미만
+		assertTrue(falsePositives < probes * FPP * 2, "falsePositives=" + falsePositives);
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(0, FPP);
+
+		assertFalse(filter.mightContain("jti"));
+		assertFalse(filter.mightContain(""));
+	}
+
+	@Test
+	void concurrentAddsAreNotLost() throws Exception {
+		BloomFilter filter = new BloomFilter(SIZE, FPP);
+		List<String> values = jtis(SIZE);
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			int offset = t;
+			futures.add(executor.submit(() -> {
+				for (int i = offset; i < values.size(); i += threads) {
+					filter.add(values.get(i));
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		for (String value : values) {
+			assertTrue(filter.mightContain(value), value);
+		}
+	}
+
+	private static List<String> jtis(int count) {
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(UUID.randomUUID().toString());
+		}
+		return values;
+	}
+
+}
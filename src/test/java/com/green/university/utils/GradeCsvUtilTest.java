@@ -0,0 +1,96 @@
+package com.green.university.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.green.university.dto.UpdateStudentGradeDto;
+import com.green.university.handler.exception.CustomRestfullException;
+
+/**
+ * 성적 CSV: 헤더 이름으로 칸 찾기, 따옴표 칸(RFC 4180), 잘못된 칸/헤더 오류
+ */
+class GradeCsvUtilTest {
+
+	@Test
+	void mapsColumnsByHeaderName() throws IOException {
+		String csv = "\uFEFFGrade,final_exam,STUDENT_ID,absent\r\n"
+				+ "A+,90,2023000001,\r\n"
+				+ "\r\n"
+				+ "B0,,2023000002,2\r\n";
+
+		List<UpdateStudentGradeDto> rows = GradeCsvUtil.read(stream(csv), 7);
+
+		assertEquals(2, rows.size());
+		UpdateStudentGradeDto first = rows.get(0);
+		assertEquals(7, first.getSubjectId());
+		assertEquals(2023000001, first.getStudentId());
+		assertEquals(90, first.getFinalExam());
+		assertEquals("A+", first.getGrade());
+		assertNull(first.getAbsent());
+		assertNull(first.getMidExam());
+		assertNull(rows.get(1).getFinalExam());
+		assertEquals(2, rows.get(1).getAbsent());
+	}
+
+	@Test
+	void readsQuotedCells() throws IOException {
+		String csv = "name,address,studentId\n"
+				+ "\"홍, 길동\",\"부산 \"\"센텀\"\"\n2층\",\" 2023000001 \"\n"
+				+ "\"\",,3\n";
+
+		GradeCsvUtil.CsvReader reader = new GradeCsvUtil.CsvReader(stream(csv));
+		Map<String, Integer> header = reader.readHeader();
+
+		String[] cells = reader.next();
+		assertArrayEquals(new String[] { "홍, 길동", "부산 \"센텀\"\n2층", " 2023000001 " }, cells);
+		assertEquals(2, reader.getLineNo());
+		assertEquals(2023000001, GradeCsvUtil.intCell(cells, header, "studentid"));
+
+		cells = reader.next();
+		assertEquals(4, reader.getLineNo());
+		assertNull(GradeCsvUtil.cell(cells, header, "name"));
+		assertNull(GradeCsvUtil.cell(cells, header, "address"));
+		assertNull(GradeCsvUtil.cell(cells, header, "grade"));
+		assertNull(reader.next());
+	}
+
+	@Test
+	void badNumberReportsLine() {
+		String csv = "studentId,midExam\n2023000001,80\n\n2023000002,팔십\n";
+
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> GradeCsvUtil.read(stream(csv), 1));
+		assertEquals("4번째 줄: 숫자 형식이 올바르지 않습니다.", e.getMessage());
+	}
+
+	@Test
+	void unclosedQuoteIsRejected() {
+		String csv = "studentId,grade\n2023000001,\"A+\n";
+
+		CustomRestfullException e = assertThrows(CustomRestfullException.class,
+				() -> GradeCsvUtil.read(stream(csv), 1));
+		assertEquals("2번째 줄: 따옴표가 닫히지 않았습니다.", e.getMessage());
+	}
+
+	@Test
+	void headerWithoutStudentIdIsRejected() {
+		assertThrows(CustomRestfullException.class, () -> GradeCsvUtil.read(stream("id,grade\n1,A+\n"), 1));
+		assertThrows(CustomRestfullException.class, () -> GradeCsvUtil.read(stream(""), 1));
+	}
+
+	private static InputStream stream(String csv) {
+		return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.green.university.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 정원 초과 강의 추첨: 시드 재현성, 우선순위, 학점/시간표 제한
+ */
+class SeatLotteryTest {
+
+	private static final String[] DAYS = { "월", "화", "수", "목", "금" };
+
+	@Test
+	void sameSeedGivesSameResultRegardlessOfParallelism() {
+		Map<Integer, List<Integer>> single = draw(42, 1, List.of());
+		Map<Integer, List<Integer>> parallel = draw(42, 8, List.of());
+		Map<Integer, List<Integer>> otherSeed = draw(43, 8, List.of());
+
+		assertEquals(single, parallel);
+		assertNotEquals(single, otherSeed);
+	}
+
+	@Test
+	void departmentPriorityComesFirst() {
+		SeatLottery lottery = new SeatLottery(1, List.of(SeatLottery.Priority.DEPARTMENT));
+		SeatLottery.Course course = new SeatLottery.Course(1, 2, 3, "월", 9, 11, 10);
+		for (int studentId = 1; studentId <= 20; studentId++) {
+			// 19, 20번만 개설 학과 학생
+			course.addApplicant(studentId, 1, studentId >= 19 ? 10 : 20);
+		}
+
+		List<Integer> winners = run(lottery, List.of(course), 2).get(1);
+
+		assertEquals(List.of(19, 20), winners.stream().sorted().toList());
+	}
+
+	@Test
+	void winnersRespectMaxGradesAndTimetable() {
+		SeatLottery lottery = new SeatLottery(7, List.of(SeatLottery.Priority.GRADE));
+		Map<Integer, Integer> registeredGrades = new HashMap<>();
+		List<SeatLottery.Course> courses = courses(lottery, new Random(3), registeredGrades);
+		Map<Integer, List<Integer>> winners = run(lottery, courses, 4);
+
+		Map<Integer, Integer> sumGrades = new HashMap<>(registeredGrades);
+		Map<Integer, TimetableMask> timetables = new HashMap<>();
+		for (Integer studentId : registeredGrades.keySet()) {
+			timetables.put(studentId, new TimetableMask().add(DAYS[studentId % DAYS.length], 9, 11));
+		}
+		for (SeatLottery.Course course : courses) {
+			String subDay = DAYS[course.getId() % DAYS.length];
+			int startTime = 9 + (course.getId() % 4) * 2;
+			for (Integer studentId : winners.get(course.getId())) {
+				assertTrue(sumGrades.merge(studentId, 3, Integer::sum) <= Define.MAX_GRADES, "최대 학점 초과: " + studentId);
+				assertFalse(timetables.get(studentId).overlaps(subDay, startTime, startTime + 2), "시간표 겹침: " + studentId);
+				timetables.get(studentId).add(subDay, startTime, startTime + 2);
+			}
+		}
+	}
+
+	private Map<Integer, List<Integer>> draw(long seed, int parallelism, List<SeatLottery.Priority> priorities) {
+		SeatLottery lottery = new SeatLottery(seed, priorities);
+		return run(lottery, courses(lottery, new Random(3), new HashMap<>()), parallelism);
+	}
+
+	// 학생 500명, 강의 40개 (강의당 지원자 약 50명, 정원 10~29명)
+	private List<SeatLottery.Course> courses(SeatLottery lottery, Random random, Map<Integer, Integer> registeredGrades) {
+		for (int studentId = 0; studentId < 500; studentId++) {
+			int grades = 3 * (1 + random.nextInt(5));
+			lottery.addRegistered(studentId, DAYS[studentId % DAYS.length], 9, 11, grades);
+			registeredGrades.put(studentId, grades);
+		}
+		List<SeatLottery.Course> courses = new ArrayList<>();
+		for (int id = 0; id < 40; id++) {
+			int startTime = 9 + (id % 4) * 2;
+			SeatLottery.Course course = new SeatLottery.Course(id, 10 + random.nextInt(20), 3,
+					DAYS[id % DAYS.length], startTime, startTime + 2, id % 3);
+			for (int studentId = 0; studentId < 500; studentId++) {
+				if (random.nextInt(10) == 0) {
+					course.addApplicant(studentId, 1 + studentId % 4, studentId % 3);
+				}
+			}
+			courses.add(course);
+		}
+		return courses;
+	}
+
+	private Map<Integer, List<Integer>> run(SeatLottery lottery, List<SeatLottery.Course> courses, int parallelism) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			return lottery.draw(courses, pool);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
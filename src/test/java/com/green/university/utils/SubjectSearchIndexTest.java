@@ -0,0 +1,96 @@
+package com.green.university.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.green.university.dto.response.SubjectDto;
+
+/**
+ * 강의 검색 색인: 단순 필터링(contains)과 같은 결과인지, 페이지/건수
+ */
+class SubjectSearchIndexTest {
+
+	private static final String[] WORDS = { "데이터", "구조", "경영", "회계", "원론", "프로그래밍", "기초", "Java", "알고리즘", "통계" };
+	private static final String[] TYPES = { "전공", "교양" };
+
+	@Test
+	void matchesLinearFilter() {
+		List<SubjectDto> subjects = subjects(new Random(1), 2000);
+		SubjectSearchIndex index = new SubjectSearchIndex(subjects);
+
+		String[] names = { null, "", "데", "데이터", "이터 구", "데이터구조", "java", "프로그래밍기초", "없는강의", "조경" };
+		for (String name : names) {
+			for (Integer deptId : new Integer[] { null, 3, 99 }) {
+				for (String type : new String[] { null, "전공" }) {
+					SubjectSearchIndex.Query query = new SubjectSearchIndex.Query().name(name).deptId(deptId).type(type);
+					List<Integer> expected = linear(subjects, name, deptId, type);
+
+					SubjectSearchIndex.Result result = index.search(query, 0, 0);
+					assertEquals(expected, ids(result.getSubjects()), name + "/" + deptId + "/" + type);
+					assertEquals(expected.size(), result.getTotal());
+				}
+			}
+		}
+	}
+
+	@Test
+	void pageAndCountsInOneSearch() {
+		List<SubjectDto> subjects = subjects(new Random(2), 500);
+		SubjectSearchIndex index = new SubjectSearchIndex(subjects);
+		SubjectSearchIndex.Query query = new SubjectSearchIndex.Query().name("기초");
+		List<Integer> expected = linear(subjects, "기초", null, null);
+
+		SubjectSearchIndex.Result result = index.search(query, 20, 20);
+
+		assertEquals(expected.size(), result.getTotal());
+		assertEquals(expected.subList(20, Math.min(40, expected.size())), ids(result.getSubjects()));
+
+		Map<Integer, Integer> deptCounts = new HashMap<>();
+		for (SubjectDto subject : subjects) {
+			if (expected.contains(subject.getId())) {
+				deptCounts.merge(subject.getDeptId(), 1, Integer::sum);
+			}
+		}
+		assertEquals(deptCounts, result.getDeptCounts());
+		assertTrue(result.getNames().stream().allMatch(name -> name.contains("기초")));
+	}
+
+	static List<SubjectDto> subjects(Random random, int count) {
+		List<SubjectDto> subjects = new ArrayList<>(count);
+		for (int id = 1; id <= count; id++) {
+			SubjectDto subject = new SubjectDto();
+			subject.setId(id);
+			subject.setName(WORDS[random.nextInt(WORDS.length)] + (random.nextBoolean() ? " " : "")
+					+ WORDS[random.nextInt(WORDS.length)]);
+			subject.setDeptId(1 + random.nextInt(10));
+			subject.setType(TYPES[random.nextInt(TYPES.length)]);
+			subjects.add(subject);
+		}
+		return subjects;
+	}
+
+	// 기존 검색 방식 (공백/대소문자 무시)
+	private static List<Integer> linear(List<SubjectDto> subjects, String name, Integer deptId, String type) {
+		String normalized = SubjectSearchIndex.normalize(name);
+		return subjects.stream()
+				.filter(s -> deptId == null || deptId.equals(s.getDeptId()))
+				.filter(s -> type == null || type.equals(s.getType()))
+				.filter(s -> SubjectSearchIndex.normalize(s.getName()).contains(normalized))
+				.map(SubjectDto::getId)
+				.collect(Collectors.toList());
+	}
+
+	private static List<Integer> ids(List<SubjectDto> subjects) {
+		return subjects.stream().map(SubjectDto::getId).collect(Collectors.toList());
+	}
+
+}
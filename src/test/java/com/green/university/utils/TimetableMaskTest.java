@@ -0,0 +1,173 @@
+package com.green.university.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.green.university.dto.SubjectFormDto;
+import com.green.university.dto.response.StuSubDayTimeDto;
+import com.green.university.handler.exception.CustomRestfullException;
+import com.green.university.repository.model.Subject;
+
+/**
+ * 요일별 시간표 비트마스크: 맞닿는 시간/같은 시간/다른 요일, 이전 리스트 비교 방식과 같은 결과인지
+ */
+class TimetableMaskTest {
+
+	// 강의 시간으로 쓰는 범위 (0시 ~ 24시)
+	private static final int LAST_HOUR = 24;
+
+	@Test
+	void adjacentPeriodsDoNotOverlap() {
+		TimetableMask timetable = new TimetableMask().add("월", 9, 11);
+
+		assertFalse(timetable.overlaps("월", 11, 13));
+		assertFalse(timetable.overlaps("월", 7, 9));
+		assertTrue(timetable.overlaps("월", 10, 12));
+		assertTrue(timetable.overlaps("월", 8, 10));
+	}
+
+	@Test
+	void identicalRangesOverlap() {
+		TimetableMask timetable = new TimetableMask().add("화", 13, 15);
+
+		assertTrue(timetable.overlaps("화", 13, 15));
+		assertTrue(timetable.overlaps("화", 14, 15));
+	}
+
+	@Test
+	void differentDaysDoNotOverlap() {
+		TimetableMask timetable = new TimetableMask().add("수", 9, 12);
+
+		assertFalse(timetable.overlaps("목", 9, 12));
+		assertFalse(timetable.overlaps("토", 10, 11));
+		// 요일 목록에 없는 값도 요일별로 따로 봄
+		timetable.add("기타", 9, 12);
+		assertTrue(timetable.overlaps("기타", 10, 11));
+		assertFalse(timetable.overlaps("온라인", 10, 11));
+	}
+
+	@Test
+	void emptyRangeNeverOverlaps() {
+		TimetableMask timetable = new TimetableMask().add("월", 0, LAST_HOUR);
+
+		assertEquals(0L, TimetableMask.hourMask(10, 10));
+		assertEquals(0L, TimetableMask.hourMask(12, 10));
+		assertFalse(timetable.overlaps("월", 10, 10));
+	}
+
+	@Test
+	void toMapSkipsEmptyDays() {
+		TimetableMask timetable = TimetableMask.of(List.of(dayTime("월", 9, 11), dayTime("월", 13, 14),
+				dayTime("금", 0, 1)));
+
+		Map<String, Long> map = timetable.toMap();
+		assertEquals(List.of("월", "금"), List.copyOf(map.keySet()));
+		assertEquals(0b110L << 8 | 1L << 13, map.get("월"));
+		assertEquals(1L, map.get("금"));
+	}
+
+	/**
+	 * 수강 신청 시간표 확인: 모든 시간 조합에서 이전 StuSubUtil.checkDayTime(시간 리스트 비교)과 같은 결과
+	 */
+	@Test
+	void matchesPreviousCheckDayTime() {
+		for (String existingDay : new String[] { "월", "화" }) {
+			for (int start = 0; start < LAST_HOUR; start++) {
+				for (int end = start + 1; end <= LAST_HOUR; end++) {
+					StuSubDayTimeDto existing = dayTime(existingDay, start, end);
+					for (int targetStart = 0; targetStart < LAST_HOUR; targetStart++) {
+						for (int targetEnd = targetStart + 1; targetEnd <= LAST_HOUR; targetEnd++) {
+							Subject target = subject("월", targetStart, targetEnd);
+							boolean expected = previousCheckDayTimeConflicts(target, existing);
+							boolean actual = conflicts(target, List.of(existing));
+							assertEquals(expected, actual, existingDay + " " + start + "~" + end + " / 월 "
+									+ targetStart + "~" + targetEnd);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 강의실 사용 시간 확인: 이전 SubjectUtil.calculate(시작/종료 비교)과 같은 결과
+	 * 단, 새 강의가 기존 강의를 완전히 감싸는 경우는 이전 방식이 놓치던 것이므로 겹치는 것으로 판정
+	 */
+	@Test
+	void matchesPreviousRoomCheckExceptContainment() {
+		SubjectUtil subjectUtil = new SubjectUtil();
+		for (int start = 0; start < LAST_HOUR; start++) {
+			for (int end = start + 1; end <= LAST_HOUR; end++) {
+				List<Subject> existing = List.of(subject("월", start, end));
+				for (int newStart = 0; newStart < LAST_HOUR; newStart++) {
+					for (int newEnd = newStart + 1; newEnd <= LAST_HOUR; newEnd++) {
+						boolean available = subjectUtil.calculate(form("월", newStart, newEnd), existing);
+						boolean contains = newStart < start && end < newEnd;
+						boolean expected = !contains && previousRoomAvailable(start, end, newStart, newEnd);
+						assertEquals(expected, available, start + "~" + end + " / " + newStart + "~" + newEnd);
+					}
+				}
+			}
+		}
+	}
+
+	// StuSubUtil.checkDayTime 이 예외를 던지면 true
+	private static boolean conflicts(Subject target, List<StuSubDayTimeDto> dayTimeList) {
+		try {
+			StuSubUtil.checkDayTime(target, dayTimeList);
+			return false;
+		} catch (CustomRestfullException e) {
+			return true;
+		}
+	}
+
+	// 이전 checkDayTime: 같은 요일이면 맞닿는 경우를 빼고 start~end 시간 리스트가 하나라도 겹치면 중복
+	private static boolean previousCheckDayTimeConflicts(Subject target, StuSubDayTimeDto existing) {
+		if (!existing.getSubDay().equals(target.getSubDay())) {
+			return false;
+		}
+		if (existing.getStartTime().intValue() == target.getEndTime().intValue()
+				|| existing.getEndTime().intValue() == target.getStartTime().intValue()) {
+			return false;
+		}
+		for (int hour = target.getStartTime(); hour <= target.getEndTime(); hour++) {
+			if (existing.timeList().contains(hour)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 이전 calculate: 새 강의의 시작 또는 종료 시간이 기존 강의 시간 안에 있으면 사용 불가
+	private static boolean previousRoomAvailable(int start, int end, int newStart, int newEnd) {
+		return !((start <= newStart && newStart < end) || (start < newEnd && newEnd <= end));
+	}
+
+	private static StuSubDayTimeDto dayTime(String subDay, int startTime, int endTime) {
+		return new StuSubDayTimeDto(null, null, subDay, startTime, endTime, 3);
+	}
+
+	private static Subject subject(String subDay, int startTime, int endTime) {
+		Subject subject = new Subject();
+		subject.setId(1);
+		subject.setSubDay(subDay);
+		subject.setStartTime(startTime);
+		subject.setEndTime(endTime);
+		return subject;
+	}
+
+	private static SubjectFormDto form(String subDay, int startTime, int endTime) {
+		SubjectFormDto dto = new SubjectFormDto();
+		dto.setSubDay(subDay);
+		dto.setStartTime(startTime);
+		dto.setEndTime(endTime);
+		return dto;
+	}
+
+}
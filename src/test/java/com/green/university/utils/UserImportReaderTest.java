@@ -0,0 +1,108 @@
+package com.green.university.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.Iterator;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.green.university.dto.UserImportRowDto;
+import com.green.university.handler.exception.CustomRestfullException;
+
+/**
+ * 사용자 일괄 등록 파일: 따옴표 칸(쉼표/줄바꿈), 형식 오류 행은 error 로 돌려주고 계속 읽기, 깨진 행 앞까지는 읽기
+ */
+class UserImportReaderTest {
+
+	private static final String HEADER = "\uFEFFname,birth_date,gender,address,tel,email,deptId,entranceDate\r\n";
+
+	@Test
+	void readsQuotedCells() throws IOException {
+		String csv = HEADER
+				+ "홍길동,2000-01-01,남성,\"부산시 해운대구, \"\"센텀\"\"\n101동\",010-1234-5678,hong@green.ac.kr,101,2023-03-02\r\n"
+				+ "\r\n"
+				+ "\"김, 영희\",2001-02-03,여성,서울시,010-0000-0000,kim@green.ac.kr,,\r\n";
+
+		Iterator<UserImportRowDto> rows = UserImportReader.csv(stream(csv));
+
+		UserImportRowDto first = rows.next();
+		assertEquals("홍길동", first.getName());
+		assertEquals(Date.valueOf("2000-01-01"), first.getBirthDate());
+		assertEquals("부산시 해운대구, \"센텀\"\n101동", first.getAddress());
+		assertEquals(101, first.getDeptId());
+		assertEquals(Date.valueOf("2023-03-02"), first.getEntranceDate());
+		assertNull(first.getError());
+
+		UserImportRowDto second = rows.next();
+		assertEquals("김, 영희", second.getName());
+		assertEquals("서울시", second.getAddress());
+		assertNull(second.getDeptId());
+		assertNull(second.getEntranceDate());
+		assertFalse(rows.hasNext());
+	}
+
+	@Test
+	void badCellsAreReportedPerRow() throws IOException {
+		String csv = HEADER
+				+ "홍길동,2000-13-01,남성,부산시,010,hong@green.ac.kr,101,\n"
+				+ "김영희,2001-02-03,여성,서울시,010,kim@green.ac.kr,백일,\n"
+				+ "이철수,2002-03-04,남성,대구시,010,lee@green.ac.kr,101,\n";
+
+		Iterator<UserImportRowDto> rows = UserImportReader.csv(stream(csv));
+
+		assertEquals("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)", rows.next().getError());
+		assertEquals("학과 번호 형식이 올바르지 않습니다.", rows.next().getError());
+		assertNull(rows.next().getError());
+		assertFalse(rows.hasNext());
+	}
+
+	@Test
+	void unclosedQuoteStopsAfterPreviousRow() throws IOException {
+		String csv = HEADER
+				+ "홍길동,2000-01-01,남성,부산시,010,hong@green.ac.kr,101,\n"
+				+ "김영희,2001-02-03,여성,\"서울시,010,kim@green.ac.kr,101,\n";
+
+		Iterator<UserImportRowDto> rows = UserImportReader.csv(stream(csv));
+
+		assertEquals("홍길동", rows.next().getName());
+		CustomRestfullException e = assertThrows(CustomRestfullException.class, rows::hasNext);
+		assertEquals("3번째 줄: 따옴표가 닫히지 않았습니다.", e.getMessage());
+	}
+
+	@Test
+	void headerWithoutNameIsRejected() {
+		assertThrows(CustomRestfullException.class, () -> UserImportReader.csv(stream("email,tel\na@b.c,010\n")));
+		assertThrows(CustomRestfullException.class, () -> UserImportReader.csv(stream("")));
+	}
+
+	@Test
+	void readsJsonArray() throws IOException {
+		String json = "[{\"name\":\"홍길동\",\"email\":\"hong@green.ac.kr\",\"deptName\":\"컴퓨터공학과\"},"
+				+ "{\"name\":\"김영희\",\"deptId\":\"백일\"}]";
+
+		Iterator<UserImportRowDto> rows = UserImportReader.json(stream(json), new ObjectMapper());
+
+		UserImportRowDto first = rows.next();
+		assertEquals("홍길동", first.getName());
+		assertEquals("hong@green.ac.kr", first.getEmail());
+		assertEquals("컴퓨터공학과", first.getDeptName());
+		assertTrue(rows.hasNext());
+		assertEquals("형식이 올바르지 않습니다.", rows.next().getError());
+		assertFalse(rows.hasNext());
+	}
+
+	private static InputStream stream(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+}